@@ -0,0 +1,208 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.cli;
+
+import com.google.common.collect.ImmutableList;
+import com.palantir.abi.checker.AbiCheckerClassLoader;
+import com.palantir.abi.checker.ArtifactLoader;
+import com.palantir.abi.checker.CollectingConflictSink;
+import com.palantir.abi.checker.ConflictChecker;
+import com.palantir.abi.checker.ConflictCheckerConfiguration;
+import com.palantir.abi.checker.JdkModuleLoader;
+import com.palantir.abi.checker.datamodel.Artifact;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.classlocation.ClassLocation;
+import com.palantir.abi.checker.datamodel.conflict.ConflictGroup;
+import com.palantir.abi.checker.output.ConflictPrinter;
+import com.palantir.abi.checker.output.UnexpectedFailureOutputContents;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Checks a packaged classpath for ABI conflicts outside of Gradle, e.g. the {@code lib} directory of a distribution
+ *   right before it is deployed, see {@link CliArguments#USAGE}.
+ *
+ * This produces the same conflicts output files and text report as the Gradle plugin.
+ */
+public final class AbiCheckCli {
+    static final int NO_CONFLICTS = 0;
+    static final int CONFLICTS = 1;
+    static final int FAILURE = 2;
+
+    private AbiCheckCli() {}
+
+    public static void main(String[] args) {
+        System.exit(run(List.of(args), System.out, System.err));
+    }
+
+    static int run(List<String> args, PrintStream out, PrintStream err) {
+        CliArguments arguments;
+        try {
+            arguments = CliArguments.parse(args);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println();
+            err.print(CliArguments.USAGE);
+            return FAILURE;
+        }
+        if (arguments.help()) {
+            out.print(CliArguments.USAGE);
+            return NO_CONFLICTS;
+        }
+
+        try {
+            return arguments.trainingRun() ? trainingRun(out) : check(arguments, out);
+        } catch (RuntimeException e) {
+            // Same as the plugin, failures are written to the output file too, so that they can be analyzed alongside
+            //   the conflicts
+            arguments
+                    .output()
+                    .ifPresent(output -> arguments.outputFormat().write(output, UnexpectedFailureOutputContents.of(e)));
+            e.printStackTrace(err);
+            return FAILURE;
+        }
+    }
+
+    /**
+     * Goes through a whole check, against the JDK and abi-check's own classpath, so that the classes a real check needs
+     *   (e.g. ASM, Caffeine, Jackson and the checker's own) are loaded. The distribution's start script dumps them to
+     *   its class data sharing archive on exit, if it doesn't exist yet.
+     */
+    private static int trainingRun(PrintStream out) {
+        Path directory;
+        try {
+            directory = Files.createTempDirectory("abi-check-training");
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create a temporary directory", e);
+        }
+        Path output = directory.resolve("abi-checker-conflicts.json");
+        Path report = directory.resolve("abi-checker-report.txt");
+        try {
+            CliArguments arguments = CliArguments.parse(List.of(
+                    "--classpath",
+                    System.getProperty("java.class.path"),
+                    "--output",
+                    output.toString(),
+                    "--report",
+                    report.toString()));
+            check(arguments, new PrintStream(OutputStream.nullOutputStream()));
+        } finally {
+            deleteFile(output);
+            deleteFile(report);
+            deleteFile(directory);
+        }
+        out.println("Training run done");
+        return NO_CONFLICTS;
+    }
+
+    private static int check(CliArguments arguments, PrintStream out) {
+        ArtifactLoader artifactLoader = new ArtifactLoader();
+        // The JDK is indexed while the classpath is
+        CompletableFuture<List<Artifact>> jdkArtifactsFuture =
+                CompletableFuture.supplyAsync(new JdkModuleLoader()::getJavaModuleArtifacts);
+
+        // The application's own jars are typically part of the packaged classpath too, but are only loaded once
+        Set<Path> entryPoints =
+                arguments.entryPoints().stream().map(AbiCheckCli::normalize).collect(Collectors.toSet());
+        List<Path> dependencies = arguments.classpath().stream()
+                .filter(path -> !entryPoints.contains(normalize(path)))
+                .toList();
+        List<Artifact> artifacts = ClasspathArtifacts.load(
+                artifactLoader,
+                Stream.concat(arguments.entryPoints().stream(), dependencies.stream())
+                        .toList());
+        List<Artifact> entryPointArtifacts =
+                artifacts.subList(0, arguments.entryPoints().size());
+        List<Artifact> jdkArtifacts = jdkArtifactsFuture.join();
+
+        // Same order as the plugin: the JDK, then the application's own classes, then the rest of the classpath
+        List<Artifact> runtimeClasspath = ImmutableList.<Artifact>builder()
+                .addAll(jdkArtifacts)
+                .addAll(artifacts)
+                .build();
+        List<ClassLocation> entryPointClasses = entryPointArtifacts.stream()
+                .flatMap(artifact -> artifact.classes().values().stream())
+                .toList();
+
+        ConflictCheckerConfiguration configuration = ConflictCheckerConfiguration.builder()
+                .errorArtifactPrefixes(arguments.errorArtifactPrefixes())
+                .ignoredArtifactPrefixes(arguments.ignoredArtifactPrefixes())
+                .ignoredClassPrefixes(arguments.ignoredClassPrefixes())
+                .ignoredClassnameKeywords(arguments.ignoredClassnameKeywords())
+                // Without entry points, there is nothing to determine the reachable classes from
+                .checkCompletely(arguments.entryPoints().isEmpty())
+                .reachabilityAnalysis(arguments.reachabilityAnalysis())
+                .entryPointStrategy(arguments.entryPointStrategy())
+                .entryPointRoots(arguments.entryPointRoots())
+                // Don't analyze the jdk nor the application itself
+                .addAllIgnoredArtifactPrefixes(Stream.concat(jdkArtifacts.stream(), entryPointArtifacts.stream())
+                        .map(Artifact::name)
+                        .map(ArtifactName::name)
+                        .collect(Collectors.toSet()))
+                .build();
+
+        CollectingConflictSink sink = arguments
+                .maxConflicts()
+                .map(CollectingConflictSink::upTo)
+                .orElseGet(CollectingConflictSink::collectAll);
+        boolean checkedCompletely = ConflictChecker.create(
+                        configuration, new AbiCheckerClassLoader(), runtimeClasspath, entryPointClasses)
+                .check(sink);
+        Collection<ConflictGroup> groups = sink.groups();
+
+        if (groups.isEmpty()) {
+            arguments.output().ifPresent(output -> arguments.outputFormat().writeNoConflicts(output));
+            // Only checks finding conflicts write a report, never leave the one of a previous run around
+            arguments.report().ifPresent(AbiCheckCli::deleteFile);
+            out.println("No ABI conflicts found in " + artifacts.size() + " artifacts");
+            return NO_CONFLICTS;
+        }
+
+        arguments.output().ifPresent(output -> arguments.outputFormat().writeConflictGroups(output, groups));
+        String notes = checkedCompletely
+                ? ""
+                : "Stopped checking after finding "
+                        + groups.stream().mapToInt(ConflictGroup::size).sum()
+                        + " conflicts (see --max-conflicts), there may be more.\n";
+        out.print(arguments
+                .report()
+                .map(report -> ConflictPrinter.reportConflictGroups(groups, notes, report))
+                .orElseGet(() -> ConflictPrinter.outputConflictGroups(groups) + notes));
+        return CONFLICTS;
+    }
+
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    private static void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to delete file " + file, e);
+        }
+    }
+}
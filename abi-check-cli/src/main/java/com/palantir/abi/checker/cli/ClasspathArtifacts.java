@@ -0,0 +1,86 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.cli;
+
+import com.palantir.abi.checker.ArtifactLoader;
+import com.palantir.abi.checker.datamodel.Artifact;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Loads the artifacts of a packaged classpath, which unlike a resolved Gradle configuration only consists of files.
+ */
+final class ClasspathArtifacts {
+    private static final Pattern POM_PROPERTIES = Pattern.compile("META-INF/maven/[^/]+/[^/]+/pom\\.properties");
+
+    private ClasspathArtifacts() {}
+
+    /**
+     * Loads the artifacts in parallel, keeping the order of the classpath.
+     */
+    static List<Artifact> load(ArtifactLoader artifactLoader, Collection<Path> classpath) {
+        return classpath.parallelStream()
+                .map(path -> artifactLoader.load(path, name(path)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Names jars by their Maven coordinates when they carry them (i.e. they have a single {@code pom.properties}), so
+     *   that they can be matched by the same prefixes as in Gradle builds, and by their file name otherwise (e.g. for
+     *   shaded jars, or directories of classes).
+     */
+    static ArtifactName name(Path path) {
+        String fileName = path.getFileName().toString();
+        if (!Files.isRegularFile(path) || !fileName.endsWith(".jar")) {
+            return ArtifactName.of(fileName);
+        }
+
+        try (JarFile jarFile = new JarFile(path.toFile())) {
+            List<JarEntry> pomProperties = jarFile.stream()
+                    .filter(entry -> POM_PROPERTIES.matcher(entry.getName()).matches())
+                    .limit(2)
+                    .toList();
+            if (pomProperties.size() != 1) {
+                return ArtifactName.of(fileName);
+            }
+
+            Properties properties = new Properties();
+            try (InputStream inputStream = jarFile.getInputStream(pomProperties.get(0))) {
+                properties.load(inputStream);
+            }
+            String groupId = properties.getProperty("groupId");
+            String artifactId = properties.getProperty("artifactId");
+            String version = properties.getProperty("version");
+            if (groupId == null || artifactId == null || version == null) {
+                return ArtifactName.of(fileName);
+            }
+            return ArtifactName.of(groupId + ":" + artifactId + ":" + version);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read jar: " + path, e);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.cli;
+
+import com.palantir.abi.checker.datamodel.graph.EntryPointStrategy;
+import com.palantir.abi.checker.datamodel.graph.ReachabilityAnalysis;
+import com.palantir.abi.checker.output.ConflictsOutputFormat;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.immutables.value.Value;
+
+/**
+ * The arguments of {@link AbiCheckCli}, see {@link #USAGE}.
+ */
+@Value.Immutable
+public interface CliArguments {
+    String USAGE =
+            """
+            Usage: abi-check [options]
+
+            Checks a packaged classpath (e.g. the lib directory of a distribution) for ABI conflicts.
+
+            Classpath, in the order the options are provided:
+              --classpath <entries>          Jars or directories of classes, separated by the path separator
+              --lib <directory>              Every jar of the directory, in file name order
+
+            Entry points:
+              --entry-points <entries>       The application's own jars or directories of classes, separated by the
+                                             path separator, from which the reachable classes are checked. Every class
+                                             of the classpath is checked if absent.
+              --entry-point-strategy <name>  ALL_CLASSES (default), LIBRARY, APPLICATION or CUSTOM
+              --entry-point-root <root>      Additional entry point, either a class or a method (e.g. com.foo.Bar#baz),
+                                             repeatable
+              --reachability-analysis <name> CLASS_REFERENCES (default), CLASS_HIERARCHY_ANALYSIS or
+                                             RAPID_TYPE_ANALYSIS
+
+            Filtering (repeatable):
+              --error-artifact-prefix <prefix>
+              --ignored-artifact-prefix <prefix>
+              --ignored-class-prefix <prefix>
+              --ignored-classname-keyword <keyword>
+
+            Output:
+              --output <file>                Writes the conflicts to the file
+              --output-format <name>         JSON (default), NDJSON, COMPACT or COMPACT_GZIP
+              --report <file>                Writes the full text report to the file, and only prints its summary
+              --max-conflicts <count>        Stops the check once this many conflicts were found
+
+            Startup:
+              --training-run                 Checks abi-check's own classpath, discarding the results, so that the
+                                             class data sharing archive of the distribution is created from a
+                                             representative run. Meant to be run once, right after installing it.
+
+            Exits with 0 if there are no conflicts, 1 if there are, and 2 if the check couldn't run.
+            """;
+
+    /**
+     * The runtime classpath, in order, excluding the JDK.
+     */
+    List<Path> classpath();
+
+    List<Path> entryPoints();
+
+    @Value.Default
+    default EntryPointStrategy entryPointStrategy() {
+        return EntryPointStrategy.ALL_CLASSES;
+    }
+
+    Set<String> entryPointRoots();
+
+    @Value.Default
+    default ReachabilityAnalysis reachabilityAnalysis() {
+        return ReachabilityAnalysis.CLASS_REFERENCES;
+    }
+
+    Set<String> errorArtifactPrefixes();
+
+    Set<String> ignoredArtifactPrefixes();
+
+    Set<String> ignoredClassPrefixes();
+
+    Set<String> ignoredClassnameKeywords();
+
+    Optional<Path> output();
+
+    @Value.Default
+    default ConflictsOutputFormat outputFormat() {
+        return ConflictsOutputFormat.JSON;
+    }
+
+    Optional<Path> report();
+
+    Optional<Integer> maxConflicts();
+
+    /**
+     * Whether this only warms up the class data sharing archive of the distribution, see {@link #USAGE}.
+     */
+    @Value.Default
+    default boolean trainingRun() {
+        return false;
+    }
+
+    /**
+     * Whether only the usage was asked for.
+     */
+    @Value.Default
+    default boolean help() {
+        return false;
+    }
+
+    /**
+     * Parses the command line arguments.
+     *
+     * @throws IllegalArgumentException if the arguments are invalid
+     */
+    static CliArguments parse(List<String> args) {
+        ImmutableCliArguments.Builder arguments = builder();
+        Iterator<String> iterator = args.iterator();
+        while (iterator.hasNext()) {
+            String option = iterator.next();
+            switch (option) {
+                case "--help", "-h" -> arguments.help(true);
+                case "--classpath" -> arguments.addAllClasspath(paths(value(option, iterator)));
+                case "--lib" -> arguments.addAllClasspath(jarsIn(Paths.get(value(option, iterator))));
+                case "--entry-points" -> arguments.addAllEntryPoints(paths(value(option, iterator)));
+                case "--entry-point-strategy" ->
+                    arguments.entryPointStrategy(enumValue(EntryPointStrategy.class, option, value(option, iterator)));
+                case "--entry-point-root" -> arguments.addEntryPointRoots(value(option, iterator));
+                case "--reachability-analysis" ->
+                    arguments.reachabilityAnalysis(
+                            enumValue(ReachabilityAnalysis.class, option, value(option, iterator)));
+                case "--error-artifact-prefix" -> arguments.addErrorArtifactPrefixes(value(option, iterator));
+                case "--ignored-artifact-prefix" -> arguments.addIgnoredArtifactPrefixes(value(option, iterator));
+                case "--ignored-class-prefix" -> arguments.addIgnoredClassPrefixes(value(option, iterator));
+                case "--ignored-classname-keyword" -> arguments.addIgnoredClassnameKeywords(value(option, iterator));
+                case "--output" -> arguments.output(Paths.get(value(option, iterator)));
+                case "--output-format" ->
+                    arguments.outputFormat(enumValue(ConflictsOutputFormat.class, option, value(option, iterator)));
+                case "--report" -> arguments.report(Paths.get(value(option, iterator)));
+                case "--max-conflicts" -> arguments.maxConflicts(count(option, value(option, iterator)));
+                case "--training-run" -> arguments.trainingRun(true);
+                default -> throw new IllegalArgumentException("Unknown option: " + option);
+            }
+        }
+
+        CliArguments parsed = arguments.build();
+        if (!parsed.help() && !parsed.trainingRun() && parsed.classpath().isEmpty()) {
+            throw new IllegalArgumentException("No classpath provided, see --classpath and --lib");
+        }
+        return parsed;
+    }
+
+    private static String value(String option, Iterator<String> iterator) {
+        if (!iterator.hasNext()) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return iterator.next();
+    }
+
+    private static List<Path> paths(String entries) {
+        return Stream.of(entries.split(File.pathSeparator))
+                .filter(entry -> !entry.isEmpty())
+                .map(Paths::get)
+                .toList();
+    }
+
+    private static List<Path> jarsIn(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".jar"))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to list the jars of " + directory, e);
+        }
+    }
+
+    private static <T extends Enum<T>> T enumValue(Class<T> type, String option, String value) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid value for " + option + ": " + value, e);
+        }
+    }
+
+    private static int count(String option, String value) {
+        try {
+            int count = Integer.parseInt(value);
+            if (count > 0) {
+                return count;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Invalid value for " + option + ", expected a positive number: " + value);
+    }
+
+    static ImmutableCliArguments.Builder builder() {
+        return ImmutableCliArguments.builder();
+    }
+}
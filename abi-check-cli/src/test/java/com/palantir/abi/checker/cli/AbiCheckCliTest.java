@@ -0,0 +1,224 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AbiCheckCliTest {
+    private static final JavaFileObject LIB = JavaFileObjects.forSourceString(
+            "dep.b.Lib",
+            // language=java
+            """
+            package dep.b;
+            public class Lib {
+                public static void existing() {}
+            }
+            """);
+    private static final JavaFileObject LIB_WITH_MISSING_METHOD = JavaFileObjects.forSourceString(
+            "dep.b.Lib",
+            // language=java
+            """
+            package dep.b;
+            public class Lib {
+                public static void existing() {}
+                public static void missing() {}
+            }
+            """);
+    private static final JavaFileObject BROKEN = JavaFileObjects.forSourceString(
+            "dep.a.Broken",
+            // language=java
+            """
+            package dep.a;
+            public class Broken {
+                public static void call() {
+                    dep.b.Lib.missing();
+                }
+            }
+            """);
+    private static final JavaFileObject WORKING = JavaFileObjects.forSourceString(
+            "dep.a.Working",
+            // language=java
+            """
+            package dep.a;
+            public class Working {
+                public static void call() {
+                    dep.b.Lib.existing();
+                }
+            }
+            """);
+
+    @TempDir
+    public Path tempDir;
+
+    private Path lib;
+
+    @BeforeEach
+    public void before() throws IOException {
+        lib = Files.createDirectories(tempDir.resolve("lib"));
+        writeJar(lib.resolve("dep-a-1.0.jar"), "dep/a/", Map.of(), LIB_WITH_MISSING_METHOD, BROKEN, WORKING);
+        writeJar(
+                lib.resolve("dep-b-2.0.jar"),
+                "dep/b/",
+                Map.of(
+                        "META-INF/maven/com.example/dep-b/pom.properties",
+                        "groupId=com.example\nartifactId=dep-b\nversion=2.0\n"),
+                LIB);
+    }
+
+    @Test
+    public void reports_conflicts_reachable_from_the_entry_points() throws IOException {
+        writeApp("dep.a.Broken.call();");
+        Path output = tempDir.resolve("conflicts.json");
+
+        Result result = run(
+                "--lib",
+                lib.toString(),
+                "--entry-points",
+                lib.resolve("app.jar").toString(),
+                "--output",
+                output.toString());
+
+        assertThat(result.exitCode()).isEqualTo(AbiCheckCli.CONFLICTS);
+        assertThat(result.out()).contains("dep.a.Broken", "com.example:dep-b:2.0");
+        assertThat(Files.readString(output))
+                .startsWith("{\"type\":\"conflicts\"")
+                .contains("\"existsIn\":\"com.example:dep-b:2.0\"");
+    }
+
+    @Test
+    public void succeeds_when_no_conflict_is_reachable() throws IOException {
+        writeApp("dep.a.Working.call();");
+        Path output = tempDir.resolve("conflicts.json");
+
+        Result result = run(
+                "--lib",
+                lib.toString(),
+                "--entry-points",
+                lib.resolve("app.jar").toString(),
+                "--output",
+                output.toString());
+
+        assertThat(result.exitCode()).isEqualTo(AbiCheckCli.NO_CONFLICTS);
+        assertThat(Files.readString(output)).isEqualTo("{}");
+    }
+
+    @Test
+    public void checks_every_class_without_entry_points() throws IOException {
+        writeApp("dep.a.Working.call();");
+        Path report = tempDir.resolve("report.txt");
+
+        Result result = run("--lib", lib.toString(), "--report", report.toString());
+
+        assertThat(result.exitCode()).isEqualTo(AbiCheckCli.CONFLICTS);
+        assertThat(result.out())
+                .startsWith("Found 1 ABI conflicts in 1 artifacts:")
+                .contains("Full report: " + report);
+        assertThat(report).content().contains("dep.a.Broken");
+    }
+
+    @Test
+    public void fails_on_invalid_arguments() {
+        Result result = run("--lib", lib.toString(), "--output-format", "xml");
+
+        assertThat(result.exitCode()).isEqualTo(AbiCheckCli.FAILURE);
+        assertThat(result.err())
+                .startsWith("Invalid value for --output-format: xml")
+                .contains("Usage: abi-check");
+    }
+
+    @Test
+    public void training_runs_need_no_classpath() {
+        assertThat(CliArguments.parse(List.of("--training-run")).trainingRun()).isTrue();
+        assertThatThrownBy(() -> CliArguments.parse(List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("No classpath provided");
+    }
+
+    private void writeApp(String mainBody) throws IOException {
+        writeJar(
+                lib.resolve("app.jar"),
+                "com/app/",
+                Map.of(),
+                LIB_WITH_MISSING_METHOD,
+                BROKEN,
+                WORKING,
+                JavaFileObjects.forSourceString(
+                        "com.app.Main",
+                        "package com.app; public class Main { public static void main(String[] args) { " + mainBody
+                                + " } }"));
+    }
+
+    private static Result run(String... args) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int exitCode = AbiCheckCli.run(
+                List.of(args),
+                new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8));
+        return new Result(exitCode, out.toString(StandardCharsets.UTF_8), err.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Compiles the provided sources into the jar, only keeping the classes under {@code packagePath}.
+     */
+    private static void writeJar(Path jar, String packagePath, Map<String, String> resources, JavaFileObject... sources)
+            throws IOException {
+        Compilation compilation = Compiler.javac().compile(sources);
+        String outputPrefix = "/" + StandardLocation.CLASS_OUTPUT.getName() + "/";
+        try (JarOutputStream outputStream = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (JavaFileObject classFile : compilation.generatedFiles()) {
+                String relativePath = classFile.getName().substring(outputPrefix.length());
+                if (classFile.getKind() != JavaFileObject.Kind.CLASS || !relativePath.startsWith(packagePath)) {
+                    continue;
+                }
+                outputStream.putNextEntry(new JarEntry(relativePath));
+                try (InputStream inputStream = classFile.openInputStream()) {
+                    inputStream.transferTo(outputStream);
+                }
+                outputStream.closeEntry();
+            }
+            for (Map.Entry<String, String> resource : resources.entrySet()) {
+                outputStream.putNextEntry(new JarEntry(resource.getKey()));
+                outputStream.write(resource.getValue().getBytes(StandardCharsets.UTF_8));
+                outputStream.closeEntry();
+            }
+        }
+    }
+
+    private record Result(int exitCode, String out, String err) {}
+}
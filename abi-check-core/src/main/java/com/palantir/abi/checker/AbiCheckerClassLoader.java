@@ -36,6 +36,7 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.annotations.VisibleForTesting;
 import com.palantir.abi.checker.datamodel.DeclaredClass;
+import com.palantir.abi.checker.datamodel.Visibility;
 import com.palantir.abi.checker.datamodel.classlocation.ClassLocation;
 import com.palantir.abi.checker.datamodel.field.FieldDescriptor;
 import com.palantir.abi.checker.datamodel.field.FieldReference;
@@ -48,6 +49,7 @@ import com.palantir.abi.checker.datamodel.types.TypeDescriptors;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -68,7 +70,9 @@ import org.objectweb.asm.tree.LdcInsnNode;
 import org.objectweb.asm.tree.LineNumberNode;
 import org.objectweb.asm.tree.MethodInsnNode;
 import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.ModuleNode;
 import org.objectweb.asm.tree.TryCatchBlockNode;
+import org.objectweb.asm.tree.TypeInsnNode;
 
 /** Loads a single class from an input stream. */
 public final class AbiCheckerClassLoader {
@@ -80,20 +84,68 @@ public final class AbiCheckerClassLoader {
             new HashSet<>(Arrays.asList("java/lang/invoke/MethodHandle", "java/lang/invoke/VarHandle"));
 
     // Note: URL#equals does DNS resolution, so we shouldn't use it here
-    private final LoadingCache<ClassLocation, DeclaredClass> cache = Caffeine.newBuilder()
-            .maximumSize(10_000)
-            .build(location -> {
-                try (InputStream classInputStream = location.openStream()) {
-                    return loadInternal(classInputStream);
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to parse class: " + location, e);
-                }
-            });
+    private final LoadingCache<ClassLocation, DeclaredClass> cache =
+            Caffeine.newBuilder().maximumSize(10_000).build(AbiCheckerClassLoader::parse);
 
     public DeclaredClass load(ClassLocation classLocation) {
         return cache.get(classLocation);
     }
 
+    /**
+     * Loads the class, notifying the listener if it actually had to be parsed (i.e. it wasn't already cached).
+     */
+    public DeclaredClass load(ClassLocation classLocation, ParseListener listener) {
+        return cache.get(classLocation, location -> {
+            long start = System.nanoTime();
+            DeclaredClass declaredClass = parse(location);
+            listener.parsed(location, System.nanoTime() - start);
+            return declaredClass;
+        });
+    }
+
+    /**
+     * Returns a read-only view of the classes that are currently held in the cache, mostly useful to account for the
+     *   memory retained by this loader.
+     */
+    public Map<ClassLocation, DeclaredClass> cachedClasses() {
+        return Collections.unmodifiableMap(cache.asMap());
+    }
+
+    /**
+     * Drops the cached classes of these locations, e.g. because the jar or directory they were read from has changed
+     *   since, which only matters for loaders that outlive a single build.
+     */
+    public void invalidate(Iterable<? extends ClassLocation> locations) {
+        cache.invalidateAll(locations);
+    }
+
+    /**
+     * Reads the packages that the provided {@code module-info} class exports to every other module, leaving out the
+     *   packages only exported to specific modules.
+     */
+    public static Set<String> readExportedPackages(ClassLocation moduleInfo) {
+        try (InputStream classInputStream = moduleInfo.openStream()) {
+            ModuleNode module = readClassNode(classInputStream).module;
+            if (module == null || module.exports == null) {
+                return Set.of();
+            }
+            return module.exports.stream()
+                    .filter(export -> export.modules == null || export.modules.isEmpty())
+                    .map(export -> export.packaze.replace('/', '.'))
+                    .collect(Collectors.toUnmodifiableSet());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to parse module: " + moduleInfo, e);
+        }
+    }
+
+    private static DeclaredClass parse(ClassLocation location) {
+        try (InputStream classInputStream = location.openStream()) {
+            return loadInternal(classInputStream);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to parse class: " + location, e);
+        }
+    }
+
     @VisibleForTesting
     static DeclaredClass loadInternal(InputStream in) throws IOException {
         ClassNode classNode = readClassNode(in);
@@ -111,6 +163,7 @@ public final class AbiCheckerClassLoader {
 
         return DeclaredClass.builder()
                 .className(className)
+                .visibility(visibility(classNode.access))
                 .methods(declaredMethods)
                 .parents(parents)
                 .loadedClasses(loadedClasses)
@@ -125,6 +178,17 @@ public final class AbiCheckerClassLoader {
         return classNode;
     }
 
+    private static Visibility visibility(int access) {
+        if ((access & Opcodes.ACC_PUBLIC) != 0) {
+            return Visibility.PUBLIC;
+        } else if ((access & Opcodes.ACC_PROTECTED) != 0) {
+            return Visibility.PROTECTED;
+        } else if ((access & Opcodes.ACC_PRIVATE) != 0) {
+            return Visibility.PRIVATE;
+        }
+        return Visibility.PACKAGE_PRIVATE;
+    }
+
     private static Set<ClassTypeDescriptor> readParents(ClassNode classNode) {
         final Set<ClassTypeDescriptor> parents = classNode.interfaces.stream()
                 .map(TypeDescriptors::fromClassName)
@@ -157,6 +221,7 @@ public final class AbiCheckerClassLoader {
             Set<ClassTypeDescriptor> loadedClasses) {
         final Set<CallSite<MethodReference>> methodCalls = new HashSet<>();
         final Set<CallSite<FieldReference>> fieldAccesses = new HashSet<>();
+        final Set<ClassTypeDescriptor> instantiatedClasses = new HashSet<>();
 
         int lineNumber = 0;
         for (final AbstractInsnNode insn : method.instructions) {
@@ -178,10 +243,14 @@ public final class AbiCheckerClassLoader {
                             fieldInsn,
                             () -> getCaughtExceptions(method.instructions, fieldInsn, method));
                 }
+                if (insn instanceof TypeInsnNode typeInsn && typeInsn.getOpcode() == Opcodes.NEW) {
+                    instantiatedClasses.add(TypeDescriptors.fromClassName(typeInsn.desc));
+                }
                 if (insn instanceof InvokeDynamicInsnNode dynamicInsn) {
                     handleInvokeDynamic(
                             methodCalls,
                             fieldAccesses,
+                            instantiatedClasses,
                             lineNumber,
                             dynamicInsn,
                             () -> getCaughtExceptions(method.instructions, dynamicInsn, method));
@@ -199,8 +268,10 @@ public final class AbiCheckerClassLoader {
         MethodDescriptor methodDescriptor = MethodDescriptor.ofDescriptor(method.desc, method.name);
         final DeclaredMethod declaredMethod = DeclaredMethod.builder()
                 .reference(MethodReference.of(className, methodDescriptor, isStatic))
+                .visibility(visibility(method.access))
                 .methodCalls(methodCalls)
                 .fieldAccesses(fieldAccesses)
+                .instantiatedClasses(instantiatedClasses)
                 .build();
 
         if (declaredMethods.put(declaredMethod.reference().method(), declaredMethod) != null) {
@@ -328,6 +399,7 @@ public final class AbiCheckerClassLoader {
     private static void handleInvokeDynamic(
             Set<CallSite<MethodReference>> methodCalls,
             Set<CallSite<FieldReference>> fieldAccesses,
+            Set<ClassTypeDescriptor> instantiatedClasses,
             int lineNumber,
             InvokeDynamicInsnNode insn,
             Supplier<Set<ClassTypeDescriptor>> caughtExceptions) {
@@ -342,6 +414,10 @@ public final class AbiCheckerClassLoader {
                             handle.getDesc(),
                             isStaticHandle(handle),
                             caughtExceptions);
+                    // Constructor references create instances of their owner
+                    if (handle.getTag() == Opcodes.H_NEWINVOKESPECIAL && isNotArray(handle.getOwner())) {
+                        instantiatedClasses.add(TypeDescriptors.fromClassName(handle.getOwner()));
+                    }
                 } else {
                     addFieldAccess(
                             fieldAccesses,
@@ -415,4 +491,10 @@ public final class AbiCheckerClassLoader {
             }
         }
     }
+
+    /** Listener notified whenever a class had to be parsed from its class file. */
+    @FunctionalInterface
+    public interface ParseListener {
+        void parsed(ClassLocation location, long durationNanos);
+    }
 }
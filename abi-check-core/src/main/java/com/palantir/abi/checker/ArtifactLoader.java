@@ -33,7 +33,6 @@
 package com.palantir.abi.checker;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableMap;
 import com.palantir.abi.checker.datamodel.Artifact;
 import com.palantir.abi.checker.datamodel.ArtifactName;
@@ -47,22 +46,22 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
-import java.util.SortedMap;
-import java.util.TreeMap;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public final class ArtifactLoader {
-    private static final Pattern META_INF_VERSIONS_PATTERN = Pattern.compile("META-INF/versions/(\\d+)/");
+    private static final String VERSIONS_PREFIX = "META-INF/versions/";
+    // Used as the target of class files which are not in the META-INF/versions directory, so that they are always
+    //   included and overridden by any versioned class file we can run
+    private static final int BASE_VERSION = -1;
+    // The JVM we're running on can't change while we run, so only figure its version out once
+    private static final int CURRENT_JAVA_VERSION = Runtime.version().feature();
 
     public Artifact load(Path location, ArtifactName artifactName) {
         return Artifact.builder()
@@ -126,22 +125,41 @@ public final class ArtifactLoader {
 
     @VisibleForTesting
     Map<ClassTypeDescriptor, ClassLocation> loadClassesFromJar(File jarLocation) throws IOException {
-        ImmutableMap.Builder<ClassTypeDescriptor, ClassLocation> classes = ImmutableMap.builder();
+        String jarPath = jarLocation.getAbsolutePath();
+        Map<ClassTypeDescriptor, ClassLocation> classes = new HashMap<>();
+        // Only holds the classes whose selected class file is a versioned one, which most jars have none of
+        Map<ClassTypeDescriptor, Integer> selectedVersions = new HashMap<>();
 
         try (JarFile jarFile = new JarFile(jarLocation)) {
-            Map<ClassTypeDescriptor, JarEntry> classesToIndex =
-                    getClassesForCurrentJavaVersion(Collections.list(jarFile.entries()));
-            for (Entry<ClassTypeDescriptor, JarEntry> entry : classesToIndex.entrySet()) {
-                ClassTypeDescriptor descriptor = entry.getKey();
-                JarEntry jarEntry = entry.getValue();
-                String classLocation = jarEntry.getName();
-                classes.put(
-                        descriptor,
-                        new JarBasedClassLocation(descriptor, jarLocation.getAbsolutePath(), classLocation));
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                String classLocation = entries.nextElement().getName();
+                if (!classLocation.endsWith(".class")) {
+                    continue;
+                }
+
+                int targetJavaVersion = targetJavaVersion(classLocation);
+                if (targetJavaVersion > CURRENT_JAVA_VERSION) {
+                    continue;
+                }
+                ClassTypeDescriptor descriptor = TypeDescriptors.fromClassFilename(
+                        targetJavaVersion == BASE_VERSION
+                                ? classLocation
+                                : classLocation.substring(classLocation.indexOf('/', VERSIONS_PREFIX.length()) + 1));
+
+                // The class file targeting the most recent version that we can run wins
+                int selectedVersion = selectedVersions.getOrDefault(descriptor, BASE_VERSION);
+                if (targetJavaVersion < selectedVersion) {
+                    continue;
+                }
+                classes.put(descriptor, new JarBasedClassLocation(descriptor, jarPath, classLocation));
+                if (targetJavaVersion != BASE_VERSION) {
+                    selectedVersions.put(descriptor, targetJavaVersion);
+                }
             }
         }
 
-        return classes.buildOrThrow();
+        return ImmutableMap.copyOf(classes);
     }
 
     // Note: I attempted to re-author this logic using the "ModuleFinder" abstraction that shipped in Java 9
@@ -154,60 +172,26 @@ public final class ArtifactLoader {
     //  versions of JVM in one jar.
     //  You don't want to end up trying to parse a new class file when running on an old JVM.
     //  https://openjdk.java.net/jeps/238
-    private static Map<ClassTypeDescriptor, JarEntry> getClassesForCurrentJavaVersion(Iterable<JarEntry> entries) {
-        // First categorize all the found class files by their target JVM
-        // classFilesPerJavaVersion: target JVM version -> type descriptor -> JarEntry
-        SortedMap<Integer, Map<ClassTypeDescriptor, JarEntry>> classFilesPerJavaVersion = new TreeMap<>();
-        for (JarEntry entry : entries) {
-            String fileFullName = entry.getName();
-            if (fileFullName.endsWith(".class")) {
-                Matcher matcher = META_INF_VERSIONS_PATTERN.matcher(fileFullName);
-                final int targetJavaVersion;
-                final String normalizedFileFullName;
-                if (matcher.find()) {
-                    targetJavaVersion = Integer.parseInt(matcher.group(1));
-                    normalizedFileFullName = fileFullName.replaceAll(META_INF_VERSIONS_PATTERN.pattern(), "");
-                } else {
-                    // If a class file is not in the META-INF/versions directory, we should assume it is for
-                    //   whichever JVM version the jar is targeting.
-                    // We use 0 as the target, to ensure we will include the file below in the target vs current Java
-                    //   version check
-                    targetJavaVersion = 0;
-                    normalizedFileFullName = fileFullName;
-                }
-
-                if (!classFilesPerJavaVersion.containsKey(targetJavaVersion)) {
-                    classFilesPerJavaVersion.put(targetJavaVersion, new HashMap<>());
-                }
-                classFilesPerJavaVersion
-                        .get(targetJavaVersion)
-                        .put(TypeDescriptors.fromClassFilename(normalizedFileFullName), entry);
-            }
+    private static int targetJavaVersion(String classLocation) {
+        if (!classLocation.startsWith(VERSIONS_PREFIX)) {
+            // If a class file is not in the META-INF/versions directory, we should assume it is for
+            //   whichever JVM version the jar is targeting.
+            return BASE_VERSION;
         }
-
-        // We have to figure out what JVM version we're running on.
-        Integer currentJavaVersion;
-        List<String> javaVersionElements =
-                Splitter.on('.').splitToList(System.getProperty("java.version").replaceAll("\\-ea", ""));
-        // Pre-Java 9 versions have a version string like "1.8.0_40"
-        if (javaVersionElements.get(0).equals("1")) {
-            currentJavaVersion = Integer.parseInt(javaVersionElements.get(1));
-        } else {
-            currentJavaVersion = Integer.parseInt(javaVersionElements.get(0));
+        int versionEnd = classLocation.indexOf('/', VERSIONS_PREFIX.length());
+        if (versionEnd <= VERSIONS_PREFIX.length()) {
+            return BASE_VERSION;
         }
-
-        // Start layering the class files from old JVM version to new and thus effectively override the
-        // old files by the new ones.
-        Map<ClassTypeDescriptor, JarEntry> selectedClassFiles = new HashMap<>();
-        for (Map.Entry<Integer, Map<ClassTypeDescriptor, JarEntry>> entry : classFilesPerJavaVersion.entrySet()) {
-            Integer targetJavaVersion = entry.getKey();
-            if (targetJavaVersion > currentJavaVersion) {
-                break;
+        int version = 0;
+        for (int i = VERSIONS_PREFIX.length(); i < versionEnd; i++) {
+            char digit = classLocation.charAt(i);
+            if (digit < '0' || digit > '9') {
+                // Not a versioned directory after all, so the entry is treated as a class of the base version
+                return BASE_VERSION;
             }
-            Map<ClassTypeDescriptor, JarEntry> pathToClassfile = entry.getValue();
-            selectedClassFiles.putAll(pathToClassfile);
+            // Versions too large to represent are still too recent for us to run
+            version = version > (Integer.MAX_VALUE - 9) / 10 ? Integer.MAX_VALUE : version * 10 + (digit - '0');
         }
-
-        return selectedClassFiles;
+        return version;
     }
 }
@@ -0,0 +1,177 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker;
+
+import com.google.common.base.Preconditions;
+import com.palantir.abi.checker.datamodel.Artifact;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.classlocation.ClassLocation;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.conflict.ImmutableConflict;
+import com.palantir.abi.checker.datamodel.graph.ReachabilityAnalysis;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import com.palantir.abi.checker.incremental.ClasspathCheckResult;
+import com.palantir.abi.checker.incremental.ClasspathDiff;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Checks a classpath against the result of checking a previous version of it, e.g. before bumping a few
+ *   dependencies, only checking again the classes whose result may have changed.
+ *
+ * The result of checking a class only depends on its own definition and on those of the classes it resolves (see
+ *   {@link ConflictChecker#resolvedClasses}). Classes which were checked before, and for which none of these changed,
+ *   still have the same conflicts, which are carried over from the previous result. The others, as well as the
+ *   classes that became reachable, are checked again, so the time spent checking is proportional to what the change
+ *   affects rather than to the size of the classpath.
+ *
+ * This requires class-level reachability (or checking completely), as which of the methods of an unchanged class are
+ *   reachable may otherwise change along with the rest of the classpath. Both checks must use the same configuration
+ *   and project classes.
+ */
+public final class ClasspathDiffConflictChecker {
+
+    /**
+     * Checks every reachable class of the classpath, recording what later checks need to build upon it.
+     */
+    public static ClasspathCheckResult check(
+            ConflictCheckerConfiguration configuration,
+            AbiCheckerClassLoader classLoader,
+            List<Artifact> classpath,
+            Collection<ClassLocation> projectClasses) {
+        checkConfiguration(configuration);
+        ConflictChecker checker = ConflictChecker.create(configuration, classLoader, classpath, projectClasses);
+        List<Conflict> conflicts = checker.check();
+        return result(checker, conflicts, Set.of(), Map.of());
+    }
+
+    /**
+     * Checks {@code newClasspath}, building upon the result of checking {@code oldClasspath}.
+     */
+    public static ClasspathCheckResult check(
+            ConflictCheckerConfiguration configuration,
+            AbiCheckerClassLoader classLoader,
+            ClasspathCheckResult previousResult,
+            List<Artifact> oldClasspath,
+            List<Artifact> newClasspath,
+            Collection<ClassLocation> projectClasses) {
+        checkConfiguration(configuration);
+        ConflictChecker checker = ConflictChecker.create(configuration, classLoader, newClasspath, projectClasses);
+        ClasspathDiff diff = ClasspathDiff.between(oldClasspath, newClasspath, checker.classIndex());
+        return recheck(checker, previousResult, diff);
+    }
+
+    /**
+     * Checks the classpath of {@code checker} again, building upon the result of checking a previous version of it
+     *   which differs by {@code diff}.
+     */
+    static ClasspathCheckResult recheck(
+            ConflictChecker checker, ClasspathCheckResult previousResult, ClasspathDiff diff) {
+        Set<ClassTypeDescriptor> reachableClasses = checker.classGraph().reachableClasses();
+
+        Set<ClassTypeDescriptor> classesToCheck = new HashSet<>(previousResult.affectedClasses(diff.changedClasses()));
+        for (ClassTypeDescriptor reachableClass : reachableClasses) {
+            if (!previousResult.checkedClasses().contains(reachableClass)
+                    || diff.changedClasses().contains(reachableClass)) {
+                classesToCheck.add(reachableClass);
+            }
+        }
+
+        // Carry over the conflicts of the classes that aren't checked again, unless they are now reached through
+        //   classes that changed, in which case they are checked again to report an accurate reachability path, and
+        //   name the artifacts involved as they are now named on the classpath
+        List<Conflict> previousConflicts = new ArrayList<>();
+        for (Conflict conflict : previousResult.conflicts()) {
+            ClassTypeDescriptor fromClass = conflict.dependency().fromClass();
+            if (!reachableClasses.contains(fromClass) || classesToCheck.contains(fromClass)) {
+                continue;
+            }
+            if (conflict.dependency().reachabilityPath().stream().anyMatch(diff.changedClasses()::contains)) {
+                classesToCheck.add(fromClass);
+            } else {
+                previousConflicts.add(renamed(conflict, diff.renamedArtifacts()));
+            }
+        }
+        previousConflicts.removeIf(
+                conflict -> classesToCheck.contains(conflict.dependency().fromClass()));
+
+        List<Conflict> conflicts = new ArrayList<>(previousConflicts);
+        conflicts.addAll(checker.check(
+                reachableClasses.stream().filter(classesToCheck::contains).toList()));
+
+        Set<ClassTypeDescriptor> carriedOverClasses = new HashSet<>();
+        for (ClassTypeDescriptor checkedClass : previousResult.checkedClasses()) {
+            if (reachableClasses.contains(checkedClass) && !classesToCheck.contains(checkedClass)) {
+                carriedOverClasses.add(checkedClass);
+            }
+        }
+        return result(checker, conflicts, carriedOverClasses, previousResult.resolvingClasses());
+    }
+
+    private static Conflict renamed(Conflict conflict, Map<ArtifactName, ArtifactName> renamedArtifacts) {
+        ArtifactName usedBy = renamedArtifacts.getOrDefault(conflict.usedBy(), conflict.usedBy());
+        ArtifactName existsIn = renamedArtifacts.getOrDefault(conflict.existsIn(), conflict.existsIn());
+        if (usedBy.equals(conflict.usedBy()) && existsIn.equals(conflict.existsIn())) {
+            return conflict;
+        }
+        return ImmutableConflict.copyOf(conflict).withUsedBy(usedBy).withExistsIn(existsIn);
+    }
+
+    static ClasspathCheckResult result(
+            ConflictChecker checker,
+            List<Conflict> conflicts,
+            Set<ClassTypeDescriptor> carriedOverClasses,
+            Map<ClassTypeDescriptor, Set<ClassTypeDescriptor>> previousResolvingClasses) {
+        Map<ClassTypeDescriptor, Set<ClassTypeDescriptor>> resolvingClasses = new HashMap<>();
+        previousResolvingClasses.forEach((resolvedClass, previousResolving) -> {
+            for (ClassTypeDescriptor resolving : previousResolving) {
+                if (carriedOverClasses.contains(resolving)) {
+                    resolvingClasses
+                            .computeIfAbsent(resolvedClass, _name -> new HashSet<>())
+                            .add(resolving);
+                }
+            }
+        });
+        for (ClassTypeDescriptor checkedClass : checker.checkedClasses()) {
+            for (ClassTypeDescriptor resolvedClass : checker.resolvedClasses(checkedClass)) {
+                resolvingClasses
+                        .computeIfAbsent(resolvedClass, _name -> new HashSet<>())
+                        .add(checkedClass);
+            }
+        }
+        return ClasspathCheckResult.builder()
+                .conflicts(conflicts)
+                .addAllCheckedClasses(carriedOverClasses)
+                .addAllCheckedClasses(checker.checkedClasses())
+                .resolvingClasses(resolvingClasses)
+                .build();
+    }
+
+    static void checkConfiguration(ConflictCheckerConfiguration configuration) {
+        Preconditions.checkArgument(
+                configuration.getCheckCompletely()
+                        || configuration.getReachabilityAnalysis() == ReachabilityAnalysis.CLASS_REFERENCES,
+                "Method-level reachability can't be checked against a previous classpath");
+    }
+
+    private ClasspathDiffConflictChecker() {}
+}
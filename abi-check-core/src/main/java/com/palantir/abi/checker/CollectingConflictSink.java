@@ -0,0 +1,99 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker;
+
+import com.google.common.base.Preconditions;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.conflict.ConflictGroup;
+import com.palantir.abi.checker.datamodel.conflict.RootCause;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link ConflictSink} keeping the conflicts it receives, which stops the check once it has received a given number
+ *   of them.
+ *
+ * Stopping early makes the check much cheaper on badly broken classpaths, for callers which only need to know whether
+ *   there are any conflicts, or only intend to report the first few of them.
+ *
+ * The conflicts are kept grouped by {@link RootCause}, as a single missing method or class usually causes many of
+ *   them, which is much more compact than keeping each of them.
+ */
+public final class CollectingConflictSink implements ConflictSink {
+    private final int maxConflicts;
+    private final Map<RootCause, ConflictGroup> groups = new LinkedHashMap<>();
+    private int size;
+
+    private CollectingConflictSink(int maxConflicts) {
+        this.maxConflicts = maxConflicts;
+    }
+
+    /**
+     * Keeps every conflict, never stopping the check.
+     */
+    public static CollectingConflictSink collectAll() {
+        return new CollectingConflictSink(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Stops the check as soon as a conflict is found.
+     */
+    public static CollectingConflictSink failFast() {
+        return upTo(1);
+    }
+
+    /**
+     * Stops the check once {@code maxConflicts} conflicts have been found.
+     */
+    public static CollectingConflictSink upTo(int maxConflicts) {
+        Preconditions.checkArgument(maxConflicts > 0, "The maximum number of conflicts must be positive");
+        return new CollectingConflictSink(maxConflicts);
+    }
+
+    @Override
+    public boolean accept(Conflict conflict) {
+        groups.computeIfAbsent(RootCause.of(conflict), ConflictGroup::new).add(conflict);
+        size++;
+        return size < maxConflicts;
+    }
+
+    /**
+     * The conflicts received so far, grouped by root cause, in the order in which each root cause was first found.
+     */
+    public Collection<ConflictGroup> groups() {
+        return Collections.unmodifiableCollection(groups.values());
+    }
+
+    /**
+     * The conflicts received so far, built back from their groups (see {@link #groups()}).
+     */
+    public List<Conflict> conflicts() {
+        return groups.values().stream()
+                .flatMap(group -> group.conflicts().stream())
+                .toList();
+    }
+
+    /**
+     * Whether this stopped the check, in which case there may be more conflicts than the ones it kept.
+     */
+    public boolean stoppedCheck() {
+        return size >= maxConflicts;
+    }
+}
@@ -32,6 +32,7 @@
 
 package com.palantir.abi.checker;
 
+import com.google.common.base.Preconditions;
 import com.palantir.abi.checker.datamodel.Artifact;
 import com.palantir.abi.checker.datamodel.ArtifactName;
 import com.palantir.abi.checker.datamodel.DeclaredClass;
@@ -42,15 +43,33 @@ import com.palantir.abi.checker.datamodel.conflict.MethodDependency;
 import com.palantir.abi.checker.datamodel.field.FieldReference;
 import com.palantir.abi.checker.datamodel.graph.ClassGraph;
 import com.palantir.abi.checker.datamodel.graph.ClassIndex;
+import com.palantir.abi.checker.datamodel.graph.EntryPointStrategy;
+import com.palantir.abi.checker.datamodel.graph.EntryPoints;
+import com.palantir.abi.checker.datamodel.graph.ReachabilityAnalysis;
 import com.palantir.abi.checker.datamodel.method.CallSite;
 import com.palantir.abi.checker.datamodel.method.DeclaredMethod;
+import com.palantir.abi.checker.datamodel.method.MethodDescriptor;
 import com.palantir.abi.checker.datamodel.method.MethodReference;
 import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import com.palantir.abi.checker.datamodel.types.TypeDescriptors;
+import com.palantir.abi.checker.incremental.IncrementalState;
+import com.palantir.abi.checker.metrics.ArtifactCost;
+import com.palantir.abi.checker.metrics.ArtifactCosts;
+import com.palantir.abi.checker.metrics.ReachabilityAttribution;
+import com.palantir.abi.checker.metrics.ReachabilityAttributor;
 import com.palantir.abi.checker.util.ExceptionsChecker;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * This class is responsible for finding ABI conflicts for artifacts in the runtime classpath.
@@ -61,14 +80,16 @@ import java.util.Optional;
  *     - The order of the artifacts is important, as it indicates which version of a class to use
  *       if a class is present in multiple artifacts (first occurrence wins).
  *   - The entry point classes for the project
+ *     - Only some of their methods may be considered as entry points, see {@link EntryPointStrategy}
  *
  * It will then proceed in the following way:
- *   - Determine the set of classes that are reachable from the entry point classes
- *     - Note: the logic here is somewhat too broad at the time being, as we will recursively include classes
- *         that may be reached through methods that themselves are not reachable. A better logic would be to
- *         follow along the method calls directly, starting from either the main methods (for applications) or
- *         any public method in public interfaces (for libraries)
- *   - For each reachable class, and for each method in that class:
+ *   - Determine the set of classes that are reachable from the entry point classes, see {@link ReachabilityAnalysis}
+ *     - Note: the default logic here is somewhat too broad, as we will recursively include classes that may be
+ *         reached through methods that themselves are not reachable.
+ *         {@link ReachabilityAnalysis#CLASS_HIERARCHY_ANALYSIS} and {@link ReachabilityAnalysis#RAPID_TYPE_ANALYSIS}
+ *         instead follow along the method calls directly, which only considers the methods that can actually be
+ *         called as reachable.
+ *   - For each reachable class, and for each reachable method in that class:
  *     - For each method call or field access:
  *       - Try to load the target class
  *       - Try to find the target member (following the class hierarchy where relevant)
@@ -77,21 +98,116 @@ import java.util.Optional;
 public final class ConflictChecker {
     private final ConflictCheckerConfiguration configuration;
     private final ClassIndex index;
+    private final ArtifactCosts costs;
     private final ClassGraph classGraph;
+    // The reachable classes that actually need to be checked, which is all of them unless checking incrementally
+    private final Set<ClassTypeDescriptor> classesToCheck;
+    private final Set<ClassTypeDescriptor> classesWithConflicts = new HashSet<>();
+    private final Set<ClassTypeDescriptor> checkedClasses = new HashSet<>();
+    // Only filled when asked which classes the checked classes resolved, as for most checks nobody does
+    private final Map<ClassTypeDescriptor, Set<ClassTypeDescriptor>> hierarchies = new HashMap<>();
+    // Whether the last check went through every class, rather than being stopped by its sink
+    private boolean checkedCompletely;
 
-    private ConflictChecker(
+    ConflictChecker(
             ConflictCheckerConfiguration configuration,
             AbiCheckerClassLoader classLoader,
             ClassIndex index,
             Collection<ClassLocation> projectClasses) {
         this.configuration = configuration;
         this.index = index;
+        this.costs = new ArtifactCosts(index);
 
         if (configuration.getCheckCompletely()) {
-            classGraph = ClassGraph.createAllReachable(classLoader, index);
+            classGraph = ClassGraph.createAllReachable(classLoader, index, costs);
         } else {
-            classGraph = ClassGraph.createWithEntryPoint(classLoader, index, projectClasses);
+            classGraph = switch (configuration.getReachabilityAnalysis()) {
+                case CLASS_REFERENCES ->
+                    ClassGraph.createWithEntryPoint(
+                            classLoader,
+                            index,
+                            costs,
+                            entryPointClasses(configuration, classLoader, costs, projectClasses));
+                case CLASS_HIERARCHY_ANALYSIS ->
+                    ClassGraph.createWithCallGraph(
+                            classLoader,
+                            index,
+                            costs,
+                            entryPoints(configuration, classLoader, costs, projectClasses),
+                            false);
+                case RAPID_TYPE_ANALYSIS ->
+                    ClassGraph.createWithCallGraph(
+                            classLoader,
+                            index,
+                            costs,
+                            entryPoints(configuration, classLoader, costs, projectClasses),
+                            true);
+            };
         }
+        classesToCheck = classGraph.reachableClasses();
+    }
+
+    private ConflictChecker(
+            ConflictCheckerConfiguration configuration,
+            AbiCheckerClassLoader classLoader,
+            ClassIndex index,
+            Collection<ClassLocation> projectClasses,
+            Map<ClassTypeDescriptor, List<ClassTypeDescriptor>> previousReferences,
+            Set<ClassTypeDescriptor> previousClassesWithConflicts,
+            Set<ClassTypeDescriptor> changedClasses) {
+        Preconditions.checkArgument(
+                canCheckIncrementally(configuration),
+                "Complete checks and method-level reachability can't be done incrementally");
+        this.configuration = configuration;
+        this.index = index;
+        this.costs = new ArtifactCosts(index);
+
+        classGraph = ClassGraph.createWithEntryPoint(
+                classLoader,
+                index,
+                costs,
+                entryPointClasses(configuration, classLoader, costs, projectClasses),
+                previousReferences,
+                changedClasses);
+
+        // Classes that (transitively) reference a changed class might now resolve their references differently, and
+        //   classes which previously had conflicts need to be re-checked for their reachability paths to be accurate
+        Set<ClassTypeDescriptor> affectedClasses = referencingClasses(previousReferences, changedClasses);
+        affectedClasses.addAll(previousClassesWithConflicts);
+        classesToCheck = classGraph.reachableClasses().stream()
+                .filter(reachableClass ->
+                        affectedClasses.contains(reachableClass) || !previousReferences.containsKey(reachableClass))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static Map<ClassLocation, Set<MethodDescriptor>> entryPoints(
+            ConflictCheckerConfiguration configuration,
+            AbiCheckerClassLoader classLoader,
+            ArtifactCosts costs,
+            Collection<ClassLocation> projectClasses) {
+        return EntryPoints.select(
+                configuration.getEntryPointStrategy(),
+                configuration.getEntryPointRoots(),
+                configuration.getServiceProviders(),
+                classLoader,
+                costs,
+                projectClasses);
+    }
+
+    /**
+     * Class-level reachability follows every reference of the entry point classes, regardless of which of their
+     *   methods are entry points.
+     */
+    private static Collection<ClassLocation> entryPointClasses(
+            ConflictCheckerConfiguration configuration,
+            AbiCheckerClassLoader classLoader,
+            ArtifactCosts costs,
+            Collection<ClassLocation> projectClasses) {
+        if (configuration.getEntryPointStrategy() == EntryPointStrategy.ALL_CLASSES) {
+            // Spares loading classes that incremental checks may not need
+            return projectClasses;
+        }
+        return entryPoints(configuration, classLoader, costs, projectClasses).keySet();
     }
 
     /**
@@ -109,17 +225,236 @@ public final class ConflictChecker {
             AbiCheckerClassLoader classLoader,
             List<Artifact> runtimeClasspathArtifacts,
             Collection<ClassLocation> projectClasses) {
-        ConflictChecker checker = new ConflictChecker(
+        return create(configuration, classLoader, runtimeClasspathArtifacts, projectClasses)
+                .check();
+    }
+
+    /**
+     * Creates a checker for the provided classpath, computing the reachable classes eagerly.
+     *
+     * Unlike {@link #checkWithEntryPoints}, this lets callers inspect the index and class graph that were used for
+     *   the check (e.g. to report on them) once {@link #check()} has been called.
+     */
+    public static ConflictChecker create(
+            ConflictCheckerConfiguration configuration,
+            AbiCheckerClassLoader classLoader,
+            List<Artifact> runtimeClasspathArtifacts,
+            Collection<ClassLocation> projectClasses) {
+        return new ConflictChecker(
                 configuration, classLoader, ClassIndex.create(runtimeClasspathArtifacts), projectClasses);
-        return checker.checkInternal();
     }
 
-    private List<Conflict> checkInternal() {
-        final List<Conflict> conflicts = new ArrayList<>();
+    /**
+     * Creates a checker which only checks the reachable classes that may have had their result changed since the
+     *   previous run, which produced {@code previousState}.
+     *
+     * This is only valid if the only changes since the previous run are the {@code changedClasses} having been
+     *   modified or removed. In particular, any class being added to the classpath requires a complete check, as
+     *   previously unknown references might now be resolved.
+     *
+     * Since every other class was already free of conflicts, the result of {@link #check()} is still the complete list
+     *   of conflicts.
+     */
+    public static ConflictChecker createIncrementally(
+            ConflictCheckerConfiguration configuration,
+            AbiCheckerClassLoader classLoader,
+            List<Artifact> runtimeClasspathArtifacts,
+            Collection<ClassLocation> projectClasses,
+            IncrementalState previousState,
+            Set<ClassTypeDescriptor> changedClasses) {
+        return new ConflictChecker(
+                configuration,
+                classLoader,
+                ClassIndex.create(runtimeClasspathArtifacts),
+                projectClasses,
+                previousState.referencesByClass(),
+                previousState.classesWithConflicts().stream()
+                        .map(TypeDescriptors::fromClassName)
+                        .collect(Collectors.toSet()),
+                changedClasses);
+    }
+
+    /**
+     * Same as {@link #createIncrementally}, for callers which already hold the index of the changed classpath and the
+     *   references of the previous run, e.g. to evaluate several changes against the same previous run.
+     */
+    static ConflictChecker createIncrementally(
+            ConflictCheckerConfiguration configuration,
+            AbiCheckerClassLoader classLoader,
+            ClassIndex index,
+            Collection<ClassLocation> projectClasses,
+            Map<ClassTypeDescriptor, List<ClassTypeDescriptor>> previousReferences,
+            Set<ClassTypeDescriptor> previousClassesWithConflicts,
+            Set<ClassTypeDescriptor> changedClasses) {
+        return new ConflictChecker(
+                configuration,
+                classLoader,
+                index,
+                projectClasses,
+                previousReferences,
+                previousClassesWithConflicts,
+                changedClasses);
+    }
+
+    /**
+     * Whether checks with the provided configuration can be done incrementally, see {@link #createIncrementally}.
+     *
+     * Complete checks aren't driven by reachability, and method-level reachability depends on more than the classes
+     *   each class references, so neither of them can reuse the state of a previous run.
+     */
+    public static boolean canCheckIncrementally(ConflictCheckerConfiguration configuration) {
+        return !configuration.getCheckCompletely()
+                && configuration.getReachabilityAnalysis() == ReachabilityAnalysis.CLASS_REFERENCES;
+    }
+
+    public ClassIndex classIndex() {
+        return index;
+    }
+
+    public ClassGraph classGraph() {
+        return classGraph;
+    }
+
+    /**
+     * Returns the work done so far on behalf of each artifact of the classpath, from most to least expensive.
+     */
+    public List<ArtifactCost> artifactCosts() {
+        return costs.report(classGraph);
+    }
+
+    /**
+     * Attributes the reachable classes, and the cost of parsing and checking them, back to the entry points they were
+     *   reached from, keeping the {@code limit} most expensive entry point classes and packages.
+     */
+    public ReachabilityAttribution reachabilityAttribution(int limit) {
+        return ReachabilityAttributor.attribute(classGraph, costs, limit);
+    }
+
+    /**
+     * Returns the classes in which the last call to {@link #check()} found conflicts.
+     */
+    Set<ClassTypeDescriptor> classesWithConflicts() {
+        return Collections.unmodifiableSet(classesWithConflicts);
+    }
+
+    /**
+     * Returns the classes whose method calls and field accesses the last call to {@link #check()} went through, i.e.
+     *   the classes to check which were neither skipped nor ignored.
+     */
+    public Set<ClassTypeDescriptor> checkedClasses() {
+        return Collections.unmodifiableSet(checkedClasses);
+    }
+
+    /**
+     * Returns the classes that checking the provided class resolved, i.e. the owners of the methods called and fields
+     *   accessed by its reachable methods, along with their known super classes and interfaces through which these
+     *   members may be found. Checking the class again gives the same result as long as none of them changed, nor
+     *   started resolving to another artifact.
+     *
+     * Classes which are ignored are left out, as they are never checked.
+     */
+    public Set<ClassTypeDescriptor> resolvedClasses(ClassTypeDescriptor checkedClass) {
+        DeclaredClass clazz = classGraph
+                .loadClass(checkedClass)
+                .orElseThrow(() -> new IllegalStateException("Class not found: " + checkedClass));
+        Set<ClassTypeDescriptor> owners = new HashSet<>();
+        for (DeclaredMethod method : classGraph.reachableMethods(clazz)) {
+            method.methodCalls().forEach(call -> owners.add(call.owner()));
+            method.fieldAccesses().forEach(access -> owners.add(access.owner()));
+        }
+        Set<ClassTypeDescriptor> resolvedClasses = new HashSet<>();
+        for (ClassTypeDescriptor owner : owners) {
+            if (!configuration.shouldIgnoreClass(owner)) {
+                resolvedClasses.addAll(hierarchies.computeIfAbsent(owner, this::hierarchy));
+            }
+        }
+        return resolvedClasses;
+    }
+
+    private Set<ClassTypeDescriptor> hierarchy(ClassTypeDescriptor className) {
+        Set<ClassTypeDescriptor> hierarchy = new HashSet<>();
+        Deque<ClassTypeDescriptor> toVisit = new ArrayDeque<>();
+        toVisit.add(className);
+        while (!toVisit.isEmpty()) {
+            ClassTypeDescriptor current = toVisit.remove();
+            if (hierarchy.add(current)) {
+                classGraph.loadClass(current).ifPresent(declaredClass -> toVisit.addAll(declaredClass.parents()));
+            }
+        }
+        return hierarchy;
+    }
+
+    /**
+     * Returns the state needed to check incrementally next time, once {@link #check()} has been called.
+     *
+     * Checks which were stopped by their {@link ConflictSink} can't be built upon, as the classes left unchecked might
+     *   have conflicts.
+     */
+    public IncrementalState incrementalState() {
+        Preconditions.checkState(checkedCompletely, "Only checks of every reachable class can be built upon");
+        Map<String, List<String>> references = new HashMap<>();
+        for (ClassTypeDescriptor reachableClass : classGraph.reachableClasses()) {
+            references.put(
+                    reachableClass.className(),
+                    classGraph.referencedClasses(reachableClass).stream()
+                            .map(ClassTypeDescriptor::className)
+                            .toList());
+        }
+        return IncrementalState.builder()
+                .references(references)
+                .classesWithConflicts(classesWithConflicts.stream()
+                        .map(ClassTypeDescriptor::className)
+                        .collect(Collectors.toSet()))
+                .build();
+    }
+
+    public List<Conflict> check() {
+        return check(classesToCheck);
+    }
+
+    /**
+     * Checks the reachable classes, handing each conflict to the sink as soon as it is found.
+     *
+     * @return whether every reachable class was checked, i.e. the sink didn't stop the check
+     */
+    public boolean check(ConflictSink sink) {
+        return check(classesToCheck, sink);
+    }
+
+    /**
+     * Checks the reachable classes except for {@code skippedClasses}, which the caller knows to have the same conflicts
+     *   as in a previous run (see {@link com.palantir.abi.checker.baseline.ConflictBaselines}).
+     *
+     * @return whether every reachable class that wasn't skipped was checked, i.e. the sink didn't stop the check
+     */
+    public boolean check(ConflictSink sink, Set<ClassTypeDescriptor> skippedClasses) {
+        if (skippedClasses.isEmpty()) {
+            return check(sink);
+        }
+        return check(
+                classesToCheck.stream()
+                        .filter(reachableClass -> !skippedClasses.contains(reachableClass))
+                        .toList(),
+                sink);
+    }
+
+    /**
+     * Only checks the provided reachable classes, for callers which know the others to be free of conflicts.
+     */
+    List<Conflict> check(Collection<ClassTypeDescriptor> reachableClasses) {
+        CollectingConflictSink sink = CollectingConflictSink.collectAll();
+        check(reachableClasses, sink);
+        return sink.conflicts();
+    }
+
+    private boolean check(Collection<ClassTypeDescriptor> reachableClasses, ConflictSink sink) {
+        classesWithConflicts.clear();
+        checkedClasses.clear();
+        checkedCompletely = false;
 
         // Then go through everything in the selected portions of the classpath to make sure
         // all the method calls / field references are satisfied.
-        for (ClassTypeDescriptor reachableClass : classGraph.reachableClasses()) {
+        for (ClassTypeDescriptor reachableClass : reachableClasses) {
             if (configuration.shouldIgnoreClass(reachableClass)) {
                 continue;
             }
@@ -141,12 +476,28 @@ public final class ConflictChecker {
                     .loadClass(reachableClass)
                     .orElseThrow(() -> new IllegalStateException("Class not found: " + reachableClass));
 
-            for (DeclaredMethod method : clazz.methods().values()) {
+            checkedClasses.add(reachableClass);
+            int referencesChecked = 0;
+            for (DeclaredMethod method : classGraph.reachableMethods(clazz)) {
+                List<Conflict> conflicts = new ArrayList<>();
                 conflicts.addAll(checkForBrokenMethodCalls(owningArtifact, method, reachabilityPath));
                 conflicts.addAll(checkForBrokenFieldAccess(owningArtifact, method, reachabilityPath));
+                referencesChecked +=
+                        method.methodCalls().size() + method.fieldAccesses().size();
+
+                for (Conflict conflict : conflicts) {
+                    classesWithConflicts.add(reachableClass);
+                    costs.conflictFound(conflict);
+                    if (!sink.accept(conflict)) {
+                        costs.classChecked(reachableClass, referencesChecked);
+                        return false;
+                    }
+                }
             }
+            costs.classChecked(reachableClass, referencesChecked);
         }
-        return conflicts;
+        checkedCompletely = true;
+        return true;
     }
 
     private List<Conflict> checkForBrokenMethodCalls(
@@ -228,6 +579,29 @@ public final class ConflictChecker {
         return conflicts;
     }
 
+    /**
+     * Returns the classes from which any of the target classes can be reached through the provided references,
+     *   including the target classes themselves.
+     */
+    private static Set<ClassTypeDescriptor> referencingClasses(
+            Map<ClassTypeDescriptor, List<ClassTypeDescriptor>> references, Set<ClassTypeDescriptor> targets) {
+        Map<ClassTypeDescriptor, List<ClassTypeDescriptor>> referencedBy = new HashMap<>();
+        references.forEach((source, referencedClasses) -> referencedClasses.forEach(referencedClass -> referencedBy
+                .computeIfAbsent(referencedClass, _key -> new ArrayList<>())
+                .add(source)));
+
+        Set<ClassTypeDescriptor> referencing = new HashSet<>(targets);
+        Deque<ClassTypeDescriptor> toVisit = new ArrayDeque<>(targets);
+        while (!toVisit.isEmpty()) {
+            for (ClassTypeDescriptor source : referencedBy.getOrDefault(toVisit.remove(), List.of())) {
+                if (referencing.add(source)) {
+                    toVisit.add(source);
+                }
+            }
+        }
+        return referencing;
+    }
+
     private boolean missingMethod(MethodReference calledMethod, DeclaredClass calledClass) {
         return classGraph.resolveMethodReference(calledClass, calledMethod).isEmpty();
     }
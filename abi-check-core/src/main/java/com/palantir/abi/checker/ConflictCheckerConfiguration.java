@@ -19,8 +19,11 @@ package com.palantir.abi.checker;
 import com.google.common.collect.ImmutableSet;
 import com.palantir.abi.checker.datamodel.Artifact;
 import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.graph.EntryPointStrategy;
+import com.palantir.abi.checker.datamodel.graph.ReachabilityAnalysis;
 import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.Set;
 import org.immutables.value.Value;
 
@@ -56,6 +59,13 @@ public interface ConflictCheckerConfiguration {
      */
     Set<String> getIgnoredClassnameKeywords();
 
+    /**
+     * If present, only the artifacts with these exact names are analyzed for ABI conflicts (on top of the above
+     * filtering), e.g. because they are the only ones whose dependencies didn't resolve to the versions they were
+     * compiled against.
+     */
+    Optional<Set<String>> getArtifactsToCheck();
+
     @Value.Derived
     default Set<String> getLowercaseIgnoredClassnameKeywords() {
         return getIgnoredClassnameKeywords().stream().map(String::toLowerCase).collect(ImmutableSet.toImmutableSet());
@@ -70,6 +80,37 @@ public interface ConflictCheckerConfiguration {
         return false;
     }
 
+    /**
+     * How the classes and methods worth checking are determined from the entry point classes. This is irrelevant when
+     * {@link #getCheckCompletely() checking completely}, as every class is then checked.
+     */
+    @Value.Default
+    default ReachabilityAnalysis getReachabilityAnalysis() {
+        return ReachabilityAnalysis.CLASS_REFERENCES;
+    }
+
+    /**
+     * Which methods of the entry point classes the reachability analysis starts from. This is irrelevant when
+     * {@link #getCheckCompletely() checking completely}, as every class is then checked.
+     */
+    @Value.Default
+    default EntryPointStrategy getEntryPointStrategy() {
+        return EntryPointStrategy.ALL_CLASSES;
+    }
+
+    /**
+     * Entry points on top of the ones selected by the {@link #getEntryPointStrategy() strategy}, either classes (e.g.
+     * {@code com.palantir.Foo}, for all of their methods) or methods (e.g. {@code com.palantir.Foo#bar}, for all of
+     * its overloads) of the entry point classes, such as the ones a framework calls reflectively.
+     */
+    Set<String> getEntryPointRoots();
+
+    /**
+     * The entry point classes that are registered as service providers (i.e. in {@code META-INF/services}), which are
+     * entry points as well for the strategies where something else may load them.
+     */
+    Set<String> getServiceProviders();
+
     /**
      * Determines if the given {@link Artifact} should be analyzed for ABI conflicts.
      */
@@ -82,6 +123,10 @@ public interface ConflictCheckerConfiguration {
             return true;
         }
 
+        if (getArtifactsToCheck().isPresent() && !getArtifactsToCheck().get().contains(artifactName)) {
+            return true;
+        }
+
         boolean shouldAnalyze = getErrorArtifactPrefixes().isEmpty()
                 || getErrorArtifactPrefixes().stream().anyMatch(artifactName::startsWith);
         return !shouldAnalyze;
@@ -0,0 +1,36 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker;
+
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+
+/**
+ * Receives the conflicts found by a {@link ConflictChecker} as soon as they are found, rather than once every reachable
+ *   class has been checked.
+ *
+ * See {@link CollectingConflictSink} for the usual ways of consuming conflicts.
+ */
+@FunctionalInterface
+public interface ConflictSink {
+    /**
+     * Receives the next conflict found by the check.
+     *
+     * @return whether the check should go on, since returning false stops it right away, leaving the remaining
+     *     reachable classes unchecked
+     */
+    boolean accept(Conflict conflict);
+}
@@ -0,0 +1,170 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.palantir.abi.checker.datamodel.Artifact;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.graph.ClassIndex;
+import com.palantir.abi.checker.datamodel.graph.EntryPointStrategy;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Checks several projects which share the exact same runtime classpath and configuration in a single pass.
+ *
+ * A project's own classes come right after the JDK on its classpath. As long as they don't shadow any of the shared
+ *   classes, they can only resolve references that the shared classpath couldn't, so a shared class never has more
+ *   conflicts for a given project than when checked against the shared classpath alone. This lets us check every
+ *   shared class reachable from any of the projects once, and only check again, for each project reaching them, the
+ *   few shared classes which do have conflicts (as the project's reachability paths and additional classes matter
+ *   then).
+ *
+ * Projects whose classes shadow shared classes are checked on their own, as with {@link ConflictChecker}.
+ */
+public final class ProjectGroupConflictChecker {
+
+    /**
+     * Checks each of the projects, returning the conflicts found for each of them.
+     *
+     * @param configuration the configuration shared by the projects, which shouldn't ignore the JDK nor any of the
+     *     project's classes, as this is done for each project here
+     * @param runtimeArtifacts the runtime classpath shared by the projects, excluding the JDK and the projects' own
+     *     classes
+     * @param projectArtifacts the artifacts holding the classes of each project, which are its entry points
+     */
+    public static Map<String, List<Conflict>> check(
+            ConflictCheckerConfiguration configuration,
+            AbiCheckerClassLoader classLoader,
+            List<Artifact> jdkArtifacts,
+            List<Artifact> runtimeArtifacts,
+            Map<String, List<Artifact>> projectArtifacts) {
+        Preconditions.checkArgument(!configuration.getCheckCompletely(), "Complete checks can't be grouped");
+
+        ClassIndex sharedIndex = ClassIndex.create(ImmutableList.<Artifact>builder()
+                .addAll(jdkArtifacts)
+                .addAll(runtimeArtifacts)
+                .build());
+        Set<String> shadowingProjects = new HashSet<>();
+        Map<String, ConflictChecker> projectCheckers = new LinkedHashMap<>();
+
+        // Find all the shared classes that any of the projects reaches
+        Set<ClassTypeDescriptor> reachableSharedClasses = new HashSet<>();
+        projectArtifacts.forEach((project, artifacts) -> {
+            ConflictChecker checker =
+                    projectChecker(configuration, classLoader, sharedIndex, jdkArtifacts, runtimeArtifacts, artifacts);
+            projectCheckers.put(project, checker);
+            if (shadowsSharedClasses(sharedIndex, artifacts)) {
+                shadowingProjects.add(project);
+                return;
+            }
+            checker.classGraph().reachableClasses().stream()
+                    .filter(sharedIndex.knownClasses()::containsKey)
+                    .forEach(reachableSharedClasses::add);
+        });
+
+        // Check them all at once. Since they are all reachable, this doesn't reach any other class. Any of their
+        //   methods may be reachable from one of the projects, regardless of the entry point strategy
+        ConflictChecker sharedChecker = new ConflictChecker(
+                ConflictCheckerConfiguration.builder()
+                        .from(withIgnoredArtifacts(configuration, jdkArtifacts))
+                        .entryPointStrategy(EntryPointStrategy.ALL_CLASSES)
+                        .build(),
+                classLoader,
+                sharedIndex,
+                reachableSharedClasses.stream()
+                        .map(sharedIndex.knownClasses()::get)
+                        .toList());
+        sharedChecker.check();
+        Set<ClassTypeDescriptor> sharedClassesWithConflicts = Set.copyOf(sharedChecker.classesWithConflicts());
+
+        Map<String, List<Conflict>> conflictsByProject = new LinkedHashMap<>();
+        projectCheckers.forEach((project, checker) -> {
+            if (shadowingProjects.contains(project)) {
+                conflictsByProject.put(project, checker.check());
+                return;
+            }
+            conflictsByProject.put(
+                    project,
+                    checker.check(checker.classGraph().reachableClasses().stream()
+                            .filter(reachableClass ->
+                                    !sharedIndex.knownClasses().containsKey(reachableClass)
+                                            || sharedClassesWithConflicts.contains(reachableClass))
+                            .toList()));
+        });
+        return conflictsByProject;
+    }
+
+    private static ConflictChecker projectChecker(
+            ConflictCheckerConfiguration configuration,
+            AbiCheckerClassLoader classLoader,
+            ClassIndex sharedIndex,
+            List<Artifact> jdkArtifacts,
+            List<Artifact> runtimeArtifacts,
+            List<Artifact> projectArtifacts) {
+        // The project's classpath only differs from the shared one by the project's own classes
+        ClassIndex index = sharedIndex.withChangedClasses(
+                ImmutableList.<Artifact>builder()
+                        .addAll(jdkArtifacts)
+                        .addAll(projectArtifacts)
+                        .addAll(runtimeArtifacts)
+                        .build(),
+                projectArtifacts.stream()
+                        .flatMap(artifact -> artifact.classes().keySet().stream())
+                        .collect(Collectors.toSet()));
+        return new ConflictChecker(
+                // Don't analyze the jdk nor the current project
+                withIgnoredArtifacts(
+                        configuration,
+                        ImmutableList.<Artifact>builder()
+                                .addAll(jdkArtifacts)
+                                .addAll(projectArtifacts)
+                                .build()),
+                classLoader,
+                index,
+                projectArtifacts.stream()
+                        .flatMap(artifact -> artifact.classes().values().stream())
+                        .toList());
+    }
+
+    private static boolean shadowsSharedClasses(ClassIndex sharedIndex, List<Artifact> projectArtifacts) {
+        return projectArtifacts.stream()
+                .flatMap(artifact -> artifact.classes().values().stream())
+                .anyMatch(location -> sharedIndex.knownClasses().containsKey(location.className()));
+    }
+
+    private static ConflictCheckerConfiguration withIgnoredArtifacts(
+            ConflictCheckerConfiguration configuration, Collection<Artifact> ignoredArtifacts) {
+        return ConflictCheckerConfiguration.builder()
+                .from(configuration)
+                .addAllIgnoredArtifactPrefixes(ignoredArtifacts.stream()
+                        .map(Artifact::name)
+                        .map(ArtifactName::name)
+                        .toList())
+                .build();
+    }
+
+    private ProjectGroupConflictChecker() {}
+}
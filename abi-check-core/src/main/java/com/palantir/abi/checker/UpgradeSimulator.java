@@ -0,0 +1,209 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker;
+
+import com.palantir.abi.checker.baseline.AcceptedConflict;
+import com.palantir.abi.checker.datamodel.Artifact;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.classlocation.ClassLocation;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.graph.ClassGraph;
+import com.palantir.abi.checker.datamodel.graph.ClassIndex;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import com.palantir.abi.checker.incremental.ClasspathCheckResult;
+import com.palantir.abi.checker.incremental.ClasspathDiff;
+import com.palantir.abi.checker.incremental.ImmutableClasspathDiff;
+import com.palantir.abi.checker.incremental.UpgradeSimulation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Answers "what breaks if I bump this dependency?" without a full check of the bumped classpath, by checking the
+ *   classpath once and then simulating each candidate upgrade against the result.
+ *
+ * A simulation replaces one artifact of the classpath by another version of it, at the same position, and only
+ *   redoes the work that the replacement affects: the index is patched for the classes of both versions, the
+ *   reachability graph reuses the references of the classes that didn't change, and only the classes that resolve a
+ *   changed class, or that became reachable, are checked again (see {@link ClasspathDiffConflictChecker}).
+ *
+ * Simulations don't build upon one another, so any number of candidates can be evaluated against the same classpath.
+ *   The same restrictions as {@link ClasspathDiffConflictChecker} apply to the configuration.
+ */
+public final class UpgradeSimulator {
+    private final ConflictCheckerConfiguration configuration;
+    private final AbiCheckerClassLoader classLoader;
+    private final List<Artifact> classpath;
+    private final Collection<ClassLocation> projectClasses;
+    private final ClassIndex index;
+    private final ClasspathCheckResult result;
+    private final Map<ClassTypeDescriptor, List<ClassTypeDescriptor>> references;
+    private final Set<ClassTypeDescriptor> classesWithConflicts;
+    // For each class missing from the classpath, the reachable classes that reference it, which have new outgoing
+    //   edges in the reachability graph if a replacement provides it
+    private final Map<ClassTypeDescriptor, Set<ClassTypeDescriptor>> referencingMissingClasses;
+
+    private UpgradeSimulator(
+            ConflictCheckerConfiguration configuration,
+            AbiCheckerClassLoader classLoader,
+            List<Artifact> classpath,
+            Collection<ClassLocation> projectClasses) {
+        ClasspathDiffConflictChecker.checkConfiguration(configuration);
+        this.configuration = configuration;
+        this.classLoader = classLoader;
+        this.classpath = List.copyOf(classpath);
+        this.projectClasses = List.copyOf(projectClasses);
+
+        ConflictChecker checker = ConflictChecker.create(configuration, classLoader, classpath, projectClasses);
+        List<Conflict> conflicts = checker.check();
+        this.index = checker.classIndex();
+        this.result = ClasspathDiffConflictChecker.result(checker, conflicts, Set.of(), Map.of());
+
+        ClassGraph classGraph = checker.classGraph();
+        this.references = classGraph.reachableClasses().stream()
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), classGraph::referencedClasses));
+        this.classesWithConflicts = conflicts.stream()
+                .map(conflict -> conflict.dependency().fromClass())
+                .collect(Collectors.toUnmodifiableSet());
+        this.referencingMissingClasses = new HashMap<>();
+        if (!configuration.getCheckCompletely()) {
+            for (ClassTypeDescriptor reachableClass : classGraph.reachableClasses()) {
+                for (ClassTypeDescriptor missingClass : classGraph.unknownReferences(reachableClass)) {
+                    referencingMissingClasses
+                            .computeIfAbsent(missingClass, _name -> new HashSet<>())
+                            .add(reachableClass);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks the classpath as is, which the simulations are then compared against.
+     */
+    public static UpgradeSimulator create(
+            ConflictCheckerConfiguration configuration,
+            AbiCheckerClassLoader classLoader,
+            List<Artifact> classpath,
+            Collection<ClassLocation> projectClasses) {
+        return new UpgradeSimulator(configuration, classLoader, classpath, projectClasses);
+    }
+
+    /**
+     * The result of checking the classpath as is.
+     */
+    public ClasspathCheckResult result() {
+        return result;
+    }
+
+    /**
+     * Checks the classpath with the artifact named {@code replacedArtifact} replaced by {@code replacement}.
+     *
+     * @throws IllegalArgumentException if the classpath has no such artifact
+     */
+    public UpgradeSimulation simulate(ArtifactName replacedArtifact, Artifact replacement) {
+        int position = -1;
+        for (int i = 0; i < classpath.size() && position < 0; i++) {
+            if (classpath.get(i).name().equals(replacedArtifact)) {
+                position = i;
+            }
+        }
+        if (position < 0) {
+            throw new IllegalArgumentException("The classpath doesn't contain " + replacedArtifact.name());
+        }
+        Artifact replaced = classpath.get(position);
+        List<Artifact> newClasspath = new ArrayList<>(classpath);
+        newClasspath.set(position, replacement);
+
+        Set<ClassTypeDescriptor> swappedClasses =
+                new HashSet<>(replaced.classes().keySet());
+        swappedClasses.addAll(replacement.classes().keySet());
+        ClassIndex newIndex = index.withChangedClasses(newClasspath, swappedClasses);
+        // Classes that an earlier artifact of the classpath provides are shadowed by it in both versions
+        Set<ClassTypeDescriptor> changedClasses = swappedClasses.stream()
+                .filter(className -> replaced.name()
+                                .equals(index.sourceMappings().get(className))
+                        || replacement.name().equals(newIndex.sourceMappings().get(className)))
+                .collect(Collectors.toSet());
+
+        ConflictChecker checker;
+        if (configuration.getCheckCompletely()) {
+            checker = new ConflictChecker(configuration, classLoader, newIndex, projectClasses);
+        } else {
+            Set<ClassTypeDescriptor> classesToLoad = new HashSet<>(changedClasses);
+            for (ClassTypeDescriptor changedClass : changedClasses) {
+                classesToLoad.addAll(referencingMissingClasses.getOrDefault(changedClass, Set.of()));
+            }
+            checker = ConflictChecker.createIncrementally(
+                    configuration,
+                    classLoader,
+                    newIndex,
+                    projectClasses,
+                    references,
+                    classesWithConflicts,
+                    classesToLoad);
+        }
+
+        ClasspathDiff diff = diff(replaced.name(), replacement.name(), changedClasses);
+        ClasspathCheckResult newResult = ClasspathDiffConflictChecker.recheck(checker, result, diff);
+        return UpgradeSimulation.builder()
+                .replacedArtifact(replaced.name())
+                .replacementArtifact(replacement.name())
+                .result(newResult)
+                .introducedConflicts(onlyIn(newResult.conflicts(), result.conflicts()))
+                .fixedConflicts(onlyIn(result.conflicts(), newResult.conflicts()))
+                .build();
+    }
+
+    private static ClasspathDiff diff(
+            ArtifactName replaced, ArtifactName replacement, Set<ClassTypeDescriptor> changedClasses) {
+        String replacedName = AcceptedConflict.unversioned(replaced);
+        String replacementName = AcceptedConflict.unversioned(replacement);
+        // Unlike ClasspathDiff#between, this doesn't compare fingerprints, as replacing an artifact by itself isn't
+        //   worth simulating
+        if (replacedName.equals(replacementName)) {
+            ImmutableClasspathDiff.Builder diff =
+                    ClasspathDiff.builder().addChangedArtifacts(replacedName).changedClasses(changedClasses);
+            if (!replaced.equals(replacement)) {
+                diff.putRenamedArtifacts(replaced, replacement);
+            }
+            return diff.build();
+        }
+        return ClasspathDiff.builder()
+                .addRemovedArtifacts(replacedName)
+                .addAddedArtifacts(replacementName)
+                .changedClasses(changedClasses)
+                .build();
+    }
+
+    /**
+     * The conflicts of {@code conflicts} which don't have the same root cause as any of {@code otherConflicts}, so
+     *   that conflicts reached through other paths, or in another version of the same artifact, are still the same.
+     */
+    private static List<Conflict> onlyIn(List<Conflict> conflicts, List<Conflict> otherConflicts) {
+        Set<AcceptedConflict> otherRootCauses =
+                otherConflicts.stream().map(AcceptedConflict::of).collect(Collectors.toSet());
+        return conflicts.stream()
+                .filter(conflict -> !otherRootCauses.contains(AcceptedConflict.of(conflict)))
+                .toList();
+    }
+}
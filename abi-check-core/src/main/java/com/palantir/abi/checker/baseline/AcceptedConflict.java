@@ -0,0 +1,68 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.baseline;
+
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.conflict.Conflict.ConflictCategory;
+import com.palantir.abi.checker.datamodel.conflict.RootCause;
+import java.util.Comparator;
+
+/**
+ * A conflict accepted by a {@link ConflictBaseline}, identified by its {@link RootCause} rather than by where it is
+ *   referenced from, so that it stays accepted as the reachability paths leading to it change.
+ *
+ * Artifacts are named without their version when they are Maven coordinates (i.e. {@code group:name}), so that
+ *   upgrading either side to a version which still has the same conflict doesn't make it new.
+ */
+public record AcceptedConflict(String usedBy, String existsIn, ConflictCategory category, String target)
+        implements Comparable<AcceptedConflict> {
+    private static final Comparator<AcceptedConflict> ORDER = Comparator.comparing(AcceptedConflict::usedBy)
+            .thenComparing(AcceptedConflict::existsIn)
+            .thenComparing(AcceptedConflict::category)
+            .thenComparing(AcceptedConflict::target);
+
+    public static AcceptedConflict of(Conflict conflict) {
+        RootCause rootCause = RootCause.of(conflict);
+        String target =
+                switch (rootCause.category()) {
+                    case CLASS_NOT_FOUND -> rootCause.targetClass().className();
+                    case METHOD_SIGNATURE_NOT_FOUND -> rootCause.targetMethod().pretty();
+                    case FIELD_NOT_FOUND -> rootCause.targetField().pretty();
+                };
+        return new AcceptedConflict(
+                unversioned(rootCause.usedBy()), unversioned(rootCause.existsIn()), rootCause.category(), target);
+    }
+
+    /**
+     * The name of the artifact without its version, if it has the {@code group:name:version} form of Maven
+     *   coordinates.
+     */
+    public static String unversioned(ArtifactName artifactName) {
+        String name = artifactName.name();
+        int versionSeparator = name.lastIndexOf(':');
+        if (versionSeparator <= 0 || name.indexOf(':') == versionSeparator) {
+            return name;
+        }
+        return name.substring(0, versionSeparator);
+    }
+
+    @Override
+    public int compareTo(AcceptedConflict other) {
+        return ORDER.compare(this, other);
+    }
+}
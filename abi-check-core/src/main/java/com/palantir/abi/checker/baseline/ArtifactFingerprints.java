@@ -0,0 +1,113 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.baseline;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.palantir.abi.checker.datamodel.Artifact;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.classlocation.ClassLocation;
+import com.palantir.abi.checker.datamodel.classlocation.DirectoryBasedClassLocation;
+import com.palantir.abi.checker.datamodel.classlocation.JarBasedClassLocation;
+import com.palantir.abi.checker.datamodel.classlocation.JdkBasedClassLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+/**
+ * Fingerprints the contents of the artifacts of a classpath, computing each of them at most once.
+ *
+ * Fingerprints only depend on the classes an artifact contains, and not on where it is located or when it was
+ *   written, so that they match across checkouts and machines, e.g. for a baseline checked into a repository. Jars
+ *   are fingerprinted from the checksums of their central directory, which spares decompressing their classes.
+ */
+public final class ArtifactFingerprints {
+    private final Map<ArtifactName, Artifact> artifacts = new HashMap<>();
+    private final Map<ArtifactName, String> fingerprints = new HashMap<>();
+
+    public ArtifactFingerprints(List<Artifact> classpath) {
+        // Same as the class index, the first artifact of a given name wins
+        classpath.forEach(artifact -> artifacts.putIfAbsent(artifact.name(), artifact));
+    }
+
+    /**
+     * The fingerprint of the artifact of the provided name, or nothing if it isn't on the classpath.
+     */
+    public Optional<String> fingerprint(ArtifactName artifactName) {
+        Artifact artifact = artifacts.get(artifactName);
+        if (artifact == null) {
+            return Optional.empty();
+        }
+        return Optional.of(fingerprints.computeIfAbsent(artifactName, _name -> of(artifact)));
+    }
+
+    static String of(Artifact artifact) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        List<ClassLocation> locations = artifact.classes().values().stream()
+                .sorted(Comparator.comparing(location -> location.className().className()))
+                .toList();
+        Map<String, JarFile> jars = new HashMap<>();
+        try {
+            for (ClassLocation location : locations) {
+                hasher.putString(location.className().className(), StandardCharsets.UTF_8);
+                if (location instanceof JarBasedClassLocation jar) {
+                    ZipEntry entry = jars.computeIfAbsent(jar.jarLocation(), ArtifactFingerprints::openJar)
+                            .getEntry(jar.classLocation());
+                    hasher.putLong(entry == null ? -1 : entry.getCrc()).putLong(entry == null ? -1 : entry.getSize());
+                } else if (location instanceof JdkBasedClassLocation) {
+                    // The JDK's classes only change along with its version
+                    hasher.putString(System.getProperty("java.runtime.version"), StandardCharsets.UTF_8);
+                } else if (location instanceof DirectoryBasedClassLocation) {
+                    try (InputStream inputStream = location.openStream()) {
+                        hasher.putBytes(inputStream.readAllBytes());
+                    }
+                } else {
+                    throw new IllegalArgumentException("Can't fingerprint class location " + location);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(
+                    "Failed to fingerprint artifact " + artifact.name().name(), e);
+        } finally {
+            jars.values().forEach(ArtifactFingerprints::closeJar);
+        }
+        return hasher.hash().toString().substring(0, 16);
+    }
+
+    private static JarFile openJar(String jarLocation) {
+        try {
+            return new JarFile(jarLocation);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read jar " + jarLocation, e);
+        }
+    }
+
+    private static void closeJar(JarFile jarFile) {
+        try {
+            jarFile.close();
+        } catch (IOException e) {
+            // Only read from, nothing is lost
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.baseline;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import org.immutables.value.Value;
+
+/**
+ * What a {@link ConflictBaseline} knows about one of the artifacts whose classes were checked, which is enough to
+ *   tell whether checking them again would find the same conflicts, without parsing them.
+ *
+ * Class names are kept as plain strings, so that this can be persisted as is.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableBaselineArtifact.class)
+@JsonDeserialize(as = ImmutableBaselineArtifact.class)
+public interface BaselineArtifact {
+    /**
+     * The classes of the artifact which were checked, i.e. were reachable and not ignored.
+     */
+    @Value.NaturalOrder
+    SortedSet<String> checkedClasses();
+
+    /**
+     * The classes the checked classes reference, along with their super classes and interfaces (through which their
+     * members may be resolved), keyed by the artifact they resolved to, or {@link
+     * com.palantir.abi.checker.datamodel.conflict.Conflict#UNKNOWN_ARTIFACT_NAME_STRING} for the ones which weren't
+     * found.
+     */
+    @Value.NaturalOrder
+    SortedMap<String, SortedSet<String>> resolvedClasses();
+
+    static ImmutableBaselineArtifact.Builder builder() {
+        return ImmutableBaselineArtifact.builder();
+    }
+}
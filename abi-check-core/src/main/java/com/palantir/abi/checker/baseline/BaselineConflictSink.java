@@ -0,0 +1,61 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.baseline;
+
+import com.palantir.abi.checker.ConflictSink;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.conflict.RootCause;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link ConflictSink} only handing the conflicts a {@link ConflictBaseline} doesn't accept to another sink, while
+ *   keeping track of the accepted ones that were found.
+ */
+public final class BaselineConflictSink implements ConflictSink {
+    private final ConflictBaseline baseline;
+    private final ConflictSink newConflicts;
+    // Many conflicts share their root cause, only describe each of them once
+    private final Map<RootCause, AcceptedConflict> acceptedByRootCause = new HashMap<>();
+    private final Set<AcceptedConflict> acceptedConflictsFound = new HashSet<>();
+
+    public BaselineConflictSink(ConflictBaseline baseline, ConflictSink newConflicts) {
+        this.baseline = baseline;
+        this.newConflicts = newConflicts;
+    }
+
+    @Override
+    public boolean accept(Conflict conflict) {
+        AcceptedConflict acceptedConflict = acceptedByRootCause.computeIfAbsent(
+                RootCause.of(conflict), _rootCause -> AcceptedConflict.of(conflict));
+        if (baseline.acceptedConflicts().contains(acceptedConflict)) {
+            acceptedConflictsFound.add(acceptedConflict);
+            return true;
+        }
+        return newConflicts.accept(conflict);
+    }
+
+    /**
+     * The conflicts of the baseline that were found so far.
+     */
+    public Set<AcceptedConflict> acceptedConflictsFound() {
+        return Collections.unmodifiableSet(acceptedConflictsFound);
+    }
+}
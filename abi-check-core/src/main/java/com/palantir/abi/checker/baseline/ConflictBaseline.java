@@ -0,0 +1,58 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.baseline;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import org.immutables.value.Value;
+
+/**
+ * The conflicts a project accepts, along with what is needed to tell which artifacts would have the exact same
+ *   conflicts if checked again, so that checks can skip them and only report conflicts that aren't accepted.
+ *
+ * Everything is sorted, so that baselines checked into a repository only change where their contents do. See
+ *   {@link ConflictBaselines} for how they are recorded and used.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableConflictBaseline.class)
+@JsonDeserialize(as = ImmutableConflictBaseline.class)
+public interface ConflictBaseline {
+    /**
+     * Identifies the configuration the baseline was recorded with, as far as it affects the conflicts found in a given
+     * class (i.e. the ignored classes). Artifacts are never skipped when it differs.
+     */
+    String configuration();
+
+    @Value.NaturalOrder
+    SortedSet<AcceptedConflict> acceptedConflicts();
+
+    /**
+     * The fingerprints (see {@link ArtifactFingerprints}) of the checked artifacts and of the artifacts their classes
+     * resolved to.
+     */
+    @Value.NaturalOrder
+    SortedMap<String, String> fingerprints();
+
+    @Value.NaturalOrder
+    SortedMap<String, BaselineArtifact> checkedArtifacts();
+
+    static ImmutableConflictBaseline.Builder builder() {
+        return ImmutableConflictBaseline.builder();
+    }
+}
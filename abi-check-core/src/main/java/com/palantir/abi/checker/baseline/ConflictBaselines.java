@@ -0,0 +1,203 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.baseline;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.palantir.abi.checker.ConflictChecker;
+import com.palantir.abi.checker.ConflictCheckerConfiguration;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.graph.ClassIndex;
+import com.palantir.abi.checker.datamodel.graph.ReachabilityAnalysis;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import com.palantir.abi.checker.datamodel.types.TypeDescriptors;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Records {@link ConflictBaseline baselines}, and uses them to skip the artifacts that would have the same conflicts
+ *   as when they were recorded.
+ *
+ * A checked artifact is unchanged when its own fingerprint is, every class it referenced (or resolved members
+ *   through) still comes from the same artifact, and each of those artifacts has an unchanged fingerprint too. Its
+ *   classes which were checked in the baseline can then be skipped, while its classes that only became reachable
+ *   since still get checked.
+ */
+public final class ConflictBaselines {
+    private ConflictBaselines() {}
+
+    /**
+     * Records a baseline accepting the provided conflicts, out of a check of every reachable class, which was neither
+     *   incremental nor stopped early, nor skipped any class.
+     */
+    public static ConflictBaseline record(
+            ConflictChecker checker,
+            ConflictCheckerConfiguration configuration,
+            Collection<Conflict> conflicts,
+            ArtifactFingerprints fingerprints) {
+        ClassIndex index = checker.classIndex();
+        Map<String, SortedSet<String>> checkedClasses = new TreeMap<>();
+        Map<String, Map<String, SortedSet<String>>> resolvedClasses = new TreeMap<>();
+
+        for (ClassTypeDescriptor checkedClass : checker.checkedClasses()) {
+            String artifactName = index.sourceMappings().get(checkedClass).name();
+            checkedClasses
+                    .computeIfAbsent(artifactName, _name -> new TreeSet<>())
+                    .add(checkedClass.className());
+            Map<String, SortedSet<String>> resolved =
+                    resolvedClasses.computeIfAbsent(artifactName, _name -> new TreeMap<>());
+
+            for (ClassTypeDescriptor resolvedClass : checker.resolvedClasses(checkedClass)) {
+                resolved.computeIfAbsent(providerName(index, resolvedClass), _name -> new TreeSet<>())
+                        .add(resolvedClass.className());
+            }
+        }
+
+        ImmutableConflictBaseline.Builder baseline = ConflictBaseline.builder()
+                .configuration(configuration(configuration))
+                .addAllAcceptedConflicts(
+                        conflicts.stream().map(AcceptedConflict::of).collect(Collectors.toSet()));
+        checkedClasses.forEach((artifactName, classes) -> baseline.putCheckedArtifacts(
+                artifactName,
+                BaselineArtifact.builder()
+                        .checkedClasses(classes)
+                        .resolvedClasses(resolvedClasses.get(artifactName))
+                        .build()));
+        // The checked artifacts, as well as the ones their classes resolved to
+        Set<String> fingerprintedArtifacts = new TreeSet<>(checkedClasses.keySet());
+        resolvedClasses.values().forEach(resolved -> fingerprintedArtifacts.addAll(resolved.keySet()));
+        fingerprintedArtifacts.remove(Conflict.UNKNOWN_ARTIFACT_NAME_STRING);
+        for (String artifactName : fingerprintedArtifacts) {
+            fingerprints
+                    .fingerprint(ArtifactName.of(artifactName))
+                    .ifPresent(fingerprint -> baseline.putFingerprints(artifactName, fingerprint));
+        }
+        return baseline.build();
+    }
+
+    /**
+     * The reachable classes which can be skipped since they would have the same conflicts as when the baseline was
+     *   recorded.
+     *
+     * Nothing can be skipped with method-level reachability, as which of the methods of a class are reachable may
+     *   change along with the rest of the classpath, nor when the ignored classes changed since the baseline was
+     *   recorded.
+     */
+    public static Set<ClassTypeDescriptor> unchangedClasses(
+            ConflictBaseline baseline,
+            ConflictCheckerConfiguration configuration,
+            ClassIndex index,
+            ArtifactFingerprints fingerprints) {
+        boolean classLevelReachability = configuration.getCheckCompletely()
+                || configuration.getReachabilityAnalysis() == ReachabilityAnalysis.CLASS_REFERENCES;
+        if (!classLevelReachability || !baseline.configuration().equals(configuration(configuration))) {
+            return Set.of();
+        }
+
+        Map<String, Boolean> unchangedArtifacts = new HashMap<>();
+        Set<ClassTypeDescriptor> unchangedClasses = new HashSet<>();
+        baseline.checkedArtifacts().forEach((artifactName, artifact) -> {
+            boolean unchanged = unchangedArtifacts.computeIfAbsent(
+                            artifactName, _name -> hasSameFingerprint(baseline, fingerprints, artifactName))
+                    && resolveTo(index, artifact.checkedClasses(), artifactName)
+                    && artifact.resolvedClasses().entrySet().stream()
+                            .allMatch(resolved -> (resolved.getKey().equals(Conflict.UNKNOWN_ARTIFACT_NAME_STRING)
+                                            || unchangedArtifacts.computeIfAbsent(
+                                                    resolved.getKey(),
+                                                    name -> hasSameFingerprint(baseline, fingerprints, name)))
+                                    && resolveTo(index, resolved.getValue(), resolved.getKey()));
+            if (unchanged) {
+                artifact.checkedClasses().stream()
+                        .map(TypeDescriptors::fromClassName)
+                        .forEach(unchangedClasses::add);
+            }
+        });
+        return unchangedClasses;
+    }
+
+    /**
+     * The accepted conflicts of the artifacts whose classes were all checked, rather than skipped, which weren't found
+     *   again, i.e. which have since been fixed. This is only accurate for checks that weren't incremental, nor
+     *   stopped early.
+     */
+    public static Set<AcceptedConflict> fixedConflicts(
+            ConflictBaseline baseline,
+            ConflictChecker checker,
+            Set<ClassTypeDescriptor> skippedClasses,
+            Set<AcceptedConflict> acceptedConflictsFound) {
+        ClassIndex index = checker.classIndex();
+        Set<String> skippedArtifacts = skippedClasses.stream()
+                .map(skippedClass -> index.sourceMappings().get(skippedClass))
+                .filter(Objects::nonNull)
+                .map(AcceptedConflict::unversioned)
+                .collect(Collectors.toSet());
+        Set<String> checkedArtifacts = checker.checkedClasses().stream()
+                .map(checkedClass ->
+                        AcceptedConflict.unversioned(index.sourceMappings().get(checkedClass)))
+                .filter(artifactName -> !skippedArtifacts.contains(artifactName))
+                .collect(Collectors.toSet());
+        return baseline.acceptedConflicts().stream()
+                .filter(accepted -> checkedArtifacts.contains(accepted.usedBy()))
+                .filter(accepted -> !acceptedConflictsFound.contains(accepted))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Identifies the parts of the configuration which affect the conflicts found in a given class.
+     */
+    static String configuration(ConflictCheckerConfiguration configuration) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        new TreeSet<>(configuration.getIgnoredClassPrefixes())
+                .forEach(prefix ->
+                        hasher.putString(prefix, StandardCharsets.UTF_8).putByte((byte) 0));
+        hasher.putByte((byte) 1);
+        new TreeSet<>(configuration.getIgnoredClassnameKeywords())
+                .forEach(keyword ->
+                        hasher.putString(keyword, StandardCharsets.UTF_8).putByte((byte) 0));
+        return hasher.hash().toString().substring(0, 16);
+    }
+
+    private static String providerName(ClassIndex index, ClassTypeDescriptor className) {
+        ArtifactName artifactName = index.sourceMappings().get(className);
+        return artifactName == null ? Conflict.UNKNOWN_ARTIFACT_NAME_STRING : artifactName.name();
+    }
+
+    private static boolean resolveTo(ClassIndex index, Collection<String> classNames, String artifactName) {
+        return classNames.stream().allMatch(className -> providerName(index, TypeDescriptors.fromClassName(className))
+                .equals(artifactName));
+    }
+
+    private static boolean hasSameFingerprint(
+            ConflictBaseline baseline, ArtifactFingerprints fingerprints, String artifactName) {
+        String recorded = baseline.fingerprints().get(artifactName);
+        return recorded != null
+                && fingerprints
+                        .fingerprint(ArtifactName.of(artifactName))
+                        .map(recorded::equals)
+                        .orElse(false);
+    }
+}
@@ -46,6 +46,8 @@ public interface DeclaredClass {
     // names are com/foo/bar/Baz
     ClassTypeDescriptor className();
 
+    Visibility visibility();
+
     // parent are class names: com/foo/bar/Baz
     Set<ClassTypeDescriptor> parents();
 
@@ -19,7 +19,9 @@ package com.palantir.abi.checker.datamodel.classlocation;
 import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.JarURLConnection;
 import java.net.URI;
+import java.net.URLConnection;
 
 /**
  * Represents a class file that is located within a jar.
@@ -40,4 +42,21 @@ public record JarBasedClassLocation(ClassTypeDescriptor classTypeDescriptor, Str
                 .toURL()
                 .openStream();
     }
+
+    /**
+     * Closes the jar the JDK keeps open to read its classes, if any, e.g. because it has since been rewritten and
+     *   reading it through the stale handle would fail.
+     */
+    public static void closeCachedJar(String jarLocation) {
+        try {
+            URLConnection connection =
+                    URI.create("jar:file:" + jarLocation + "!/").toURL().openConnection();
+            if (connection instanceof JarURLConnection jarConnection) {
+                // Closing the cached jar is what evicts it from the cache
+                jarConnection.getJarFile().close();
+            }
+        } catch (IOException e) {
+            // The jar can't be opened, so it can't be cached either
+        }
+    }
 }
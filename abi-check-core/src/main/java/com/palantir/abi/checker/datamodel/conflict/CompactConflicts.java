@@ -0,0 +1,199 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.datamodel.conflict;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.conflict.Conflict.ConflictCategory;
+import com.palantir.abi.checker.datamodel.field.FieldReference;
+import com.palantir.abi.checker.datamodel.method.MethodReference;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import com.palantir.abi.checker.datamodel.types.TypeDescriptors;
+import com.palantir.abi.checker.util.CompactEncoder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Writes and reads conflicts in a compact, dictionary-encoded JSON format, for archiving the results of many checks.
+ *
+ * The regular JSON output repeats the names of the classes, methods and artifacts, as well as the whole reachability
+ *   path, in every conflict. Here, each of them is only written once, in a table, and conflicts are rows of indices
+ *   into these tables:
+ * <pre>{@code
+ * {
+ *   "type": "compact_conflicts",
+ *   "version": 1,
+ *   "strings": ["com.foo.Bar", "baz", "()V", ...],
+ *   "paths": [[0, 3], ...],
+ *   "methods": [[class, name, descriptor, isStatic], ...],
+ *   "fields": [[class, name, type, isStatic], ...],
+ *   "conflicts": [[category, usedBy, existsIn, path, fromMethod, fromLine, targetMethod, targetField], ...]
+ * }
+ * }</pre>
+ *
+ * Class names, artifact names, categories, member names and descriptors index into {@code strings}, and methods and
+ *   types are described by their JVM descriptors. A conflict only has one of {@code targetMethod} and
+ *   {@code targetField}, the other being {@code -1}.
+ */
+public final class CompactConflicts {
+    public static final String TYPE = "compact_conflicts";
+    private static final int VERSION = 1;
+    private static final int NONE = -1;
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    /**
+     * Writes the conflicts to the stream, without closing it.
+     */
+    public static void write(Iterable<Conflict> conflicts, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = MAPPER.getFactory()
+                .createGenerator(outputStream, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            write(conflicts, generator);
+        }
+    }
+
+    /**
+     * Writes the conflicts as a single value of the generator, e.g. so that they can be embedded in another document.
+     */
+    public static void write(Iterable<Conflict> conflicts, JsonGenerator generator) throws IOException {
+        Tables tables = new Tables();
+        List<int[]> rows = new ArrayList<>();
+        for (Conflict conflict : conflicts) {
+            rows.add(tables.row(conflict));
+        }
+
+        generator.writeStartObject();
+        generator.writeStringField("type", TYPE);
+        generator.writeNumberField("version", VERSION);
+        tables.encoder.writeStrings(generator);
+        CompactEncoder.writeRows(generator, "paths", tables.paths);
+        tables.encoder.writeMembers(generator);
+        CompactEncoder.writeRows(generator, "conflicts", rows);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads conflicts written by {@link #write}, whether the stream was compressed with gzip or not.
+     */
+    public static List<Conflict> read(InputStream inputStream) throws IOException {
+        return read(MAPPER.readTree(CompactEncoder.decompressed(inputStream)));
+    }
+
+    /**
+     * Reads conflicts written by {@link #write} from an already parsed document.
+     */
+    public static List<Conflict> read(@Nullable JsonNode root) throws IOException {
+        if (root == null
+                || !TYPE.equals(root.path("type").asText())
+                || root.path("version").asInt() != VERSION) {
+            throw new IOException("Not compact conflicts of version " + VERSION);
+        }
+
+        List<String> strings = CompactEncoder.readStrings(root);
+
+        List<List<ClassTypeDescriptor>> paths = new ArrayList<>();
+        root.path("paths").forEach(path -> {
+            List<ClassTypeDescriptor> classes = new ArrayList<>(path.size());
+            path.forEach(index -> classes.add(TypeDescriptors.fromClassName(strings.get(index.asInt()))));
+            paths.add(List.copyOf(classes));
+        });
+
+        List<MethodReference> methods = CompactEncoder.readMethods(root, strings);
+        List<FieldReference> fields = CompactEncoder.readFields(root, strings);
+
+        List<Conflict> conflicts = new ArrayList<>();
+        root.path("conflicts").forEach(row -> {
+            List<ClassTypeDescriptor> reachabilityPath = paths.get(row.get(3).asInt());
+            MethodReference fromMethod = methods.get(row.get(4).asInt());
+            int fromLineNumber = row.get(5).asInt();
+            int targetMethod = row.get(6).asInt();
+            Dependency dependency = targetMethod != NONE
+                    ? ImmutableMethodDependency.builder()
+                            .reachabilityPath(reachabilityPath)
+                            .fromMethod(fromMethod)
+                            .fromLineNumber(fromLineNumber)
+                            .targetMethod(methods.get(targetMethod))
+                            .build()
+                    : ImmutableFieldDependency.builder()
+                            .reachabilityPath(reachabilityPath)
+                            .fromMethod(fromMethod)
+                            .fromLineNumber(fromLineNumber)
+                            .field(fields.get(row.get(7).asInt()))
+                            .build();
+            conflicts.add(Conflict.conflict(
+                    ConflictCategory.valueOf(CompactEncoder.string(strings, row, 0)),
+                    dependency,
+                    ArtifactName.of(CompactEncoder.string(strings, row, 1)),
+                    ArtifactName.of(CompactEncoder.string(strings, row, 2))));
+        });
+        return conflicts;
+    }
+
+    /**
+     * The tables of a single document, each value only being added once.
+     */
+    private static final class Tables {
+        private final CompactEncoder encoder = new CompactEncoder();
+        private final List<int[]> paths = new ArrayList<>();
+        // Reachability paths are shared between all the conflicts of a class, so only encode each of them once
+        private final Map<List<ClassTypeDescriptor>, Integer> pathIndices = new HashMap<>();
+
+        int[] row(Conflict conflict) {
+            Dependency dependency = conflict.dependency();
+            int targetMethod = NONE;
+            int targetField = NONE;
+            if (dependency instanceof MethodDependency methodDependency) {
+                targetMethod = encoder.method(methodDependency.targetMethod());
+            } else if (dependency instanceof FieldDependency fieldDependency) {
+                targetField = encoder.field(fieldDependency.field());
+            } else {
+                throw new IllegalArgumentException("Unknown dependency type: " + dependency);
+            }
+            return new int[] {
+                encoder.string(conflict.category().name()),
+                encoder.string(conflict.usedBy().name()),
+                encoder.string(conflict.existsIn().name()),
+                path(dependency.reachabilityPath()),
+                encoder.method(dependency.fromMethod()),
+                dependency.fromLineNumber(),
+                targetMethod,
+                targetField
+            };
+        }
+
+        private int path(List<ClassTypeDescriptor> path) {
+            return pathIndices.computeIfAbsent(path, _path -> {
+                paths.add(path.stream()
+                        .mapToInt(className -> encoder.string(className.className()))
+                        .toArray());
+                return paths.size() - 1;
+            });
+        }
+    }
+
+    private CompactConflicts() {}
+}
@@ -34,7 +34,6 @@ package com.palantir.abi.checker.datamodel.conflict;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
-import com.google.common.base.Preconditions;
 import com.palantir.abi.checker.datamodel.ArtifactName;
 import javax.annotation.Nullable;
 import org.immutables.value.Value;
@@ -53,28 +52,13 @@ public interface Conflict {
 
     ConflictCategory category();
 
-    @SuppressWarnings("for-rollout:StatementSwitchToExpressionSwitch")
+    /**
+     * Only built when first needed, as most conflicts share their reason with many others (see {@link RootCause}).
+     */
     @JsonIgnore
-    @Value.Derived
+    @Value.Lazy
     default String reason() {
-        switch (category()) {
-            case CLASS_NOT_FOUND:
-                return "Class not found: " + dependency().targetClass();
-            case METHOD_SIGNATURE_NOT_FOUND:
-                Preconditions.checkState(
-                        dependency() instanceof MethodDependency,
-                        "Method signature not found should only be used with MethodDependency");
-                return "Method not found: "
-                        + ((MethodDependency) dependency()).targetMethod().pretty();
-            case FIELD_NOT_FOUND:
-                Preconditions.checkState(
-                        dependency() instanceof FieldDependency,
-                        "Field not found should only be used with FieldDependency");
-                return "Field not found: "
-                        + ((FieldDependency) dependency()).field().pretty();
-            default:
-                throw new IllegalStateException("Unknown conflict category: " + category());
-        }
+        return RootCause.of(this).reason();
     }
 
     static Conflict classNotFound(Dependency dependency, ArtifactName usedBy, @Nullable ArtifactName existsIn) {
@@ -0,0 +1,170 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.datamodel.conflict;
+
+import com.google.common.base.Preconditions;
+import com.palantir.abi.checker.datamodel.conflict.Conflict.ConflictCategory;
+import com.palantir.abi.checker.datamodel.field.FieldReference;
+import com.palantir.abi.checker.datamodel.method.MethodReference;
+import com.palantir.abi.checker.datamodel.method.Reference;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * All the conflicts sharing the same {@link RootCause}, only keeping what differs between them (where they are
+ *   referenced from) rather than a {@link Conflict} and its {@link Dependency} each.
+ *
+ * The references are kept in parallel arrays, with one entry per conflict. The reachability paths are shared with the
+ *   class graph, so only references to them are kept, in a list alongside the arrays.
+ *
+ * This is not thread-safe.
+ */
+public final class ConflictGroup {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final RootCause rootCause;
+    private MethodReference[] fromMethods = new MethodReference[INITIAL_CAPACITY];
+    private int[] fromLineNumbers = new int[INITIAL_CAPACITY];
+    private final List<List<ClassTypeDescriptor>> reachabilityPaths = new ArrayList<>(INITIAL_CAPACITY);
+    // Classes not found are referenced through any of their members, so these differ between the group's conflicts
+    private Reference[] targets = new Reference[INITIAL_CAPACITY];
+    private int size;
+
+    public ConflictGroup(RootCause rootCause) {
+        this.rootCause = rootCause;
+    }
+
+    public RootCause rootCause() {
+        return rootCause;
+    }
+
+    /**
+     * Adds a conflict with this group's root cause.
+     */
+    public void add(Conflict conflict) {
+        Dependency dependency = conflict.dependency();
+        Preconditions.checkArgument(
+                conflict.category() == rootCause.category()
+                        && dependency.targetClass().equals(rootCause.targetClass()),
+                "Conflict doesn't have this group's root cause");
+        if (size == fromMethods.length) {
+            int capacity = size * 2;
+            fromMethods = Arrays.copyOf(fromMethods, capacity);
+            fromLineNumbers = Arrays.copyOf(fromLineNumbers, capacity);
+            targets = Arrays.copyOf(targets, capacity);
+        }
+        fromMethods[size] = dependency.fromMethod();
+        fromLineNumbers[size] = dependency.fromLineNumber();
+        reachabilityPaths.add(dependency.reachabilityPath());
+        if (rootCause.category() == ConflictCategory.CLASS_NOT_FOUND) {
+            targets[size] = target(dependency);
+        }
+        size++;
+    }
+
+    /**
+     * Number of conflicts in this group.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The reason shared by all the conflicts of this group.
+     */
+    public String reason() {
+        return rootCause.reason();
+    }
+
+    /**
+     * Builds the conflicts of this group back, in the order in which they were added.
+     */
+    public List<Conflict> conflicts() {
+        List<Conflict> conflicts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            conflicts.add(conflict(i));
+        }
+        return conflicts;
+    }
+
+    /**
+     * Builds the conflict at the given index back, so that callers going through them one at a time never have to
+     *   hold all of them.
+     */
+    public Conflict conflict(int index) {
+        Preconditions.checkElementIndex(index, size);
+        return Conflict.conflict(rootCause.category(), dependency(index), rootCause.usedBy(), rootCause.existsIn());
+    }
+
+    /**
+     * The method referencing the root cause in the conflict at the given index.
+     */
+    public MethodReference fromMethod(int index) {
+        Preconditions.checkElementIndex(index, size);
+        return fromMethods[index];
+    }
+
+    /**
+     * The line of {@link #fromMethod} referencing the root cause in the conflict at the given index.
+     */
+    public int fromLineNumber(int index) {
+        Preconditions.checkElementIndex(index, size);
+        return fromLineNumbers[index];
+    }
+
+    /**
+     * The path through which the class of {@link #fromMethod} was reached in the conflict at the given index.
+     */
+    public List<ClassTypeDescriptor> reachabilityPath(int index) {
+        return reachabilityPaths.get(index);
+    }
+
+    private Dependency dependency(int index) {
+        List<ClassTypeDescriptor> reachabilityPath = reachabilityPaths.get(index);
+        Reference target =
+                switch (rootCause.category()) {
+                    case CLASS_NOT_FOUND -> targets[index];
+                    case METHOD_SIGNATURE_NOT_FOUND -> rootCause.targetMethod();
+                    case FIELD_NOT_FOUND -> rootCause.targetField();
+                };
+        if (target instanceof FieldReference field) {
+            return ImmutableFieldDependency.builder()
+                    .reachabilityPath(reachabilityPath)
+                    .fromMethod(fromMethods[index])
+                    .fromLineNumber(fromLineNumbers[index])
+                    .field(field)
+                    .build();
+        }
+        return ImmutableMethodDependency.builder()
+                .reachabilityPath(reachabilityPath)
+                .fromMethod(fromMethods[index])
+                .fromLineNumber(fromLineNumbers[index])
+                .targetMethod((MethodReference) target)
+                .build();
+    }
+
+    private static Reference target(Dependency dependency) {
+        if (dependency instanceof FieldDependency fieldDependency) {
+            return fieldDependency.field();
+        } else if (dependency instanceof MethodDependency methodDependency) {
+            return methodDependency.targetMethod();
+        }
+        throw new IllegalStateException("Unknown dependency type: " + dependency);
+    }
+}
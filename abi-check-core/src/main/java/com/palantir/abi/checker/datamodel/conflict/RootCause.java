@@ -0,0 +1,80 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.datamodel.conflict;
+
+import com.google.common.base.Preconditions;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.conflict.Conflict.ConflictCategory;
+import com.palantir.abi.checker.datamodel.field.FieldReference;
+import com.palantir.abi.checker.datamodel.method.MethodReference;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import javax.annotation.Nullable;
+
+/**
+ * What a conflict is about, regardless of where it is referenced from: a single missing method of a widely used class
+ *   is the root cause of as many conflicts as there are call sites to it.
+ *
+ * Only one of {@code targetMethod} and {@code targetField} is set, depending on the category, and neither is for
+ *   classes not found, since the whole class is missing regardless of what was referenced on it.
+ */
+public record RootCause(
+        ArtifactName usedBy,
+        ArtifactName existsIn,
+        ConflictCategory category,
+        ClassTypeDescriptor targetClass,
+        @Nullable MethodReference targetMethod,
+        @Nullable FieldReference targetField) {
+
+    public static RootCause of(Conflict conflict) {
+        Dependency dependency = conflict.dependency();
+        MethodReference targetMethod = null;
+        FieldReference targetField = null;
+        switch (conflict.category()) {
+            case CLASS_NOT_FOUND -> {}
+            case METHOD_SIGNATURE_NOT_FOUND -> {
+                Preconditions.checkState(
+                        dependency instanceof MethodDependency,
+                        "Method signature not found should only be used with MethodDependency");
+                targetMethod = ((MethodDependency) dependency).targetMethod();
+            }
+            case FIELD_NOT_FOUND -> {
+                Preconditions.checkState(
+                        dependency instanceof FieldDependency,
+                        "Field not found should only be used with FieldDependency");
+                targetField = ((FieldDependency) dependency).field();
+            }
+        }
+        return new RootCause(
+                conflict.usedBy(),
+                conflict.existsIn(),
+                conflict.category(),
+                dependency.targetClass(),
+                targetMethod,
+                targetField);
+    }
+
+    /**
+     * A human-readable description of what is missing, built on every call.
+     */
+    public String reason() {
+        return switch (category) {
+            case CLASS_NOT_FOUND -> "Class not found: " + targetClass;
+            case METHOD_SIGNATURE_NOT_FOUND -> "Method not found: " + targetMethod.pretty();
+            case FIELD_NOT_FOUND -> "Field not found: " + targetField.pretty();
+        };
+    }
+}
@@ -22,9 +22,11 @@ import com.palantir.abi.checker.datamodel.classlocation.ClassLocation;
 import com.palantir.abi.checker.datamodel.field.FieldReference;
 import com.palantir.abi.checker.datamodel.method.CallSite;
 import com.palantir.abi.checker.datamodel.method.DeclaredMethod;
+import com.palantir.abi.checker.datamodel.method.MethodDescriptor;
 import com.palantir.abi.checker.datamodel.method.MethodReference;
 import com.palantir.abi.checker.datamodel.method.Reference;
 import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import com.palantir.abi.checker.metrics.ArtifactCosts;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -41,6 +43,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import javax.annotation.Nullable;
 
 /**
  * This class is a representation of the class graph for the (reachable) classes of the runtime classpath.
@@ -52,63 +55,217 @@ import java.util.stream.Stream;
 public final class ClassGraph {
     private final AbiCheckerClassLoader classLoader;
     private final ClassIndex index;
+    private final ArtifactCosts costs;
+    private final Set<ClassTypeDescriptor> entryPoints;
 
     // Maps to the list of classes we went through to determine the reachability
     private final Map<ClassTypeDescriptor, List<ClassTypeDescriptor>> reachableClasses;
+    // Maps to the known classes directly referenced by each reachable class, when they were computed
+    private final Map<ClassTypeDescriptor, List<ClassTypeDescriptor>> references;
+    // Maps to the reachable methods of each reachable class, or null if all of their methods are reachable
+    @Nullable
+    private final Map<ClassTypeDescriptor, Set<MethodDescriptor>> reachableMethods;
 
     private ClassGraph(
             AbiCheckerClassLoader classLoader,
             ClassIndex index,
-            Map<ClassTypeDescriptor, List<ClassTypeDescriptor>> reachableClasses) {
+            ArtifactCosts costs,
+            Set<ClassTypeDescriptor> entryPoints,
+            Map<ClassTypeDescriptor, List<ClassTypeDescriptor>> reachableClasses,
+            Map<ClassTypeDescriptor, List<ClassTypeDescriptor>> references,
+            @Nullable Map<ClassTypeDescriptor, Set<MethodDescriptor>> reachableMethods) {
         this.classLoader = classLoader;
         this.index = index;
+        this.costs = costs;
+        this.entryPoints = entryPoints;
         this.reachableClasses = reachableClasses;
+        this.references = references;
+        this.reachableMethods = reachableMethods;
     }
 
     /**
      * Creates the class graph assuming all classes in the runtime classpath are reachable.
      */
-    public static ClassGraph createAllReachable(AbiCheckerClassLoader classLoader, ClassIndex index) {
+    public static ClassGraph createAllReachable(
+            AbiCheckerClassLoader classLoader, ClassIndex index, ArtifactCosts costs) {
         Map<ClassTypeDescriptor, List<ClassTypeDescriptor>> reachableClasses =
                 index.knownClasses().keySet().stream().collect(Collectors.toMap(Function.identity(), List::of));
-        return new ClassGraph(classLoader, index, reachableClasses);
+        return new ClassGraph(
+                classLoader, index, costs, index.knownClasses().keySet(), reachableClasses, Map.of(), null);
     }
 
     /**
      * Creates the class graph starting from the provided entry point classes.
      */
     public static ClassGraph createWithEntryPoint(
-            AbiCheckerClassLoader classLoader, ClassIndex index, Collection<ClassLocation> entryPoint) {
-        return new ClassGraph(classLoader, index, reachableFrom(classLoader, index, entryPoint));
+            AbiCheckerClassLoader classLoader,
+            ClassIndex index,
+            ArtifactCosts costs,
+            Collection<ClassLocation> entryPoint) {
+        return createWithEntryPoint(classLoader, index, costs, entryPoint, Map.of(), Set.of());
+    }
+
+    /**
+     * Creates the class graph starting from the provided entry point classes, reusing the references computed by a
+     *   previous run for the classes that haven't changed since, instead of loading them.
+     *
+     * The previous references must have been computed against the same classpath, apart from the changed classes,
+     *   and must not be missing any class that was added since.
+     */
+    public static ClassGraph createWithEntryPoint(
+            AbiCheckerClassLoader classLoader,
+            ClassIndex index,
+            ArtifactCosts costs,
+            Collection<ClassLocation> entryPoint,
+            Map<ClassTypeDescriptor, List<ClassTypeDescriptor>> previousReferences,
+            Set<ClassTypeDescriptor> changedClasses) {
+        Set<ClassTypeDescriptor> entryPointClasses =
+                entryPoint.stream().map(ClassLocation::className).collect(Collectors.toUnmodifiableSet());
+        Map<ClassTypeDescriptor, List<ClassTypeDescriptor>> references = new HashMap<>();
+        Function<ClassLocation, List<ClassTypeDescriptor>> referencesOf = location -> {
+            List<ClassTypeDescriptor> previous = previousReferences.get(location.className());
+            if (previous != null && !changedClasses.contains(location.className())) {
+                // Some of the previously referenced classes might have been removed since
+                return previous.stream()
+                        .filter(index.knownClasses()::containsKey)
+                        .toList();
+            }
+            return knownReferences(index, classLoader.load(location, costs));
+        };
+        Map<ClassTypeDescriptor, List<ClassTypeDescriptor>> reachableClasses =
+                reachableFrom(index, entryPoint, location -> {
+                    List<ClassTypeDescriptor> classReferences = referencesOf.apply(location);
+                    references.put(location.className(), classReferences);
+                    return classReferences;
+                });
+        return new ClassGraph(
+                classLoader,
+                index,
+                costs,
+                entryPointClasses,
+                reachableClasses,
+                Collections.unmodifiableMap(references),
+                null);
+    }
+
+    /**
+     * Creates the class graph by following the method calls made from the provided entry point methods, only
+     *   considering the methods that can actually be called as reachable, see {@link MethodReachability}.
+     *
+     * @param entryPoints the entry point methods of each entry point class, see {@link EntryPoints}
+     * @param rapidTypeAnalysis whether virtual calls are only dispatched to the classes that are instantiated, rather
+     *   than to every reachable subtype
+     */
+    public static ClassGraph createWithCallGraph(
+            AbiCheckerClassLoader classLoader,
+            ClassIndex index,
+            ArtifactCosts costs,
+            Map<ClassLocation, Set<MethodDescriptor>> entryPoints,
+            boolean rapidTypeAnalysis) {
+        MethodReachability reachability =
+                MethodReachability.fromEntryPoints(classLoader, index, costs, entryPoints, rapidTypeAnalysis);
+        return new ClassGraph(
+                classLoader,
+                index,
+                costs,
+                entryPoints.keySet().stream().map(ClassLocation::className).collect(Collectors.toUnmodifiableSet()),
+                Collections.unmodifiableMap(reachability.reachableClasses()),
+                Collections.unmodifiableMap(reachability.references()),
+                Collections.unmodifiableMap(reachability.reachableMethods()));
     }
 
     public Set<ClassTypeDescriptor> reachableClasses() {
         return reachableClasses.keySet();
     }
 
+    /**
+     * The classes the reachability started from (i.e. all known classes if they are all considered reachable).
+     */
+    public Set<ClassTypeDescriptor> entryPoints() {
+        return entryPoints;
+    }
+
+    /**
+     * Returns the known classes that the provided class directly references, i.e. its outgoing edges in the
+     *   reachability graph, in the order in which they are followed.
+     *
+     * Unlike {@link #loadClass(ClassTypeDescriptor)}, this is not accounted for in the check's costs, as it is only
+     *   expected to be used to analyze the graph after the fact.
+     */
+    public List<ClassTypeDescriptor> referencedClasses(ClassTypeDescriptor classTypeDescriptor) {
+        List<ClassTypeDescriptor> classReferences = references.get(classTypeDescriptor);
+        if (classReferences != null) {
+            return classReferences;
+        }
+        ClassLocation location = index.knownClasses().get(classTypeDescriptor);
+        if (location == null) {
+            return List.of();
+        }
+        return knownReferences(index, classLoader.load(location));
+    }
+
+    /**
+     * Returns the classes that the provided class directly references but which aren't on the classpath, i.e. the
+     *   outgoing edges that the reachability graph would have if they were added to it.
+     */
+    public List<ClassTypeDescriptor> unknownReferences(ClassTypeDescriptor classTypeDescriptor) {
+        ClassLocation location = index.knownClasses().get(classTypeDescriptor);
+        if (location == null) {
+            return List.of();
+        }
+        return references(classLoader.load(location))
+                .filter(reference -> !index.knownClasses().containsKey(reference))
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Returns the methods of the provided reachable class that can be reached, which is all of them unless the graph
+     *   was created by following the method calls.
+     */
+    public Collection<DeclaredMethod> reachableMethods(DeclaredClass declaredClass) {
+        if (reachableMethods == null) {
+            return declaredClass.methods().values();
+        }
+        Set<MethodDescriptor> methods = reachableMethods.getOrDefault(declaredClass.className(), Set.of());
+        return declaredClass.methods().values().stream()
+                .filter(method -> methods.contains(method.reference().method()))
+                .toList();
+    }
+
     public List<ClassTypeDescriptor> getReachabilityPath(ClassTypeDescriptor classTypeDescriptor) {
         return reachableClasses.getOrDefault(classTypeDescriptor, List.of());
     }
 
     public Optional<MethodReference> resolveMethodReference(DeclaredClass targetClass, MethodReference targetMethod) {
-        return resolveMember(targetClass, targetMethod, (clazz, method) -> {
-            DeclaredMethod declaredMethod = clazz.methods().get(method.method());
-            return declaredMethod == null ? null : declaredMethod.reference();
-        });
+        return resolveMethodReference(this::loadClass, targetClass, targetMethod);
     }
 
     public Optional<FieldReference> resolveFieldReference(DeclaredClass targetClass, FieldReference targetField) {
-        return resolveMember(targetClass, targetField, (clazz, field) -> {
+        return resolveMember(this::loadClass, targetClass, targetField, (clazz, field) -> {
             return clazz.fields().get(field.field());
         });
     }
 
+    static Optional<MethodReference> resolveMethodReference(
+            Function<ClassTypeDescriptor, Optional<DeclaredClass>> classResolver,
+            DeclaredClass targetClass,
+            MethodReference targetMethod) {
+        return resolveMember(classResolver, targetClass, targetMethod, (clazz, method) -> {
+            DeclaredMethod declaredMethod = clazz.methods().get(method.method());
+            return declaredMethod == null ? null : declaredMethod.reference();
+        });
+    }
+
     /**
      * Resolves a class's member (method or field) to its actual class' reference, by walking up the class hierarchy as
      *   needed.
      */
-    private <T extends Reference> Optional<T> resolveMember(
-            DeclaredClass targetClass, T targetMember, BiFunction<DeclaredClass, T, T> memberResolver) {
+    private static <T extends Reference> Optional<T> resolveMember(
+            Function<ClassTypeDescriptor, Optional<DeclaredClass>> classResolver,
+            DeclaredClass targetClass,
+            T targetMember,
+            BiFunction<DeclaredClass, T, T> memberResolver) {
         // Note that the member here might actually have a different class than the original target from
         final T member = memberResolver.apply(targetClass, targetMember);
 
@@ -124,11 +281,12 @@ public final class ClassGraph {
         // Might be defined in a super class
         // TODO(aldexis): Handle cyclic inheritance ABI breaks (e.g. when loading/resolving classes)
         for (ClassTypeDescriptor parentClass : targetClass.parents()) {
-            final Optional<DeclaredClass> declaredClass = loadClass(parentClass);
+            final Optional<DeclaredClass> declaredClass = classResolver.apply(parentClass);
             // ignore null parents - this means that the parent cannot be found, and this error gets
             // reported since the class's constructor tries to call its parent's constructor.
             if (declaredClass.isPresent()) {
-                Optional<T> parentMember = resolveMember(declaredClass.get(), targetMember, memberResolver);
+                Optional<T> parentMember =
+                        resolveMember(classResolver, declaredClass.get(), targetMember, memberResolver);
                 if (parentMember.isPresent()) {
                     return parentMember;
                 }
@@ -139,16 +297,19 @@ public final class ClassGraph {
     }
 
     public Optional<DeclaredClass> loadClass(ClassTypeDescriptor classTypeDescriptor) {
+        costs.lookupServed(classTypeDescriptor);
         return Optional.ofNullable(index.knownClasses().get(classTypeDescriptor))
                 .map(this::loadClass);
     }
 
     private DeclaredClass loadClass(ClassLocation classLocation) {
-        return classLoader.load(classLocation);
+        return classLoader.load(classLocation, costs);
     }
 
     private static Map<ClassTypeDescriptor, List<ClassTypeDescriptor>> reachableFrom(
-            AbiCheckerClassLoader classLoader, ClassIndex index, Collection<ClassLocation> values) {
+            ClassIndex index,
+            Collection<ClassLocation> values,
+            Function<ClassLocation, List<ClassTypeDescriptor>> referencesOf) {
         // Contains the wip reachability paths that we still need to analyze
         // The class we want to analyze is the last one in the list, while the rest is the path to get there
         //    from the base classes
@@ -184,22 +345,30 @@ public final class ClassGraph {
                             })
                             .forEach(toCheck::add);
 
-            DeclaredClass declaredClass = classLoader.load(current);
-
-            enqueueKnownClasses.accept(declaredClass.parents().stream());
-
-            enqueueKnownClasses.accept(declaredClass.loadedClasses().stream());
-
-            // TODO(aldexis): what about method return type / parameters? caught exceptions? declared fields?
-            enqueueKnownClasses.accept(declaredClass.methods().values().stream()
-                    .flatMap(declaredMethod -> declaredMethod.methodCalls().stream())
-                    .map(CallSite::owner));
-
-            enqueueKnownClasses.accept(declaredClass.methods().values().stream()
-                    .flatMap(declaredMethod -> declaredMethod.fieldAccesses().stream())
-                    .map(CallSite::owner));
+            enqueueKnownClasses.accept(referencesOf.apply(current).stream());
         }
 
         return Collections.unmodifiableMap(reachable);
     }
+
+    private static List<ClassTypeDescriptor> knownReferences(ClassIndex index, DeclaredClass declaredClass) {
+        return references(declaredClass)
+                .filter(index.knownClasses()::containsKey)
+                .distinct()
+                .toList();
+    }
+
+    private static Stream<ClassTypeDescriptor> references(DeclaredClass declaredClass) {
+        // TODO(aldexis): what about method return type / parameters? caught exceptions? declared fields?
+        return Stream.of(
+                        declaredClass.parents().stream(),
+                        declaredClass.loadedClasses().stream(),
+                        declaredClass.methods().values().stream()
+                                .flatMap(declaredMethod -> declaredMethod.methodCalls().stream())
+                                .map(CallSite::owner),
+                        declaredClass.methods().values().stream()
+                                .flatMap(declaredMethod -> declaredMethod.fieldAccesses().stream())
+                                .map(CallSite::owner))
+                .flatMap(Function.identity());
+    }
 }
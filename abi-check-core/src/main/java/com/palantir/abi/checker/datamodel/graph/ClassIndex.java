@@ -39,6 +39,7 @@ import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.immutables.value.Value;
 
 @Value.Immutable
@@ -65,4 +66,29 @@ public interface ClassIndex {
         indexBuilder.knownClasses(knownClasses);
         return indexBuilder.build();
     }
+
+    /**
+     * Returns the index of {@code classpath}, which is expected to only differ from the classpath of this index by
+     *   which artifacts provide the {@code changedClasses}, without going through every class of the classpath again.
+     */
+    default ClassIndex withChangedClasses(List<Artifact> classpath, Set<ClassTypeDescriptor> changedClasses) {
+        Map<ClassTypeDescriptor, ArtifactName> sourceMappings = new HashMap<>(sourceMappings());
+        Map<ClassTypeDescriptor, ClassLocation> knownClasses = new HashMap<>(knownClasses());
+        for (ClassTypeDescriptor changedClass : changedClasses) {
+            sourceMappings.remove(changedClass);
+            knownClasses.remove(changedClass);
+            for (Artifact artifact : classpath) {
+                ClassLocation location = artifact.classes().get(changedClass);
+                if (location != null) {
+                    sourceMappings.put(changedClass, artifact.name());
+                    knownClasses.put(changedClass, location);
+                    break;
+                }
+            }
+        }
+        return ImmutableClassIndex.builder()
+                .sourceMappings(sourceMappings)
+                .knownClasses(knownClasses)
+                .build();
+    }
 }
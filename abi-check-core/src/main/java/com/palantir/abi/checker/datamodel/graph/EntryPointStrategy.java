@@ -0,0 +1,103 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.datamodel.graph;
+
+import com.palantir.abi.checker.datamodel.DeclaredClass;
+import com.palantir.abi.checker.datamodel.Visibility;
+import com.palantir.abi.checker.datamodel.method.DeclaredMethod;
+import com.palantir.abi.checker.datamodel.method.MethodDescriptor;
+import java.util.function.Predicate;
+
+/**
+ * Which methods of the project's classes the reachability analysis starts from, see {@link EntryPoints}.
+ *
+ * On top of the methods each strategy selects, every method of the configured root classes, as well as the configured
+ *   root methods, are entry points.
+ */
+public enum EntryPointStrategy {
+    /**
+     * Every method of every class of the project, since we don't know how the project is used.
+     */
+    ALL_CLASSES(false) {
+        @Override
+        boolean isEntryPoint(DeclaredClass clazz, DeclaredMethod method, Predicate<String> isExportedPackage) {
+            return true;
+        }
+    },
+
+    /**
+     * The public and protected methods of the public classes of the packages the project exports (i.e. all of its
+     *   packages, unless it is a named module), which is what the consumers of a library can call.
+     *
+     * The service providers the project registers are entry points as well, since consumers may load them.
+     */
+    LIBRARY(true) {
+        @Override
+        boolean isEntryPoint(DeclaredClass clazz, DeclaredMethod method, Predicate<String> isExportedPackage) {
+            return clazz.visibility() == Visibility.PUBLIC
+                    && isExportedPackage.test(packageName(clazz))
+                    && method.visibility().isExported();
+        }
+    },
+
+    /**
+     * The {@code main} methods of the project's classes, which is what starting an application calls.
+     *
+     * The service providers the project registers are entry points as well, since the application may load them.
+     */
+    APPLICATION(true) {
+        @Override
+        boolean isEntryPoint(DeclaredClass clazz, DeclaredMethod method, Predicate<String> isExportedPackage) {
+            return method.reference().isStatic()
+                    && method.visibility() == Visibility.PUBLIC
+                    && method.reference().method().equals(MAIN);
+        }
+    },
+
+    /**
+     * Only the configured roots.
+     */
+    CUSTOM(false) {
+        @Override
+        boolean isEntryPoint(DeclaredClass clazz, DeclaredMethod method, Predicate<String> isExportedPackage) {
+            return false;
+        }
+    };
+
+    private static final MethodDescriptor MAIN = MethodDescriptor.ofDescriptor("([Ljava/lang/String;)V", "main");
+
+    private final boolean includesServiceProviders;
+
+    EntryPointStrategy(boolean includesServiceProviders) {
+        this.includesServiceProviders = includesServiceProviders;
+    }
+
+    /**
+     * Whether all methods of the classes the project registers as service providers are entry points.
+     */
+    boolean includesServiceProviders() {
+        return includesServiceProviders;
+    }
+
+    abstract boolean isEntryPoint(DeclaredClass clazz, DeclaredMethod method, Predicate<String> isExportedPackage);
+
+    private static String packageName(DeclaredClass clazz) {
+        String className = clazz.className().className();
+        int lastDot = className.lastIndexOf('.');
+        return lastDot < 0 ? "" : className.substring(0, lastDot);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.datamodel.graph;
+
+import com.palantir.abi.checker.AbiCheckerClassLoader;
+import com.palantir.abi.checker.datamodel.DeclaredClass;
+import com.palantir.abi.checker.datamodel.classlocation.ClassLocation;
+import com.palantir.abi.checker.datamodel.method.DeclaredMethod;
+import com.palantir.abi.checker.datamodel.method.MethodDescriptor;
+import com.palantir.abi.checker.metrics.ArtifactCosts;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Selects the methods of the project's classes that the reachability analysis starts from.
+ */
+public final class EntryPoints {
+    private static final String MODULE_INFO = "module-info";
+    private static final char METHOD_SEPARATOR = '#';
+
+    /**
+     * Returns the entry point methods of each of the project's classes that has any.
+     *
+     * @param roots classes (e.g. {@code com.palantir.Foo}) whose methods are all entry points, and methods (e.g.
+     *     {@code com.palantir.Foo#bar}, covering all of its overloads) which are entry points, regardless of the
+     *     strategy. Roots that aren't part of the project's classes are ignored.
+     * @param serviceProviders the classes the project registers as service providers, whose methods are all entry
+     *     points if the strategy includes them
+     */
+    public static Map<ClassLocation, Set<MethodDescriptor>> select(
+            EntryPointStrategy strategy,
+            Set<String> roots,
+            Set<String> serviceProviders,
+            AbiCheckerClassLoader classLoader,
+            ArtifactCosts costs,
+            Collection<ClassLocation> projectClasses) {
+        Predicate<String> isExportedPackage = exportedPackages(classLoader, projectClasses);
+
+        Map<ClassLocation, Set<MethodDescriptor>> entryPoints = new LinkedHashMap<>();
+        for (ClassLocation location : projectClasses) {
+            String className = location.className().className();
+            if (strategy != EntryPointStrategy.ALL_CLASSES && className.equals(MODULE_INFO)) {
+                continue;
+            }
+            // Classes without any method still matter when all of them are entry points, through their parents
+            boolean isRootClass = strategy == EntryPointStrategy.ALL_CLASSES
+                    || roots.contains(className)
+                    || (strategy.includesServiceProviders() && serviceProviders.contains(className));
+
+            DeclaredClass clazz = classLoader.load(location, costs);
+            Set<MethodDescriptor> methods = new LinkedHashSet<>();
+            for (DeclaredMethod method : clazz.methods().values()) {
+                if (isRootClass
+                        || roots.contains(className
+                                + METHOD_SEPARATOR
+                                + method.reference().method().name())
+                        || strategy.isEntryPoint(clazz, method, isExportedPackage)) {
+                    methods.add(method.reference().method());
+                }
+            }
+            if (isRootClass || !methods.isEmpty()) {
+                entryPoints.put(location, methods);
+            }
+        }
+        return entryPoints;
+    }
+
+    /**
+     * Only the packages exported by the project's module descriptor, if it has one, are accessible to other modules.
+     */
+    private static Predicate<String> exportedPackages(
+            AbiCheckerClassLoader classLoader, Collection<ClassLocation> projectClasses) {
+        return projectClasses.stream()
+                .filter(location -> location.className().className().equals(MODULE_INFO))
+                .findFirst()
+                .<Predicate<String>>map(moduleInfo -> AbiCheckerClassLoader.readExportedPackages(moduleInfo)::contains)
+                .orElse(_packageName -> true);
+    }
+
+    private EntryPoints() {}
+}
@@ -0,0 +1,344 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.datamodel.graph;
+
+import com.palantir.abi.checker.AbiCheckerClassLoader;
+import com.palantir.abi.checker.datamodel.DeclaredClass;
+import com.palantir.abi.checker.datamodel.classlocation.ClassLocation;
+import com.palantir.abi.checker.datamodel.field.FieldReference;
+import com.palantir.abi.checker.datamodel.method.CallSite;
+import com.palantir.abi.checker.datamodel.method.DeclaredMethod;
+import com.palantir.abi.checker.datamodel.method.MethodDescriptor;
+import com.palantir.abi.checker.datamodel.method.MethodReference;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import com.palantir.abi.checker.metrics.ArtifactCosts;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * Computes the classes and methods that are reachable from the entry point methods, by following the method calls of
+ *   the reachable methods, rather than every reference of the reachable classes.
+ *
+ * Static and constructor calls go to the method they resolve to. Virtual and interface calls are resolved using class
+ *   hierarchy analysis: they may dispatch to the method their owner declares or inherits, or to an override in any
+ *   subtype of their owner. Since we only know about the subtypes that were reached so far, the calls made on each type
+ *   are recorded and dispatched again to every subtype reached later on.
+ *
+ * With rapid type analysis, virtual and interface calls are only dispatched to the subtypes that reachable methods
+ *   instantiate (or the entry point classes, which may be instantiated by anything), since there can't be any other
+ *   receiver. This mostly matters for widely implemented interfaces (e.g. {@code Function} or {@code Iterator}), where
+ *   most of the reached implementations are never instantiated. Instances created through reflection aren't accounted
+ *   for, but their classes aren't reached either way.
+ *
+ * A class is reached when a reachable method calls one of its methods or accesses one of its fields, when it is a parent
+ *   of a reached class, or when a reached class loads it (e.g. through a class literal). Its static initializer is then
+ *   reachable as well.
+ *
+ * The entry point classes are reached (along with their static initializers), and considered instantiated, even when
+ *   only some of their methods are entry points, since whatever calls those methods may also create instances.
+ *
+ * This is not thread-safe, and is expected to be used to compute a single {@link ClassGraph}.
+ */
+final class MethodReachability {
+    private static final String CONSTRUCTOR = "<init>";
+    private static final MethodDescriptor STATIC_INITIALIZER = MethodDescriptor.ofDescriptor("()V", "<clinit>");
+
+    private final AbiCheckerClassLoader classLoader;
+    private final ClassIndex index;
+    private final ArtifactCosts costs;
+    private final Function<ClassTypeDescriptor, Optional<DeclaredClass>> classResolver;
+    private final boolean rapidTypeAnalysis;
+
+    // Maps to the list of classes we went through to determine the reachability
+    private final Map<ClassTypeDescriptor, List<ClassTypeDescriptor>> reachableClasses = new HashMap<>();
+    // Maps to the known classes each reachable class led to reach, in the order in which they were reached
+    private final Map<ClassTypeDescriptor, Set<ClassTypeDescriptor>> references = new HashMap<>();
+    private final Map<ClassTypeDescriptor, Set<MethodDescriptor>> reachableMethods = new HashMap<>();
+    // Maps to the reachable classes directly extending or implementing each class
+    private final Map<ClassTypeDescriptor, Set<ClassTypeDescriptor>> directSubtypes = new HashMap<>();
+    // Maps to the methods called virtually on each class, which subtypes reached later on need to be dispatched to
+    private final Map<ClassTypeDescriptor, Set<MethodDescriptor>> virtualCalls = new HashMap<>();
+    // Only tracked with rapid type analysis
+    private final Set<ClassTypeDescriptor> instantiatedClasses = new HashSet<>();
+
+    private final Deque<MethodReference> methodsToVisit = new ArrayDeque<>();
+    // Classes loaded by reachable classes, along with the class loading them, reached once the current method is done
+    private final Deque<Map.Entry<ClassTypeDescriptor, ClassTypeDescriptor>> loadedClassesToReach = new ArrayDeque<>();
+
+    private MethodReachability(
+            AbiCheckerClassLoader classLoader, ClassIndex index, ArtifactCosts costs, boolean rapidTypeAnalysis) {
+        this.classLoader = classLoader;
+        this.index = index;
+        this.costs = costs;
+        this.rapidTypeAnalysis = rapidTypeAnalysis;
+        this.classResolver = className ->
+                Optional.ofNullable(index.knownClasses().get(className)).map(this::load);
+    }
+
+    /**
+     * Computes the reachable classes and methods, starting from the provided entry point methods of each entry point
+     *   class, see {@link EntryPoints}.
+     *
+     * @param rapidTypeAnalysis whether virtual calls are only dispatched to the classes that are instantiated
+     */
+    static MethodReachability fromEntryPoints(
+            AbiCheckerClassLoader classLoader,
+            ClassIndex index,
+            ArtifactCosts costs,
+            Map<ClassLocation, Set<MethodDescriptor>> entryPoints,
+            boolean rapidTypeAnalysis) {
+        MethodReachability reachability = new MethodReachability(classLoader, index, costs, rapidTypeAnalysis);
+        entryPoints.forEach((location, entryMethods) -> {
+            reachability.reachClass(location.className(), null);
+            reachability.instantiate(location.className());
+            if (reachability.reachableClasses.containsKey(location.className())) {
+                reachability.load(location).methods().values().stream()
+                        .filter(method ->
+                                entryMethods.contains(method.reference().method()))
+                        .forEach(method -> reachability.reachMethod(method.reference()));
+            }
+        });
+        reachability.visitAll();
+        return reachability;
+    }
+
+    Map<ClassTypeDescriptor, List<ClassTypeDescriptor>> reachableClasses() {
+        return reachableClasses;
+    }
+
+    Map<ClassTypeDescriptor, List<ClassTypeDescriptor>> references() {
+        Map<ClassTypeDescriptor, List<ClassTypeDescriptor>> referenceLists = new HashMap<>();
+        references.forEach(
+                (className, referencedClasses) -> referenceLists.put(className, List.copyOf(referencedClasses)));
+        return referenceLists;
+    }
+
+    Map<ClassTypeDescriptor, Set<MethodDescriptor>> reachableMethods() {
+        return reachableMethods;
+    }
+
+    private void visitAll() {
+        while (!methodsToVisit.isEmpty() || !loadedClassesToReach.isEmpty()) {
+            if (!methodsToVisit.isEmpty()) {
+                visit(methodsToVisit.remove());
+            } else {
+                Map.Entry<ClassTypeDescriptor, ClassTypeDescriptor> loadedClass = loadedClassesToReach.remove();
+                reachClass(loadedClass.getKey(), loadedClass.getValue());
+            }
+        }
+    }
+
+    private void visit(MethodReference methodReference) {
+        ClassTypeDescriptor caller = methodReference.clazz();
+        Optional<DeclaredMethod> method = classResolver
+                .apply(caller)
+                .map(declaredClass -> declaredClass.methods().get(methodReference.method()));
+        if (method.isEmpty()) {
+            return;
+        }
+
+        for (CallSite<MethodReference> methodCall : method.get().methodCalls()) {
+            MethodReference calledMethod = methodCall.reference();
+            reachClass(calledMethod.clazz(), caller);
+            if (calledMethod.isStatic() || calledMethod.method().name().equals(CONSTRUCTOR)) {
+                resolve(calledMethod.clazz(), calledMethod).ifPresent(this::reachMethod);
+            } else {
+                reachVirtualCall(calledMethod);
+            }
+        }
+        for (CallSite<FieldReference> fieldAccess : method.get().fieldAccesses()) {
+            reachClass(fieldAccess.owner(), caller);
+        }
+        for (ClassTypeDescriptor instantiatedClass : method.get().instantiatedClasses()) {
+            reachClass(instantiatedClass, caller);
+            instantiate(instantiatedClass);
+        }
+    }
+
+    private void reachVirtualCall(MethodReference calledMethod) {
+        ClassTypeDescriptor owner = calledMethod.clazz();
+        if (!reachableClasses.containsKey(owner)
+                || !virtualCalls
+                        .computeIfAbsent(owner, _owner -> new HashSet<>())
+                        .add(calledMethod.method())) {
+            // Either it can't be dispatched anywhere, or it already was
+            return;
+        }
+
+        Set<ClassTypeDescriptor> receivers = new LinkedHashSet<>();
+        receivers.add(owner);
+        Deque<ClassTypeDescriptor> toVisit = new ArrayDeque<>(receivers);
+        while (!toVisit.isEmpty()) {
+            for (ClassTypeDescriptor subtype : directSubtypes.getOrDefault(toVisit.remove(), Set.of())) {
+                if (receivers.add(subtype)) {
+                    toVisit.add(subtype);
+                }
+            }
+        }
+        for (ClassTypeDescriptor receiver : receivers) {
+            if (!rapidTypeAnalysis || instantiatedClasses.contains(receiver)) {
+                dispatch(receiver, calledMethod.method()).forEach(this::reachMethod);
+            }
+        }
+    }
+
+    /**
+     * Records that the provided class is instantiated, dispatching the calls previously made on any of its supertypes to
+     *   it. This only matters with rapid type analysis, as calls are otherwise dispatched to every reachable class.
+     */
+    private void instantiate(ClassTypeDescriptor className) {
+        if (rapidTypeAnalysis && reachableClasses.containsKey(className) && instantiatedClasses.add(className)) {
+            classResolver.apply(className).ifPresent(this::dispatchRecordedCalls);
+        }
+    }
+
+    /**
+     * Reaches the provided class if it is known, recording that it was reached from {@code referencedFrom} (unless it
+     *   is an entry point).
+     */
+    private void reachClass(ClassTypeDescriptor className, @Nullable ClassTypeDescriptor referencedFrom) {
+        ClassLocation location = index.knownClasses().get(className);
+        if (location == null) {
+            // Unknown classes are reported by the checks of the methods referencing them
+            return;
+        }
+        if (referencedFrom != null) {
+            references.get(referencedFrom).add(className);
+        }
+        if (reachableClasses.containsKey(className)) {
+            return;
+        }
+
+        List<ClassTypeDescriptor> reachabilityPath;
+        if (referencedFrom == null) {
+            reachabilityPath = List.of(className);
+        } else {
+            // Needs to be an ArrayList to have constant-time access to the last element when printing it
+            List<ClassTypeDescriptor> newPath = new ArrayList<>(reachableClasses.get(referencedFrom));
+            newPath.add(className);
+            reachabilityPath = newPath;
+        }
+        reachableClasses.put(className, reachabilityPath);
+        references.put(className, new LinkedHashSet<>());
+
+        DeclaredClass declaredClass = load(location);
+        if (declaredClass.methods().containsKey(STATIC_INITIALIZER)) {
+            reachMethod(MethodReference.ofStatic(className, STATIC_INITIALIZER));
+        }
+        for (ClassTypeDescriptor loadedClass : declaredClass.loadedClasses()) {
+            loadedClassesToReach.add(Map.entry(loadedClass, className));
+        }
+
+        // Parents are reached first, for the calls made on them to be dispatched to this class
+        for (ClassTypeDescriptor parent : declaredClass.parents()) {
+            reachClass(parent, className);
+            if (reachableClasses.containsKey(parent)) {
+                directSubtypes
+                        .computeIfAbsent(parent, _parent -> new HashSet<>())
+                        .add(className);
+            }
+        }
+        if (!rapidTypeAnalysis) {
+            dispatchRecordedCalls(declaredClass);
+        }
+    }
+
+    /**
+     * Dispatches the virtual calls previously made on the provided class, or any of its supertypes, to that class.
+     */
+    private void dispatchRecordedCalls(DeclaredClass declaredClass) {
+        Set<ClassTypeDescriptor> types = supertypes(declaredClass);
+        types.add(declaredClass.className());
+        for (ClassTypeDescriptor type : types) {
+            for (MethodDescriptor calledMethod : virtualCalls.getOrDefault(type, Set.of())) {
+                dispatch(declaredClass.className(), calledMethod).forEach(this::reachMethod);
+            }
+        }
+    }
+
+    private void reachMethod(MethodReference method) {
+        if (reachableMethods
+                .computeIfAbsent(method.clazz(), _clazz -> new HashSet<>())
+                .add(method.method())) {
+            methodsToVisit.add(method);
+        }
+    }
+
+    /**
+     * Resolves the method that is actually executed when calling {@code calledMethod} on {@code receiver}.
+     */
+    private Optional<MethodReference> resolve(ClassTypeDescriptor receiver, MethodReference calledMethod) {
+        return classResolver
+                .apply(receiver)
+                .flatMap(
+                        declaredClass -> ClassGraph.resolveMethodReference(classResolver, declaredClass, calledMethod));
+    }
+
+    /**
+     * Returns the methods that may be executed when calling {@code calledMethod} virtually on an instance of
+     *   {@code receiver}, i.e. the closest declaration of the method along each path of its class hierarchy.
+     *
+     * We don't know which of the parents is the superclass, so we can't tell whether an interface's default method is
+     *   overridden by a superclass' method: both are considered reachable, which errs on the side of checking more.
+     */
+    private Set<MethodReference> dispatch(ClassTypeDescriptor receiver, MethodDescriptor calledMethod) {
+        Optional<DeclaredClass> declaredClass = classResolver.apply(receiver);
+        if (declaredClass.isEmpty()) {
+            return Set.of();
+        }
+        DeclaredMethod declaredMethod = declaredClass.get().methods().get(calledMethod);
+        if (declaredMethod != null) {
+            // Static methods can't be called virtually, which the check reports
+            return declaredMethod.reference().isStatic() ? Set.of() : Set.of(declaredMethod.reference());
+        }
+        Set<MethodReference> methods = new HashSet<>();
+        for (ClassTypeDescriptor parent : declaredClass.get().parents()) {
+            methods.addAll(dispatch(parent, calledMethod));
+        }
+        return methods;
+    }
+
+    /**
+     * Returns all the known supertypes of the provided class, excluding itself.
+     */
+    private Set<ClassTypeDescriptor> supertypes(DeclaredClass declaredClass) {
+        Set<ClassTypeDescriptor> supertypes = new HashSet<>();
+        Deque<DeclaredClass> toVisit = new ArrayDeque<>(List.of(declaredClass));
+        while (!toVisit.isEmpty()) {
+            for (ClassTypeDescriptor parent : toVisit.remove().parents()) {
+                if (supertypes.add(parent)) {
+                    classResolver.apply(parent).ifPresent(toVisit::add);
+                }
+            }
+        }
+        return supertypes;
+    }
+
+    private DeclaredClass load(ClassLocation location) {
+        return classLoader.load(location, costs);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.datamodel.graph;
+
+/**
+ * How the checker determines which parts of the runtime classpath are reachable from the entry points, and therefore
+ *   worth checking.
+ */
+public enum ReachabilityAnalysis {
+    /**
+     * Every class referenced by a reachable class is reachable, along with all of its methods.
+     *
+     * This is the cheapest analysis per class, but the broadest one: a class is reachable as soon as any of its
+     *   methods references it, even if that method can never be called.
+     */
+    CLASS_REFERENCES,
+
+    /**
+     * Follows the method calls from the entry point methods, only checking the methods that can actually be called.
+     *
+     * Virtual and interface calls are resolved using class hierarchy analysis, i.e. they may dispatch to any override
+     *   declared by a reachable subtype of the called class.
+     */
+    CLASS_HIERARCHY_ANALYSIS,
+
+    /**
+     * Same as {@link #CLASS_HIERARCHY_ANALYSIS}, but virtual and interface calls may only dispatch to the overrides of
+     *   the subtypes that reachable code instantiates.
+     *
+     * Keeping track of the instantiated classes is a little more work, but it avoids considering every reachable
+     *   implementation of widely implemented interfaces (e.g. {@code Function} or {@code Iterator}) as called.
+     */
+    RAPID_TYPE_ANALYSIS;
+}
@@ -32,7 +32,9 @@
 
 package com.palantir.abi.checker.datamodel.method;
 
+import com.palantir.abi.checker.datamodel.Visibility;
 import com.palantir.abi.checker.datamodel.field.FieldReference;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
 import java.util.Set;
 import org.immutables.value.Value;
 
@@ -44,11 +46,16 @@ import org.immutables.value.Value;
 public interface DeclaredMethod {
     MethodReference reference();
 
+    Visibility visibility();
+
     /** Calls that this method makes to other methods. */
     Set<CallSite<MethodReference>> methodCalls();
 
     Set<CallSite<FieldReference>> fieldAccesses();
 
+    /** Classes that this method creates instances of, e.g. through {@code new} or constructor references. */
+    Set<ClassTypeDescriptor> instantiatedClasses();
+
     static ImmutableDeclaredMethod.Builder builder() {
         return ImmutableDeclaredMethod.builder();
     }
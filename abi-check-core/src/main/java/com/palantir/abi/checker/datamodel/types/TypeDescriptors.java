@@ -82,5 +82,21 @@ public final class TypeDescriptors {
         return simpleType;
     }
 
+    /**
+     * The inverse of {@link #fromRaw(String)}, e.g. {@code [Ljava/lang/String;} for {@code java.lang.String[]}.
+     */
+    public static String toRaw(TypeDescriptor type) {
+        if (type instanceof ClassTypeDescriptor classType) {
+            return "L" + classType.className().replace('.', '/') + ";";
+        } else if (type instanceof ArrayTypeDescriptor arrayType) {
+            return "[".repeat(arrayType.dimensions()) + toRaw(arrayType.subType());
+        } else if (type instanceof PrimitiveTypeDescriptor primitiveType) {
+            return primitiveType.getRaw();
+        } else if (type instanceof VoidTypeDescriptor) {
+            return "V";
+        }
+        throw new IllegalArgumentException("Unknown type descriptor: " + type);
+    }
+
     private TypeDescriptors() {}
 }
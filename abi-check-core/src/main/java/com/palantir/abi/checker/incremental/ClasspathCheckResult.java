@@ -0,0 +1,62 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.incremental;
+
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.immutables.value.Value;
+
+/**
+ * The outcome of checking a classpath, which a check of a later version of the classpath can build upon (see
+ *   {@link com.palantir.abi.checker.ClasspathDiffConflictChecker}).
+ */
+@Value.Immutable
+public interface ClasspathCheckResult {
+    List<Conflict> conflicts();
+
+    /**
+     * The classes whose method calls and field accesses were checked, see {@link
+     *   com.palantir.abi.checker.ConflictChecker#checkedClasses()}.
+     */
+    Set<ClassTypeDescriptor> checkedClasses();
+
+    /**
+     * The reverse-reference index: for each class resolved while checking, the checked classes that resolved it (see
+     *   {@link com.palantir.abi.checker.ConflictChecker#resolvedClasses}), and thus need to be checked again when it
+     *   changes. This includes classes which couldn't be found, as they might be provided later on.
+     */
+    Map<ClassTypeDescriptor, Set<ClassTypeDescriptor>> resolvingClasses();
+
+    /**
+     * The checked classes that have to be checked again if any of the provided classes changed.
+     */
+    default Set<ClassTypeDescriptor> affectedClasses(Set<ClassTypeDescriptor> changedClasses) {
+        Set<ClassTypeDescriptor> affectedClasses = new HashSet<>();
+        for (ClassTypeDescriptor changedClass : changedClasses) {
+            affectedClasses.addAll(resolvingClasses().getOrDefault(changedClass, Set.of()));
+        }
+        return affectedClasses;
+    }
+
+    static ImmutableClasspathCheckResult.Builder builder() {
+        return ImmutableClasspathCheckResult.builder();
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.incremental;
+
+import com.palantir.abi.checker.baseline.AcceptedConflict;
+import com.palantir.abi.checker.baseline.ArtifactFingerprints;
+import com.palantir.abi.checker.datamodel.Artifact;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.graph.ClassIndex;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.immutables.value.Value;
+
+/**
+ * What changed between two versions of a classpath, e.g. before and after bumping a few dependencies.
+ *
+ * Artifacts are matched by their name without its version (see {@link AcceptedConflict#unversioned}), so that a
+ *   version bump shows up as the artifact having changed, and compared by fingerprint (see
+ *   {@link ArtifactFingerprints}), so that rebuilding an artifact to the same classes isn't a change.
+ */
+@Value.Immutable
+public interface ClasspathDiff {
+    Set<String> addedArtifacts();
+
+    Set<String> removedArtifacts();
+
+    /**
+     * The artifacts on both classpaths whose classes differ.
+     */
+    Set<String> changedArtifacts();
+
+    /**
+     * The classes whose definition may differ, i.e. which are provided by an artifact that was added, removed or
+     *   changed, or which are now provided by another artifact (e.g. when the order of the classpath changed).
+     */
+    Set<ClassTypeDescriptor> changedClasses();
+
+    /**
+     * The artifacts on both classpaths whose name changed, e.g. as their version was bumped, by their name on the old
+     *   classpath.
+     */
+    Map<ArtifactName, ArtifactName> renamedArtifacts();
+
+    default boolean isEmpty() {
+        return changedClasses().isEmpty();
+    }
+
+    /**
+     * Diffs two versions of a classpath, given the index of the new one (e.g. that of the checker checking it), so
+     *   that neither has to be indexed again: only the classes of artifacts that differ, or that moved relative to
+     *   one another, may have changed.
+     */
+    static ClasspathDiff between(List<Artifact> oldClasspath, List<Artifact> newClasspath, ClassIndex newIndex) {
+        Map<String, Artifact> oldArtifacts = byUnversionedName(oldClasspath);
+        Map<String, Artifact> newArtifacts = byUnversionedName(newClasspath);
+        ArtifactFingerprints oldFingerprints = new ArtifactFingerprints(oldClasspath);
+        ArtifactFingerprints newFingerprints = new ArtifactFingerprints(newClasspath);
+
+        ImmutableClasspathDiff.Builder diff = ImmutableClasspathDiff.builder();
+        Set<String> differingArtifacts = new HashSet<>();
+        Set<ClassTypeDescriptor> candidateClasses = new HashSet<>();
+        oldArtifacts.forEach((name, oldArtifact) -> {
+            Artifact newArtifact = newArtifacts.get(name);
+            if (newArtifact == null) {
+                diff.addRemovedArtifacts(name);
+                differingArtifacts.add(name);
+                candidateClasses.addAll(oldArtifact.classes().keySet());
+                return;
+            }
+            if (!oldArtifact.name().equals(newArtifact.name())) {
+                diff.putRenamedArtifacts(oldArtifact.name(), newArtifact.name());
+            }
+            if (!oldFingerprints
+                    .fingerprint(oldArtifact.name())
+                    .equals(newFingerprints.fingerprint(newArtifact.name()))) {
+                diff.addChangedArtifacts(name);
+                differingArtifacts.add(name);
+                candidateClasses.addAll(oldArtifact.classes().keySet());
+                candidateClasses.addAll(newArtifact.classes().keySet());
+            }
+        });
+        newArtifacts.forEach((name, newArtifact) -> {
+            if (!oldArtifacts.containsKey(name)) {
+                diff.addAddedArtifacts(name);
+                differingArtifacts.add(name);
+                candidateClasses.addAll(newArtifact.classes().keySet());
+            }
+        });
+
+        // Classes which are only provided by artifacts that are the same on both classpaths are still provided by the
+        //   same one, unless these artifacts were reordered: the first of them providing a class is the same on both
+        //   classpaths until the first artifact that moved
+        List<String> oldOrder = unchangedOrder(oldArtifacts.keySet(), newArtifacts.keySet(), differingArtifacts);
+        List<String> newOrder = unchangedOrder(newArtifacts.keySet(), oldArtifacts.keySet(), differingArtifacts);
+        for (int i = 0; i < oldOrder.size(); i++) {
+            if (!oldOrder.get(i).equals(newOrder.get(i))) {
+                oldOrder.subList(i, oldOrder.size())
+                        .forEach(name -> candidateClasses.addAll(
+                                oldArtifacts.get(name).classes().keySet()));
+                break;
+            }
+        }
+
+        Map<ClassTypeDescriptor, String> oldProviders = new HashMap<>();
+        for (Artifact artifact : oldClasspath) {
+            String provider = AcceptedConflict.unversioned(artifact.name());
+            for (ClassTypeDescriptor className : artifact.classes().keySet()) {
+                if (candidateClasses.contains(className)) {
+                    oldProviders.putIfAbsent(className, provider);
+                }
+            }
+        }
+        Set<ClassTypeDescriptor> changedClasses = new HashSet<>();
+        for (ClassTypeDescriptor className : candidateClasses) {
+            String oldProvider = oldProviders.get(className);
+            ArtifactName newArtifactName = newIndex.sourceMappings().get(className);
+            if (oldProvider == null
+                    || newArtifactName == null
+                    || differingArtifacts.contains(oldProvider)
+                    || !oldProvider.equals(AcceptedConflict.unversioned(newArtifactName))) {
+                changedClasses.add(className);
+            }
+        }
+        return diff.changedClasses(changedClasses).build();
+    }
+
+    static ImmutableClasspathDiff.Builder builder() {
+        return ImmutableClasspathDiff.builder();
+    }
+
+    /**
+     * The artifacts of {@code artifacts}, in order, which are on both classpaths and the same on both.
+     */
+    private static List<String> unchangedOrder(
+            Set<String> artifacts, Set<String> otherArtifacts, Set<String> differingArtifacts) {
+        List<String> order = new ArrayList<>();
+        for (String name : artifacts) {
+            if (otherArtifacts.contains(name) && !differingArtifacts.contains(name)) {
+                order.add(name);
+            }
+        }
+        return order;
+    }
+
+    private static Map<String, Artifact> byUnversionedName(List<Artifact> classpath) {
+        Map<String, Artifact> artifacts = new LinkedHashMap<>();
+        // Same as the class index, the first artifact of a given name wins
+        classpath.forEach(artifact -> artifacts.putIfAbsent(AcceptedConflict.unversioned(artifact.name()), artifact));
+        return artifacts;
+    }
+}
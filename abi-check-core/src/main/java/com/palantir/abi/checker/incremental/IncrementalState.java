@@ -0,0 +1,59 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.incremental;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import com.palantir.abi.checker.datamodel.types.TypeDescriptors;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.immutables.value.Value;
+
+/**
+ * What a check needs to remember from its previous run in order to only re-check what changed since.
+ *
+ * Class names are kept as plain strings, so that this can be persisted as is.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableIncrementalState.class)
+@JsonDeserialize(as = ImmutableIncrementalState.class)
+public interface IncrementalState {
+    /**
+     * The known classes directly referenced by each reachable class, i.e. the reachability graph.
+     */
+    Map<String, List<String>> references();
+
+    /**
+     * The reachable classes in which conflicts were found.
+     */
+    Set<String> classesWithConflicts();
+
+    default Map<ClassTypeDescriptor, List<ClassTypeDescriptor>> referencesByClass() {
+        return references().entrySet().stream()
+                .collect(Collectors.toMap(
+                        entry -> TypeDescriptors.fromClassName(entry.getKey()), entry -> entry.getValue().stream()
+                                .map(TypeDescriptors::fromClassName)
+                                .toList()));
+    }
+
+    static ImmutableIncrementalState.Builder builder() {
+        return ImmutableIncrementalState.builder();
+    }
+}
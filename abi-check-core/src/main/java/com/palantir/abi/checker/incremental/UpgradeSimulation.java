@@ -0,0 +1,52 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.incremental;
+
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import java.util.List;
+import org.immutables.value.Value;
+
+/**
+ * The outcome of checking a classpath with one of its artifacts replaced by another version, compared to the result
+ *   of checking it as is (see {@link com.palantir.abi.checker.UpgradeSimulator}).
+ */
+@Value.Immutable
+public interface UpgradeSimulation {
+    ArtifactName replacedArtifact();
+
+    ArtifactName replacementArtifact();
+
+    /**
+     * The result of checking the classpath with the replacement, which later checks can build upon.
+     */
+    ClasspathCheckResult result();
+
+    /**
+     * The conflicts which the replacement introduces, i.e. which the classpath as is doesn't have.
+     */
+    List<Conflict> introducedConflicts();
+
+    /**
+     * The conflicts of the classpath as is which the replacement fixes.
+     */
+    List<Conflict> fixedConflicts();
+
+    static ImmutableUpgradeSimulation.Builder builder() {
+        return ImmutableUpgradeSimulation.builder();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.metrics;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import org.immutables.value.Value;
+
+/**
+ * The work the checker did on behalf of a single artifact of the runtime classpath during a check.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableArtifactCost.class)
+public interface ArtifactCost {
+    ArtifactName artifact();
+
+    /**
+     * Number of classes of the index that this artifact provides (i.e. not shadowed by an earlier artifact).
+     */
+    int classesIndexed();
+
+    /**
+     * Number of this artifact's classes that were determined to be reachable.
+     */
+    int classesReached();
+
+    /**
+     * Number of this artifact's classes that had to be parsed, rather than being served from the cache.
+     */
+    int classesParsed();
+
+    /**
+     * Total time spent parsing this artifact's classes.
+     */
+    long parseTimeMillis();
+
+    /**
+     * Number of class lookups (e.g. when resolving a method call) that this artifact served.
+     */
+    long lookupsServed();
+
+    /**
+     * Number of conflicts found in this artifact's classes.
+     */
+    int conflictsFound();
+
+    static ImmutableArtifactCost.Builder builder() {
+        return ImmutableArtifactCost.builder();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.metrics;
+
+import com.palantir.abi.checker.AbiCheckerClassLoader;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.classlocation.ClassLocation;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.graph.ClassGraph;
+import com.palantir.abi.checker.datamodel.graph.ClassIndex;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the work done by a single check, attributing it to the artifacts of the runtime classpath.
+ *
+ * This is not thread-safe, and is expected to be used by a single check at a time.
+ */
+public final class ArtifactCosts implements AbiCheckerClassLoader.ParseListener {
+    private final ClassIndex index;
+    private final Map<ArtifactName, Counters> countersByArtifact = new HashMap<>();
+    private final Map<ClassTypeDescriptor, Long> parseNanosByClass = new HashMap<>();
+    private final Map<ClassTypeDescriptor, Integer> referencesCheckedByClass = new HashMap<>();
+
+    public ArtifactCosts(ClassIndex index) {
+        this.index = index;
+    }
+
+    @Override
+    public void parsed(ClassLocation location, long durationNanos) {
+        parseNanosByClass.merge(location.className(), durationNanos, Long::sum);
+        ArtifactName artifactName = index.sourceMappings().get(location.className());
+        if (artifactName != null) {
+            Counters counters = counters(artifactName);
+            counters.classesParsed++;
+            counters.parseTimeNanos += durationNanos;
+        }
+    }
+
+    public void lookupServed(ClassTypeDescriptor className) {
+        ArtifactName artifactName = index.sourceMappings().get(className);
+        if (artifactName != null) {
+            counters(artifactName).lookupsServed++;
+        }
+    }
+
+    public void conflictFound(Conflict conflict) {
+        counters(conflict.usedBy()).conflictsFound++;
+    }
+
+    /**
+     * Records that the method calls and field accesses of the provided class were checked.
+     */
+    public void classChecked(ClassTypeDescriptor className, int referencesChecked) {
+        referencesCheckedByClass.merge(className, referencesChecked, Integer::sum);
+    }
+
+    /**
+     * Time spent parsing the provided class during this check, or 0 if it was already cached.
+     */
+    public long parseNanos(ClassTypeDescriptor className) {
+        return parseNanosByClass.getOrDefault(className, 0L);
+    }
+
+    /**
+     * Number of method calls and field accesses of the provided class that were checked.
+     */
+    public int referencesChecked(ClassTypeDescriptor className) {
+        return referencesCheckedByClass.getOrDefault(className, 0);
+    }
+
+    /**
+     * Builds the cost of each artifact of the index, from most to least expensive to parse.
+     */
+    public List<ArtifactCost> report(ClassGraph classGraph) {
+        Map<ArtifactName, Integer> classesIndexed =
+                countByArtifact(index.knownClasses().keySet());
+        Map<ArtifactName, Integer> classesReached = countByArtifact(classGraph.reachableClasses());
+
+        return classesIndexed.keySet().stream()
+                .<ArtifactCost>map(artifactName -> {
+                    Counters counters = countersByArtifact.getOrDefault(artifactName, new Counters());
+                    return ArtifactCost.builder()
+                            .artifact(artifactName)
+                            .classesIndexed(classesIndexed.getOrDefault(artifactName, 0))
+                            .classesReached(classesReached.getOrDefault(artifactName, 0))
+                            .classesParsed(counters.classesParsed)
+                            .parseTimeMillis(TimeUnit.NANOSECONDS.toMillis(counters.parseTimeNanos))
+                            .lookupsServed(counters.lookupsServed)
+                            .conflictsFound(counters.conflictsFound)
+                            .build();
+                })
+                .sorted(Comparator.comparingLong(ArtifactCost::parseTimeMillis)
+                        .thenComparingInt(ArtifactCost::classesParsed)
+                        .thenComparingInt(ArtifactCost::classesIndexed)
+                        .reversed()
+                        .thenComparing(cost -> cost.artifact().name()))
+                .toList();
+    }
+
+    private Map<ArtifactName, Integer> countByArtifact(Iterable<ClassTypeDescriptor> classes) {
+        Map<ArtifactName, Integer> counts = new HashMap<>();
+        for (ClassTypeDescriptor className : classes) {
+            ArtifactName artifactName = index.sourceMappings().get(className);
+            if (artifactName != null) {
+                counts.merge(artifactName, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    private Counters counters(ArtifactName artifactName) {
+        return countersByArtifact.computeIfAbsent(artifactName, _name -> new Counters());
+    }
+
+    private static final class Counters {
+        private int classesParsed;
+        private long parseTimeNanos;
+        private long lookupsServed;
+        private int conflictsFound;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.metrics;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.immutables.value.Value;
+
+/**
+ * The share of the reachable classpath that is only reached through a given entry point class or package.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableEntryPointCost.class)
+public interface EntryPointCost {
+    /**
+     * Name of the entry point class or package.
+     */
+    String name();
+
+    /**
+     * Number of reachable classes which can only be reached through this entry point (including itself), i.e. that
+     *   would no longer be reachable if this entry point was removed.
+     */
+    int classesDominated();
+
+    /**
+     * Number of method calls and field accesses that were checked in the dominated classes.
+     */
+    long referencesChecked();
+
+    /**
+     * Time spent parsing the dominated classes.
+     */
+    long parseTimeMillis();
+
+    static ImmutableEntryPointCost.Builder builder() {
+        return ImmutableEntryPointCost.builder();
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.metrics;
+
+import com.palantir.abi.checker.AbiCheckerClassLoader;
+import com.palantir.abi.checker.datamodel.Artifact;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.DeclaredClass;
+import com.palantir.abi.checker.datamodel.classlocation.ClassLocation;
+import com.palantir.abi.checker.datamodel.classlocation.DirectoryBasedClassLocation;
+import com.palantir.abi.checker.datamodel.classlocation.JarBasedClassLocation;
+import com.palantir.abi.checker.datamodel.classlocation.JdkBasedClassLocation;
+import com.palantir.abi.checker.datamodel.field.FieldReference;
+import com.palantir.abi.checker.datamodel.graph.ClassGraph;
+import com.palantir.abi.checker.datamodel.graph.ClassIndex;
+import com.palantir.abi.checker.datamodel.method.CallSite;
+import com.palantir.abi.checker.datamodel.method.DeclaredMethod;
+import com.palantir.abi.checker.datamodel.method.MethodDescriptor;
+import com.palantir.abi.checker.datamodel.method.MethodReference;
+import com.palantir.abi.checker.datamodel.types.ArrayTypeDescriptor;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import com.palantir.abi.checker.datamodel.types.TypeDescriptor;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Estimates the heap retained by the checker's main structures.
+ *
+ * The estimates assume a 64-bit JVM with compressed oops and compact (latin-1) strings, and walk the object graphs
+ *   we know about rather than measuring anything. They do not account for sharing between structures (e.g. the same
+ *   class name being referenced by the index and the reachability paths), so the totals lean towards upper bounds.
+ */
+public final class FootprintEstimator {
+    /** Name used for classes which can't be mapped back to one of the artifacts of the current classpath. */
+    public static final String UNATTRIBUTED = "<unattributed>";
+
+    private static final long OBJECT_HEADER = 12;
+    private static final long ARRAY_HEADER = 16;
+    private static final long REFERENCE = 4;
+    // Covers the node itself as well as its share of the backing table
+    private static final long HASH_MAP_ENTRY = 32 + 2 * REFERENCE;
+    private static final long HASH_MAP = 48;
+    // Bounded caffeine caches keep extra bookkeeping per node (access order, weights, etc)
+    private static final long CACHE_NODE = 64;
+    // A URI holds a number of pre-parsed component strings on top of the string it was built from
+    private static final long URI = 80;
+
+    public static MemoryFootprint estimate(
+            AbiCheckerClassLoader classLoader, List<Artifact> jdkArtifacts, ClassIndex index, ClassGraph classGraph) {
+        Map<String, Long> bytesPerArtifact = new HashMap<>();
+        Set<ArtifactName> jdkArtifactNames =
+                jdkArtifacts.stream().map(Artifact::name).collect(Collectors.toSet());
+
+        long jdkBytes = 0;
+        for (Artifact artifact : jdkArtifacts) {
+            long artifactBytes = immutableMap(artifact.classes().size())
+                    + classLocations(artifact.classes().values());
+            bytesPerArtifact.merge(artifact.name().name(), artifactBytes, Long::sum);
+            jdkBytes += artifactBytes;
+        }
+
+        long indexBytes = 2 * immutableMap(index.knownClasses().size());
+        for (ClassLocation location : index.knownClasses().values()) {
+            ArtifactName artifactName = index.sourceMappings().get(location.className());
+            // The JDK's locations are already accounted for above
+            if (artifactName != null && !jdkArtifactNames.contains(artifactName)) {
+                long locationBytes = classLocation(location);
+                bytesPerArtifact.merge(artifactName.name(), locationBytes, Long::sum);
+                indexBytes += locationBytes;
+            }
+        }
+
+        long cacheBytes = 0;
+        for (Map.Entry<ClassLocation, DeclaredClass> entry :
+                classLoader.cachedClasses().entrySet()) {
+            long entryBytes = CACHE_NODE + classLocation(entry.getKey()) + declaredClass(entry.getValue());
+            bytesPerArtifact.merge(artifactNameFor(index, entry.getKey().className()), entryBytes, Long::sum);
+            cacheBytes += entryBytes;
+        }
+
+        long reachabilityBytes = hashMap(classGraph.reachableClasses().size());
+        for (ClassTypeDescriptor reachableClass : classGraph.reachableClasses()) {
+            long pathBytes = list(classGraph.getReachabilityPath(reachableClass).size());
+            bytesPerArtifact.merge(artifactNameFor(index, reachableClass), pathBytes, Long::sum);
+            reachabilityBytes += pathBytes;
+        }
+
+        Map<String, Long> sortedBytesPerArtifact = new LinkedHashMap<>();
+        bytesPerArtifact.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sortedBytesPerArtifact.put(entry.getKey(), entry.getValue()));
+
+        return MemoryFootprint.builder()
+                .putBytesPerStructure(MemoryFootprint.CLASS_LOADER_CACHE, cacheBytes)
+                .putBytesPerStructure(MemoryFootprint.CLASS_INDEX, indexBytes)
+                .putBytesPerStructure(MemoryFootprint.JDK_ARTIFACTS, jdkBytes)
+                .putBytesPerStructure(MemoryFootprint.REACHABILITY, reachabilityBytes)
+                .bytesPerArtifact(sortedBytesPerArtifact)
+                .build();
+    }
+
+    private static String artifactNameFor(ClassIndex index, ClassTypeDescriptor className) {
+        ArtifactName artifactName = index.sourceMappings().get(className);
+        return artifactName == null ? UNATTRIBUTED : artifactName.name();
+    }
+
+    private static long classLocations(Collection<ClassLocation> locations) {
+        return locations.stream().mapToLong(FootprintEstimator::classLocation).sum();
+    }
+
+    static long classLocation(ClassLocation location) {
+        // All locations are records with up to three references
+        long record = align(OBJECT_HEADER + 3 * REFERENCE);
+        if (location instanceof JarBasedClassLocation jar) {
+            return record + classType(jar.className()) + string(jar.jarLocation()) + string(jar.classLocation());
+        } else if (location instanceof DirectoryBasedClassLocation directory) {
+            return record
+                    + classType(directory.className())
+                    + string(directory.classDirectory())
+                    + string(directory.classLocation());
+        } else if (location instanceof JdkBasedClassLocation jdk) {
+            return record
+                    + classType(jdk.className())
+                    + URI
+                    + string(jdk.classLocation().toString());
+        }
+        return record + classType(location.className());
+    }
+
+    static long declaredClass(DeclaredClass declaredClass) {
+        long bytes = align(OBJECT_HEADER + 6 * REFERENCE) + classType(declaredClass.className());
+        bytes += immutableSet(declaredClass.parents().size()) + classTypes(declaredClass.parents());
+        bytes += immutableSet(declaredClass.loadedClasses().size()) + classTypes(declaredClass.loadedClasses());
+        bytes += immutableMap(declaredClass.methods().size());
+        for (DeclaredMethod method : declaredClass.methods().values()) {
+            bytes += declaredMethod(method);
+        }
+        bytes += immutableMap(declaredClass.fields().size());
+        for (FieldReference field : declaredClass.fields().values()) {
+            bytes += fieldReference(field);
+        }
+        return bytes;
+    }
+
+    private static long declaredMethod(DeclaredMethod method) {
+        long bytes = align(OBJECT_HEADER + 5 * REFERENCE) + methodReference(method.reference());
+        bytes += immutableSet(method.methodCalls().size());
+        for (CallSite<MethodReference> call : method.methodCalls()) {
+            bytes += callSite(call) + methodReference(call.reference());
+        }
+        bytes += immutableSet(method.fieldAccesses().size());
+        for (CallSite<FieldReference> access : method.fieldAccesses()) {
+            bytes += callSite(access) + fieldReference(access.reference());
+        }
+        bytes += immutableSet(method.instantiatedClasses().size()) + classTypes(method.instantiatedClasses());
+        return bytes;
+    }
+
+    private static long callSite(CallSite<?> callSite) {
+        return align(OBJECT_HEADER + 2 * REFERENCE + 4)
+                + hashSet(callSite.caughtExceptions().size())
+                + classTypes(callSite.caughtExceptions());
+    }
+
+    private static long methodReference(MethodReference reference) {
+        return align(OBJECT_HEADER + 2 * REFERENCE + 1)
+                + classType(reference.clazz())
+                + methodDescriptor(reference.method());
+    }
+
+    private static long methodDescriptor(MethodDescriptor descriptor) {
+        long bytes = align(OBJECT_HEADER + 3 * REFERENCE) + string(descriptor.name()) + type(descriptor.returnType());
+        bytes += list(descriptor.parameterTypes().size());
+        for (TypeDescriptor parameterType : descriptor.parameterTypes()) {
+            bytes += type(parameterType);
+        }
+        return bytes;
+    }
+
+    private static long fieldReference(FieldReference reference) {
+        // The reference itself, as well as its FieldDescriptor
+        return align(OBJECT_HEADER + 2 * REFERENCE + 1)
+                + align(OBJECT_HEADER + 2 * REFERENCE)
+                + classType(reference.clazz())
+                + string(reference.name())
+                + type(reference.type());
+    }
+
+    private static long type(TypeDescriptor type) {
+        if (type instanceof ClassTypeDescriptor classType) {
+            return classType(classType);
+        } else if (type instanceof ArrayTypeDescriptor) {
+            // The component type isn't visible from here, assume it's a class of average name length
+            return align(OBJECT_HEADER + REFERENCE + 4) + align(OBJECT_HEADER + REFERENCE) + string(32);
+        }
+        // Primitive and void types are singletons
+        return 0;
+    }
+
+    private static long classTypes(Collection<ClassTypeDescriptor> classTypes) {
+        return classTypes.stream().mapToLong(FootprintEstimator::classType).sum();
+    }
+
+    private static long classType(ClassTypeDescriptor classType) {
+        return align(OBJECT_HEADER + REFERENCE) + string(classType.className());
+    }
+
+    private static long string(String value) {
+        return string(value.length());
+    }
+
+    private static long string(int length) {
+        // String object (value, hash, coder, hashIsZero) and its backing byte array
+        return align(OBJECT_HEADER + REFERENCE + 4 + 2) + align(ARRAY_HEADER + length);
+    }
+
+    private static long list(int size) {
+        return align(OBJECT_HEADER + 2 * REFERENCE) + align(ARRAY_HEADER + size * REFERENCE);
+    }
+
+    private static long hashSet(int size) {
+        // A HashSet wraps a HashMap
+        return align(OBJECT_HEADER + REFERENCE) + hashMap(size);
+    }
+
+    private static long hashMap(int size) {
+        return HASH_MAP + size * HASH_MAP_ENTRY;
+    }
+
+    private static long immutableSet(int size) {
+        // Guava's immutable sets hold their elements as well as a hash table twice as large
+        return align(OBJECT_HEADER + 2 * REFERENCE + 8)
+                + align(ARRAY_HEADER + size * REFERENCE)
+                + align(ARRAY_HEADER + 2L * size * REFERENCE);
+    }
+
+    private static long immutableMap(int size) {
+        // Guava's immutable maps hold keys and values in a single array, as well as a separate hash table
+        return align(OBJECT_HEADER + 3 * REFERENCE)
+                + align(ARRAY_HEADER + 2L * size * REFERENCE)
+                + align(ARRAY_HEADER + 2L * size * REFERENCE);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private FootprintEstimator() {}
+}
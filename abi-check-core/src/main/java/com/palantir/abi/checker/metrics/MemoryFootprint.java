@@ -0,0 +1,55 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.metrics;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.util.Map;
+import org.immutables.value.Value;
+
+/**
+ * Estimated number of bytes retained on the heap by the ABI checker's data structures.
+ *
+ * These are estimates computed from the shape of the objects (see {@link FootprintEstimator}), not measurements, and
+ *   are mostly meant to tell which structures and artifacts dominate the checker's memory usage.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableMemoryFootprint.class)
+public interface MemoryFootprint {
+    String CLASS_LOADER_CACHE = "classLoaderCache";
+    String CLASS_INDEX = "classIndex";
+    String JDK_ARTIFACTS = "jdkArtifacts";
+    String REACHABILITY = "reachability";
+
+    /**
+     * Estimated retained bytes for each of the checker's structures, keyed by structure name.
+     */
+    Map<String, Long> bytesPerStructure();
+
+    /**
+     * Estimated retained bytes attributed to each artifact, keyed by artifact name, from largest to smallest.
+     */
+    Map<String, Long> bytesPerArtifact();
+
+    @Value.Derived
+    default long totalBytes() {
+        return bytesPerStructure().values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    static ImmutableMemoryFootprint.Builder builder() {
+        return ImmutableMemoryFootprint.builder();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.metrics;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.util.List;
+import org.immutables.value.Value;
+
+/**
+ * Attributes the reachable classes of a check to the entry points they were reached from, in order to find out which
+ *   entry points pull in most of the classpath.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableReachabilityAttribution.class)
+public interface ReachabilityAttribution {
+    int reachableClasses();
+
+    /**
+     * Number of reachable classes that are reached through several entry point classes, and therefore can't be
+     *   attributed to any single one of them.
+     */
+    int sharedClasses();
+
+    /**
+     * The most expensive entry point classes, from most to least dominated classes.
+     */
+    List<EntryPointCost> entryPointClasses();
+
+    /**
+     * The most expensive entry point packages, from most to least dominated classes.
+     */
+    List<EntryPointCost> entryPointPackages();
+
+    static ImmutableReachabilityAttribution.Builder builder() {
+        return ImmutableReachabilityAttribution.builder();
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.metrics;
+
+import com.palantir.abi.checker.datamodel.graph.ClassGraph;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Attributes the reachable classes of a check back to its entry points, using the dominator tree of the reachability
+ *   graph.
+ *
+ * The graph is rooted in a virtual node whose successors are the entry point groups (single classes or packages),
+ *   each group leading to its entry point classes. A reachable class is then attributed to the group that immediately
+ *   dominates it, if any: these are exactly the classes that would no longer be reachable if that group was removed.
+ *   Classes reached through several groups are dominated by the root only, and are reported as shared.
+ *
+ * The dominators are computed with the iterative algorithm from Cooper, Harvey and Kennedy's "A Simple, Fast
+ *   Dominance Algorithm", which is fast in practice on graphs of this size.
+ */
+public final class ReachabilityAttributor {
+    /** Name used for the entry points that are not in any package. */
+    public static final String DEFAULT_PACKAGE = "<default>";
+
+    private static final int ROOT = 0;
+    private static final int UNDEFINED = -1;
+
+    public static ReachabilityAttribution attribute(ClassGraph classGraph, ArtifactCosts costs, int limit) {
+        List<ClassTypeDescriptor> classes = List.copyOf(classGraph.reachableClasses());
+        Map<ClassTypeDescriptor, Integer> ids = new HashMap<>();
+        for (int i = 0; i < classes.size(); i++) {
+            ids.put(classes.get(i), i);
+        }
+
+        int[][] references = new int[classes.size()][];
+        for (int i = 0; i < classes.size(); i++) {
+            references[i] = classGraph.referencedClasses(classes.get(i)).stream()
+                    .map(ids::get)
+                    .filter(Objects::nonNull)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        List<ClassTypeDescriptor> entryPoints = classGraph.entryPoints().stream()
+                .filter(ids::containsKey)
+                .sorted(Comparator.comparing(ClassTypeDescriptor::className))
+                .toList();
+        Map<String, List<ClassTypeDescriptor>> classGroups = entryPoints.stream()
+                .collect(Collectors.toMap(
+                        ClassTypeDescriptor::className, List::of, (first, _second) -> first, LinkedHashMap::new));
+        Map<String, List<ClassTypeDescriptor>> packageGroups = entryPoints.stream()
+                .collect(Collectors.groupingBy(ReachabilityAttributor::packageName, TreeMap::new, Collectors.toList()));
+
+        Attribution byClass = attribute(classes, ids, references, classGroups, costs, limit);
+        Attribution byPackage = attribute(classes, ids, references, packageGroups, costs, limit);
+
+        return ReachabilityAttribution.builder()
+                .reachableClasses(classes.size())
+                .sharedClasses(byClass.sharedClasses())
+                .entryPointClasses(byClass.entryPoints())
+                .entryPointPackages(byPackage.entryPoints())
+                .build();
+    }
+
+    private static Attribution attribute(
+            List<ClassTypeDescriptor> classes,
+            Map<ClassTypeDescriptor, Integer> ids,
+            int[][] references,
+            Map<String, List<ClassTypeDescriptor>> groups,
+            ArtifactCosts costs,
+            int limit) {
+        // Node layout: the root, then the groups, then the classes
+        List<String> groupNames = List.copyOf(groups.keySet());
+        int firstClass = 1 + groupNames.size();
+        int total = firstClass + classes.size();
+
+        int[][] successors = new int[total][];
+        successors[ROOT] = IntStream.range(1, firstClass).toArray();
+        for (int group = 0; group < groupNames.size(); group++) {
+            successors[1 + group] = groups.get(groupNames.get(group)).stream()
+                    .mapToInt(entryPoint -> firstClass + ids.get(entryPoint))
+                    .toArray();
+        }
+        for (int i = 0; i < classes.size(); i++) {
+            successors[firstClass + i] =
+                    Arrays.stream(references[i]).map(id -> firstClass + id).toArray();
+        }
+
+        int[] idom = dominators(successors);
+
+        long[] dominatedClasses = new long[total];
+        long[] referencesChecked = new long[total];
+        long[] parseNanos = new long[total];
+        int sharedClasses = 0;
+        for (int i = 0; i < classes.size(); i++) {
+            dominatedClasses[firstClass + i] = 1;
+            referencesChecked[firstClass + i] = costs.referencesChecked(classes.get(i));
+            parseNanos[firstClass + i] = costs.parseNanos(classes.get(i));
+            if (idom[firstClass + i] == ROOT) {
+                sharedClasses++;
+            }
+        }
+
+        // A node's dominator is one of its ancestors in the depth-first tree, so it always comes later in postorder
+        for (int node : postorder(successors)) {
+            if (node != ROOT && idom[node] != UNDEFINED) {
+                dominatedClasses[idom[node]] += dominatedClasses[node];
+                referencesChecked[idom[node]] += referencesChecked[node];
+                parseNanos[idom[node]] += parseNanos[node];
+            }
+        }
+
+        List<EntryPointCost> entryPoints = IntStream.range(0, groupNames.size())
+                .<EntryPointCost>mapToObj(group -> EntryPointCost.builder()
+                        .name(groupNames.get(group))
+                        .classesDominated(Math.toIntExact(dominatedClasses[1 + group]))
+                        .referencesChecked(referencesChecked[1 + group])
+                        .parseTimeMillis(TimeUnit.NANOSECONDS.toMillis(parseNanos[1 + group]))
+                        .build())
+                .sorted(Comparator.comparingInt(EntryPointCost::classesDominated)
+                        .thenComparingLong(EntryPointCost::parseTimeMillis)
+                        .reversed()
+                        .thenComparing(EntryPointCost::name))
+                .limit(limit)
+                .toList();
+        return new Attribution(entryPoints, sharedClasses);
+    }
+
+    /**
+     * Computes the immediate dominator of each node reachable from the root, or {@link #UNDEFINED} for the others.
+     */
+    private static int[] dominators(int[][] successors) {
+        int[] postorder = postorder(successors);
+        int[] postorderIndex = new int[successors.length];
+        Arrays.fill(postorderIndex, UNDEFINED);
+        for (int i = 0; i < postorder.length; i++) {
+            postorderIndex[postorder[i]] = i;
+        }
+
+        int[][] predecessors = predecessors(successors, postorder);
+
+        int[] idom = new int[successors.length];
+        Arrays.fill(idom, UNDEFINED);
+        idom[ROOT] = ROOT;
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            // Reverse postorder, skipping the root which always comes last in postorder
+            for (int i = postorder.length - 2; i >= 0; i--) {
+                int node = postorder[i];
+                int newIdom = UNDEFINED;
+                for (int predecessor : predecessors[node]) {
+                    if (idom[predecessor] == UNDEFINED) {
+                        continue;
+                    }
+                    newIdom =
+                            newIdom == UNDEFINED ? predecessor : intersect(predecessor, newIdom, idom, postorderIndex);
+                }
+                if (idom[node] != newIdom) {
+                    idom[node] = newIdom;
+                    changed = true;
+                }
+            }
+        }
+        return idom;
+    }
+
+    private static int intersect(int first, int second, int[] idom, int[] postorderIndex) {
+        int left = first;
+        int right = second;
+        while (left != right) {
+            while (postorderIndex[left] < postorderIndex[right]) {
+                left = idom[left];
+            }
+            while (postorderIndex[right] < postorderIndex[left]) {
+                right = idom[right];
+            }
+        }
+        return left;
+    }
+
+    /**
+     * Returns the nodes reachable from the root in depth-first postorder, without recursing as the graph can be deep.
+     */
+    private static int[] postorder(int[][] successors) {
+        boolean[] visited = new boolean[successors.length];
+        int[] postorder = new int[successors.length];
+        int count = 0;
+
+        // Each frame holds the node and the index of the next successor to visit
+        Deque<int[]> stack = new ArrayDeque<>();
+        visited[ROOT] = true;
+        stack.push(new int[] {ROOT, 0});
+        while (!stack.isEmpty()) {
+            int[] frame = stack.peek();
+            int[] nodeSuccessors = successors[frame[0]];
+            if (frame[1] < nodeSuccessors.length) {
+                int next = nodeSuccessors[frame[1]++];
+                if (!visited[next]) {
+                    visited[next] = true;
+                    stack.push(new int[] {next, 0});
+                }
+            } else {
+                stack.pop();
+                postorder[count++] = frame[0];
+            }
+        }
+        return Arrays.copyOf(postorder, count);
+    }
+
+    private static int[][] predecessors(int[][] successors, int[] reachableNodes) {
+        int[] counts = new int[successors.length];
+        for (int node : reachableNodes) {
+            for (int successor : successors[node]) {
+                counts[successor]++;
+            }
+        }
+        int[][] predecessors = new int[successors.length][];
+        for (int node = 0; node < successors.length; node++) {
+            predecessors[node] = new int[counts[node]];
+        }
+        Arrays.fill(counts, 0);
+        for (int node : reachableNodes) {
+            for (int successor : successors[node]) {
+                predecessors[successor][counts[successor]++] = node;
+            }
+        }
+        return predecessors;
+    }
+
+    private static String packageName(ClassTypeDescriptor className) {
+        int lastDot = className.className().lastIndexOf('.');
+        return lastDot < 0 ? DEFAULT_PACKAGE : className.className().substring(0, lastDot);
+    }
+
+    private record Attribution(List<EntryPointCost> entryPoints, int sharedClasses) {}
+
+    private ReachabilityAttributor() {}
+}
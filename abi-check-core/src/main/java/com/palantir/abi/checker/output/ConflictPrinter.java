@@ -0,0 +1,392 @@
+/*
+ * (c) Copyright 2025 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.output;
+
+import com.google.common.collect.Maps;
+import com.palantir.abi.checker.CollectingConflictSink;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.conflict.ConflictGroup;
+import com.palantir.abi.checker.datamodel.method.MethodReference;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class ConflictPrinter {
+    private static final int SUMMARY_ARTIFACTS = 10;
+    private static final int SUMMARY_PROJECTS = 10;
+    private static final int SUMMARY_REPORT_LINES = 200;
+
+    /**
+     * This outputs conflicts in the following format:
+     *  "dependency that contains the break"
+     *    |- "transitive that broke its ABI"
+     *    |   |- "class that broke"
+     *    |   |   |- "path to reach class"
+     *    |   |   |- "conflict reason"
+     *    |   |   |   |- "method/line that broke"
+     *    |   |   |   \- "method/line that broke"
+     *    |   |   |- ...
+     *    |   |- ...
+     *    |- ...
+     *  etc...
+     */
+    public static String outputConflicts(Collection<Conflict> conflicts) {
+        return outputConflictGroups(groups(conflicts));
+    }
+
+    /**
+     * Same as {@link #outputConflicts}, for conflicts already grouped by root cause.
+     */
+    public static String outputConflictGroups(Collection<ConflictGroup> groups) {
+        StringWriter output = new StringWriter();
+        printConflicts(new PrintWriter(output), groups);
+        return output.toString();
+    }
+
+    /**
+     * Writes the full report of the conflicts (see {@link #outputConflicts}) to the file, followed by the notes, and
+     *   returns a summary of bounded size, fit for an exception message: the most affected artifacts, the beginning
+     *   of the report and the path to the full report.
+     */
+    public static String reportConflicts(Collection<Conflict> conflicts, String notes, Path reportFile) {
+        return reportConflictGroups(groups(conflicts), notes, reportFile);
+    }
+
+    /**
+     * Same as {@link #reportConflicts}, for conflicts already grouped by root cause, which are printed without being
+     *   built back.
+     */
+    public static String reportConflictGroups(Collection<ConflictGroup> groups, String notes, Path reportFile) {
+        writeReport(groups, notes, reportFile);
+        try {
+            StringBuilder summary = new StringBuilder();
+            outputSummary(summary, groups);
+            int skippedLines = 0;
+            try (BufferedReader reader = Files.newBufferedReader(reportFile)) {
+                String line;
+                int lines = 0;
+                while ((line = reader.readLine()) != null) {
+                    if (lines++ < SUMMARY_REPORT_LINES) {
+                        summary.append(line).append('\n');
+                    } else {
+                        skippedLines++;
+                    }
+                }
+            }
+            if (skippedLines > 0) {
+                summary.append("... ").append(skippedLines).append(" more lines\n");
+            }
+            summary.append("Full report: ").append(reportFile).append('\n');
+            return summary.toString();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read conflicts report " + reportFile, e);
+        }
+    }
+
+    /**
+     * Writes the full report of the conflicts (see {@link #outputConflicts}) to the file, followed by the notes.
+     */
+    public static void writeReport(Collection<ConflictGroup> groups, String notes, Path reportFile) {
+        try {
+            Files.createDirectories(reportFile.getParent());
+            try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(reportFile))) {
+                printConflicts(writer, groups);
+                writer.append(notes);
+                // Print writers swallow their IO errors, only reporting whether any occurred
+                if (writer.checkError()) {
+                    throw new IOException("Error writing to " + reportFile);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write conflicts report to " + reportFile, e);
+        }
+    }
+
+    /**
+     * Returns a summary of bounded size of the conflicts of many projects, whose reports were written to
+     *   {@code reportDirectory} (see {@link #writeReport}), fit for an exception message: the projects and the
+     *   artifacts with the most conflicts, and where to find the reports.
+     */
+    public static String summarizeProjects(
+            Map<String, ? extends Collection<ConflictGroup>> groupsByProject, Path reportDirectory) {
+        StringBuilder summary = new StringBuilder();
+        outputMostAffected(
+                summary,
+                Maps.transformValues(
+                        groupsByProject,
+                        groups -> groups.stream().mapToInt(ConflictGroup::size).sum()),
+                "projects",
+                SUMMARY_PROJECTS);
+        outputSummary(
+                summary,
+                groupsByProject.values().stream().flatMap(Collection::stream).toList());
+        summary.append("Reports of each project: ").append(reportDirectory).append('\n');
+        return summary.toString();
+    }
+
+    private static Collection<ConflictGroup> groups(Collection<Conflict> conflicts) {
+        CollectingConflictSink sink = CollectingConflictSink.collectAll();
+        conflicts.forEach(sink::accept);
+        return sink.groups();
+    }
+
+    private static void printConflicts(PrintWriter sb, Collection<ConflictGroup> groups) {
+        // First output the dependency library that broke (this might be unknown for classes not found)
+        final SortedMap<String, List<ConflictGroup>> byBrokenDependency =
+                groupByKeySorted(groups, group -> group.rootCause().usedBy().name());
+
+        outputRecommendations(sb, byBrokenDependency);
+
+        byBrokenDependency.forEach((artifactName, groupsForTransitive) -> {
+            sb.append("Breaks found in: " + artifactName + "\n");
+
+            // Then output the conflicts related to that transitive
+            outputConflictsForBrokenDependency(sb, groupsForTransitive);
+            sb.append("===========================\n\n");
+        });
+        sb.flush();
+    }
+
+    /**
+     * Outputs how many conflicts were found, and which artifacts have the most of them.
+     */
+    private static void outputSummary(StringBuilder sb, Collection<ConflictGroup> groups) {
+        Map<String, Integer> conflictsByArtifact = groups.stream()
+                .collect(Collectors.groupingBy(
+                        group -> group.rootCause().usedBy().name(), Collectors.summingInt(ConflictGroup::size)));
+        outputMostAffected(sb, conflictsByArtifact, "artifacts", SUMMARY_ARTIFACTS);
+    }
+
+    private static void outputMostAffected(
+            StringBuilder sb, Map<String, Integer> conflictsByName, String kind, int limit) {
+        int conflicts =
+                conflictsByName.values().stream().mapToInt(Integer::intValue).sum();
+        sb.append("Found " + conflicts + " ABI conflicts in " + conflictsByName.size() + " " + kind);
+        sb.append(conflictsByName.size() > limit ? ", most affected:\n" : ":\n");
+        conflictsByName.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .forEach(entry -> sb.append("\t" + entry.getKey() + ": " + entry.getValue() + " conflicts\n"));
+        if (conflictsByName.size() > limit) {
+            sb.append("\t... and " + (conflictsByName.size() - limit) + " more " + kind + "\n");
+        }
+        sb.append("\n");
+    }
+
+    private static void outputRecommendations(
+            PrintWriter sb, SortedMap<String, List<ConflictGroup>> byBrokenDependency) {
+        sb.append("ABI Incompatibilities were detected between the following libraries. ");
+        sb.append("You should upgrade or downgrade one for each pair. Exact conflicts are detailed below.\n\n");
+
+        final SortedMap<String, List<String>> incompatibleDependencies =
+                Maps.transformValues(byBrokenDependency, groups -> groups.stream()
+                        .map(group -> group.rootCause().existsIn().name())
+                        .distinct()
+                        .toList());
+
+        incompatibleDependencies.forEach((dependency, brokenTransitives) -> {
+            if (brokenTransitives.contains(Conflict.UNKNOWN_ARTIFACT_NAME_STRING)) {
+                sb.append("\t" + dependency + " refers to unknown classes, "
+                        + "so we couldn't determine the transitive library that broke its ABI.\n");
+            }
+            List<String> knownBrokenTransitives = brokenTransitives.stream()
+                    .filter(brokenTransitive -> !brokenTransitive.equals(Conflict.UNKNOWN_ARTIFACT_NAME_STRING))
+                    .toList();
+
+            if (knownBrokenTransitives.isEmpty()) {
+                sb.append("\n");
+                return;
+            }
+            sb.append("\t" + dependency);
+            if (knownBrokenTransitives.size() == 1) {
+                sb.append(" with " + knownBrokenTransitives.get(0));
+            } else {
+                sb.append(" with:\n");
+                knownBrokenTransitives.forEach(transitive -> sb.append("\t\t" + transitive));
+            }
+            sb.append("\n\n");
+        });
+    }
+
+    /**
+     * Outputs the conflicts relating to a given transitive library, by grouping them by library that has failures
+     *   due to the break and outputting a section for each.
+     */
+    private static void outputConflictsForBrokenDependency(
+            PrintWriter sb, List<ConflictGroup> groupsInBrokenDependency) {
+        final Map<String, List<ConflictGroup>> byTransitive = groupByKeySorted(
+                groupsInBrokenDependency, group -> group.rootCause().existsIn().name());
+        forEachKnownLast(byTransitive, (dependencyName, groupsInDependency, isLastDep) -> {
+            sb.append("  " + indentCharItem(isLastDep) + "- Using transitive: " + dependencyName + "\n");
+
+            String indentDep = "  " + indentCharSubItems(isLastDep);
+
+            outputConflictsByClassForDependency(sb, indentDep, groupsInDependency);
+        });
+    }
+
+    /**
+     * Outputs the conflicts that are pertaining to a given dependency, by grouping them by originating class.
+     */
+    private static void outputConflictsByClassForDependency(
+            PrintWriter sb, String indentPrefix, List<ConflictGroup> groupsInDependency) {
+        final SortedMap<String, ConflictsInClass> byClassName = new TreeMap<>();
+        for (ConflictGroup group : groupsInDependency) {
+            // Many conflicts share their root cause, so only build the reason once for each of them
+            String reason = group.reason();
+            for (int i = 0; i < group.size(); i++) {
+                MethodReference fromMethod = group.fromMethod(i);
+                List<ClassTypeDescriptor> reachabilityPath = group.reachabilityPath(i);
+                byClassName
+                        .computeIfAbsent(
+                                fromMethod.clazz().toString(), _className -> new ConflictsInClass(reachabilityPath))
+                        .add(reason, fromMethod.method().pretty(), group.fromLineNumber(i));
+            }
+        }
+
+        forEachKnownLast(byClassName, (classDesc, conflictsInClass, isLastClass) -> {
+            sb.append(indentPrefix + "  " + indentCharItem(isLastClass) + "- In class: " + classDesc + "\n");
+
+            String indentClass = indentPrefix + "  " + indentCharSubItems(isLastClass);
+
+            // Indicate the path we used to reach the class
+            // Note: this isn't perfect, since class reachability doesn't mean all methods are used,
+            //   but it's the best we have right now
+            // We also assume the same path for all conflicts (which should be the case based on current code)
+            outputPathForClass(sb, indentClass, conflictsInClass.reachabilityPath());
+
+            outputConflictsForClass(sb, indentClass, conflictsInClass);
+        });
+    }
+
+    /**
+     * Outputs the reachability path we've determined for a given class.
+     */
+    private static void outputPathForClass(
+            PrintWriter sb, String indentPrefix, List<ClassTypeDescriptor> reachabilityPath) {
+        String path = String.join(
+                "\n" + indentPrefix + "  |    -> ",
+                reachabilityPath.stream().map(ClassTypeDescriptor::toString).toList());
+        sb.append(indentPrefix + "  |  With path:\n");
+        sb.append(indentPrefix + "  |    *  " + path + "\n");
+    }
+
+    /**
+     * Outputs the conflict for a given class, by grouping them by reason, then outputting the different callsites.
+     */
+    private static void outputConflictsForClass(
+            PrintWriter sb, String indentPrefix, ConflictsInClass conflictsInClass) {
+        // Output each conflict (e.g. class X not found / method Y not found / etc)
+        forEachKnownLast(conflictsInClass.byReason(), (reason, callSitesForReason, isLastReason) -> {
+            // Add an extra line before each new reason, to space a bit more and make the output more
+            // readable
+            sb.append(indentPrefix + "  |\n");
+            sb.append(indentPrefix + "  " + indentCharItem(isLastReason) + "- " + reason + "\n");
+
+            String indentReason = indentPrefix + "  " + indentCharSubItems(isLastReason);
+
+            outputCallsitesForConflictReasons(sb, indentReason, callSitesForReason);
+        });
+    }
+
+    /**
+     * Outputs the different callsites for a given conflict reason.
+     */
+    private static void outputCallsitesForConflictReasons(
+            PrintWriter sb, String indentPrefix, SortedMap<String, SortedSet<Integer>> callSitesForReason) {
+        // For each conflict, show the methods and lines that are breaking
+        forEachKnownLast(callSitesForReason, (callSite, lineNumbers, isLastCallSite) -> {
+            List<String> conflictLineNumbers =
+                    lineNumbers.stream().map(String::valueOf).toList();
+            sb.append(indentPrefix + "  " + indentCharItem(isLastCallSite) + "- In " + callSite + " (line "
+                    + String.join(", ", conflictLineNumbers) + ")\n");
+        });
+    }
+
+    /**
+     * The conflicts originating from a class, as the sorted line numbers of each call site, by sorted call site, by
+     *   sorted reason. Root causes may share their reason, e.g. methods only differing by whether they are static.
+     */
+    private record ConflictsInClass(
+            List<ClassTypeDescriptor> reachabilityPath,
+            SortedMap<String, SortedMap<String, SortedSet<Integer>>> byReason) {
+        ConflictsInClass(List<ClassTypeDescriptor> reachabilityPath) {
+            this(reachabilityPath, new TreeMap<>());
+        }
+
+        void add(String reason, String callSite, int lineNumber) {
+            byReason.computeIfAbsent(reason, _reason -> new TreeMap<>())
+                    .computeIfAbsent(callSite, _callSite -> new TreeSet<>())
+                    .add(lineNumber);
+        }
+    }
+
+    /**
+     * Returns a sorted map of the values grouped by the key, and sorted by the key.
+     * Lets us output in a somewhat more consistent manner, which is nice for readability.
+     */
+    private static <K, V> SortedMap<K, List<V>> groupByKeySorted(Collection<V> values, Function<V, K> keyMapper) {
+        // Use a tree map to sort the conflicts by artifact name
+        return values.stream().collect(Collectors.groupingBy(keyMapper, TreeMap::new, Collectors.toList()));
+    }
+
+    @FunctionalInterface
+    interface TriConsumer<U, V, W> {
+        @SuppressWarnings("checkstyle:ParameterName")
+        void accept(U u, V v, W w);
+    }
+
+    private static <K, V> void forEachKnownLast(Map<K, V> map, TriConsumer<K, V, Boolean> consumer) {
+        int size = map.size();
+        int index = 0;
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            if (index == size - 1) {
+                consumer.accept(entry.getKey(), entry.getValue(), true);
+            } else {
+                consumer.accept(entry.getKey(), entry.getValue(), false);
+            }
+            index++;
+        }
+    }
+
+    private static String indentCharItem(boolean isLastItem) {
+        return isLastItem ? "\\" : "|";
+    }
+
+    private static String indentCharSubItems(boolean isLastItem) {
+        return isLastItem ? " " : "|";
+    }
+
+    private ConflictPrinter() {
+        // cannot instantiate
+    }
+}
@@ -14,7 +14,7 @@
  * limitations under the License.
  */
 
-package com.palantir.gradle.abi.checker.output;
+package com.palantir.abi.checker.output;
 
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.palantir.abi.checker.datamodel.conflict.Conflict;
@@ -22,14 +22,16 @@ import java.util.Collection;
 import org.immutables.value.Value;
 
 /**
- * This represents the output contents of the ABI checker task when there are conflicts that are detected.
+ * This represents the output contents of an ABI check when there are conflicts that are detected.
  */
 @Value.Immutable
 @JsonSerialize(as = ImmutableConflictsOutputContents.class)
 public interface ConflictsOutputContents extends OutputContents {
+    String TYPE = "conflicts";
+
     @Override
     default String type() {
-        return "conflicts";
+        return TYPE;
     }
 
     Collection<Conflict> conflicts();
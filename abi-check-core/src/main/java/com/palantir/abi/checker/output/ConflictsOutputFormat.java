@@ -0,0 +1,187 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.output;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.palantir.abi.checker.datamodel.conflict.CompactConflicts;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.conflict.ConflictGroup;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * How the conflicts found by the ABI check are written to its output file.
+ *
+ * All of them stream the conflicts to the file, so that large break sets never have to be held as a single string.
+ */
+public enum ConflictsOutputFormat {
+    /**
+     * A single JSON document, of the form {@code {"type": "conflicts", "conflicts": [...]}}, or {@code {}} when there
+     *   are no conflicts.
+     */
+    JSON("json", false),
+
+    /**
+     * Newline-delimited JSON, with one conflict per line, so that the results can be processed incrementally. The file
+     *   is empty when there are no conflicts, and holds a single line describing the failure if the check failed for
+     *   another reason.
+     */
+    NDJSON("ndjson", false),
+
+    /**
+     * Dictionary-encoded JSON, in which each class, method, artifact and reachability path is only written once, see
+     *   {@link CompactConflicts}, which can also read it back.
+     */
+    COMPACT("compact.json", false),
+
+    /**
+     * Same as {@link #COMPACT}, compressed with gzip, for archiving the results of every run.
+     */
+    COMPACT_GZIP("compact.json.gz", true);
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+    // Only flush once the whole file is written, rather than after every conflict
+    private static final ObjectWriter WRITER = MAPPER.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    private final String fileExtension;
+    private final boolean compressed;
+
+    ConflictsOutputFormat(String fileExtension, boolean compressed) {
+        this.fileExtension = fileExtension;
+        this.compressed = compressed;
+    }
+
+    public String fileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Overwrites the file with the provided contents.
+     */
+    public void write(Path file, OutputContents contents) {
+        write(file, outputStream -> {
+            if (contents instanceof ConflictsOutputContents conflictsContents) {
+                writeConflicts(outputStream, conflictsContents.conflicts());
+            } else {
+                // Failures other than conflicts are written as a regular JSON document, whatever the format
+                writeJson(outputStream, generator -> writeLine(generator, contents));
+            }
+        });
+    }
+
+    /**
+     * Overwrites the file with the conflicts of the groups, same as {@link #write} would with their
+     *   {@link ConflictsOutputContents}, but building back a single conflict at a time.
+     */
+    public void writeConflictGroups(Path file, Collection<ConflictGroup> groups) {
+        write(
+                file,
+                outputStream -> writeConflicts(outputStream, () -> groups.stream()
+                        .flatMap(group -> IntStream.range(0, group.size()).mapToObj(group::conflict))
+                        .iterator()));
+    }
+
+    /**
+     * Overwrites the file with the contents representing a successful check.
+     */
+    public void writeNoConflicts(Path file) {
+        write(file, outputStream -> {
+            switch (this) {
+                case JSON ->
+                    writeJson(outputStream, generator -> {
+                        generator.writeStartObject();
+                        generator.writeEndObject();
+                    });
+                case NDJSON -> {}
+                case COMPACT, COMPACT_GZIP -> CompactConflicts.write(List.of(), outputStream);
+            }
+        });
+    }
+
+    private void writeConflicts(OutputStream outputStream, Iterable<Conflict> conflicts) throws IOException {
+        switch (this) {
+            case JSON ->
+                writeJson(outputStream, generator -> {
+                    generator.writeStartObject();
+                    generator.writeStringField("type", ConflictsOutputContents.TYPE);
+                    generator.writeArrayFieldStart("conflicts");
+                    for (Conflict conflict : conflicts) {
+                        WRITER.writeValue(generator, conflict);
+                    }
+                    generator.writeEndArray();
+                    generator.writeEndObject();
+                });
+            case NDJSON ->
+                writeJson(outputStream, generator -> {
+                    for (Conflict conflict : conflicts) {
+                        writeLine(generator, conflict);
+                    }
+                });
+            case COMPACT, COMPACT_GZIP -> CompactConflicts.write(conflicts, outputStream);
+        }
+    }
+
+    private static void writeLine(JsonGenerator generator, Object value) throws IOException {
+        WRITER.writeValue(generator, value);
+        generator.writeRaw('\n');
+    }
+
+    private static void writeJson(OutputStream outputStream, GeneratorConsumer contents) throws IOException {
+        try (JsonGenerator generator = MAPPER.getFactory()
+                .createGenerator(outputStream, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            // Lines are separated explicitly, rather than by the default space between root values
+            generator.setRootValueSeparator(null);
+            contents.accept(generator);
+        }
+    }
+
+    private void write(Path file, StreamConsumer contents) {
+        try {
+            Files.createDirectories(file.getParent());
+            // Gzip writes its header and trailer, as well as each deflated block, straight to the underlying stream
+            try (OutputStream fileStream = new BufferedOutputStream(Files.newOutputStream(file));
+                    OutputStream outputStream = compressed ? new GZIPOutputStream(fileStream) : fileStream) {
+                contents.accept(outputStream);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing contents to file " + file, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface StreamConsumer {
+        void accept(OutputStream outputStream) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface GeneratorConsumer {
+        void accept(JsonGenerator generator) throws IOException;
+    }
+}
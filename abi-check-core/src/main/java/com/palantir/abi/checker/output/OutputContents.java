@@ -14,12 +14,12 @@
  * limitations under the License.
  */
 
-package com.palantir.gradle.abi.checker.output;
+package com.palantir.abi.checker.output;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
- * Interface representing the contents of the output file for the ABI checker task.
+ * Interface representing the contents of the output file for an ABI check.
  */
 public interface OutputContents {
     @JsonProperty("type")
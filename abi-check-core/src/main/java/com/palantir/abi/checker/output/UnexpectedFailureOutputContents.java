@@ -14,7 +14,7 @@
  * limitations under the License.
  */
 
-package com.palantir.gradle.abi.checker.output;
+package com.palantir.abi.checker.output;
 
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import java.io.PrintWriter;
@@ -23,7 +23,7 @@ import java.util.Optional;
 import org.immutables.value.Value;
 
 /**
- * This represents the output contents of the ABI checker task when an unexpected failure occurs.
+ * This represents the output contents of an ABI check when an unexpected failure occurs.
  * For instance, if the ABI checker throws on some unexpected edge case, we will write it to the output file.
  *
  * This lets us capture such errors at the same time as conflicts, for better analysis of the plugin's behavior.
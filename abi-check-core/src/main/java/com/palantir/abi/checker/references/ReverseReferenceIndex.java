@@ -0,0 +1,336 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.references;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.palantir.abi.checker.ConflictChecker;
+import com.palantir.abi.checker.ConflictCheckerConfiguration;
+import com.palantir.abi.checker.baseline.AcceptedConflict;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.DeclaredClass;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.field.FieldReference;
+import com.palantir.abi.checker.datamodel.graph.ClassGraph;
+import com.palantir.abi.checker.datamodel.graph.ClassIndex;
+import com.palantir.abi.checker.datamodel.method.CallSite;
+import com.palantir.abi.checker.datamodel.method.DeclaredMethod;
+import com.palantir.abi.checker.datamodel.method.MethodReference;
+import com.palantir.abi.checker.datamodel.method.Reference;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import com.palantir.abi.checker.util.CompactEncoder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Which methods of which artifacts use the methods and fields of each artifact, as found by a check, so that questions
+ *   such as "what may break if I upgrade this artifact" or "is removing this method safe" are answered by a lookup
+ *   rather than by analysing the bytecode again.
+ *
+ * Only the usages the check would verify are recorded, i.e. the method calls and field accesses of the reachable
+ *   methods of the reachable classes, across artifacts. Usages of ignored classes and artifacts, as well as usages
+ *   within a single artifact, are left out. Members are recorded as declared, so that calling an inherited method
+ *   through a subclass counts as a usage of the method of the super class.
+ *
+ * The index is persisted the same way as {@link com.palantir.abi.checker.datamodel.conflict.CompactConflicts}, with
+ *   each string, method and field written once and referred to by its integer id:
+ * <pre>{@code
+ * {
+ *   "type": "reverse_references",
+ *   "version": 1,
+ *   "strings": ["com.foo.Bar", "baz", "()V", ...],
+ *   "methods": [[class, name, descriptor, isStatic], ...],
+ *   "fields": [[class, name, type, isStatic], ...],
+ *   "usages": [[provider, isField, member, consumerArtifact, consumer, ...], ...]
+ * }
+ * }</pre>
+ *
+ * Each usage row lists all the consuming methods of a given artifact for a given member, which index into
+ *   {@code methods}, as does {@code member} unless {@code isField} is {@code 1}.
+ */
+public final class ReverseReferenceIndex {
+    public static final String TYPE = "reverse_references";
+    private static final int VERSION = 1;
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    private final List<String> strings;
+    private final List<MethodReference> methods;
+    private final List<FieldReference> fields;
+    private final List<int[]> usages;
+    private final Map<String, List<int[]>> usagesByProvider = new HashMap<>();
+    private final Map<ClassTypeDescriptor, List<int[]>> usagesByClass = new HashMap<>();
+    private final Map<Reference, List<int[]>> usagesByMember = new HashMap<>();
+
+    private ReverseReferenceIndex(
+            List<String> strings, List<MethodReference> methods, List<FieldReference> fields, List<int[]> usages) {
+        this.strings = strings;
+        this.methods = methods;
+        this.fields = fields;
+        this.usages = usages;
+        for (int[] usage : usages) {
+            String provider = strings.get(usage[0]);
+            usagesByProvider
+                    .computeIfAbsent(provider, _name -> new ArrayList<>())
+                    .add(usage);
+            String unversionedProvider = AcceptedConflict.unversioned(ArtifactName.of(provider));
+            if (!unversionedProvider.equals(provider)) {
+                usagesByProvider
+                        .computeIfAbsent(unversionedProvider, _name -> new ArrayList<>())
+                        .add(usage);
+            }
+            Reference member = member(usage);
+            usagesByClass
+                    .computeIfAbsent(member.clazz(), _name -> new ArrayList<>())
+                    .add(usage);
+            usagesByMember.computeIfAbsent(member, _member -> new ArrayList<>()).add(usage);
+        }
+    }
+
+    /**
+     * Records the usages of the classes reachable by the provided checker, which may be queried right away or
+     *   persisted with {@link #write}.
+     *
+     * The classes of artifacts matching the configuration's ignored artifact prefixes, and the ignored classes, are
+     *   neither recorded as consumers nor as providers. Unlike the check, other artifacts are recorded regardless of
+     *   the artifacts to check, as knowing who uses an artifact matters even when that artifact has no conflicts.
+     */
+    public static ReverseReferenceIndex record(ConflictChecker checker, ConflictCheckerConfiguration configuration) {
+        ClassIndex index = checker.classIndex();
+        ClassGraph classGraph = checker.classGraph();
+        CompactEncoder encoder = new CompactEncoder();
+        // Sorted, so that the same classpath always gives the same file
+        Map<UsageKey, Set<Integer>> consumersByUsage = new TreeMap<>();
+        List<ClassTypeDescriptor> reachableClasses = classGraph.reachableClasses().stream()
+                .sorted(Comparator.comparing(ClassTypeDescriptor::className))
+                .toList();
+        for (ClassTypeDescriptor reachableClass : reachableClasses) {
+            ArtifactName consumerArtifact = index.sourceMappings().get(reachableClass);
+            if (consumerArtifact == null
+                    || isIgnored(configuration, consumerArtifact)
+                    || configuration.shouldIgnoreClass(reachableClass)) {
+                continue;
+            }
+            Optional<DeclaredClass> clazz = classGraph.loadClass(reachableClass);
+            if (clazz.isEmpty()) {
+                continue;
+            }
+            for (DeclaredMethod method : classGraph.reachableMethods(clazz.get())) {
+                // Only the members and artifacts of recorded usages are added to the tables, not those of every call
+                List<UsageKey> keys = new ArrayList<>();
+                for (CallSite<MethodReference> call : method.methodCalls()) {
+                    MethodReference target = classGraph
+                            .loadClass(call.owner())
+                            .flatMap(owner -> classGraph.resolveMethodReference(owner, call.reference()))
+                            .orElse(call.reference());
+                    provider(configuration, index, consumerArtifact, target)
+                            .ifPresent(provider -> keys.add(new UsageKey(
+                                    encoder.string(provider.name()),
+                                    false,
+                                    encoder.method(target),
+                                    encoder.string(consumerArtifact.name()))));
+                }
+                for (CallSite<FieldReference> access : method.fieldAccesses()) {
+                    FieldReference target = classGraph
+                            .loadClass(access.owner())
+                            .flatMap(owner -> classGraph.resolveFieldReference(owner, access.reference()))
+                            .orElse(access.reference());
+                    provider(configuration, index, consumerArtifact, target)
+                            .ifPresent(provider -> keys.add(new UsageKey(
+                                    encoder.string(provider.name()),
+                                    true,
+                                    encoder.field(target),
+                                    encoder.string(consumerArtifact.name()))));
+                }
+                if (!keys.isEmpty()) {
+                    int consumer = encoder.method(method.reference());
+                    for (UsageKey key : keys) {
+                        consumersByUsage
+                                .computeIfAbsent(key, _key -> new TreeSet<>())
+                                .add(consumer);
+                    }
+                }
+            }
+        }
+
+        List<int[]> usages = new ArrayList<>(consumersByUsage.size());
+        consumersByUsage.forEach((key, consumers) -> {
+            int[] row = new int[4 + consumers.size()];
+            row[0] = key.provider();
+            row[1] = key.isField() ? 1 : 0;
+            row[2] = key.member();
+            row[3] = key.consumerArtifact();
+            int column = 4;
+            for (int consumer : consumers) {
+                row[column++] = consumer;
+            }
+            usages.add(row);
+        });
+        return new ReverseReferenceIndex(encoder.strings(), encoder.methods(), encoder.fields(), usages);
+    }
+
+    /**
+     * The usages of the classes of the provided artifact, which is matched with or without its version.
+     */
+    public List<Usage> usagesOf(ArtifactName provider) {
+        return usages(usagesByProvider.getOrDefault(provider.name(), List.of()));
+    }
+
+    /**
+     * The usages of the methods and fields declared by the provided class.
+     */
+    public List<Usage> usagesOf(ClassTypeDescriptor clazz) {
+        return usages(usagesByClass.getOrDefault(clazz, List.of()));
+    }
+
+    /**
+     * The usages of the provided method, regardless of whether it is static. An empty result means that no reachable
+     *   method of another artifact calls it.
+     */
+    public List<Usage> usagesOf(MethodReference method) {
+        List<int[]> rows = new ArrayList<>(
+                usagesByMember.getOrDefault(MethodReference.of(method.clazz(), method.method(), false), List.of()));
+        rows.addAll(usagesByMember.getOrDefault(MethodReference.of(method.clazz(), method.method(), true), List.of()));
+        return usages(rows);
+    }
+
+    /**
+     * The usages of the provided field, regardless of whether it is static.
+     */
+    public List<Usage> usagesOf(FieldReference field) {
+        List<int[]> rows = new ArrayList<>(
+                usagesByMember.getOrDefault(FieldReference.of(field.clazz(), field.field(), false), List.of()));
+        rows.addAll(usagesByMember.getOrDefault(FieldReference.of(field.clazz(), field.field(), true), List.of()));
+        return usages(rows);
+    }
+
+    /**
+     * Writes the index to the stream, without closing it.
+     */
+    public void write(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = MAPPER.getFactory()
+                .createGenerator(outputStream, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.writeStartObject();
+            generator.writeStringField("type", TYPE);
+            generator.writeNumberField("version", VERSION);
+            // The strings of the methods and fields are already known, so they keep their indices
+            CompactEncoder encoder = new CompactEncoder(strings);
+            methods.forEach(encoder::method);
+            fields.forEach(encoder::field);
+            encoder.writeStrings(generator);
+            encoder.writeMembers(generator);
+            CompactEncoder.writeRows(generator, "usages", usages);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Reads an index written by {@link #write}, whether the stream was compressed with gzip or not.
+     */
+    public static ReverseReferenceIndex read(InputStream inputStream) throws IOException {
+        JsonNode root = MAPPER.readTree(CompactEncoder.decompressed(inputStream));
+        if (root == null
+                || !TYPE.equals(root.path("type").asText())
+                || root.path("version").asInt() != VERSION) {
+            throw new IOException("Not a reverse reference index of version " + VERSION);
+        }
+
+        List<String> strings = CompactEncoder.readStrings(root);
+        List<MethodReference> methods = CompactEncoder.readMethods(root, strings);
+        List<FieldReference> fields = CompactEncoder.readFields(root, strings);
+
+        List<int[]> usages = new ArrayList<>();
+        root.path("usages").forEach(usage -> {
+            int[] row = new int[usage.size()];
+            for (int column = 0; column < row.length; column++) {
+                row[column] = usage.get(column).asInt();
+            }
+            usages.add(row);
+        });
+        return new ReverseReferenceIndex(strings, methods, fields, usages);
+    }
+
+    private List<Usage> usages(List<int[]> rows) {
+        List<Usage> result = new ArrayList<>();
+        for (int[] row : rows) {
+            ArtifactName provider = ArtifactName.of(strings.get(row[0]));
+            Reference member = member(row);
+            ArtifactName consumerArtifact = ArtifactName.of(strings.get(row[3]));
+            for (int column = 4; column < row.length; column++) {
+                result.add(new Usage(provider, member, consumerArtifact, methods.get(row[column])));
+            }
+        }
+        return result;
+    }
+
+    private Reference member(int[] usage) {
+        return usage[1] == 1 ? fields.get(usage[2]) : methods.get(usage[2]);
+    }
+
+    /**
+     * The artifact providing the target of a usage, if the usage is recorded.
+     */
+    private static Optional<ArtifactName> provider(
+            ConflictCheckerConfiguration configuration,
+            ClassIndex index,
+            ArtifactName consumerArtifact,
+            Reference target) {
+        if (configuration.shouldIgnoreClass(target.clazz())) {
+            return Optional.empty();
+        }
+        ArtifactName provider = index.sourceMappings().get(target.clazz());
+        if (provider == null) {
+            return Optional.of(Conflict.UNKNOWN_ARTIFACT_NAME);
+        } else if (provider.equals(consumerArtifact) || isIgnored(configuration, provider)) {
+            return Optional.empty();
+        }
+        return Optional.of(provider);
+    }
+
+    /**
+     * Only the explicitly ignored artifacts are left out, see {@link #record}.
+     */
+    private static boolean isIgnored(ConflictCheckerConfiguration configuration, ArtifactName artifactName) {
+        return configuration.getIgnoredArtifactPrefixes().stream().anyMatch(artifactName.name()::startsWith);
+    }
+
+    private record UsageKey(int provider, boolean isField, int member, int consumerArtifact)
+            implements Comparable<UsageKey> {
+        private static final Comparator<UsageKey> ORDER = Comparator.comparingInt(UsageKey::provider)
+                .thenComparing(UsageKey::isField)
+                .thenComparingInt(UsageKey::member)
+                .thenComparingInt(UsageKey::consumerArtifact);
+
+        @Override
+        public int compareTo(UsageKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
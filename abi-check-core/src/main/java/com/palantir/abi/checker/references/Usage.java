@@ -0,0 +1,29 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.references;
+
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.method.MethodReference;
+import com.palantir.abi.checker.datamodel.method.Reference;
+
+/**
+ * A method of {@code consumerArtifact} calling a method, or accessing a field, declared in {@code provider}.
+ *
+ * @param member the method or field, as declared, i.e. with the class it was resolved to rather than the one it was
+ *     referenced through, unless it couldn't be resolved
+ */
+public record Usage(ArtifactName provider, Reference member, ArtifactName consumerArtifact, MethodReference consumer) {}
@@ -0,0 +1,110 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.server;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.palantir.abi.checker.ConflictCheckerConfiguration;
+import com.palantir.abi.checker.datamodel.graph.EntryPointStrategy;
+import com.palantir.abi.checker.datamodel.graph.ReachabilityAnalysis;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.Nullable;
+import org.immutables.value.Value;
+
+/**
+ * What a client sends to the {@link IndexServer} to check a project: its classpath, its entry points and how to check
+ *   them.
+ *
+ * This mirrors {@link ConflictCheckerConfiguration} with plain values, so that it can be sent as is.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableCheckRequest.class)
+@JsonDeserialize(as = ImmutableCheckRequest.class)
+public interface CheckRequest {
+    /**
+     * The directories of classes of the project being checked, which act as the entry points.
+     */
+    List<ClasspathEntry> projectClasses();
+
+    /**
+     * The runtime classpath of the project being checked, in order, excluding the JDK and the project's own classes.
+     */
+    List<ClasspathEntry> runtimeClasspath();
+
+    Set<String> errorArtifactPrefixes();
+
+    Set<String> ignoredArtifactPrefixes();
+
+    Set<String> ignoredClassPrefixes();
+
+    Set<String> ignoredClassnameKeywords();
+
+    /**
+     * See {@link com.palantir.abi.checker.ConflictCheckerConfiguration#getArtifactsToCheck()}, null to check every artifact.
+     */
+    @Nullable
+    Set<String> artifactsToCheck();
+
+    @Value.Default
+    default boolean checkCompletely() {
+        return false;
+    }
+
+    @Value.Default
+    default ReachabilityAnalysis reachabilityAnalysis() {
+        return ReachabilityAnalysis.CLASS_REFERENCES;
+    }
+
+    @Value.Default
+    default EntryPointStrategy entryPointStrategy() {
+        return EntryPointStrategy.ALL_CLASSES;
+    }
+
+    Set<String> entryPointRoots();
+
+    Set<String> serviceProviders();
+
+    /**
+     * Stops the check once this many conflicts were found, null to find all of them.
+     */
+    @Nullable
+    Integer maxConflicts();
+
+    /**
+     * The configuration of the check, on top of which the JDK and the project's own classes still need to be ignored.
+     */
+    default ConflictCheckerConfiguration configuration() {
+        return ConflictCheckerConfiguration.builder()
+                .errorArtifactPrefixes(errorArtifactPrefixes())
+                .ignoredArtifactPrefixes(ignoredArtifactPrefixes())
+                .ignoredClassPrefixes(ignoredClassPrefixes())
+                .ignoredClassnameKeywords(ignoredClassnameKeywords())
+                .artifactsToCheck(Optional.ofNullable(artifactsToCheck()))
+                .checkCompletely(checkCompletely())
+                .reachabilityAnalysis(reachabilityAnalysis())
+                .entryPointStrategy(entryPointStrategy())
+                .entryPointRoots(entryPointRoots())
+                .serviceProviders(serviceProviders())
+                .build();
+    }
+
+    static ImmutableCheckRequest.Builder builder() {
+        return ImmutableCheckRequest.builder();
+    }
+}
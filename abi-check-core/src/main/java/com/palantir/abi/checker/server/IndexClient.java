@@ -0,0 +1,129 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.server;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.palantir.abi.checker.datamodel.conflict.CompactConflicts;
+import java.io.IOException;
+import java.lang.ProcessBuilder.Redirect;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * Runs checks on the {@link IndexServer} listening on a socket, starting it on demand.
+ *
+ * Using the server is only ever an optimization: whenever it can't serve a check (it failed to start, runs on another
+ *   JDK, failed the check, etc.) an {@link IOException} is thrown, and callers are expected to check in-process instead.
+ */
+public final class IndexClient {
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+    private static final long STARTUP_POLL_MILLIS = 50;
+
+    /**
+     * Sends the request to the server listening on the socket, starting one first if there is none.
+     *
+     * The directory of the socket is created if needed, only accessible to the current user, and the server isn't
+     *   reached at all if either the directory or the socket belongs to someone else.
+     */
+    public static CheckResult check(Path socket, CheckRequest request) throws IOException {
+        SocketDirectory.create(socket);
+        IndexServer.Envelope envelope =
+                new IndexServer.Envelope(System.getProperty("java.runtime.version"), serverClasspath(), request);
+        try (SocketChannel connection = connectOrStart(socket, envelope.classpath())) {
+            IndexServer.MAPPER.writeValue(Channels.newOutputStream(connection), envelope);
+            connection.shutdownOutput();
+            JsonNode response = IndexServer.MAPPER.readTree(Channels.newInputStream(connection));
+            if (response == null) {
+                throw new IOException("The index server closed the connection without answering");
+            }
+            String status = response.path("status").asText();
+            if (!status.equals("ok")) {
+                throw new IOException("The index server couldn't check (" + status + "): "
+                        + response.path("message").asText());
+            }
+            return new CheckResult(
+                    CompactConflicts.read(response.get("conflicts")),
+                    response.path("checkedCompletely").asBoolean());
+        }
+    }
+
+    private static SocketChannel connectOrStart(Path socket, String classpath) throws IOException {
+        try {
+            return connect(socket);
+        } catch (IOException e) {
+            start(socket, classpath);
+        }
+
+        // Another client may be starting a server concurrently, in which case either of them ends up listening
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (true) {
+            try {
+                return connect(socket);
+            } catch (IOException e) {
+                if (System.nanoTime() > deadline) {
+                    throw new IOException(
+                            "The index server didn't start within " + STARTUP_TIMEOUT + ", see " + logFile(socket), e);
+                }
+            }
+            try {
+                Thread.sleep(STARTUP_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the index server to start", e);
+            }
+        }
+    }
+
+    private static SocketChannel connect(Path socket) throws IOException {
+        // The socket may only have been created since, by the server this started or by someone else
+        SocketDirectory.checkPrivate(socket);
+        return SocketChannel.open(UnixDomainSocketAddress.of(socket));
+    }
+
+    private static void start(Path socket, String classpath) throws IOException {
+        Path logFile = logFile(socket);
+        // The server runs on the same JDK as the client, as the JDK's classes are part of what is checked
+        new ProcessBuilder(
+                        Paths.get(System.getProperty("java.home"), "bin", "java")
+                                .toString(),
+                        "-cp",
+                        classpath,
+                        IndexServer.class.getName(),
+                        socket.toAbsolutePath().toString())
+                .redirectErrorStream(true)
+                .redirectOutput(Redirect.appendTo(logFile.toFile()))
+                .start();
+    }
+
+    private static String serverClasspath() throws IOException {
+        try {
+            return IndexServer.classpath();
+        } catch (IllegalStateException e) {
+            throw new IOException("Can't determine how to start the index server", e);
+        }
+    }
+
+    private static Path logFile(Path socket) {
+        return socket.resolveSibling(socket.getFileName() + ".log");
+    }
+
+    private IndexClient() {}
+}
@@ -0,0 +1,327 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.server;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
+import com.palantir.abi.checker.datamodel.conflict.CompactConflicts;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.StandardProtocolFamily;
+import java.net.URISyntaxException;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.ClassNode;
+
+/**
+ * A long-lived process holding parsed classes and artifact indexes warm across checks, which clients reach through a
+ *   Unix domain socket (see {@link IndexClient}).
+ *
+ * Each connection carries a single check: the client writes its request and shuts down its side of the connection,
+ *   and the server answers with the conflicts (or an error) before closing it. The server only serves clients running
+ *   on the same JDK and the same version of the checker as itself, and stops once it has been idle for a while.
+ */
+public final class IndexServer implements Closeable {
+    // The server runs on its own, with its output redirected to a log file next to its socket
+    private static final Logger log = Logger.getLogger(IndexServer.class.getName());
+    static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofHours(3);
+    static final ObjectMapper MAPPER = JsonMapper.builder()
+            // Connections are half-closed by the client, closing either stream would close them completely
+            .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private final Path socket;
+    private final Duration idleTimeout;
+    private final ServerSocketChannel serverChannel;
+    private final WarmIndex index = new WarmIndex();
+    private final ExecutorService connections = Executors.newCachedThreadPool(daemonThreads("abi-index-connection"));
+    private final ScheduledExecutorService idleCheck =
+            Executors.newSingleThreadScheduledExecutor(daemonThreads("abi-index-idle-check"));
+    private final AtomicBoolean listening = new AtomicBoolean(true);
+    private final AtomicInteger activeConnections = new AtomicInteger();
+    private volatile long lastActiveNanos = System.nanoTime();
+
+    private IndexServer(Path socket, Duration idleTimeout, ServerSocketChannel serverChannel) {
+        this.socket = socket;
+        this.idleTimeout = idleTimeout;
+        this.serverChannel = serverChannel;
+    }
+
+    /**
+     * Runs a server on the socket provided as first argument, until it has been idle for the duration optionally
+     *   provided as second argument (in the ISO-8601 format, e.g. {@code PT3H}).
+     */
+    public static void main(String[] args) throws IOException {
+        Path socket = Paths.get(args[0]);
+        Duration idleTimeout = args.length > 1 ? Duration.parse(args[1]) : DEFAULT_IDLE_TIMEOUT;
+        try (IndexServer server = bind(socket, idleTimeout)) {
+            log.info(() -> "ABI index server listening on " + socket);
+            server.serve();
+        }
+        log.info(() -> "ABI index server stopped after being idle for " + idleTimeout);
+    }
+
+    /**
+     * Binds a server to the socket, taking over the socket file if it was left behind by a server that is gone.
+     *
+     * @throws IOException if another server is already listening on the socket, or other users could reach it (see
+     *   {@link IndexClient#check})
+     */
+    public static IndexServer bind(Path socket, Duration idleTimeout) throws IOException {
+        SocketDirectory.create(socket);
+        if (Files.exists(socket)) {
+            if (isListening(socket)) {
+                throw new IOException("An index server is already listening on " + socket);
+            }
+            // Left behind by a server that didn't get to shut down cleanly
+            Files.deleteIfExists(socket);
+        }
+        ServerSocketChannel serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            serverChannel.bind(UnixDomainSocketAddress.of(socket));
+        } catch (IOException e) {
+            serverChannel.close();
+            throw e;
+        }
+        return new IndexServer(socket, idleTimeout, serverChannel);
+    }
+
+    private static boolean isListening(Path socket) {
+        try {
+            SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socket));
+            channel.close();
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Serves connections until the server is closed or has been idle for longer than its timeout.
+     */
+    public void serve() throws IOException {
+        if (!listening.get()) {
+            return;
+        }
+        long checkIntervalMillis = Math.max(1, Math.min(idleTimeout.toMillis(), TimeUnit.MINUTES.toMillis(1)));
+        try {
+            idleCheck.scheduleWithFixedDelay(
+                    this::closeIfIdle, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Closed in the meantime
+            return;
+        }
+        while (serverChannel.isOpen()) {
+            SocketChannel connection;
+            try {
+                connection = serverChannel.accept();
+            } catch (ClosedChannelException e) {
+                break;
+            }
+            activeConnections.incrementAndGet();
+            try {
+                connections.execute(() -> {
+                    try {
+                        handle(connection);
+                    } finally {
+                        lastActiveNanos = System.nanoTime();
+                        activeConnections.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Closed while accepting the connection, whose client falls back to checking on its own
+                activeConnections.decrementAndGet();
+                connection.close();
+                break;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        idleCheck.shutdownNow();
+        stopListening();
+        // Let the checks that are still running answer their clients
+        connections.shutdown();
+        try {
+            connections.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void closeIfIdle() {
+        if (activeConnections.get() == 0 && System.nanoTime() - lastActiveNanos > idleTimeout.toNanos()) {
+            try {
+                stopListening();
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to close the index server", e);
+            }
+        }
+    }
+
+    private void stopListening() throws IOException {
+        if (listening.compareAndSet(true, false)) {
+            // Remove the socket first: once it is gone, another server may bind the same path, whose socket must be
+            //   left alone
+            Files.deleteIfExists(socket);
+            serverChannel.close();
+        }
+    }
+
+    private void handle(SocketChannel connection) {
+        try (connection) {
+            // Resolve the response completely before writing any of it, so that failures can still be reported
+            Response response = respond(Channels.newInputStream(connection));
+            try (JsonGenerator generator = MAPPER.createGenerator(Channels.newOutputStream(connection))) {
+                generator.writeStartObject();
+                generator.writeStringField("status", response.status());
+                if (response.result() != null) {
+                    generator.writeBooleanField(
+                            "checkedCompletely", response.result().checkedCompletely());
+                    generator.writeFieldName("conflicts");
+                    CompactConflicts.write(response.result().conflicts(), generator);
+                } else {
+                    generator.writeStringField("message", response.message());
+                }
+                generator.writeEndObject();
+            }
+        } catch (IOException | RuntimeException e) {
+            // The client is gone, there is no one left to report this to
+            log.log(Level.WARNING, "Failed to answer a client of the ABI index server", e);
+        }
+    }
+
+    /**
+     * Runs the check the client asked for, reporting whatever prevented it to the client, which then checks
+     *   in-process instead.
+     */
+    private Response respond(InputStream input) {
+        Envelope envelope;
+        try {
+            envelope = MAPPER.readValue(input, Envelope.class);
+        } catch (IOException | RuntimeException e) {
+            return Response.error("can't read the request: " + e);
+        }
+        String rejection = rejection(envelope);
+        if (rejection != null) {
+            return new Response("rejected", null, rejection);
+        }
+        try {
+            return new Response("ok", index.check(envelope.request()), null);
+        } catch (RuntimeException e) {
+            return Response.error(Throwables.getStackTraceAsString(e));
+        }
+    }
+
+    @Nullable
+    private static String rejection(Envelope envelope) {
+        if (!Objects.equals(envelope.javaRuntimeVersion(), System.getProperty("java.runtime.version"))) {
+            return "the index server runs on Java " + System.getProperty("java.runtime.version") + ", not "
+                    + envelope.javaRuntimeVersion();
+        }
+        if (!Objects.equals(envelope.classpath(), classpath())) {
+            return "the index server runs a different version of the ABI checker";
+        }
+        return null;
+    }
+
+    /**
+     * The classpath the server runs with, i.e. the ABI checker and its dependencies, which is also used to tell
+     *   whether a running server is the same version as the client.
+     */
+    static String classpath() {
+        return Stream.of(
+                        IndexServer.class,
+                        ClassReader.class,
+                        ClassNode.class,
+                        JsonParser.class,
+                        ObjectMapper.class,
+                        JsonProperty.class,
+                        Caffeine.class,
+                        ImmutableList.class)
+                .map(IndexServer::codeSource)
+                .distinct()
+                .collect(Collectors.joining(File.pathSeparator));
+    }
+
+    private static String codeSource(Class<?> clazz) {
+        CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+        if (codeSource == null) {
+            throw new IllegalStateException("Can't locate the classes of " + clazz.getName());
+        }
+        try {
+            return Paths.get(codeSource.getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Can't locate the classes of " + clazz.getName(), e);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * What a client actually sends, identifying the JDK and version of the checker it expects the server to run with.
+     */
+    record Envelope(String javaRuntimeVersion, String classpath, CheckRequest request) {}
+
+    /**
+     * What the server answers, either the result of the check, or a message explaining why there is none.
+     */
+    private record Response(String status, @Nullable CheckResult result, @Nullable String message) {
+        static Response error(String message) {
+            return new Response("error", null, message);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.server;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.Set;
+
+/**
+ * Keeps the socket of the {@link IndexServer} out of reach of other users, who could otherwise impersonate the server
+ *   to its clients, or have it read classpaths of their choosing.
+ *
+ * The socket lives in a directory that only its user can write to, and neither of them may belong to anyone else.
+ *   Symbolic links are not followed, so that they can't be swapped for something else in the meantime.
+ */
+final class SocketDirectory {
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rwx------");
+
+    /**
+     * Creates the directory of the socket if it doesn't exist yet, only accessible to the current user, then checks it
+     *   (see {@link #checkPrivate}).
+     */
+    static void create(Path socket) throws IOException {
+        Path directory = directory(socket);
+        if (!Files.isDirectory(directory, LinkOption.NOFOLLOW_LINKS)) {
+            if (isPosix(directory)) {
+                Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+            } else {
+                Files.createDirectories(directory);
+            }
+        }
+        checkPrivate(socket);
+    }
+
+    /**
+     * Checks that the directory of the socket, as well as the socket if it exists, belong to the current user, and
+     *   that nobody else can write to the directory.
+     *
+     * @throws IOException if they don't, in which case the socket mustn't be used
+     */
+    static void checkPrivate(Path socket) throws IOException {
+        Path directory = directory(socket);
+        checkOwned(directory);
+        if (isPosix(directory)) {
+            Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(directory, LinkOption.NOFOLLOW_LINKS);
+            if (permissions.contains(PosixFilePermission.GROUP_WRITE)
+                    || permissions.contains(PosixFilePermission.OTHERS_WRITE)) {
+                throw new IOException("Refusing to use the index server socket " + socket + ", as other users can write"
+                        + " to its directory");
+            }
+        }
+        if (Files.exists(socket, LinkOption.NOFOLLOW_LINKS)) {
+            checkOwned(socket);
+        }
+    }
+
+    private static void checkOwned(Path path) throws IOException {
+        UserPrincipal owner = Files.getOwner(path, LinkOption.NOFOLLOW_LINKS);
+        UserPrincipal currentUser = path.getFileSystem()
+                .getUserPrincipalLookupService()
+                .lookupPrincipalByName(System.getProperty("user.name"));
+        if (!owner.equals(currentUser)) {
+            throw new IOException("Refusing to use the index server socket, as " + path + " belongs to "
+                    + owner.getName() + " rather than " + currentUser.getName());
+        }
+    }
+
+    private static Path directory(Path socket) {
+        return socket.toAbsolutePath().getParent();
+    }
+
+    private static boolean isPosix(Path path) {
+        return path.getFileSystem().supportedFileAttributeViews().contains("posix");
+    }
+
+    private SocketDirectory() {}
+}
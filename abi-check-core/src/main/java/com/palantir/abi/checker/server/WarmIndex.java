@@ -0,0 +1,206 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.server;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Sets;
+import com.palantir.abi.checker.AbiCheckerClassLoader;
+import com.palantir.abi.checker.ArtifactLoader;
+import com.palantir.abi.checker.CollectingConflictSink;
+import com.palantir.abi.checker.ConflictChecker;
+import com.palantir.abi.checker.ConflictCheckerConfiguration;
+import com.palantir.abi.checker.JdkModuleLoader;
+import com.palantir.abi.checker.datamodel.Artifact;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.classlocation.ClassLocation;
+import com.palantir.abi.checker.datamodel.classlocation.DirectoryBasedClassLocation;
+import com.palantir.abi.checker.datamodel.classlocation.JarBasedClassLocation;
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+
+/**
+ * The parsed classes and artifact indexes the {@link IndexServer} keeps warm between checks, possibly of different
+ *   builds.
+ *
+ * Unlike the loaders of a single build, these have to account for artifacts changing between checks: jars are
+ *   re-indexed (and their classes re-parsed) whenever their size or modification time changes, while directories of
+ *   classes, which are typically the outputs of the very build being checked, are re-listed on every check, only
+ *   re-parsing the class files whose size or modification time changed.
+ */
+final class WarmIndex {
+    private final AbiCheckerClassLoader classLoader = new AbiCheckerClassLoader();
+    private final ArtifactLoader artifactLoader = new ArtifactLoader();
+    private final JdkModuleLoader jdkModuleLoader = new JdkModuleLoader();
+    private final Cache<String, IndexedJar> jars =
+            Caffeine.newBuilder().maximumSize(5_000).build();
+    private final Cache<String, Map<ClassLocation, FileStamp>> directories =
+            Caffeine.newBuilder().maximumSize(5_000).build();
+    // Checks share the loaders, but must not run while the classes of a changed artifact are being invalidated, lest
+    //   they cache classes of the previous version of the artifact after the fact
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    CheckResult check(CheckRequest request) {
+        // Artifacts are indexed without holding the lock, which is only taken exclusively to record the changed ones
+        List<LoadedArtifact> projectArtifacts =
+                request.projectClasses().stream().map(this::load).toList();
+        List<LoadedArtifact> runtimeArtifacts =
+                request.runtimeClasspath().stream().map(this::load).toList();
+        List<Runnable> changes = Stream.concat(projectArtifacts.stream(), runtimeArtifacts.stream())
+                .map(LoadedArtifact::change)
+                .filter(Objects::nonNull)
+                .toList();
+        if (changes.isEmpty()) {
+            lock.readLock().lock();
+        } else {
+            lock.writeLock().lock();
+            try {
+                changes.forEach(Runnable::run);
+                lock.readLock().lock();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        try {
+            return check(request, artifacts(projectArtifacts), artifacts(runtimeArtifacts));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private CheckResult check(CheckRequest request, List<Artifact> projectArtifacts, List<Artifact> runtimeArtifacts) {
+        Collection<ClassLocation> projectClasses = projectArtifacts.stream()
+                .flatMap(artifact -> artifact.classes().values().stream())
+                .collect(Collectors.toSet());
+        List<Artifact> jdkArtifacts = jdkModuleLoader.getJavaModuleArtifacts();
+        // Same order as when checking in-process: the JDK, then the project, then the rest of the runtime classpath
+        List<Artifact> runtimeClasspath = ImmutableList.<Artifact>builder()
+                .addAll(jdkArtifacts)
+                .addAll(projectArtifacts)
+                .addAll(runtimeArtifacts)
+                .build();
+        ConflictCheckerConfiguration configuration = ConflictCheckerConfiguration.builder()
+                .from(request.configuration())
+                // Don't analyze the jdk nor the current project
+                .addAllIgnoredArtifactPrefixes(Stream.concat(jdkArtifacts.stream(), projectArtifacts.stream())
+                        .map(Artifact::name)
+                        .map(ArtifactName::name)
+                        .collect(Collectors.toSet()))
+                .build();
+
+        CollectingConflictSink sink = request.maxConflicts() == null
+                ? CollectingConflictSink.collectAll()
+                : CollectingConflictSink.upTo(request.maxConflicts());
+        boolean checkedCompletely = ConflictChecker.create(configuration, classLoader, runtimeClasspath, projectClasses)
+                .check(sink);
+        return new CheckResult(sink.conflicts(), checkedCompletely);
+    }
+
+    /**
+     * Indexes the artifact if it changed since it was last recorded, in which case the returned change has to be run
+     *   while holding the write lock, before checking against the artifact.
+     */
+    private LoadedArtifact load(ClasspathEntry entry) {
+        Path path = Paths.get(entry.path());
+        ArtifactName name = ArtifactName.of(entry.name());
+        File file = path.toFile();
+        if (!file.isFile()) {
+            // Directories of classes (or missing artifacts)
+            return loadDirectory(path, name);
+        }
+
+        String jarLocation = file.getAbsolutePath();
+        long size = file.length();
+        long lastModified = file.lastModified();
+        IndexedJar indexed = jars.getIfPresent(jarLocation);
+        if (indexed != null && indexed.size() == size && indexed.lastModified() == lastModified) {
+            return new LoadedArtifact(named(indexed.artifact(), name), null);
+        }
+        IndexedJar reindexed = new IndexedJar(size, lastModified, artifactLoader.load(path, name));
+        return new LoadedArtifact(named(reindexed.artifact(), name), () -> {
+            if (indexed != null) {
+                classLoader.invalidate(indexed.artifact().classes().values());
+            }
+            // Classes of the jar may outlive its index, which is why those of its current version are dropped too
+            classLoader.invalidate(reindexed.artifact().classes().values());
+            JarBasedClassLocation.closeCachedJar(jarLocation);
+            jars.put(jarLocation, reindexed);
+        });
+    }
+
+    private LoadedArtifact loadDirectory(Path path, ArtifactName name) {
+        String directory = path.toAbsolutePath().toString();
+        Artifact artifact = artifactLoader.load(path, name);
+        Map<ClassLocation, FileStamp> stamps = new HashMap<>();
+        for (ClassLocation location : artifact.classes().values()) {
+            if (location instanceof DirectoryBasedClassLocation directoryLocation) {
+                stamps.put(
+                        location,
+                        FileStamp.of(new File(directoryLocation.classDirectory(), directoryLocation.classLocation())));
+            }
+        }
+        Map<ClassLocation, FileStamp> recorded = directories.getIfPresent(directory);
+        if (stamps.equals(recorded)) {
+            return new LoadedArtifact(artifact, null);
+        }
+        Map<ClassLocation, FileStamp> previous = recorded == null ? Map.of() : recorded;
+        return new LoadedArtifact(artifact, () -> {
+            // Only the classes added, removed or rewritten since, unlike jars which are replaced as a whole
+            classLoader.invalidate(Sets.union(previous.keySet(), stamps.keySet()).stream()
+                    .filter(location -> !Objects.equals(previous.get(location), stamps.get(location)))
+                    .toList());
+            directories.put(directory, stamps);
+        });
+    }
+
+    // The same jar may be known under different names by different projects
+    private static Artifact named(Artifact artifact, ArtifactName name) {
+        return artifact.name().equals(name)
+                ? artifact
+                : Artifact.builder().name(name).classes(artifact.classes()).build();
+    }
+
+    private static List<Artifact> artifacts(List<LoadedArtifact> loadedArtifacts) {
+        return loadedArtifacts.stream().map(LoadedArtifact::artifact).toList();
+    }
+
+    /**
+     * An artifact as of this check, along with how to record it if it changed since it was last recorded.
+     */
+    private record LoadedArtifact(Artifact artifact, @Nullable Runnable change) {}
+
+    private record IndexedJar(long size, long lastModified, Artifact artifact) {}
+
+    private record FileStamp(long size, long lastModified) {
+        static FileStamp of(File file) {
+            return new FileStamp(file.length(), file.lastModified());
+        }
+    }
+}
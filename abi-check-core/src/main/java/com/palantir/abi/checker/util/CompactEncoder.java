@@ -0,0 +1,220 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.palantir.abi.checker.datamodel.field.FieldDescriptor;
+import com.palantir.abi.checker.datamodel.field.FieldReference;
+import com.palantir.abi.checker.datamodel.method.MethodDescriptor;
+import com.palantir.abi.checker.datamodel.method.MethodReference;
+import com.palantir.abi.checker.datamodel.types.TypeDescriptor;
+import com.palantir.abi.checker.datamodel.types.TypeDescriptors;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * The tables shared by the dictionary-encoded JSON formats, i.e.
+ *   {@link com.palantir.abi.checker.datamodel.conflict.CompactConflicts} and
+ *   {@link com.palantir.abi.checker.references.ReverseReferenceIndex}, which write each string, method and field once
+ *   and refer to it by its index:
+ * <pre>{@code
+ * {
+ *   "strings": ["com.foo.Bar", "baz", "()V", ...],
+ *   "methods": [[class, name, descriptor, isStatic], ...],
+ *   "fields": [[class, name, type, isStatic], ...],
+ * }
+ * }</pre>
+ *
+ * Methods and fields intern their strings when first added, so that all of them are known before the strings are
+ *   written.
+ */
+public final class CompactEncoder {
+    private final Table<String> strings = new Table<>();
+    private final Table<MethodReference> methods = new Table<>();
+    private final Table<FieldReference> fields = new Table<>();
+    private final List<int[]> methodRows = new ArrayList<>();
+    private final List<int[]> fieldRows = new ArrayList<>();
+
+    public CompactEncoder() {}
+
+    /**
+     * An encoder whose strings are already known, e.g. to encode the members of a document that was read, with the
+     *   same indices.
+     */
+    public CompactEncoder(List<String> knownStrings) {
+        knownStrings.forEach(strings::index);
+    }
+
+    public int string(String value) {
+        return strings.index(value);
+    }
+
+    public int method(MethodReference method) {
+        return methods.index(method, () -> methodRows.add(methodRow(method)));
+    }
+
+    public int field(FieldReference field) {
+        return fields.index(field, () -> fieldRows.add(fieldRow(field)));
+    }
+
+    public List<String> strings() {
+        return Collections.unmodifiableList(strings.values);
+    }
+
+    public List<MethodReference> methods() {
+        return Collections.unmodifiableList(methods.values);
+    }
+
+    public List<FieldReference> fields() {
+        return Collections.unmodifiableList(fields.values);
+    }
+
+    public void writeStrings(JsonGenerator generator) throws IOException {
+        generator.writeArrayFieldStart("strings");
+        for (String string : strings.values) {
+            generator.writeString(string);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes the methods, then the fields.
+     */
+    public void writeMembers(JsonGenerator generator) throws IOException {
+        writeRows(generator, "methods", methodRows);
+        writeRows(generator, "fields", fieldRows);
+    }
+
+    public static void writeRows(JsonGenerator generator, String fieldName, List<int[]> rows) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (int[] row : rows) {
+            generator.writeArray(row, 0, row.length);
+        }
+        generator.writeEndArray();
+    }
+
+    public static List<String> readStrings(JsonNode root) {
+        List<String> strings = new ArrayList<>();
+        root.path("strings").forEach(string -> strings.add(string.asText()));
+        return strings;
+    }
+
+    public static List<MethodReference> readMethods(JsonNode root, List<String> strings) {
+        List<MethodReference> methods = new ArrayList<>();
+        root.path("methods")
+                .forEach(method -> methods.add(new MethodReference(
+                        TypeDescriptors.fromClassName(string(strings, method, 0)),
+                        MethodDescriptor.ofDescriptor(string(strings, method, 2), string(strings, method, 1)),
+                        method.get(3).asInt() == 1)));
+        return methods;
+    }
+
+    public static List<FieldReference> readFields(JsonNode root, List<String> strings) {
+        List<FieldReference> fields = new ArrayList<>();
+        root.path("fields")
+                .forEach(field -> fields.add(new FieldReference(
+                        TypeDescriptors.fromClassName(string(strings, field, 0)),
+                        FieldDescriptor.of(
+                                TypeDescriptors.fromRaw(string(strings, field, 2)), string(strings, field, 1)),
+                        field.get(3).asInt() == 1)));
+        return fields;
+    }
+
+    /**
+     * The string the column of the row refers to.
+     */
+    public static String string(List<String> strings, JsonNode row, int column) {
+        return strings.get(row.get(column).asInt());
+    }
+
+    /**
+     * The stream, decompressed if it was compressed with gzip.
+     */
+    public static InputStream decompressed(InputStream inputStream) throws IOException {
+        InputStream buffered = new BufferedInputStream(inputStream);
+        buffered.mark(2);
+        int first = buffered.read();
+        int second = buffered.read();
+        buffered.reset();
+        if (first == (GZIPInputStream.GZIP_MAGIC & 0xff) && second == (GZIPInputStream.GZIP_MAGIC >> 8)) {
+            return new GZIPInputStream(buffered);
+        }
+        return buffered;
+    }
+
+    private int[] methodRow(MethodReference method) {
+        MethodDescriptor descriptor = method.method();
+        StringBuilder raw = new StringBuilder("(");
+        for (TypeDescriptor parameterType : descriptor.parameterTypes()) {
+            raw.append(TypeDescriptors.toRaw(parameterType));
+        }
+        raw.append(')').append(TypeDescriptors.toRaw(descriptor.returnType()));
+        return new int[] {
+            string(method.clazz().className()),
+            string(descriptor.name()),
+            string(raw.toString()),
+            method.isStatic() ? 1 : 0
+        };
+    }
+
+    private int[] fieldRow(FieldReference field) {
+        return new int[] {
+            string(field.clazz().className()),
+            string(field.name()),
+            string(TypeDescriptors.toRaw(field.type())),
+            field.isStatic() ? 1 : 0
+        };
+    }
+
+    private static final class Table<T> {
+        private final List<T> values = new ArrayList<>();
+        private final Map<T, Integer> indices = new HashMap<>();
+
+        /**
+         * Returns the index of the value, adding it if it isn't already in the table.
+         */
+        int index(T value) {
+            return indices.computeIfAbsent(value, this::add);
+        }
+
+        /**
+         * Same as {@link #index(Object)}, running {@code added} if the value is added.
+         */
+        int index(T value, Runnable added) {
+            Integer index = indices.get(value);
+            if (index == null) {
+                index = add(value);
+                indices.put(value, index);
+                added.run();
+            }
+            return index;
+        }
+
+        private int add(T value) {
+            values.add(value);
+            return values.size() - 1;
+        }
+    }
+}
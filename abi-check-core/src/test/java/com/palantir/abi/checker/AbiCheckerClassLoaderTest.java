@@ -34,9 +34,13 @@ package com.palantir.abi.checker;
 
 import static com.palantir.abi.checker.ClassLoadingUtil.findClass;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import com.palantir.abi.checker.datamodel.Artifact;
 import com.palantir.abi.checker.datamodel.DeclaredClass;
+import com.palantir.abi.checker.datamodel.Visibility;
+import com.palantir.abi.checker.datamodel.classlocation.DirectoryBasedClassLocation;
+import com.palantir.abi.checker.datamodel.method.DeclaredMethod;
 import com.palantir.abi.checker.datamodel.types.TypeDescriptors;
 import java.io.File;
 import java.io.FileInputStream;
@@ -44,9 +48,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.ModuleVisitor;
+import org.objectweb.asm.Opcodes;
 
 public class AbiCheckerClassLoaderTest {
 
@@ -122,6 +132,58 @@ public class AbiCheckerClassLoaderTest {
         }
     }
 
+    @Test
+    public void shouldRecordInstantiatedClasses() throws Exception {
+        try (FileInputStream inputStream = findClass(Instantiating.class)) {
+            DeclaredClass loaded = AbiCheckerClassLoader.loadInternal(inputStream);
+
+            DeclaredMethod method = loaded.methods().values().stream()
+                    .filter(declaredMethod ->
+                            declaredMethod.reference().method().name().equals("test"))
+                    .findFirst()
+                    .orElseThrow();
+            // Both the direct instantiation and the constructor reference, but not the array
+            assertThat(method.instantiatedClasses())
+                    .containsExactlyInAnyOrder(
+                            TypeDescriptors.fromClassName(StringBuilder.class.getName()),
+                            TypeDescriptors.fromClassName(ArrayList.class.getName()));
+        }
+    }
+
+    @Test
+    public void shouldRecordVisibility() throws Exception {
+        try (FileInputStream inputStream = findClass(WithVisibilities.class)) {
+            DeclaredClass loaded = AbiCheckerClassLoader.loadInternal(inputStream);
+
+            assertThat(loaded.visibility()).isEqualTo(Visibility.PUBLIC);
+            assertThat(loaded.methods().values())
+                    .filteredOn(method -> !method.reference().method().name().equals("<init>"))
+                    .extracting(method -> method.reference().method().name(), DeclaredMethod::visibility)
+                    .containsExactlyInAnyOrder(
+                            tuple("publicMethod", Visibility.PUBLIC),
+                            tuple("protectedMethod", Visibility.PROTECTED),
+                            tuple("packagePrivateMethod", Visibility.PACKAGE_PRIVATE),
+                            tuple("privateMethod", Visibility.PRIVATE));
+        }
+    }
+
+    @Test
+    public void shouldReadUnqualifiedModuleExports(@TempDir Path tempDir) throws IOException {
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V17, Opcodes.ACC_MODULE, "module-info", null, null, null);
+        ModuleVisitor module = writer.visitModule("com.example", 0, null);
+        module.visitExport("com/example/api", 0);
+        module.visitExport("com/example/friends", 0, "com.example.friend");
+        module.visitEnd();
+        writer.visitEnd();
+        Path moduleInfo = tempDir.resolve("module-info.class");
+        Files.write(moduleInfo, writer.toByteArray());
+
+        assertThat(AbiCheckerClassLoader.readExportedPackages(
+                        DirectoryBasedClassLocation.of(TypeDescriptors.fromClassName("module-info"), moduleInfo)))
+                .containsExactly("com.example.api");
+    }
+
     static class LdcLoadType {
         static void test() {
             System.out.println(FileInputStream.class.toString());
@@ -134,6 +196,24 @@ public class AbiCheckerClassLoaderTest {
         }
     }
 
+    static class Instantiating {
+        static Object test() {
+            Supplier<List<String>> supplier = ArrayList::new;
+            return List.of(new StringBuilder(), supplier, new String[0]);
+        }
+    }
+
+    @SuppressWarnings("UnusedMethod")
+    public static class WithVisibilities {
+        public void publicMethod() {}
+
+        protected void protectedMethod() {}
+
+        void packagePrivateMethod() {}
+
+        private void privateMethod() {}
+    }
+
     static class LdcLoadArrayOfPrimitive {
         static void test() {
             System.out.println(long[].class);
@@ -37,6 +37,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.google.common.collect.Maps;
 import com.palantir.abi.checker.datamodel.DeclaredClass;
 import com.palantir.abi.checker.datamodel.classlocation.ClassLocation;
+import com.palantir.abi.checker.datamodel.classlocation.JarBasedClassLocation;
 import com.palantir.abi.checker.datamodel.field.FieldDescriptor;
 import com.palantir.abi.checker.datamodel.field.FieldReference;
 import com.palantir.abi.checker.datamodel.method.CallSite;
@@ -49,12 +50,16 @@ import com.palantir.abi.checker.datamodel.types.TypeDescriptors;
 import com.palantir.abi.checker.nested.ClassWithNestedClass;
 import java.io.IOException;
 import java.io.Serializable;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class ArtifactLoaderTest {
     private static final MethodDescriptor methodOneDescriptor = MethodDescriptor.builder()
@@ -212,6 +217,30 @@ public class ArtifactLoaderTest {
         }
     }
 
+    @Test
+    public void testLoadMultiReleaseJar(@TempDir Path tempDir) throws Exception {
+        Path jarPath = tempDir.resolve("multi-release.jar");
+        // Versioned class files come first, as the selection must not depend on the order of the entries
+        writeJar(
+                jarPath,
+                "META-INF/MANIFEST.MF",
+                "META-INF/versions/11/pkg/B.class",
+                "META-INF/versions/999/A.class",
+                "META-INF/versions/9/A.class",
+                "META-INF/versions/9/pkg/B.class",
+                "META-INF/versions/999/C.class",
+                "A.class",
+                "pkg/B.class");
+
+        Map<ClassTypeDescriptor, String> classFiles = Maps.transformValues(
+                loadJarClasses(jarPath), location -> ((JarBasedClassLocation) location).classLocation());
+
+        assertThat(classFiles)
+                .containsOnly(
+                        Map.entry(TypeDescriptors.fromClassName("A"), "META-INF/versions/9/A.class"),
+                        Map.entry(TypeDescriptors.fromClassName("pkg.B"), "META-INF/versions/11/pkg/B.class"));
+    }
+
     @Test
     public void testLoadFromDirectory() throws Exception {
         final Map<ClassTypeDescriptor, ClassLocation> classes = loadTestClasses();
@@ -258,6 +287,15 @@ public class ArtifactLoaderTest {
         return artifactLoader.loadClassesFromJar(jarPath.toFile());
     }
 
+    private static void writeJar(Path jarPath, String... entryNames) throws IOException {
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(jarPath))) {
+            for (String entryName : entryNames) {
+                jar.putNextEntry(new JarEntry(entryName));
+                jar.closeEntry();
+            }
+        }
+    }
+
     private static Map<ClassTypeDescriptor, ClassLocation> loadTestClasses() throws IOException {
         return artifactLoader.loadClassesFromDirectory(FilePathHelper.getPath("build/classes/java/test"));
     }
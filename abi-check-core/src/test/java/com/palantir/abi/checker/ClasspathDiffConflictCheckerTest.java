@@ -0,0 +1,263 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import com.palantir.abi.checker.datamodel.Artifact;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.classlocation.ClassLocation;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.graph.ClassIndex;
+import com.palantir.abi.checker.datamodel.types.TypeDescriptors;
+import com.palantir.abi.checker.incremental.ClasspathCheckResult;
+import com.palantir.abi.checker.incremental.ClasspathDiff;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ClasspathDiffConflictCheckerTest {
+    private static final List<Artifact> JDK_ARTIFACTS = new JdkModuleLoader().getJavaModuleArtifacts();
+    private static final ConflictCheckerConfiguration CONFIGURATION =
+            ConflictCheckerConfiguration.builder().build();
+
+    private static final JavaFileObject LIB = JavaFileObjects.forSourceString(
+            "dep.b.Lib",
+            """
+            package dep.b;
+            public class Lib {
+                public static void existing() {}
+                public static void removed() {}
+            }
+            """);
+    private static final JavaFileObject LIB_WITHOUT_REMOVED = JavaFileObjects.forSourceString(
+            "dep.b.Lib", "package dep.b; public class Lib { public static void existing() {} }");
+    private static final JavaFileObject OTHER = JavaFileObjects.forSourceString(
+            "dep.c.Other", "package dep.c; public class Other { public static void call() {} }");
+
+    @TempDir
+    public Path projectDir;
+
+    @TempDir
+    public Path depADir;
+
+    @TempDir
+    public Path oldDepBDir;
+
+    @TempDir
+    public Path newDepBDir;
+
+    @TempDir
+    public Path depCDir;
+
+    @BeforeEach
+    public void before() throws IOException {
+        compileInto(
+                depADir,
+                "dep/a/",
+                LIB,
+                OTHER,
+                JavaFileObjects.forSourceString(
+                        "dep.a.UsesLib",
+                        "package dep.a; public class UsesLib { public static void call() { dep.b.Lib.removed(); } }"),
+                JavaFileObjects.forSourceString(
+                        "dep.a.UsesOther",
+                        "package dep.a; public class UsesOther { public static void call() { dep.c.Other.call(); } }"));
+        compileInto(oldDepBDir, "dep/b/", LIB);
+        compileInto(newDepBDir, "dep/b/", LIB_WITHOUT_REMOVED);
+        compileInto(depCDir, "dep/c/", OTHER);
+        compileInto(
+                projectDir,
+                "com/app/",
+                JavaFileObjects.forSourceString(
+                        "dep.a.UsesLib", "package dep.a; public class UsesLib { public static void call() {} }"),
+                JavaFileObjects.forSourceString(
+                        "dep.a.UsesOther", "package dep.a; public class UsesOther { public static void call() {} }"),
+                JavaFileObjects.forSourceString(
+                        "com.app.Main",
+                        "package com.app; public class Main { public static void main(String[] args) { "
+                                + "dep.a.UsesLib.call(); dep.a.UsesOther.call(); } }"));
+    }
+
+    @Test
+    public void diffs_artifacts_regardless_of_their_version() {
+        List<Artifact> newClasspath = classpath(load(newDepBDir, "com.b:dep-b:2.0"));
+        ClasspathDiff diff = ClasspathDiff.between(
+                classpath(load(oldDepBDir, "com.b:dep-b:1.0"), load(depCDir, "com.c:dep-c:1.0")),
+                newClasspath,
+                ClassIndex.create(newClasspath));
+
+        assertThat(diff.changedArtifacts()).containsExactly("com.b:dep-b");
+        assertThat(diff.removedArtifacts()).containsExactly("com.c:dep-c");
+        assertThat(diff.addedArtifacts()).isEmpty();
+        assertThat(diff.changedClasses())
+                .containsExactlyInAnyOrder(
+                        TypeDescriptors.fromClassName("dep.b.Lib"), TypeDescriptors.fromClassName("dep.c.Other"));
+    }
+
+    @Test
+    public void only_rechecks_the_classes_resolving_changed_classes() {
+        List<Artifact> oldClasspath = classpath(load(oldDepBDir, "com.b:dep-b:1.0"), load(depCDir, "com.c:dep-c:1.0"));
+        List<Artifact> newClasspath = classpath(load(newDepBDir, "com.b:dep-b:2.0"), load(depCDir, "com.c:dep-c:1.0"));
+        ClasspathCheckResult previousResult = ClasspathDiffConflictChecker.check(
+                CONFIGURATION, new AbiCheckerClassLoader(), oldClasspath, projectClasses());
+        assertThat(previousResult.conflicts()).isEmpty();
+
+        ClasspathDiff diff = ClasspathDiff.between(oldClasspath, newClasspath, ClassIndex.create(newClasspath));
+        assertThat(previousResult.affectedClasses(diff.changedClasses()))
+                .containsExactly(TypeDescriptors.fromClassName("dep.a.UsesLib"));
+
+        ClasspathCheckResult result = ClasspathDiffConflictChecker.check(
+                CONFIGURATION,
+                new AbiCheckerClassLoader(),
+                previousResult,
+                oldClasspath,
+                newClasspath,
+                projectClasses());
+        assertThat(result.conflicts())
+                .singleElement()
+                .extracting(conflict -> conflict.dependency().fromClass())
+                .isEqualTo(TypeDescriptors.fromClassName("dep.a.UsesLib"));
+        assertThat(result.conflicts()).isEqualTo(fullCheck(newClasspath));
+        assertThat(result.checkedClasses()).isEqualTo(previousResult.checkedClasses());
+    }
+
+    @Test
+    public void carries_over_the_conflicts_of_unaffected_classes() {
+        List<Artifact> brokenClasspath =
+                classpath(load(newDepBDir, "com.b:dep-b:2.0"), load(depCDir, "com.c:dep-c:1.0"));
+        // Dropping the other dependency breaks a class which doesn't resolve the broken library
+        List<Artifact> newClasspath = classpath(load(newDepBDir, "com.b:dep-b:2.0"));
+        ClasspathCheckResult previousResult = ClasspathDiffConflictChecker.check(
+                CONFIGURATION, new AbiCheckerClassLoader(), brokenClasspath, projectClasses());
+
+        ClasspathCheckResult result = ClasspathDiffConflictChecker.check(
+                CONFIGURATION,
+                new AbiCheckerClassLoader(),
+                previousResult,
+                brokenClasspath,
+                newClasspath,
+                projectClasses());
+
+        assertThat(result.conflicts())
+                .hasSize(2)
+                .containsExactlyInAnyOrderElementsOf(fullCheck(newClasspath))
+                .contains(previousResult.conflicts().get(0));
+    }
+
+    @Test
+    public void names_carried_over_conflicts_after_the_current_version_of_their_artifacts() {
+        List<Artifact> oldClasspath = classpath(load(newDepBDir, "com.b:dep-b:2.0"));
+        // Bumping the broken dependency to a version with the same classes doesn't change any class
+        List<Artifact> newClasspath = ImmutableList.<Artifact>builder()
+                .addAll(JDK_ARTIFACTS)
+                .add(load(projectDir, "project"))
+                .add(load(depADir, "com.a:dep-a:1.1"))
+                .add(load(newDepBDir, "com.b:dep-b:2.0"))
+                .build();
+        ClasspathCheckResult previousResult = ClasspathDiffConflictChecker.check(
+                CONFIGURATION, new AbiCheckerClassLoader(), oldClasspath, projectClasses());
+
+        ClasspathDiff diff = ClasspathDiff.between(oldClasspath, newClasspath, ClassIndex.create(newClasspath));
+        assertThat(diff.isEmpty()).isTrue();
+        assertThat(diff.renamedArtifacts())
+                .containsExactly(Map.entry(ArtifactName.of("com.a:dep-a:1.0"), ArtifactName.of("com.a:dep-a:1.1")));
+
+        ClasspathCheckResult result = ClasspathDiffConflictChecker.check(
+                CONFIGURATION,
+                new AbiCheckerClassLoader(),
+                previousResult,
+                oldClasspath,
+                newClasspath,
+                projectClasses());
+        assertThat(result.conflicts())
+                .hasSize(2)
+                .containsExactlyInAnyOrderElementsOf(fullCheck(newClasspath))
+                .allSatisfy(conflict -> assertThat(conflict.usedBy()).isEqualTo(ArtifactName.of("com.a:dep-a:1.1")));
+    }
+
+    @Test
+    public void diffs_the_classes_of_reordered_artifacts() {
+        // Both artifacts provide dep.b.Lib, which is provided by the other one once they are swapped
+        Artifact lib = load(oldDepBDir, "com.b:dep-b:1.0");
+        Artifact shadedLib = load(newDepBDir, "com.shaded:shaded-b:1.0");
+        Artifact other = load(depCDir, "com.c:dep-c:1.0");
+        List<Artifact> newClasspath = classpath(shadedLib, other, lib);
+
+        ClasspathDiff diff =
+                ClasspathDiff.between(classpath(lib, other, shadedLib), newClasspath, ClassIndex.create(newClasspath));
+
+        assertThat(diff.addedArtifacts()).isEmpty();
+        assertThat(diff.removedArtifacts()).isEmpty();
+        assertThat(diff.changedArtifacts()).isEmpty();
+        assertThat(diff.changedClasses()).containsExactly(TypeDescriptors.fromClassName("dep.b.Lib"));
+    }
+
+    private List<Conflict> fullCheck(List<Artifact> classpath) {
+        return ConflictChecker.checkWithEntryPoints(
+                CONFIGURATION, new AbiCheckerClassLoader(), classpath, projectClasses());
+    }
+
+    private List<Artifact> classpath(Artifact... dependencies) {
+        return ImmutableList.<Artifact>builder()
+                .addAll(JDK_ARTIFACTS)
+                .add(load(projectDir, "project"))
+                .add(load(depADir, "com.a:dep-a:1.0"))
+                .add(dependencies)
+                .build();
+    }
+
+    private List<ClassLocation> projectClasses() {
+        return List.copyOf(load(projectDir, "project").classes().values());
+    }
+
+    private static Artifact load(Path directory, String name) {
+        return new ArtifactLoader().load(directory, ArtifactName.of(name));
+    }
+
+    /**
+     * Compiles the provided sources, only keeping the classes under {@code packagePath}.
+     */
+    private static void compileInto(Path target, String packagePath, JavaFileObject... sources) throws IOException {
+        Compilation compilation = Compiler.javac().compile(sources);
+        String outputPrefix = "/" + StandardLocation.CLASS_OUTPUT.getName() + "/";
+        for (JavaFileObject classFile : compilation.generatedFiles()) {
+            String relativePath = classFile.getName().substring(outputPrefix.length());
+            if (classFile.getKind() != JavaFileObject.Kind.CLASS || !relativePath.startsWith(packagePath)) {
+                continue;
+            }
+            Path classPath = target.resolve(relativePath);
+            Files.createDirectories(classPath.getParent());
+            try (InputStream inputStream = classFile.openInputStream()) {
+                Files.copy(inputStream, classPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+}
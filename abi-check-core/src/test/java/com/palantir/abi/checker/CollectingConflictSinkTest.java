@@ -0,0 +1,124 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.conflict.ConflictGroup;
+import com.palantir.abi.checker.datamodel.conflict.FieldDependency;
+import com.palantir.abi.checker.datamodel.conflict.ImmutableFieldDependency;
+import com.palantir.abi.checker.datamodel.conflict.ImmutableMethodDependency;
+import com.palantir.abi.checker.datamodel.conflict.MethodDependency;
+import com.palantir.abi.checker.datamodel.field.FieldDescriptor;
+import com.palantir.abi.checker.datamodel.field.FieldReference;
+import com.palantir.abi.checker.datamodel.method.MethodDescriptor;
+import com.palantir.abi.checker.datamodel.method.MethodReference;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import com.palantir.abi.checker.datamodel.types.TypeDescriptors;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class CollectingConflictSinkTest {
+    private static final ArtifactName USED_BY = ArtifactName.of("used-by");
+    private static final ArtifactName EXISTS_IN = ArtifactName.of("exists-in");
+    private static final ClassTypeDescriptor LIB = TypeDescriptors.fromClassName("dep.Lib");
+    private static final MethodReference MISSING = method(LIB, "missing");
+    private static final FieldReference MISSING_FIELD =
+            new FieldReference(LIB, FieldDescriptor.of(TypeDescriptors.fromRaw("I"), "missingField"), true);
+
+    @Test
+    public void groups_conflicts_by_root_cause() {
+        Conflict first = Conflict.methodNotFound(methodDependency("app.A", 10, MISSING), USED_BY, EXISTS_IN);
+        Conflict second = Conflict.methodNotFound(methodDependency("app.B", 20, MISSING), USED_BY, EXISTS_IN);
+        Conflict otherMethod =
+                Conflict.methodNotFound(methodDependency("app.A", 11, method(LIB, "other")), USED_BY, EXISTS_IN);
+        Conflict otherArtifact =
+                Conflict.methodNotFound(methodDependency("app.A", 12, MISSING), ArtifactName.of("other"), EXISTS_IN);
+        Conflict field = Conflict.fieldNotFound(fieldDependency("app.C", 30), USED_BY, EXISTS_IN);
+
+        CollectingConflictSink sink = CollectingConflictSink.collectAll();
+        for (Conflict conflict : List.of(first, otherMethod, second, otherArtifact, field)) {
+            assertThat(sink.accept(conflict)).isTrue();
+        }
+
+        assertThat(sink.groups())
+                .extracting(ConflictGroup::reason, ConflictGroup::size)
+                .containsExactly(
+                        tuple("Method not found: void dep.Lib.missing()", 2),
+                        tuple("Method not found: void dep.Lib.other()", 1),
+                        tuple("Method not found: void dep.Lib.missing()", 1),
+                        tuple("Field not found: dep.Lib#missingField (int)", 1));
+        assertThat(sink.conflicts()).containsExactly(first, second, otherMethod, otherArtifact, field);
+        assertThat(sink.stoppedCheck()).isFalse();
+    }
+
+    @Test
+    public void keeps_the_member_referenced_on_missing_classes() {
+        Conflict throughMethod = Conflict.classNotFound(methodDependency("app.A", 10, MISSING), USED_BY, null);
+        Conflict throughField = Conflict.classNotFound(fieldDependency("app.B", 20), USED_BY, null);
+
+        CollectingConflictSink sink = CollectingConflictSink.collectAll();
+        sink.accept(throughMethod);
+        sink.accept(throughField);
+
+        assertThat(sink.groups()).singleElement().satisfies(group -> {
+            assertThat(group.reason()).isEqualTo("Class not found: dep.Lib");
+            assertThat(group.rootCause().existsIn()).isEqualTo(Conflict.UNKNOWN_ARTIFACT_NAME);
+            assertThat(group.conflicts()).containsExactly(throughMethod, throughField);
+        });
+    }
+
+    @Test
+    public void stops_once_the_maximum_number_of_conflicts_is_found() {
+        CollectingConflictSink sink = CollectingConflictSink.upTo(2);
+
+        assertThat(sink.accept(Conflict.methodNotFound(methodDependency("app.A", 10, MISSING), USED_BY, EXISTS_IN)))
+                .isTrue();
+        assertThat(sink.stoppedCheck()).isFalse();
+        assertThat(sink.accept(Conflict.methodNotFound(methodDependency("app.A", 11, MISSING), USED_BY, EXISTS_IN)))
+                .isFalse();
+        assertThat(sink.stoppedCheck()).isTrue();
+        assertThat(sink.conflicts()).hasSize(2);
+    }
+
+    private static MethodDependency methodDependency(String fromClass, int lineNumber, MethodReference target) {
+        ClassTypeDescriptor fromClassName = TypeDescriptors.fromClassName(fromClass);
+        return ImmutableMethodDependency.builder()
+                .reachabilityPath(List.of(fromClassName))
+                .fromMethod(method(fromClassName, "run"))
+                .fromLineNumber(lineNumber)
+                .targetMethod(target)
+                .build();
+    }
+
+    private static FieldDependency fieldDependency(String fromClass, int lineNumber) {
+        ClassTypeDescriptor fromClassName = TypeDescriptors.fromClassName(fromClass);
+        return ImmutableFieldDependency.builder()
+                .reachabilityPath(List.of(fromClassName))
+                .fromMethod(method(fromClassName, "run"))
+                .fromLineNumber(lineNumber)
+                .field(MISSING_FIELD)
+                .build();
+    }
+
+    private static MethodReference method(ClassTypeDescriptor clazz, String name) {
+        return new MethodReference(clazz, MethodDescriptor.ofDescriptor("()V", name), true);
+    }
+}
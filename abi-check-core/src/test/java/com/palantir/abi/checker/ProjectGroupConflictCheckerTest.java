@@ -0,0 +1,174 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import com.palantir.abi.checker.datamodel.Artifact;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ProjectGroupConflictCheckerTest {
+    private static final List<Artifact> JDK_ARTIFACTS = new JdkModuleLoader().getJavaModuleArtifacts();
+    private static final ConflictCheckerConfiguration CONFIGURATION =
+            ConflictCheckerConfiguration.builder().build();
+
+    // Only used to compile the callers of the missing method, the runtime classpath doesn't have it
+    private static final JavaFileObject LIB_WITH_MISSING_METHOD = JavaFileObjects.forSourceString(
+            "dep.b.Lib",
+            // language=java
+            """
+            package dep.b;
+            public class Lib {
+                public static void existing() {}
+                public static void missing() {}
+            }
+            """);
+    private static final JavaFileObject WORKING = JavaFileObjects.forSourceString(
+            "dep.a.Working",
+            // language=java
+            """
+            package dep.a;
+            public class Working {
+                public static void call() {
+                    dep.b.Lib.existing();
+                }
+            }
+            """);
+    private static final JavaFileObject BROKEN = JavaFileObjects.forSourceString(
+            "dep.a.Broken",
+            // language=java
+            """
+            package dep.a;
+            public class Broken {
+                public static void call() {
+                    dep.b.Lib.missing();
+                }
+            }
+            """);
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void finds_the_same_conflicts_as_checking_each_project_on_its_own() throws IOException {
+        Path depA = compileInto(tempDir.resolve("dep-a"), "dep/a/", LIB_WITH_MISSING_METHOD, WORKING, BROKEN);
+        Path depB = compileInto(
+                tempDir.resolve("dep-b"),
+                "dep/b/",
+                JavaFileObjects.forSourceString(
+                        "dep.b.Lib", "package dep.b; public class Lib { public static void existing() {} }"));
+        Path broken = compileProject("broken", "dep.a.Broken.call();");
+        Path working = compileProject("working", "dep.a.Working.call();");
+        Path shadowing = compileProject("shadowing", "dep.a.Broken.call();");
+        // Provides its own version of the library, which does have the method
+        compileInto(shadowing, "dep/b/", LIB_WITH_MISSING_METHOD);
+
+        ArtifactLoader loader = new ArtifactLoader();
+        List<Artifact> runtimeArtifacts =
+                List.of(loader.load(depA, ArtifactName.of("dep-a")), loader.load(depB, ArtifactName.of("dep-b")));
+        Map<String, List<Artifact>> projectArtifacts = new LinkedHashMap<>();
+        for (Path project : List.of(broken, working, shadowing)) {
+            projectArtifacts.put(
+                    project.getFileName().toString(),
+                    List.of(loader.load(
+                            project, ArtifactName.of(project.getFileName().toString()))));
+        }
+
+        Map<String, List<Conflict>> conflicts = ProjectGroupConflictChecker.check(
+                CONFIGURATION, new AbiCheckerClassLoader(), JDK_ARTIFACTS, runtimeArtifacts, projectArtifacts);
+
+        assertThat(conflicts).containsOnlyKeys("broken", "working", "shadowing");
+        assertThat(conflicts.get("broken")).hasSize(1);
+        assertThat(conflicts.get("working")).isEmpty();
+        assertThat(conflicts.get("shadowing")).isEmpty();
+        projectArtifacts.forEach((project, artifacts) -> assertThat(conflicts.get(project))
+                .containsExactlyInAnyOrderElementsOf(checkOnItsOwn(artifacts, runtimeArtifacts)));
+    }
+
+    private static List<Conflict> checkOnItsOwn(List<Artifact> projectArtifacts, List<Artifact> runtimeArtifacts) {
+        ConflictCheckerConfiguration configuration = ConflictCheckerConfiguration.builder()
+                .from(CONFIGURATION)
+                .addAllIgnoredArtifactPrefixes(
+                        ImmutableList.<Artifact>builder()
+                                .addAll(JDK_ARTIFACTS)
+                                .addAll(projectArtifacts)
+                                .build()
+                                .stream()
+                                .map(artifact -> artifact.name().name())
+                                .toList())
+                .build();
+        return ConflictChecker.checkWithEntryPoints(
+                configuration,
+                new AbiCheckerClassLoader(),
+                ImmutableList.<Artifact>builder()
+                        .addAll(JDK_ARTIFACTS)
+                        .addAll(projectArtifacts)
+                        .addAll(runtimeArtifacts)
+                        .build(),
+                projectArtifacts.stream()
+                        .flatMap(artifact -> artifact.classes().values().stream())
+                        .toList());
+    }
+
+    private Path compileProject(String name, String mainBody) throws IOException {
+        return compileInto(
+                tempDir.resolve(name), "com/", LIB_WITH_MISSING_METHOD, WORKING, BROKEN, project(name, mainBody));
+    }
+
+    private static JavaFileObject project(String name, String mainBody) {
+        return JavaFileObjects.forSourceString(
+                "com." + name + ".Main",
+                "package com." + name + "; public class Main { public static void main(String[] args) { " + mainBody
+                        + " } }");
+    }
+
+    /**
+     * Compiles the provided sources, only keeping the classes under {@code packagePath}.
+     */
+    private static Path compileInto(Path target, String packagePath, JavaFileObject... sources) throws IOException {
+        Compilation compilation = Compiler.javac().compile(sources);
+        String outputPrefix = "/" + StandardLocation.CLASS_OUTPUT.getName() + "/";
+        for (JavaFileObject classFile : compilation.generatedFiles()) {
+            String relativePath = classFile.getName().substring(outputPrefix.length());
+            if (classFile.getKind() != JavaFileObject.Kind.CLASS || !relativePath.startsWith(packagePath)) {
+                continue;
+            }
+            Path classPath = target.resolve(relativePath);
+            Files.createDirectories(classPath.getParent());
+            try (InputStream inputStream = classFile.openInputStream()) {
+                Files.copy(inputStream, classPath);
+            }
+        }
+        return target;
+    }
+}
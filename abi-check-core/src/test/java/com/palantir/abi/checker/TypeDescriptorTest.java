@@ -145,4 +145,12 @@ public class TypeDescriptorTest {
         final ClassTypeDescriptor b = TypeDescriptors.fromClassName("foo/Bar");
         assertThat(a).isEqualTo(b);
     }
+
+    @Test
+    public void testRawRoundTrip() {
+        for (String signature : new String[] {"B", "Z", "V", "[D", "[[[D", "LFoo;", "[Lfoo/bar/Baz;"}) {
+            assertThat(TypeDescriptors.toRaw(TypeDescriptors.fromRaw(signature)))
+                    .isEqualTo(signature);
+        }
+    }
 }
@@ -0,0 +1,223 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.ImmutableList;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import com.palantir.abi.checker.datamodel.Artifact;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.classlocation.ClassLocation;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.types.TypeDescriptors;
+import com.palantir.abi.checker.incremental.UpgradeSimulation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class UpgradeSimulatorTest {
+    private static final List<Artifact> JDK_ARTIFACTS = new JdkModuleLoader().getJavaModuleArtifacts();
+    private static final ConflictCheckerConfiguration CONFIGURATION =
+            ConflictCheckerConfiguration.builder().build();
+
+    private static final JavaFileObject LIB = JavaFileObjects.forSourceString(
+            "dep.b.Lib",
+            """
+            package dep.b;
+            public class Lib {
+                public static void existing() {}
+                public static void removed() {}
+            }
+            """);
+    private static final JavaFileObject LIB_WITHOUT_REMOVED = JavaFileObjects.forSourceString(
+            "dep.b.Lib", "package dep.b; public class Lib { public static void existing() {} }");
+    private static final JavaFileObject OTHER = JavaFileObjects.forSourceString(
+            "dep.c.Other", "package dep.c; public class Other { public static void call() {} }");
+
+    @TempDir
+    public Path projectDir;
+
+    @TempDir
+    public Path depADir;
+
+    @TempDir
+    public Path oldDepBDir;
+
+    @TempDir
+    public Path newDepBDir;
+
+    @TempDir
+    public Path shadingDepBDir;
+
+    @BeforeEach
+    public void before() throws IOException {
+        compileInto(
+                depADir,
+                "dep/a/",
+                LIB,
+                OTHER,
+                JavaFileObjects.forSourceString(
+                        "dep.a.UsesLib",
+                        "package dep.a; public class UsesLib { public static void call() { dep.b.Lib.removed(); } }"),
+                JavaFileObjects.forSourceString(
+                        "dep.a.UsesOther",
+                        "package dep.a; public class UsesOther { public static void call() { dep.c.Other.call(); } }"));
+        compileInto(oldDepBDir, "dep/b/", LIB);
+        compileInto(newDepBDir, "dep/b/", LIB_WITHOUT_REMOVED);
+        // A version which also bundles a class the classpath is missing
+        compileInto(shadingDepBDir, "dep/", LIB, OTHER);
+        compileInto(
+                projectDir,
+                "com/app/",
+                JavaFileObjects.forSourceString(
+                        "dep.a.UsesLib", "package dep.a; public class UsesLib { public static void call() {} }"),
+                JavaFileObjects.forSourceString(
+                        "dep.a.UsesOther", "package dep.a; public class UsesOther { public static void call() {} }"),
+                JavaFileObjects.forSourceString(
+                        "com.app.Main",
+                        "package com.app; public class Main { public static void main(String[] args) { "
+                                + "dep.a.UsesLib.call(); dep.a.UsesOther.call(); } }"));
+    }
+
+    @Test
+    public void reports_the_conflicts_introduced_by_an_upgrade() {
+        UpgradeSimulator simulator = UpgradeSimulator.create(
+                CONFIGURATION,
+                new AbiCheckerClassLoader(),
+                classpath(load(oldDepBDir, "com.b:dep-b:1.0")),
+                projectClasses());
+
+        UpgradeSimulation simulation =
+                simulator.simulate(ArtifactName.of("com.b:dep-b:1.0"), load(newDepBDir, "com.b:dep-b:2.0"));
+
+        assertThat(simulation.replacementArtifact()).isEqualTo(ArtifactName.of("com.b:dep-b:2.0"));
+        assertThat(simulation.introducedConflicts())
+                .singleElement()
+                .extracting(conflict -> conflict.dependency().fromClass())
+                .isEqualTo(TypeDescriptors.fromClassName("dep.a.UsesLib"));
+        assertThat(simulation.fixedConflicts()).isEmpty();
+        assertThat(simulation.result().conflicts())
+                .containsExactlyInAnyOrderElementsOf(fullCheck(classpath(load(newDepBDir, "com.b:dep-b:2.0"))));
+    }
+
+    @Test
+    public void reports_the_conflicts_fixed_by_an_upgrade() {
+        UpgradeSimulator simulator = UpgradeSimulator.create(
+                CONFIGURATION,
+                new AbiCheckerClassLoader(),
+                classpath(load(newDepBDir, "com.b:dep-b:2.0")),
+                projectClasses());
+        assertThat(simulator.result().conflicts()).hasSize(2);
+
+        UpgradeSimulation simulation =
+                simulator.simulate(ArtifactName.of("com.b:dep-b:2.0"), load(shadingDepBDir, "com.b:dep-b:3.0"));
+
+        assertThat(simulation.introducedConflicts()).isEmpty();
+        assertThat(simulation.fixedConflicts())
+                .containsExactlyInAnyOrderElementsOf(simulator.result().conflicts());
+        assertThat(simulation.result().conflicts()).isEmpty();
+        // The bundled class is now reachable through the class that was missing it
+        assertThat(simulation.result().checkedClasses()).contains(TypeDescriptors.fromClassName("dep.c.Other"));
+    }
+
+    @Test
+    public void simulations_do_not_build_upon_one_another() {
+        UpgradeSimulator simulator = UpgradeSimulator.create(
+                CONFIGURATION,
+                new AbiCheckerClassLoader(),
+                classpath(load(oldDepBDir, "com.b:dep-b:1.0")),
+                projectClasses());
+
+        UpgradeSimulation breaking =
+                simulator.simulate(ArtifactName.of("com.b:dep-b:1.0"), load(newDepBDir, "com.b:dep-b:2.0"));
+        UpgradeSimulation fixing =
+                simulator.simulate(ArtifactName.of("com.b:dep-b:1.0"), load(shadingDepBDir, "com.b:dep-b:3.0"));
+
+        assertThat(breaking.introducedConflicts()).hasSize(1);
+        assertThat(fixing.introducedConflicts()).isEmpty();
+        assertThat(fixing.fixedConflicts()).hasSize(1);
+        assertThat(fixing.result().conflicts())
+                .containsExactlyInAnyOrderElementsOf(fullCheck(classpath(load(shadingDepBDir, "com.b:dep-b:3.0"))));
+    }
+
+    @Test
+    public void fails_to_replace_an_artifact_missing_from_the_classpath() {
+        UpgradeSimulator simulator = UpgradeSimulator.create(
+                CONFIGURATION,
+                new AbiCheckerClassLoader(),
+                classpath(load(oldDepBDir, "com.b:dep-b:1.0")),
+                projectClasses());
+
+        assertThatThrownBy(() ->
+                        simulator.simulate(ArtifactName.of("com.c:dep-c:1.0"), load(newDepBDir, "com.c:dep-c:2.0")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("com.c:dep-c:1.0");
+    }
+
+    private List<Conflict> fullCheck(List<Artifact> classpath) {
+        return ConflictChecker.checkWithEntryPoints(
+                CONFIGURATION, new AbiCheckerClassLoader(), classpath, projectClasses());
+    }
+
+    private List<Artifact> classpath(Artifact depB) {
+        return ImmutableList.<Artifact>builder()
+                .addAll(JDK_ARTIFACTS)
+                .add(load(projectDir, "project"))
+                .add(load(depADir, "com.a:dep-a:1.0"))
+                .add(depB)
+                .build();
+    }
+
+    private List<ClassLocation> projectClasses() {
+        return List.copyOf(load(projectDir, "project").classes().values());
+    }
+
+    private static Artifact load(Path directory, String name) {
+        return new ArtifactLoader().load(directory, ArtifactName.of(name));
+    }
+
+    /**
+     * Compiles the provided sources, only keeping the classes under {@code packagePath}.
+     */
+    private static void compileInto(Path target, String packagePath, JavaFileObject... sources) throws IOException {
+        Compilation compilation = Compiler.javac().compile(sources);
+        String outputPrefix = "/" + StandardLocation.CLASS_OUTPUT.getName() + "/";
+        for (JavaFileObject classFile : compilation.generatedFiles()) {
+            String relativePath = classFile.getName().substring(outputPrefix.length());
+            if (classFile.getKind() != JavaFileObject.Kind.CLASS || !relativePath.startsWith(packagePath)) {
+                continue;
+            }
+            Path classPath = target.resolve(relativePath);
+            Files.createDirectories(classPath.getParent());
+            try (InputStream inputStream = classFile.openInputStream()) {
+                Files.copy(inputStream, classPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+}
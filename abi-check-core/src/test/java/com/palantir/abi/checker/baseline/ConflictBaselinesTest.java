@@ -0,0 +1,248 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.baseline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.google.common.collect.ImmutableList;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import com.palantir.abi.checker.AbiCheckerClassLoader;
+import com.palantir.abi.checker.ArtifactLoader;
+import com.palantir.abi.checker.CollectingConflictSink;
+import com.palantir.abi.checker.ConflictChecker;
+import com.palantir.abi.checker.ConflictCheckerConfiguration;
+import com.palantir.abi.checker.JdkModuleLoader;
+import com.palantir.abi.checker.datamodel.Artifact;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.classlocation.ClassLocation;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.conflict.Conflict.ConflictCategory;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import com.palantir.abi.checker.datamodel.types.TypeDescriptors;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Set;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ConflictBaselinesTest {
+    private static final List<Artifact> JDK_ARTIFACTS = new JdkModuleLoader().getJavaModuleArtifacts();
+    private static final ConflictCheckerConfiguration CONFIGURATION =
+            ConflictCheckerConfiguration.builder().build();
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    private static final JavaFileObject LIB = JavaFileObjects.forSourceString(
+            "dep.b.Lib",
+            // language=java
+            """
+            package dep.b;
+            public class Lib {
+                public static void existing() {}
+            }
+            """);
+    // Only used to compile the callers of the missing method, the classpath only has the version above
+    private static final JavaFileObject LIB_WITH_MISSING_METHOD = JavaFileObjects.forSourceString(
+            "dep.b.Lib",
+            // language=java
+            """
+            package dep.b;
+            public class Lib {
+                public static void existing() {}
+                public static void missing() {}
+            }
+            """);
+    private static final JavaFileObject EMPTY_LIB =
+            JavaFileObjects.forSourceString("dep.b.Lib", "package dep.b; public class Lib {}");
+
+    @TempDir
+    public Path projectDir;
+
+    @TempDir
+    public Path depADir;
+
+    @TempDir
+    public Path depBDir;
+
+    @BeforeEach
+    public void before() throws IOException {
+        compileInto(
+                depADir,
+                "dep/a/",
+                LIB_WITH_MISSING_METHOD,
+                JavaFileObjects.forSourceString(
+                        "dep.a.Working",
+                        "package dep.a; public class Working { public static void call() { dep.b.Lib.existing(); } }"),
+                JavaFileObjects.forSourceString(
+                        "dep.a.Broken",
+                        "package dep.a; public class Broken { public static void call() { dep.b.Lib.missing(); } }"));
+        compileInto(depBDir, "dep/b/", LIB);
+        compileInto(
+                projectDir,
+                "com/app/",
+                LIB_WITH_MISSING_METHOD,
+                JavaFileObjects.forSourceString(
+                        "dep.a.Working", "package dep.a; public class Working { public static void call() {} }"),
+                JavaFileObjects.forSourceString(
+                        "dep.a.Broken", "package dep.a; public class Broken { public static void call() {} }"),
+                JavaFileObjects.forSourceString(
+                        "com.app.Main",
+                        "package com.app; public class Main { public static void main(String[] args) { "
+                                + "dep.a.Working.call(); dep.a.Broken.call(); } }"));
+    }
+
+    @Test
+    public void records_the_conflicts_and_what_the_checked_classes_resolved_to() throws IOException {
+        ConflictBaseline baseline = recordBaseline();
+
+        assertThat(baseline.acceptedConflicts())
+                .containsExactly(new AcceptedConflict(
+                        "dep-a", "dep-b", ConflictCategory.METHOD_SIGNATURE_NOT_FOUND, "void dep.b.Lib.missing()"));
+        assertThat(baseline.checkedArtifacts().get("dep-a").checkedClasses())
+                .containsExactly("dep.a.Broken", "dep.a.Working");
+        assertThat(baseline.checkedArtifacts().get("dep-a").resolvedClasses().get("dep-b"))
+                .containsExactly("dep.b.Lib");
+        assertThat(baseline.fingerprints()).containsKeys("project", "dep-a", "dep-b", "java.base");
+        assertThat(MAPPER.readValue(MAPPER.writeValueAsString(baseline), ConflictBaseline.class))
+                .isEqualTo(baseline);
+    }
+
+    @Test
+    public void skips_the_classes_of_unchanged_artifacts_and_only_reports_new_conflicts() throws IOException {
+        ConflictBaseline baseline = recordBaseline();
+
+        ConflictChecker checker = createChecker();
+        Set<ClassTypeDescriptor> unchangedClasses = unchangedClasses(baseline, checker);
+        BaselineConflictSink sink = new BaselineConflictSink(baseline, CollectingConflictSink.collectAll());
+
+        assertThat(unchangedClasses)
+                .contains(
+                        TypeDescriptors.fromClassName("dep.a.Broken"), TypeDescriptors.fromClassName("dep.a.Working"));
+        assertThat(checker.check(sink, unchangedClasses)).isTrue();
+        assertThat(checker.checkedClasses()).doesNotContainAnyElementsOf(unchangedClasses);
+        assertThat(sink.acceptedConflictsFound()).isEmpty();
+    }
+
+    @Test
+    public void rechecks_artifacts_whose_providers_changed() throws IOException {
+        ConflictBaseline baseline = recordBaseline();
+
+        // Fixes the accepted conflict, but breaks the other call to the library
+        compileInto(depBDir, "dep/b/", EMPTY_LIB);
+        ConflictChecker checker = createChecker();
+        Set<ClassTypeDescriptor> unchangedClasses = unchangedClasses(baseline, checker);
+        CollectingConflictSink newConflicts = CollectingConflictSink.collectAll();
+        BaselineConflictSink sink = new BaselineConflictSink(baseline, newConflicts);
+
+        assertThat(unchangedClasses).doesNotContain(TypeDescriptors.fromClassName("dep.a.Working"));
+        assertThat(checker.check(sink, unchangedClasses)).isTrue();
+        // The accepted conflict is found again, as the method is still missing
+        assertThat(sink.acceptedConflictsFound()).hasSize(1);
+        assertThat(newConflicts.conflicts())
+                .singleElement()
+                .extracting(AcceptedConflict::of)
+                .isEqualTo(new AcceptedConflict(
+                        "dep-a", "dep-b", ConflictCategory.METHOD_SIGNATURE_NOT_FOUND, "void dep.b.Lib.existing()"));
+    }
+
+    @Test
+    public void reports_the_accepted_conflicts_that_were_fixed() throws IOException {
+        ConflictBaseline baseline = recordBaseline();
+
+        compileInto(depBDir, "dep/b/", LIB_WITH_MISSING_METHOD);
+        ConflictChecker checker = createChecker();
+        Set<ClassTypeDescriptor> unchangedClasses = unchangedClasses(baseline, checker);
+        BaselineConflictSink sink = new BaselineConflictSink(baseline, CollectingConflictSink.collectAll());
+        checker.check(sink, unchangedClasses);
+
+        assertThat(ConflictBaselines.fixedConflicts(baseline, checker, unchangedClasses, sink.acceptedConflictsFound()))
+                .containsExactlyElementsOf(baseline.acceptedConflicts());
+    }
+
+    @Test
+    public void names_maven_artifacts_without_their_version() {
+        assertThat(AcceptedConflict.unversioned(ArtifactName.of("com.google.guava:guava:33.4.8-jre")))
+                .isEqualTo("com.google.guava:guava");
+        assertThat(AcceptedConflict.unversioned(ArtifactName.of("build/classes/java/main")))
+                .isEqualTo("build/classes/java/main");
+        assertThat(AcceptedConflict.unversioned(ArtifactName.of("project :foo")))
+                .isEqualTo("project :foo");
+    }
+
+    private ConflictBaseline recordBaseline() {
+        ConflictChecker checker = createChecker();
+        List<Conflict> conflicts = checker.check();
+        assertThat(conflicts).hasSize(1);
+        return ConflictBaselines.record(checker, CONFIGURATION, conflicts, new ArtifactFingerprints(classpath()));
+    }
+
+    private Set<ClassTypeDescriptor> unchangedClasses(ConflictBaseline baseline, ConflictChecker checker) {
+        return ConflictBaselines.unchangedClasses(
+                baseline, CONFIGURATION, checker.classIndex(), new ArtifactFingerprints(classpath()));
+    }
+
+    private ConflictChecker createChecker() {
+        // Dependencies are rewritten in place, so nothing must be served from a previous cache
+        return ConflictChecker.create(CONFIGURATION, new AbiCheckerClassLoader(), classpath(), projectClasses());
+    }
+
+    private List<Artifact> classpath() {
+        ArtifactLoader loader = new ArtifactLoader();
+        return ImmutableList.<Artifact>builder()
+                .addAll(JDK_ARTIFACTS)
+                .add(loader.load(projectDir, ArtifactName.of("project")))
+                .add(loader.load(depADir, ArtifactName.of("dep-a")))
+                .add(loader.load(depBDir, ArtifactName.of("dep-b")))
+                .build();
+    }
+
+    private List<ClassLocation> projectClasses() {
+        return List.copyOf(new ArtifactLoader()
+                .load(projectDir, ArtifactName.of("project"))
+                .classes()
+                .values());
+    }
+
+    /**
+     * Compiles the provided sources, only keeping the classes under {@code packagePath}.
+     */
+    private static void compileInto(Path target, String packagePath, JavaFileObject... sources) throws IOException {
+        Compilation compilation = Compiler.javac().compile(sources);
+        String outputPrefix = "/" + StandardLocation.CLASS_OUTPUT.getName() + "/";
+        for (JavaFileObject classFile : compilation.generatedFiles()) {
+            String relativePath = classFile.getName().substring(outputPrefix.length());
+            if (classFile.getKind() != JavaFileObject.Kind.CLASS || !relativePath.startsWith(packagePath)) {
+                continue;
+            }
+            Path classPath = target.resolve(relativePath);
+            Files.createDirectories(classPath.getParent());
+            try (InputStream inputStream = classFile.openInputStream()) {
+                Files.copy(inputStream, classPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.datamodel.conflict;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.field.FieldDescriptor;
+import com.palantir.abi.checker.datamodel.field.FieldReference;
+import com.palantir.abi.checker.datamodel.method.MethodDescriptor;
+import com.palantir.abi.checker.datamodel.method.MethodReference;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import com.palantir.abi.checker.datamodel.types.TypeDescriptors;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+
+public class CompactConflictsTest {
+    private static final ArtifactName USED_BY = ArtifactName.of("com.foo:used-by:1.0.0");
+    private static final ArtifactName EXISTS_IN = ArtifactName.of("com.foo:exists-in:2.0.0");
+    private static final ClassTypeDescriptor LIB = TypeDescriptors.fromClassName("com.foo.Lib");
+    private static final MethodReference MISSING = new MethodReference(
+            LIB, MethodDescriptor.ofDescriptor("([[ILjava/lang/String;J)[Lcom/foo/Lib;", "missing"), false);
+    private static final FieldReference MISSING_FIELD =
+            new FieldReference(LIB, FieldDescriptor.of(TypeDescriptors.fromRaw("[Z"), "missingField"), true);
+
+    @Test
+    public void reads_back_the_conflicts_it_writes() throws IOException {
+        List<Conflict> conflicts = conflicts();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        CompactConflicts.write(conflicts, output);
+
+        assertThat(CompactConflicts.read(new ByteArrayInputStream(output.toByteArray())))
+                .containsExactlyElementsOf(conflicts);
+    }
+
+    @Test
+    public void reads_back_compressed_conflicts() throws IOException {
+        List<Conflict> conflicts = conflicts();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output)) {
+            CompactConflicts.write(conflicts, gzipOutput);
+        }
+
+        assertThat(CompactConflicts.read(new ByteArrayInputStream(output.toByteArray())))
+                .containsExactlyElementsOf(conflicts);
+    }
+
+    @Test
+    public void only_writes_shared_names_once() throws IOException {
+        List<Conflict> conflicts = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            conflicts.add(Conflict.methodNotFound(
+                    methodDependency("com.app.Caller" + i % 10, i, MISSING), USED_BY, EXISTS_IN));
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        CompactConflicts.write(conflicts, output);
+        String compact = output.toString(StandardCharsets.UTF_8);
+
+        assertThat(compact.split(Pattern.quote("\"com.foo.Lib\""), -1)).hasSize(2);
+        assertThat(compact.length())
+                .isLessThan(new ObjectMapper().writeValueAsString(conflicts).length() / 5);
+    }
+
+    @Test
+    public void rejects_other_documents() {
+        assertThatThrownBy(() -> CompactConflicts.read(
+                        new ByteArrayInputStream("{\"type\": \"conflicts\"}".getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static List<Conflict> conflicts() {
+        return List.of(
+                Conflict.methodNotFound(methodDependency("com.app.A", 10, MISSING), USED_BY, EXISTS_IN),
+                Conflict.methodNotFound(methodDependency("com.app.B", 20, MISSING), USED_BY, EXISTS_IN),
+                Conflict.fieldNotFound(
+                        ImmutableFieldDependency.builder()
+                                .reachabilityPath(List.of(TypeDescriptors.fromClassName("com.app.A")))
+                                .fromMethod(caller("com.app.A"))
+                                .fromLineNumber(30)
+                                .field(MISSING_FIELD)
+                                .build(),
+                        USED_BY,
+                        EXISTS_IN),
+                Conflict.classNotFound(methodDependency("com.app.A", 40, MISSING), USED_BY, null));
+    }
+
+    private static MethodDependency methodDependency(String fromClass, int lineNumber, MethodReference target) {
+        return ImmutableMethodDependency.builder()
+                .reachabilityPath(List.of(
+                        TypeDescriptors.fromClassName("com.app.Main"), TypeDescriptors.fromClassName(fromClass)))
+                .fromMethod(caller(fromClass))
+                .fromLineNumber(lineNumber)
+                .targetMethod(target)
+                .build();
+    }
+
+    private static MethodReference caller(String fromClass) {
+        return new MethodReference(
+                TypeDescriptors.fromClassName(fromClass), MethodDescriptor.ofDescriptor("()V", "run"), true);
+    }
+}
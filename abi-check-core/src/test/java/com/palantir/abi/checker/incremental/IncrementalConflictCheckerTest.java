@@ -0,0 +1,249 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.ImmutableList;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import com.palantir.abi.checker.AbiCheckerClassLoader;
+import com.palantir.abi.checker.ArtifactLoader;
+import com.palantir.abi.checker.CollectingConflictSink;
+import com.palantir.abi.checker.ConflictChecker;
+import com.palantir.abi.checker.ConflictCheckerConfiguration;
+import com.palantir.abi.checker.JdkModuleLoader;
+import com.palantir.abi.checker.datamodel.Artifact;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.classlocation.ClassLocation;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.types.TypeDescriptors;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Set;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class IncrementalConflictCheckerTest {
+    private static final List<Artifact> JDK_ARTIFACTS = new JdkModuleLoader().getJavaModuleArtifacts();
+    private static final ConflictCheckerConfiguration CONFIGURATION =
+            ConflictCheckerConfiguration.builder().build();
+
+    private static final JavaFileObject LIB = JavaFileObjects.forSourceString(
+            "dep.b.Lib",
+            // language=java
+            """
+            package dep.b;
+            public class Lib {
+                public static void existing() {}
+            }
+            """);
+    // Only used to compile the callers of the missing method, the classpath only has the version above
+    private static final JavaFileObject LIB_WITH_MISSING_METHOD = JavaFileObjects.forSourceString(
+            "dep.b.Lib",
+            // language=java
+            """
+            package dep.b;
+            public class Lib {
+                public static void existing() {}
+                public static void missing() {}
+            }
+            """);
+
+    @TempDir
+    public Path projectDir;
+
+    @TempDir
+    public Path depADir;
+
+    @TempDir
+    public Path depBDir;
+
+    @BeforeEach
+    public void before() throws IOException {
+        compileInto(
+                depADir,
+                "dep/a/",
+                LIB_WITH_MISSING_METHOD,
+                JavaFileObjects.forSourceString(
+                        "dep.a.Working",
+                        // language=java
+                        """
+                        package dep.a;
+                        public class Working {
+                            public static void call() {
+                                dep.b.Lib.existing();
+                            }
+                        }
+                        """),
+                JavaFileObjects.forSourceString(
+                        "dep.a.Broken",
+                        // language=java
+                        """
+                        package dep.a;
+                        public class Broken {
+                            public static void call() {
+                                dep.b.Lib.missing();
+                            }
+                        }
+                        """));
+        compileInto(depBDir, "dep/b/", LIB);
+    }
+
+    @Test
+    public void finds_conflicts_reached_through_a_modified_class() throws IOException {
+        compileProject("dep.a.Working.call();");
+        ConflictChecker previousChecker = createChecker();
+        assertThat(previousChecker.check()).isEmpty();
+
+        compileProject("dep.a.Broken.call();");
+        ConflictChecker incrementalChecker = createIncrementalChecker(previousChecker.incrementalState());
+        List<Conflict> conflicts = incrementalChecker.check();
+
+        assertThat(conflicts)
+                .hasSize(1)
+                .containsExactlyInAnyOrderElementsOf(createChecker().check());
+        assertThat(incrementalChecker.incrementalState().classesWithConflicts()).containsExactly("dep.a.Broken");
+    }
+
+    @Test
+    public void keeps_reporting_conflicts_of_unchanged_classes() throws IOException {
+        compileProject("dep.a.Broken.call();");
+        ConflictChecker previousChecker = createChecker();
+        List<Conflict> previousConflicts = previousChecker.check();
+        assertThat(previousConflicts).hasSize(1);
+
+        // Nothing reachable changes, but the previous conflict must still be reported
+        compileProject("dep.a.Broken.call(); dep.a.Broken.call();");
+        assertThat(createIncrementalChecker(previousChecker.incrementalState()).check())
+                .containsExactlyInAnyOrderElementsOf(previousConflicts);
+    }
+
+    @Test
+    public void stops_reporting_conflicts_that_are_no_longer_reachable() throws IOException {
+        compileProject("dep.a.Broken.call();");
+        ConflictChecker previousChecker = createChecker();
+        assertThat(previousChecker.check()).hasSize(1);
+
+        compileProject("dep.a.Working.call();");
+        ConflictChecker incrementalChecker = createIncrementalChecker(previousChecker.incrementalState());
+
+        assertThat(incrementalChecker.check()).isEmpty();
+        assertThat(incrementalChecker.incrementalState().references()).doesNotContainKey("dep.a.Broken");
+    }
+
+    @Test
+    public void checks_stopped_by_their_sink_cannot_be_built_upon() throws IOException {
+        compileProject("dep.a.Broken.call();");
+        ConflictChecker checker = createChecker();
+        CollectingConflictSink sink = CollectingConflictSink.failFast();
+
+        assertThat(checker.check(sink)).isFalse();
+        assertThat(sink.conflicts()).hasSize(1);
+        assertThat(sink.stoppedCheck()).isTrue();
+        assertThatThrownBy(checker::incrementalState).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void checks_collecting_every_conflict_can_be_built_upon() throws IOException {
+        compileProject("dep.a.Broken.call();");
+        ConflictChecker checker = createChecker();
+        CollectingConflictSink sink = CollectingConflictSink.collectAll();
+
+        assertThat(checker.check(sink)).isTrue();
+        assertThat(sink.conflicts())
+                .hasSize(1)
+                .containsExactlyElementsOf(createChecker().check());
+        assertThat(sink.stoppedCheck()).isFalse();
+        assertThat(checker.incrementalState().classesWithConflicts()).containsExactly("dep.a.Broken");
+    }
+
+    private void compileProject(String mainBody) throws IOException {
+        compileInto(
+                projectDir,
+                "com/app/",
+                LIB_WITH_MISSING_METHOD,
+                JavaFileObjects.forSourceString(
+                        "dep.a.Working", "package dep.a; public class Working { public static void call() {} }"),
+                JavaFileObjects.forSourceString(
+                        "dep.a.Broken", "package dep.a; public class Broken { public static void call() {} }"),
+                JavaFileObjects.forSourceString(
+                        "com.app.Main",
+                        "package com.app; public class Main { public static void main(String[] args) { " + mainBody
+                                + " } }"));
+    }
+
+    private ConflictChecker createChecker() {
+        return ConflictChecker.create(CONFIGURATION, new AbiCheckerClassLoader(), classpath(), projectClasses());
+    }
+
+    private ConflictChecker createIncrementalChecker(IncrementalState previousState) {
+        return ConflictChecker.createIncrementally(
+                CONFIGURATION,
+                // Project classes were rewritten in place, so nothing must be served from a previous cache
+                new AbiCheckerClassLoader(),
+                classpath(),
+                projectClasses(),
+                previousState,
+                Set.of(TypeDescriptors.fromClassName("com.app.Main")));
+    }
+
+    private List<Artifact> classpath() {
+        ArtifactLoader loader = new ArtifactLoader();
+        return ImmutableList.<Artifact>builder()
+                .addAll(JDK_ARTIFACTS)
+                .add(loader.load(projectDir, ArtifactName.of("project")))
+                .add(loader.load(depADir, ArtifactName.of("dep-a")))
+                .add(loader.load(depBDir, ArtifactName.of("dep-b")))
+                .build();
+    }
+
+    private List<ClassLocation> projectClasses() {
+        return List.copyOf(new ArtifactLoader()
+                .load(projectDir, ArtifactName.of("project"))
+                .classes()
+                .values());
+    }
+
+    /**
+     * Compiles the provided sources, only keeping the classes under {@code packagePath}.
+     */
+    private static void compileInto(Path target, String packagePath, JavaFileObject... sources) throws IOException {
+        Compilation compilation = Compiler.javac().compile(sources);
+        String outputPrefix = "/" + StandardLocation.CLASS_OUTPUT.getName() + "/";
+        for (JavaFileObject classFile : compilation.generatedFiles()) {
+            String relativePath = classFile.getName().substring(outputPrefix.length());
+            if (classFile.getKind() != JavaFileObject.Kind.CLASS || !relativePath.startsWith(packagePath)) {
+                continue;
+            }
+            Path classPath = target.resolve(relativePath);
+            Files.createDirectories(classPath.getParent());
+            try (InputStream inputStream = classFile.openInputStream()) {
+                Files.copy(inputStream, classPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+}
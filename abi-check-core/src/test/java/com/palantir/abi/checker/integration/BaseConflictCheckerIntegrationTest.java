@@ -26,10 +26,12 @@ import com.palantir.abi.checker.AbiCheckerClassLoader;
 import com.palantir.abi.checker.ArtifactLoader;
 import com.palantir.abi.checker.ConflictChecker;
 import com.palantir.abi.checker.ConflictCheckerConfiguration;
+import com.palantir.abi.checker.ImmutableConflictCheckerConfiguration;
 import com.palantir.abi.checker.JdkModuleLoader;
 import com.palantir.abi.checker.datamodel.Artifact;
 import com.palantir.abi.checker.datamodel.ArtifactName;
 import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.graph.ReachabilityAnalysis;
 import com.palantir.abi.checker.datamodel.method.MethodDescriptor;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
@@ -42,6 +44,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import javax.tools.JavaFileObject;
 import javax.tools.JavaFileObject.Kind;
@@ -156,6 +159,21 @@ abstract class BaseConflictCheckerIntegrationTest {
      *   - the {@link #TRANSITIVE} directory's classes as the transitive dependency, which might have conflicts
      */
     protected static List<Conflict> checkConflicts(Path baseDir) {
+        return checkConflicts(baseDir, ReachabilityAnalysis.CLASS_REFERENCES);
+    }
+
+    /**
+     * Same as {@link #checkConflicts(Path)}, determining the reachable classes and methods with the provided analysis.
+     */
+    protected static List<Conflict> checkConflicts(Path baseDir, ReachabilityAnalysis reachabilityAnalysis) {
+        return checkConflicts(baseDir, configuration -> configuration.reachabilityAnalysis(reachabilityAnalysis));
+    }
+
+    /**
+     * Same as {@link #checkConflicts(Path)}, with additional configuration (e.g. the entry points to start from).
+     */
+    protected static List<Conflict> checkConflicts(
+            Path baseDir, Consumer<ImmutableConflictCheckerConfiguration.Builder> configure) {
         Artifact root = loadArtifact(baseDir, ROOT);
         Artifact dependency = loadArtifact(baseDir, DEPENDENCY);
         Artifact transitive = loadArtifact(baseDir, TRANSITIVE);
@@ -166,13 +184,13 @@ abstract class BaseConflictCheckerIntegrationTest {
         artifacts.add(dependency);
         artifacts.add(transitive);
 
-        ConflictCheckerConfiguration configuration = ConflictCheckerConfiguration.builder()
-                .addErrorArtifactPrefixes(DEPENDENCY)
-                .build();
+        ImmutableConflictCheckerConfiguration.Builder configuration =
+                ConflictCheckerConfiguration.builder().addErrorArtifactPrefixes(DEPENDENCY);
+        configure.accept(configuration);
 
         // Use new loaders to avoid any caching between tests
         return ConflictChecker.checkWithEntryPoints(
-                configuration,
+                configuration.build(),
                 new AbiCheckerClassLoader(),
                 artifacts,
                 root.classes().values());
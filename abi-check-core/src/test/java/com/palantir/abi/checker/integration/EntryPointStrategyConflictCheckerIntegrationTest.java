@@ -0,0 +1,257 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.graph.EntryPointStrategy;
+import com.palantir.abi.checker.datamodel.graph.ReachabilityAnalysis;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class EntryPointStrategyConflictCheckerIntegrationTest extends BaseConflictCheckerIntegrationTest {
+
+    @Test
+    public void library_strategy_only_starts_from_the_public_api() {
+        JavaFiles.Builder sources = dependencyWithBrokenMethods();
+        sources.root(
+                "com.Root",
+                // language=java
+                """
+                package com;
+                public class Root {
+                    public void api() {
+                        new Reachable().first();
+                    }
+                    void internal() {
+                        new Reachable().second();
+                    }
+                }
+                """);
+        sources.root(
+                "com.Internal",
+                // language=java
+                """
+                package com;
+                class Internal {
+                    public void run() {
+                        new Reachable().third();
+                    }
+                }
+                """);
+
+        generateClassFiles(tempDir, sources.build());
+
+        assertThat(targetClasses(checkConflicts(tempDir, EntryPointStrategy.ALL_CLASSES)))
+                .containsExactlyInAnyOrder("com.First", "com.Second", "com.Third");
+        assertThat(targetClasses(checkConflicts(tempDir, EntryPointStrategy.LIBRARY)))
+                .containsExactly("com.First");
+    }
+
+    @Test
+    public void application_strategy_only_starts_from_main_methods() {
+        JavaFiles.Builder sources = dependencyWithBrokenMethods();
+        sources.root(
+                "com.Main",
+                // language=java
+                """
+                package com;
+                public class Main {
+                    public static void main(String[] args) {
+                        new Reachable().first();
+                    }
+                    public void main() {
+                        new Reachable().second();
+                    }
+                }
+                """);
+        sources.root(
+                "com.Api",
+                // language=java
+                """
+                package com;
+                public class Api {
+                    public void run() {
+                        new Reachable().third();
+                    }
+                }
+                """);
+
+        generateClassFiles(tempDir, sources.build());
+
+        assertThat(targetClasses(checkConflicts(tempDir, EntryPointStrategy.APPLICATION)))
+                .containsExactly("com.First");
+    }
+
+    @Test
+    public void service_providers_are_entry_points_of_libraries_and_applications() {
+        JavaFiles.Builder sources = dependencyWithBrokenMethods();
+        sources.root(
+                "com.Provider",
+                // language=java
+                """
+                package com;
+                class Provider implements Runnable {
+                    @Override
+                    public void run() {
+                        new Reachable().first();
+                    }
+                }
+                """);
+
+        generateClassFiles(tempDir, sources.build());
+
+        assertThat(checkConflicts(tempDir, EntryPointStrategy.LIBRARY)).isEmpty();
+        for (EntryPointStrategy strategy : List.of(EntryPointStrategy.LIBRARY, EntryPointStrategy.APPLICATION)) {
+            assertThat(targetClasses(checkConflicts(tempDir, configuration -> configuration
+                            .reachabilityAnalysis(ReachabilityAnalysis.CLASS_HIERARCHY_ANALYSIS)
+                            .entryPointStrategy(strategy)
+                            .addServiceProviders("com.Provider"))))
+                    .describedAs(strategy.name())
+                    .containsExactly("com.First");
+        }
+        // Only the configured roots are entry points of custom strategies
+        assertThat(checkConflicts(tempDir, configuration -> configuration
+                        .reachabilityAnalysis(ReachabilityAnalysis.CLASS_HIERARCHY_ANALYSIS)
+                        .entryPointStrategy(EntryPointStrategy.CUSTOM)
+                        .addServiceProviders("com.Provider")))
+                .isEmpty();
+    }
+
+    @Test
+    public void custom_strategy_only_starts_from_the_configured_roots() {
+        JavaFiles.Builder sources = dependencyWithBrokenMethods();
+        sources.root(
+                "com.Root",
+                // language=java
+                """
+                package com;
+                public class Root {
+                    public void first() {
+                        new Reachable().first();
+                    }
+                    public void second() {
+                        new Reachable().second();
+                    }
+                }
+                """);
+        sources.root(
+                "com.Handler",
+                // language=java
+                """
+                package com;
+                public class Handler {
+                    public void handle() {
+                        new Reachable().third();
+                    }
+                }
+                """);
+
+        generateClassFiles(tempDir, sources.build());
+
+        assertThat(targetClasses(checkConflicts(tempDir, configuration -> configuration
+                        .reachabilityAnalysis(ReachabilityAnalysis.CLASS_HIERARCHY_ANALYSIS)
+                        .entryPointStrategy(EntryPointStrategy.CUSTOM)
+                        .addEntryPointRoots("com.Root#second", "com.Handler", "com.Unknown"))))
+                .containsExactlyInAnyOrder("com.Second", "com.Third");
+    }
+
+    @Test
+    public void class_references_start_from_every_class_with_an_entry_point() {
+        JavaFiles.Builder sources = dependencyWithBrokenMethods();
+        sources.root(
+                "com.Main",
+                // language=java
+                """
+                package com;
+                public class Main {
+                    public static void main(String[] args) {}
+                    public void other() {
+                        new Reachable().first();
+                    }
+                }
+                """);
+        sources.root(
+                "com.Api",
+                // language=java
+                """
+                package com;
+                public class Api {
+                    public void run() {
+                        new Reachable().second();
+                    }
+                }
+                """);
+
+        generateClassFiles(tempDir, sources.build());
+
+        // All the references of the classes with an entry point are followed, regardless of the method making them
+        assertThat(targetClasses(checkConflicts(tempDir, configuration -> configuration
+                        .reachabilityAnalysis(ReachabilityAnalysis.CLASS_REFERENCES)
+                        .entryPointStrategy(EntryPointStrategy.APPLICATION))))
+                .containsExactlyInAnyOrder("com.First", "com.Second", "com.Third");
+    }
+
+    private static List<Conflict> checkConflicts(Path baseDir, EntryPointStrategy entryPointStrategy) {
+        return checkConflicts(baseDir, configuration -> configuration
+                .reachabilityAnalysis(ReachabilityAnalysis.CLASS_HIERARCHY_ANALYSIS)
+                .entryPointStrategy(entryPointStrategy));
+    }
+
+    private static List<String> targetClasses(List<Conflict> conflicts) {
+        return conflicts.stream()
+                .map(conflict -> conflict.dependency().targetClass().className())
+                .toList();
+    }
+
+    /**
+     * A dependency whose methods each use a different class of the transitive dependency, all of which got removed.
+     */
+    private static JavaFiles.Builder dependencyWithBrokenMethods() {
+        JavaFiles.Builder sources = JavaFiles.builder();
+        sources.unreachableDependency(
+                "com.Reachable",
+                // language=java
+                """
+                package com;
+                public class Reachable {
+                    public void first() {
+                        new First();
+                    }
+                    public void second() {
+                        new Second();
+                    }
+                    public void third() {
+                        new Third();
+                    }
+                }
+                """);
+        for (String removed : List.of("First", "Second", "Third")) {
+            sources.transitiveBeforeDependency(
+                    "com." + removed,
+                    // language=java
+                    """
+                    package com;
+                    public class %s {}
+                    """
+                            .formatted(removed));
+        }
+        return sources;
+    }
+}
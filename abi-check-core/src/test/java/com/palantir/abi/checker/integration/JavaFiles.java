@@ -104,6 +104,13 @@ interface JavaFiles {
     }
 
     final class Builder extends ImmutableJavaFiles.Builder {
+        /**
+         * Replaces the default root project source, which calls into each of the reachable classes.
+         */
+        Builder root(String className, String source) {
+            return addRootSources(file(className, source));
+        }
+
         Builder reachableDependency(String className, String source) {
             return addAllReachableDependencies(file(className, source));
         }
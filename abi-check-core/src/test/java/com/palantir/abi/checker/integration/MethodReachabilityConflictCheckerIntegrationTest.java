@@ -0,0 +1,367 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.conflict.Conflict.ConflictCategory;
+import com.palantir.abi.checker.datamodel.graph.ReachabilityAnalysis;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class MethodReachabilityConflictCheckerIntegrationTest extends BaseConflictCheckerIntegrationTest {
+
+    @Test
+    public void uncalled_methods_of_reachable_classes_dont_create_conflicts() {
+        JavaFiles.Builder sources = JavaFiles.builder();
+        sources.reachableDependency(
+                "com.Reachable",
+                // language=java
+                """
+                package com;
+                public class Reachable {
+                    // Nothing calls this method, so it can't break at runtime
+                    public void unused() {
+                        new Removed();
+                    }
+                }
+                """);
+        sources.transitiveBeforeDependency(
+                "com.Removed",
+                // language=java
+                """
+                package com;
+                public class Removed {}
+                """);
+
+        generateClassFiles(tempDir, sources.build());
+
+        // Class references consider all methods of Reachable, including the uncalled one
+        assertThat(checkConflicts(tempDir, ReachabilityAnalysis.CLASS_REFERENCES))
+                .hasSize(1);
+        assertThat(checkConflicts(tempDir, ReachabilityAnalysis.CLASS_HIERARCHY_ANALYSIS))
+                .isEmpty();
+        assertThatNoException().isThrownBy(() -> runClassFiles(tempDir));
+    }
+
+    @Test
+    public void virtual_calls_reach_overrides_of_reachable_subtypes() {
+        JavaFiles.Builder sources = JavaFiles.builder();
+        sources.reachableDependency(
+                "com.Reachable",
+                // language=java
+                """
+                package com;
+                public class Reachable {
+                    public Reachable() {
+                        Base base = new Impl();
+                        base.method();
+                    }
+                }
+                """);
+        sources.unreachableDependency(
+                "com.Base",
+                // language=java
+                """
+                package com;
+                public abstract class Base {
+                    public abstract void method();
+                }
+                """);
+        sources.unreachableDependency(
+                "com.Impl",
+                // language=java
+                """
+                package com;
+                public class Impl extends Base {
+                    @Override
+                    public void method() {
+                        new Removed();
+                    }
+                }
+                """);
+        sources.transitiveBeforeDependency(
+                "com.Removed",
+                // language=java
+                """
+                package com;
+                public class Removed {}
+                """);
+
+        generateClassFiles(tempDir, sources.build());
+        List<Conflict> conflicts = checkConflicts(tempDir, ReachabilityAnalysis.CLASS_HIERARCHY_ANALYSIS);
+
+        assertThat(conflicts).hasSize(1);
+        Conflict conflict = conflicts.get(0);
+        assertThat(conflict.category()).isEqualTo(ConflictCategory.CLASS_NOT_FOUND);
+        assertThat(conflict.dependency().fromClass().className()).isEqualTo("com.Impl");
+        assertThat(conflict.dependency().targetClass().className()).isEqualTo("com.Removed");
+
+        assertThatExceptionOfType(InvocationTargetException.class)
+                .isThrownBy(() -> runClassFiles(tempDir))
+                .havingCause()
+                .isInstanceOf(NoClassDefFoundError.class)
+                .withMessageContaining("com/Removed");
+    }
+
+    @Test
+    public void interface_calls_reach_implementations_inherited_by_reachable_subtypes() {
+        JavaFiles.Builder sources = JavaFiles.builder();
+        sources.reachableDependency(
+                "com.Reachable",
+                // language=java
+                """
+                package com;
+                public class Reachable {
+                    public Reachable() {
+                        Task task = new Impl();
+                        task.run();
+                    }
+                }
+                """);
+        sources.unreachableDependency(
+                "com.Task",
+                // language=java
+                """
+                package com;
+                public interface Task {
+                    void run();
+                }
+                """);
+        // Impl implements Task through the method it inherits from Helper, which isn't a Task itself
+        sources.unreachableDependency(
+                "com.Helper",
+                // language=java
+                """
+                package com;
+                public class Helper {
+                    public void run() {
+                        new Removed();
+                    }
+                }
+                """);
+        sources.unreachableDependency(
+                "com.Impl",
+                // language=java
+                """
+                package com;
+                public class Impl extends Helper implements Task {}
+                """);
+        sources.transitiveBeforeDependency(
+                "com.Removed",
+                // language=java
+                """
+                package com;
+                public class Removed {}
+                """);
+
+        generateClassFiles(tempDir, sources.build());
+        List<Conflict> conflicts = checkConflicts(tempDir, ReachabilityAnalysis.CLASS_HIERARCHY_ANALYSIS);
+
+        assertThat(conflicts).hasSize(1);
+        Conflict conflict = conflicts.get(0);
+        assertThat(conflict.category()).isEqualTo(ConflictCategory.CLASS_NOT_FOUND);
+        assertThat(conflict.dependency().fromClass().className()).isEqualTo("com.Helper");
+        assertThat(conflict.dependency().targetClass().className()).isEqualTo("com.Removed");
+
+        assertThatExceptionOfType(InvocationTargetException.class)
+                .isThrownBy(() -> runClassFiles(tempDir))
+                .havingCause()
+                .isInstanceOf(NoClassDefFoundError.class)
+                .withMessageContaining("com/Removed");
+    }
+
+    @Test
+    public void static_initializers_of_reachable_classes_are_reachable() {
+        JavaFiles.Builder sources = JavaFiles.builder();
+        sources.reachableDependency(
+                "com.Reachable",
+                // language=java
+                """
+                package com;
+                public class Reachable {
+                    public Reachable() {
+                        System.out.println(Holder.field);
+                    }
+                }
+                """);
+        sources.unreachableDependency(
+                "com.Holder",
+                // language=java
+                """
+                package com;
+                public class Holder {
+                    public static Object field = new Removed();
+                }
+                """);
+        sources.transitiveBeforeDependency(
+                "com.Removed",
+                // language=java
+                """
+                package com;
+                public class Removed {}
+                """);
+
+        generateClassFiles(tempDir, sources.build());
+        List<Conflict> conflicts = checkConflicts(tempDir, ReachabilityAnalysis.CLASS_HIERARCHY_ANALYSIS);
+
+        assertThat(conflicts).hasSize(1);
+        Conflict conflict = conflicts.get(0);
+        assertThat(conflict.category()).isEqualTo(ConflictCategory.CLASS_NOT_FOUND);
+        assertThat(conflict.dependency().targetClass().className()).isEqualTo("com.Removed");
+
+        assertThatExceptionOfType(InvocationTargetException.class)
+                .isThrownBy(() -> runClassFiles(tempDir))
+                .havingCause()
+                .isInstanceOf(NoClassDefFoundError.class)
+                .withMessageContaining("com/Removed");
+    }
+
+    @Test
+    public void rapid_type_analysis_ignores_overrides_of_classes_never_instantiated() {
+        JavaFiles.Builder sources = JavaFiles.builder();
+        sources.reachableDependency(
+                "com.Reachable",
+                // language=java
+                """
+                package com;
+                public class Reachable {
+                    public Reachable() {
+                        Task task = new Instantiated();
+                        task.run();
+                        // NeverInstantiated is reachable, but there is no instance of it to call run on
+                        NeverInstantiated.helper();
+                    }
+                }
+                """);
+        sources.unreachableDependency(
+                "com.Task",
+                // language=java
+                """
+                package com;
+                public interface Task {
+                    void run();
+                }
+                """);
+        sources.unreachableDependency(
+                "com.Instantiated",
+                // language=java
+                """
+                package com;
+                public class Instantiated implements Task {
+                    @Override
+                    public void run() {}
+                }
+                """);
+        sources.unreachableDependency(
+                "com.NeverInstantiated",
+                // language=java
+                """
+                package com;
+                public class NeverInstantiated implements Task {
+                    public static void helper() {}
+
+                    @Override
+                    public void run() {
+                        new Removed();
+                    }
+                }
+                """);
+        sources.transitiveBeforeDependency(
+                "com.Removed",
+                // language=java
+                """
+                package com;
+                public class Removed {}
+                """);
+
+        generateClassFiles(tempDir, sources.build());
+
+        // Class hierarchy analysis considers that run may be called on any reachable Task
+        assertThat(checkConflicts(tempDir, ReachabilityAnalysis.CLASS_HIERARCHY_ANALYSIS))
+                .hasSize(1);
+        assertThat(checkConflicts(tempDir, ReachabilityAnalysis.RAPID_TYPE_ANALYSIS))
+                .isEmpty();
+        assertThatNoException().isThrownBy(() -> runClassFiles(tempDir));
+    }
+
+    @Test
+    public void rapid_type_analysis_reaches_overrides_of_instantiated_classes() {
+        JavaFiles.Builder sources = JavaFiles.builder();
+        sources.reachableDependency(
+                "com.Reachable",
+                // language=java
+                """
+                package com;
+                import java.util.function.Supplier;
+                public class Reachable {
+                    public Reachable() {
+                        // Instantiated through a constructor reference rather than directly
+                        Supplier<Task> supplier = Impl::new;
+                        supplier.get().run();
+                    }
+                }
+                """);
+        sources.unreachableDependency(
+                "com.Task",
+                // language=java
+                """
+                package com;
+                public interface Task {
+                    void run();
+                }
+                """);
+        sources.unreachableDependency(
+                "com.Impl",
+                // language=java
+                """
+                package com;
+                public class Impl implements Task {
+                    @Override
+                    public void run() {
+                        new Removed();
+                    }
+                }
+                """);
+        sources.transitiveBeforeDependency(
+                "com.Removed",
+                // language=java
+                """
+                package com;
+                public class Removed {}
+                """);
+
+        generateClassFiles(tempDir, sources.build());
+        List<Conflict> conflicts = checkConflicts(tempDir, ReachabilityAnalysis.RAPID_TYPE_ANALYSIS);
+
+        assertThat(conflicts).hasSize(1);
+        Conflict conflict = conflicts.get(0);
+        assertThat(conflict.category()).isEqualTo(ConflictCategory.CLASS_NOT_FOUND);
+        assertThat(conflict.dependency().fromClass().className()).isEqualTo("com.Impl");
+        assertThat(conflict.dependency().targetClass().className()).isEqualTo("com.Removed");
+
+        assertThatExceptionOfType(InvocationTargetException.class)
+                .isThrownBy(() -> runClassFiles(tempDir))
+                .havingCause()
+                .isInstanceOf(NoClassDefFoundError.class)
+                .withMessageContaining("com/Removed");
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.abi.checker.AbiCheckerClassLoader;
+import com.palantir.abi.checker.ConflictChecker;
+import com.palantir.abi.checker.ConflictCheckerConfiguration;
+import com.palantir.abi.checker.JdkModuleLoader;
+import com.palantir.abi.checker.datamodel.Artifact;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.classlocation.ClassLocation;
+import com.palantir.abi.checker.datamodel.types.TypeDescriptors;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ArtifactCostsTest {
+
+    @Test
+    public void attributes_work_to_the_artifacts_providing_the_classes() {
+        List<Artifact> jdkArtifacts = new JdkModuleLoader().getJavaModuleArtifacts();
+        ClassLocation entryPoint = jdkArtifacts.stream()
+                .flatMap(artifact -> artifact.classes().values().stream())
+                .filter(location -> location.className().equals(TypeDescriptors.fromClassName("java.util.ArrayList")))
+                .findFirst()
+                .orElseThrow();
+
+        ConflictChecker checker = ConflictChecker.create(
+                ConflictCheckerConfiguration.builder().build(),
+                new AbiCheckerClassLoader(),
+                jdkArtifacts,
+                List.of(entryPoint));
+        checker.check();
+
+        List<ArtifactCost> costs = checker.artifactCosts();
+        assertThat(costs).hasSameSizeAs(jdkArtifacts);
+
+        ArtifactCost javaBase = costs.stream()
+                .filter(cost -> cost.artifact().equals(ArtifactName.of("java.base")))
+                .findFirst()
+                .orElseThrow();
+        assertThat(javaBase.classesIndexed()).isGreaterThan(javaBase.classesReached());
+        assertThat(javaBase.classesReached()).isPositive();
+        // Every reached class was parsed at most once, since the class loader was fresh
+        assertThat(javaBase.classesParsed()).isEqualTo(javaBase.classesReached());
+        assertThat(javaBase.lookupsServed()).isPositive();
+        // java.base is the only module reached from ArrayList, so it's by far the most expensive one
+        assertThat(costs.get(0)).isEqualTo(javaBase);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.abi.checker.AbiCheckerClassLoader;
+import com.palantir.abi.checker.ConflictChecker;
+import com.palantir.abi.checker.ConflictCheckerConfiguration;
+import com.palantir.abi.checker.JdkModuleLoader;
+import com.palantir.abi.checker.datamodel.Artifact;
+import com.palantir.abi.checker.datamodel.classlocation.ClassLocation;
+import com.palantir.abi.checker.datamodel.types.TypeDescriptors;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class FootprintEstimatorTest {
+
+    @Test
+    public void estimates_every_structure_and_attributes_to_artifacts() {
+        List<Artifact> jdkArtifacts = new JdkModuleLoader().getJavaModuleArtifacts();
+        AbiCheckerClassLoader classLoader = new AbiCheckerClassLoader();
+        ClassLocation entryPoint = jdkArtifacts.stream()
+                .flatMap(artifact -> artifact.classes().values().stream())
+                .filter(location -> location.className().equals(TypeDescriptors.fromClassName("java.util.ArrayList")))
+                .findFirst()
+                .orElseThrow();
+
+        ConflictChecker checker = ConflictChecker.create(
+                ConflictCheckerConfiguration.builder().build(), classLoader, jdkArtifacts, List.of(entryPoint));
+        checker.check();
+
+        MemoryFootprint footprint =
+                FootprintEstimator.estimate(classLoader, jdkArtifacts, checker.classIndex(), checker.classGraph());
+
+        assertThat(footprint.bytesPerStructure())
+                .containsOnlyKeys(
+                        MemoryFootprint.CLASS_LOADER_CACHE,
+                        MemoryFootprint.CLASS_INDEX,
+                        MemoryFootprint.JDK_ARTIFACTS,
+                        MemoryFootprint.REACHABILITY)
+                .allSatisfy((_structure, bytes) -> assertThat(bytes).isPositive());
+        assertThat(footprint.bytesPerArtifact()).containsKey("java.base");
+        // Sorted from largest to smallest, java.base being by far the largest module
+        assertThat(footprint.bytesPerArtifact().keySet()).first().isEqualTo("java.base");
+        // Some of the structures' overhead can't be attributed to any single artifact
+        assertThat(footprint.totalBytes())
+                .isGreaterThanOrEqualTo(footprint.bytesPerArtifact().values().stream()
+                        .mapToLong(Long::longValue)
+                        .sum());
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import com.palantir.abi.checker.AbiCheckerClassLoader;
+import com.palantir.abi.checker.ArtifactLoader;
+import com.palantir.abi.checker.ConflictChecker;
+import com.palantir.abi.checker.ConflictCheckerConfiguration;
+import com.palantir.abi.checker.datamodel.Artifact;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.classlocation.ClassLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ReachabilityAttributorTest {
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void attributes_exclusively_reached_classes_to_their_entry_point() throws IOException {
+        // com.a.Heavy reaches two classes on its own, and one that is shared with com.b.Light
+        compile(
+                JavaFileObjects.forSourceString(
+                        "com.a.Heavy",
+                        // language=java
+                        """
+                        package com.a;
+                        public class Heavy {
+                            public Object field = new dep.Exclusive();
+                            public Object shared = new dep.Shared();
+                        }
+                        """),
+                JavaFileObjects.forSourceString(
+                        "com.b.Light",
+                        // language=java
+                        """
+                        package com.b;
+                        public class Light {
+                            public Object shared = new dep.Shared();
+                        }
+                        """),
+                JavaFileObjects.forSourceString(
+                        "dep.Exclusive",
+                        // language=java
+                        """
+                        package dep;
+                        public class Exclusive {
+                            public Object field = new ExclusiveTransitive();
+                        }
+                        """),
+                JavaFileObjects.forSourceString(
+                        "dep.ExclusiveTransitive",
+                        // language=java
+                        """
+                        package dep;
+                        public class ExclusiveTransitive {}
+                        """),
+                JavaFileObjects.forSourceString(
+                        "dep.Shared",
+                        // language=java
+                        """
+                        package dep;
+                        public class Shared {}
+                        """));
+
+        Artifact artifact = new ArtifactLoader().load(tempDir, ArtifactName.of("classes"));
+        List<ClassLocation> entryPoints = artifact.classes().values().stream()
+                .filter(location -> location.className().className().startsWith("com."))
+                .toList();
+
+        ConflictChecker checker = ConflictChecker.create(
+                ConflictCheckerConfiguration.builder().build(),
+                new AbiCheckerClassLoader(),
+                List.of(artifact),
+                entryPoints);
+        checker.check();
+
+        ReachabilityAttribution attribution = checker.reachabilityAttribution(10);
+        assertThat(attribution.reachableClasses()).isEqualTo(5);
+        assertThat(attribution.sharedClasses()).isEqualTo(1);
+        assertThat(attribution.entryPointClasses())
+                .extracting(EntryPointCost::name, EntryPointCost::classesDominated)
+                .containsExactly(tuple("com.a.Heavy", 3), tuple("com.b.Light", 1));
+        assertThat(attribution.entryPointPackages())
+                .extracting(EntryPointCost::name, EntryPointCost::classesDominated)
+                .containsExactly(tuple("com.a", 3), tuple("com.b", 1));
+        assertThat(attribution.entryPointClasses().get(0).referencesChecked())
+                .isGreaterThan(attribution.entryPointClasses().get(1).referencesChecked());
+
+        assertThat(checker.reachabilityAttribution(1).entryPointClasses())
+                .extracting(EntryPointCost::name)
+                .containsExactly("com.a.Heavy");
+    }
+
+    private void compile(JavaFileObject... sources) throws IOException {
+        Compilation compilation = Compiler.javac().compile(sources);
+        for (JavaFileObject classFile : compilation.generatedFiles()) {
+            if (classFile.getKind() != JavaFileObject.Kind.CLASS) {
+                continue;
+            }
+            // Generated class files are named e.g. /CLASS_OUTPUT/com/a/Heavy.class
+            String relativePath =
+                    classFile.getName().substring(("/" + StandardLocation.CLASS_OUTPUT.getName() + "/").length());
+            Path target = tempDir.resolve(relativePath);
+            Files.createDirectories(target.getParent());
+            try (InputStream inputStream = classFile.openInputStream()) {
+                Files.copy(inputStream, target);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.output;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.abi.checker.CollectingConflictSink;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.conflict.ConflictGroup;
+import com.palantir.abi.checker.datamodel.conflict.ImmutableMethodDependency;
+import com.palantir.abi.checker.datamodel.method.MethodDescriptor;
+import com.palantir.abi.checker.datamodel.method.MethodReference;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import com.palantir.abi.checker.datamodel.types.TypeDescriptors;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ConflictPrinterTest {
+    private static final ArtifactName USED_BY = ArtifactName.of("used-by");
+    private static final ArtifactName EXISTS_IN = ArtifactName.of("exists-in");
+    private static final ClassTypeDescriptor APP = TypeDescriptors.fromClassName("app.A");
+    private static final ClassTypeDescriptor LIB = TypeDescriptors.fromClassName("dep.Lib");
+
+    @TempDir
+    public Path reportDir;
+
+    @Test
+    public void outputs_every_call_site_of_root_causes_sharing_their_reason() {
+        // Both are printed as "void dep.Lib.missing()"
+        Conflict toStatic = conflict("first", 10, new MethodReference(LIB, descriptor("missing"), true));
+        Conflict toInstance = conflict("second", 20, new MethodReference(LIB, descriptor("missing"), false));
+
+        String output = ConflictPrinter.outputConflicts(List.of(toStatic, toInstance));
+
+        assertThat(output)
+                .containsOnlyOnce("- Method not found: void dep.Lib.missing()")
+                .contains("- In void first() (line 10)")
+                .contains("- In void second() (line 20)");
+    }
+
+    @Test
+    public void reports_conflict_groups_like_the_conflicts_they_hold() throws IOException {
+        MethodReference missing = new MethodReference(LIB, descriptor("missing"), true);
+        CollectingConflictSink sink = CollectingConflictSink.collectAll();
+        sink.accept(conflict("first", 10, missing));
+        sink.accept(conflict("second", 20, new MethodReference(LIB, descriptor("other"), true)));
+        sink.accept(conflict("first", 11, missing));
+
+        Path conflictsReport = reportDir.resolve("conflicts.txt");
+        Path groupsReport = reportDir.resolve("groups.txt");
+        String conflictsSummary = ConflictPrinter.reportConflicts(sink.conflicts(), "notes\n", conflictsReport);
+        String groupsSummary = ConflictPrinter.reportConflictGroups(sink.groups(), "notes\n", groupsReport);
+
+        assertThat(groupsSummary)
+                .startsWith("Found 3 ABI conflicts in 1 artifacts:\n\tused-by: 3 conflicts\n")
+                .isEqualTo(conflictsSummary.replace(conflictsReport.toString(), groupsReport.toString()));
+        assertThat(groupsReport).hasSameTextualContentAs(conflictsReport);
+        assertThat(Files.readString(groupsReport))
+                .contains("- In void first() (line 10, 11)")
+                .endsWith("notes\n");
+    }
+
+    @Test
+    public void summarizes_the_conflicts_of_many_projects_in_bounded_size() {
+        CollectingConflictSink sink = CollectingConflictSink.collectAll();
+        sink.accept(conflict("first", 10, new MethodReference(LIB, descriptor("missing"), true)));
+        Map<String, Collection<ConflictGroup>> groupsByProject = new LinkedHashMap<>();
+        for (int project = 0; project < 600; project++) {
+            groupsByProject.put(":project-" + project, sink.groups());
+        }
+
+        String summary = ConflictPrinter.summarizeProjects(groupsByProject, reportDir);
+
+        assertThat(summary)
+                .startsWith("Found 600 ABI conflicts in 600 projects, most affected:\n\t:project-0: 1 conflicts\n")
+                .contains("\t... and 590 more projects\n")
+                .contains("Found 600 ABI conflicts in 1 artifacts:\n\tused-by: 600 conflicts\n")
+                .endsWith("Reports of each project: " + reportDir + "\n")
+                .doesNotContain(":project-599");
+        assertThat(summary.lines()).hasSizeLessThan(30);
+    }
+
+    private static Conflict conflict(String fromMethod, int lineNumber, MethodReference target) {
+        return Conflict.methodNotFound(
+                ImmutableMethodDependency.builder()
+                        .reachabilityPath(List.of(APP))
+                        .fromMethod(new MethodReference(APP, descriptor(fromMethod), false))
+                        .fromLineNumber(lineNumber)
+                        .targetMethod(target)
+                        .build(),
+                USED_BY,
+                EXISTS_IN);
+    }
+
+    private static MethodDescriptor descriptor(String name) {
+        return MethodDescriptor.ofDescriptor("()V", name);
+    }
+}
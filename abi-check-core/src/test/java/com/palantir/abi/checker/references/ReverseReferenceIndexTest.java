@@ -0,0 +1,226 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.references;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import com.palantir.abi.checker.AbiCheckerClassLoader;
+import com.palantir.abi.checker.ArtifactLoader;
+import com.palantir.abi.checker.ConflictChecker;
+import com.palantir.abi.checker.ConflictCheckerConfiguration;
+import com.palantir.abi.checker.JdkModuleLoader;
+import com.palantir.abi.checker.datamodel.Artifact;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.field.FieldReference;
+import com.palantir.abi.checker.datamodel.method.MethodDescriptor;
+import com.palantir.abi.checker.datamodel.method.MethodReference;
+import com.palantir.abi.checker.datamodel.types.TypeDescriptors;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ReverseReferenceIndexTest {
+    private static final List<Artifact> JDK_ARTIFACTS = new JdkModuleLoader().getJavaModuleArtifacts();
+
+    private static final MethodReference CONSUMER = MethodReference.ofStatic(
+            TypeDescriptors.fromClassName("dep.a.Consumer"), MethodDescriptor.ofDescriptor("()V", "call"));
+    private static final MethodReference INHERITED = MethodReference.ofStatic(
+            TypeDescriptors.fromClassName("dep.b.Base"), MethodDescriptor.ofDescriptor("()V", "inherited"));
+
+    @TempDir
+    public Path projectDir;
+
+    @TempDir
+    public Path depADir;
+
+    @TempDir
+    public Path depBDir;
+
+    private ReverseReferenceIndex index;
+
+    @BeforeEach
+    public void before() throws IOException {
+        JavaFileObject base = JavaFileObjects.forSourceString(
+                "dep.b.Base",
+                """
+                package dep.b;
+                public class Base {
+                    public static int counter;
+                    public static void inherited() {}
+                    public static void unused() {}
+                }
+                """);
+        JavaFileObject sub = JavaFileObjects.forSourceString(
+                "dep.b.Sub", "package dep.b; public class Sub extends Base { public static void own() { unused(); } }");
+        JavaFileObject consumer = JavaFileObjects.forSourceString(
+                "dep.a.Consumer",
+                """
+                package dep.a;
+                public class Consumer {
+                    public static void call() {
+                        dep.b.Sub.inherited();
+                        dep.b.Sub.own();
+                        dep.b.Base.counter++;
+                    }
+                }
+                """);
+        compileInto(depADir, "dep/a/", base, sub, consumer);
+        compileInto(depBDir, "dep/b/", base, sub);
+        compileInto(
+                projectDir,
+                "com/app/",
+                base,
+                sub,
+                consumer,
+                JavaFileObjects.forSourceString(
+                        "com.app.Main",
+                        "package com.app; public class Main { public static void main(String[] args) { "
+                                + "dep.a.Consumer.call(); } }"));
+
+        ArtifactLoader loader = new ArtifactLoader();
+        Artifact project = loader.load(projectDir, ArtifactName.of("project"));
+        ConflictCheckerConfiguration configuration = ConflictCheckerConfiguration.builder()
+                .addIgnoredArtifactPrefixes("project")
+                .addAllIgnoredArtifactPrefixes(JDK_ARTIFACTS.stream()
+                        .map(artifact -> artifact.name().name())
+                        .toList())
+                .build();
+        ConflictChecker checker = ConflictChecker.create(
+                configuration,
+                new AbiCheckerClassLoader(),
+                ImmutableList.<Artifact>builder()
+                        .addAll(JDK_ARTIFACTS)
+                        .add(project)
+                        .add(loader.load(depADir, ArtifactName.of("com.a:dep-a:1.0")))
+                        .add(loader.load(depBDir, ArtifactName.of("com.b:dep-b:1.0")))
+                        .build(),
+                List.copyOf(project.classes().values()));
+        assertThat(checker.check()).isEmpty();
+        index = ReverseReferenceIndex.record(checker, configuration);
+    }
+
+    @Test
+    public void finds_the_usages_of_an_artifact_with_or_without_its_version() {
+        List<Usage> usages = index.usagesOf(ArtifactName.of("com.b:dep-b"));
+
+        assertThat(usages)
+                .extracting(Usage::member)
+                .containsExactlyInAnyOrder(
+                        INHERITED,
+                        MethodReference.ofStatic(
+                                TypeDescriptors.fromClassName("dep.b.Sub"),
+                                MethodDescriptor.ofDescriptor("()V", "own")),
+                        // Reading and writing it from the same method is a single usage
+                        counter());
+        assertThat(usages).extracting(Usage::consumer).containsOnly(CONSUMER);
+        assertThat(usages).extracting(Usage::consumerArtifact).containsOnly(ArtifactName.of("com.a:dep-a:1.0"));
+        assertThat(index.usagesOf(ArtifactName.of("com.b:dep-b:1.0"))).isEqualTo(usages);
+    }
+
+    @Test
+    public void records_inherited_members_as_declared() {
+        assertThat(index.usagesOf(INHERITED))
+                .singleElement()
+                .isEqualTo(new Usage(
+                        ArtifactName.of("com.b:dep-b:1.0"), INHERITED, ArtifactName.of("com.a:dep-a:1.0"), CONSUMER));
+        assertThat(index.usagesOf(TypeDescriptors.fromClassName("dep.b.Base"))).hasSize(2);
+        assertThat(index.usagesOf(counter()))
+                .singleElement()
+                .extracting(Usage::consumer)
+                .isEqualTo(CONSUMER);
+    }
+
+    @Test
+    public void leaves_out_usages_within_an_artifact() {
+        // Only called by dep.b.Sub itself, so removing it can't break any other artifact
+        assertThat(index.usagesOf(MethodReference.ofStatic(
+                        TypeDescriptors.fromClassName("dep.b.Base"), MethodDescriptor.ofDescriptor("()V", "unused"))))
+                .isEmpty();
+        assertThat(index.usagesOf(ArtifactName.of("com.a:dep-a"))).isEmpty();
+    }
+
+    @Test
+    public void reads_back_what_it_wrote_compressed_or_not() throws IOException {
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        index.write(plain);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            index.write(gzip);
+        }
+
+        for (byte[] bytes : List.of(plain.toByteArray(), compressed.toByteArray())) {
+            ReverseReferenceIndex read = ReverseReferenceIndex.read(new ByteArrayInputStream(bytes));
+            assertThat(read.usagesOf(ArtifactName.of("com.b:dep-b")))
+                    .isEqualTo(index.usagesOf(ArtifactName.of("com.b:dep-b")));
+            assertThat(read.usagesOf(INHERITED)).isEqualTo(index.usagesOf(INHERITED));
+        }
+    }
+
+    @Test
+    public void only_writes_the_members_of_recorded_usages() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        index.write(output);
+
+        JsonNode root = new ObjectMapper().readTree(output.toByteArray());
+        List<String> strings = new ArrayList<>();
+        root.path("strings").forEach(string -> strings.add(string.asText()));
+        // Neither dep.b.Sub.own(), which only calls within its artifact, nor what it calls is used by another artifact
+        assertThat(strings).contains("own").doesNotContain("unused");
+        assertThat(root.path("methods")).hasSize(3);
+    }
+
+    private static FieldReference counter() {
+        return FieldReference.of(
+                TypeDescriptors.fromClassName("dep.b.Base"), TypeDescriptors.fromRaw("I"), "counter", true);
+    }
+
+    /**
+     * Compiles the provided sources, only keeping the classes under {@code packagePath}.
+     */
+    private static void compileInto(Path target, String packagePath, JavaFileObject... sources) throws IOException {
+        Compilation compilation = Compiler.javac().compile(sources);
+        String outputPrefix = "/" + StandardLocation.CLASS_OUTPUT.getName() + "/";
+        for (JavaFileObject classFile : compilation.generatedFiles()) {
+            String relativePath = classFile.getName().substring(outputPrefix.length());
+            if (classFile.getKind() != JavaFileObject.Kind.CLASS || !relativePath.startsWith(packagePath)) {
+                continue;
+            }
+            Path classPath = target.resolve(relativePath);
+            Files.createDirectories(classPath.getParent());
+            try (InputStream inputStream = classFile.openInputStream()) {
+                Files.copy(inputStream, classPath);
+            }
+        }
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.abi.checker.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class IndexServerTest {
+    private static final JavaFileObject LIB = JavaFileObjects.forSourceString(
+            "dep.b.Lib",
+            // language=java
+            """
+            package dep.b;
+            public class Lib {
+                public static void existing() {}
+            }
+            """);
+    private static final JavaFileObject LIB_WITH_MISSING_METHOD = JavaFileObjects.forSourceString(
+            "dep.b.Lib",
+            // language=java
+            """
+            package dep.b;
+            public class Lib {
+                public static void existing() {}
+                public static void missing() {}
+            }
+            """);
+    private static final JavaFileObject BROKEN = JavaFileObjects.forSourceString(
+            "dep.a.Broken",
+            // language=java
+            """
+            package dep.a;
+            public class Broken {
+                public static void call() {
+                    dep.b.Lib.missing();
+                }
+            }
+            """);
+
+    @TempDir
+    public Path tempDir;
+
+    private Path socket;
+    private IndexServer server;
+    private Thread serverThread;
+
+    @BeforeEach
+    public void before() throws IOException {
+        socket = tempDir.resolve("index.sock");
+        server = IndexServer.bind(socket, Duration.ofMinutes(1));
+        serverThread = new Thread(() -> {
+            try {
+                server.serve();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        serverThread.start();
+    }
+
+    @AfterEach
+    public void after() throws Exception {
+        server.close();
+        serverThread.join();
+    }
+
+    @Test
+    public void checks_the_classpath_sent_by_the_client() throws IOException {
+        compileProject("dep.a.Broken.call();");
+        writeJar(tempDir.resolve("dep-a.jar"), "dep/a/", LIB_WITH_MISSING_METHOD, BROKEN);
+        writeJar(tempDir.resolve("dep-b.jar"), "dep/b/", LIB);
+
+        CheckResult result = IndexClient.check(socket, request());
+
+        assertThat(result.checkedCompletely()).isTrue();
+        assertThat(result.conflicts()).singleElement().satisfies(conflict -> {
+            assertThat(conflict.category()).isEqualTo(Conflict.ConflictCategory.METHOD_SIGNATURE_NOT_FOUND);
+            assertThat(conflict.usedBy().name()).isEqualTo("dep-a");
+            assertThat(conflict.existsIn().name()).isEqualTo("dep-b");
+        });
+    }
+
+    @Test
+    public void picks_up_changes_to_jars_and_project_classes_between_checks() throws IOException {
+        compileProject("dep.a.Broken.call();");
+        writeJar(tempDir.resolve("dep-a.jar"), "dep/a/", LIB_WITH_MISSING_METHOD, BROKEN);
+        writeJar(tempDir.resolve("dep-b.jar"), "dep/b/", LIB);
+        assertThat(IndexClient.check(socket, request()).conflicts()).hasSize(1);
+
+        // The jar is rewritten in place with the missing method
+        writeJar(tempDir.resolve("dep-b.jar"), "dep/b/", LIB_WITH_MISSING_METHOD);
+        assertThat(IndexClient.check(socket, request()).conflicts()).isEmpty();
+
+        writeJar(tempDir.resolve("dep-b.jar"), "dep/b/", LIB);
+        assertThat(IndexClient.check(socket, request()).conflicts()).hasSize(1);
+
+        // The project no longer reaches the broken class
+        compileProject("");
+        assertThat(IndexClient.check(socket, request()).conflicts()).isEmpty();
+    }
+
+    @Test
+    public void stops_checking_once_the_maximum_number_of_conflicts_is_found() throws IOException {
+        compileProject("dep.a.Broken.call();");
+        writeJar(tempDir.resolve("dep-a.jar"), "dep/a/", LIB_WITH_MISSING_METHOD, BROKEN);
+        writeJar(tempDir.resolve("dep-b.jar"), "dep/b/", LIB);
+
+        CheckResult result = IndexClient.check(
+                socket, CheckRequest.builder().from(request()).maxConflicts(1).build());
+
+        assertThat(result.conflicts()).hasSize(1);
+        assertThat(result.checkedCompletely()).isFalse();
+    }
+
+    @Test
+    public void fails_when_no_server_can_be_started() throws IOException {
+        // The server's log can't be created under a file, so it can't be started either
+        Path notADirectory = Files.createFile(tempDir.resolve("not-a-directory"));
+
+        assertThatThrownBy(() -> IndexClient.check(notADirectory.resolve("index.sock"), request()))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void answers_requests_it_cannot_read_with_an_error() throws IOException {
+        try (SocketChannel connection = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+            connection.write(ByteBuffer.wrap("not a request".getBytes(StandardCharsets.UTF_8)));
+            connection.shutdownOutput();
+
+            JsonNode response = IndexServer.MAPPER.readTree(Channels.newInputStream(connection));
+
+            assertThat(response.path("status").asText()).isEqualTo("error");
+            assertThat(response.path("message").asText()).startsWith("can't read the request");
+        }
+    }
+
+    @Test
+    public void creates_the_socket_directory_only_accessible_to_the_current_user() throws IOException {
+        Path otherSocket = tempDir.resolve("server").resolve("other.sock");
+        try (IndexServer _other = IndexServer.bind(otherSocket, Duration.ofMinutes(1))) {
+            assertThat(Files.getPosixFilePermissions(otherSocket.getParent()))
+                    .isEqualTo(PosixFilePermissions.fromString("rwx------"));
+        }
+    }
+
+    @Test
+    public void refuses_sockets_in_directories_other_users_can_write_to() throws IOException {
+        Path shared = Files.createDirectory(tempDir.resolve("shared"));
+        Files.setPosixFilePermissions(shared, PosixFilePermissions.fromString("rwxrwxrwx"));
+
+        assertThatThrownBy(() -> IndexClient.check(shared.resolve("index.sock"), request()))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("other users can write");
+        assertThatThrownBy(() -> IndexServer.bind(shared.resolve("index.sock"), Duration.ofMinutes(1)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("other users can write");
+    }
+
+    @Test
+    public void refuses_to_replace_a_running_server() {
+        assertThatThrownBy(() -> IndexServer.bind(socket, Duration.ofMinutes(1)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("already listening");
+    }
+
+    private CheckRequest request() {
+        return CheckRequest.builder()
+                .addProjectClasses(
+                        new ClasspathEntry("classes", tempDir.resolve("classes").toString()))
+                .addRuntimeClasspath(
+                        new ClasspathEntry("dep-a", tempDir.resolve("dep-a.jar").toString()))
+                .addRuntimeClasspath(
+                        new ClasspathEntry("dep-b", tempDir.resolve("dep-b.jar").toString()))
+                .build();
+    }
+
+    private void compileProject(String mainBody) throws IOException {
+        // Classes are rewritten in place, as a build would
+        for (JavaFileObject classFile : compile(
+                "com/app/",
+                LIB_WITH_MISSING_METHOD,
+                BROKEN,
+                JavaFileObjects.forSourceString(
+                        "com.app.Main",
+                        "package com.app; public class Main { public static void main(String[] args) { " + mainBody
+                                + " } }"))) {
+            Path classPath = tempDir.resolve("classes").resolve(relativePath(classFile));
+            Files.createDirectories(classPath.getParent());
+            try (InputStream inputStream = classFile.openInputStream()) {
+                Files.copy(inputStream, classPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    private static void writeJar(Path jar, String packagePath, JavaFileObject... sources) throws IOException {
+        try (JarOutputStream outputStream = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (JavaFileObject classFile : compile(packagePath, sources)) {
+                outputStream.putNextEntry(new JarEntry(relativePath(classFile)));
+                try (InputStream inputStream = classFile.openInputStream()) {
+                    inputStream.transferTo(outputStream);
+                }
+                outputStream.closeEntry();
+            }
+        }
+    }
+
+    /**
+     * Compiles the provided sources, only keeping the classes under {@code packagePath}.
+     */
+    private static List<JavaFileObject> compile(String packagePath, JavaFileObject... sources) {
+        Compilation compilation = Compiler.javac().compile(sources);
+        return compilation.generatedFiles().stream()
+                .filter(file -> file.getKind() == JavaFileObject.Kind.CLASS)
+                .filter(file -> relativePath(file).startsWith(packagePath))
+                .toList();
+    }
+
+    private static String relativePath(JavaFileObject classFile) {
+        return classFile.getName().substring(("/" + StandardLocation.CLASS_OUTPUT.getName() + "/").length());
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.gradle.abi.checker;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.CodeSource;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.gradle.util.GradleVersion;
+
+/**
+ * JVM arguments making worker processes share the classes they load through a dynamic Class Data Sharing archive.
+ *
+ * The first worker process dumps the classes it loaded (the JDK's, Gradle's worker classes, and the checker's and its
+ *   dependencies') to the archive when it exits, which later worker processes map rather than loading and verifying
+ *   the same classes again. The archive is only valid for the exact JDK, Gradle version and plugin jars it was dumped
+ *   with, which are all part of its name so that upgrading any of them starts a new archive.
+ *
+ * Before JDK 19, worker processes dump the archive themselves, so only the one which first claims the archive (by
+ *   creating a claim file next to it) does. That process locks the claim until it exits, and so until the archive is
+ *   completely written, which is how other processes tell when the archive can be mapped, or when the process exited
+ *   without writing it and the archive can be claimed again.
+ */
+final class ClassDataSharing {
+    // -XX:+AutoCreateSharedArchive, which also recreates archives that fail validation, is only available from JDK 19
+    private static final int AUTO_CREATE_FEATURE_VERSION = 19;
+    private static final String CLAIM_PROPERTY = "com.palantir.abi.checker.classDataSharingClaim";
+    // Worker processes lock their claim as soon as they run, claims only older than this are left by processes gone
+    private static final Duration CLAIM_GRACE_PERIOD = Duration.ofMinutes(1);
+
+    // Never closed, so that the claim stays locked until the worker process exits
+    private static FileChannel heldClaim;
+
+    static List<String> workerJvmArgs(Path archiveDirectory) {
+        Path archive = archiveDirectory.resolve("worker-" + archiveKey() + ".jsa");
+        try {
+            Files.createDirectories(archiveDirectory);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create the class data sharing directory " + archiveDirectory, e);
+        }
+
+        ImmutableList.Builder<String> jvmArgs = ImmutableList.builder();
+        if (Runtime.version().feature() >= AUTO_CREATE_FEATURE_VERSION) {
+            jvmArgs.add("-XX:+AutoCreateSharedArchive", "-XX:SharedArchiveFile=" + archive);
+        } else {
+            // Pointing at a missing archive would disable the JDK's own default archive as well, so dump it instead,
+            //   unless another worker process is already dumping it
+            Path claim = archiveDirectory.resolve(archive.getFileName() + ".claim");
+            if (isWritten(archive, claim)) {
+                jvmArgs.add("-XX:SharedArchiveFile=" + archive);
+            } else if (claim(claim)) {
+                jvmArgs.add("-XX:ArchiveClassesAtExit=" + archive, "-D" + CLAIM_PROPERTY + "=" + claim);
+            }
+        }
+        // The archive is best effort, any issue with it is logged by the JVM, which we don't want in the build output
+        return jvmArgs.add("-Xlog:cds=off", "-Xlog:cds+dynamic=off").build();
+    }
+
+    /**
+     * Locks the claim of the archive this worker process dumps when it exits, if any, for the rest of its life.
+     */
+    static synchronized void holdClaim() {
+        String claim = System.getProperty(CLAIM_PROPERTY);
+        if (claim == null || heldClaim != null) {
+            return;
+        }
+        try {
+            FileChannel channel = FileChannel.open(Paths.get(claim), StandardOpenOption.WRITE);
+            if (channel.tryLock() == null) {
+                channel.close();
+            } else {
+                heldClaim = channel;
+            }
+        } catch (IOException e) {
+            // Other worker processes will eventually consider the claim abandoned, and dump the archive themselves
+        }
+    }
+
+    private static boolean isWritten(Path archive, Path claim) {
+        if (!Files.isRegularFile(archive)) {
+            return false;
+        }
+        if (!Files.exists(claim)) {
+            return true;
+        }
+        if (isAbandoned(claim)) {
+            deleteClaim(claim);
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean claim(Path claim) {
+        if (Files.exists(claim) && isAbandoned(claim)) {
+            // The worker process which claimed the archive exited without writing it
+            deleteClaim(claim);
+        }
+        try {
+            Files.createFile(claim);
+            return true;
+        } catch (IOException e) {
+            // Most likely claimed by another worker process in the meantime
+            return false;
+        }
+    }
+
+    /**
+     * Whether the worker process which claimed the archive is gone, i.e. it no longer locks the claim, and had plenty
+     *   of time to lock it.
+     */
+    private static boolean isAbandoned(Path claim) {
+        try (FileChannel channel = FileChannel.open(claim, StandardOpenOption.WRITE);
+                FileLock lock = channel.tryLock()) {
+            return lock != null
+                    && Files.getLastModifiedTime(claim)
+                            .toInstant()
+                            .isBefore(Instant.now().minus(CLAIM_GRACE_PERIOD));
+        } catch (IOException | OverlappingFileLockException e) {
+            return false;
+        }
+    }
+
+    private static void deleteClaim(Path claim) {
+        try {
+            Files.deleteIfExists(claim);
+        } catch (IOException e) {
+            // Left for another worker process to delete
+        }
+    }
+
+    private static String archiveKey() {
+        return Hashing.sha256()
+                .hashString(
+                        String.join(
+                                "\n",
+                                System.getProperty("java.runtime.version"),
+                                GradleVersion.current().getVersion(),
+                                codeSource()),
+                        StandardCharsets.UTF_8)
+                .toString()
+                .substring(0, 16);
+    }
+
+    private static String codeSource() {
+        CodeSource codeSource = ClassDataSharing.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null) {
+            return "";
+        }
+        try {
+            return Paths.get(codeSource.getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            return codeSource.getLocation().toString();
+        }
+    }
+
+    private ClassDataSharing() {}
+}
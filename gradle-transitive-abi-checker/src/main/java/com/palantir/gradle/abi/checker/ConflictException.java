@@ -16,20 +16,23 @@
 
 package com.palantir.gradle.abi.checker;
 
-import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.conflict.ConflictGroup;
 import java.util.Collection;
 
 public final class ConflictException extends RuntimeException {
-    private final Collection<Conflict> conflicts;
+    private final Collection<ConflictGroup> conflictGroups;
 
-    public ConflictException(String message, Collection<Conflict> conflicts) {
+    public ConflictException(String message, Collection<ConflictGroup> conflictGroups) {
         // We are using an exception as part of participating in the gradle lifecycle
         // however there is no "reason" and we do not want a stacktrace.
         super(message, null, false, false);
-        this.conflicts = conflicts;
+        this.conflictGroups = conflictGroups;
     }
 
-    public Collection<Conflict> getConflicts() {
-        return conflicts;
+    /**
+     * The conflicts, grouped by root cause, which is much more compact than each of them on large break sets.
+     */
+    public Collection<ConflictGroup> getConflictGroups() {
+        return conflictGroups;
     }
 }
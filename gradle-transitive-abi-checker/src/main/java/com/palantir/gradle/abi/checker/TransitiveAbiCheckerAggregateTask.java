@@ -0,0 +1,250 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.gradle.abi.checker;
+
+import com.palantir.abi.checker.datamodel.graph.EntryPointStrategy;
+import com.palantir.abi.checker.datamodel.graph.ReachabilityAnalysis;
+import com.palantir.gradle.abi.checker.services.AbiCheckerBuildService;
+import com.palantir.gradle.abi.checker.util.AggregatedProjectDefinition;
+import com.palantir.gradle.abi.checker.util.ResolvedArtifactDefinition;
+import com.palantir.gradle.abi.checker.util.ServiceProviders;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.inject.Inject;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.Nested;
+import org.gradle.api.tasks.Optional;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.workers.WorkQueue;
+import org.gradle.workers.WorkerExecutor;
+
+/**
+ * Checks the runtime classpaths of all the subprojects in one go, as an alternative to running each subproject's
+ *   {@link TransitiveAbiCheckerTask}.
+ *
+ * Subprojects with the exact same runtime classpath and configuration are checked together by
+ *   {@link TransitiveAbiCheckerAggregateWorkAction}, which only checks the classes they share once. Subprojects
+ *   configured to check completely are left to their own task.
+ */
+@CacheableTask
+public abstract class TransitiveAbiCheckerAggregateTask extends DefaultTask {
+    public static final String NAME = "checkAbiCompatibilityAggregate";
+
+    @Nested
+    public abstract ListProperty<AggregatedProjectDefinition> getProjects();
+
+    /**
+     * Directory in which the conflicts of each checked subproject are written, in the same format as the subproject's
+     *   own {@link TransitiveAbiCheckerTask#getErrorsOutputFile()}.
+     */
+    @OutputDirectory
+    public abstract DirectoryProperty getOutputDirectory();
+
+    /**
+     * See {@link TransitiveAbiCheckerTask#getJavaRuntimeVersion()}.
+     */
+    @Input
+    public abstract Property<String> getJavaRuntimeVersion();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getWorkerIsolation()}.
+     */
+    @Internal
+    public abstract Property<WorkerIsolation> getWorkerIsolation();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getWorkerMaxHeapSize()}.
+     */
+    @Optional
+    @Internal
+    public abstract Property<String> getWorkerMaxHeapSize();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getWorkerJvmArgs()}.
+     */
+    @Internal
+    public abstract ListProperty<String> getWorkerJvmArgs();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getWorkerClassDataSharing()}.
+     */
+    @Internal
+    public abstract Property<Boolean> getWorkerClassDataSharing();
+
+    /**
+     * Where worker processes keep their class data sharing archives, shared by all builds of the current user.
+     */
+    @Optional
+    @Internal
+    public abstract DirectoryProperty getClassDataSharingDirectory();
+
+    @Internal
+    public abstract Property<AbiCheckerBuildService> getAbiCheckerService();
+
+    @Inject
+    protected abstract WorkerExecutor getWorkerExecutor();
+
+    public TransitiveAbiCheckerAggregateTask() {
+        setDescription("Checks the runtime classpaths of all subprojects for ABI incompatibilities, in one go");
+        getWorkerIsolation().convention(WorkerIsolation.CLASSLOADER);
+        getWorkerJvmArgs().convention(List.of());
+        getWorkerClassDataSharing().convention(true);
+    }
+
+    @TaskAction
+    public final void checkAbiConflicts() {
+        Map<GroupKey, List<AggregatedProjectDefinition>> groups = new LinkedHashMap<>();
+        for (AggregatedProjectDefinition project : getProjects().get()) {
+            String projectPath = project.getProjectPath().get();
+            if (project.getCheckCompletely().getOrElse(false)) {
+                getLogger().info("Skipping {}, which checks completely, in favour of its own task", projectPath);
+            } else if (project.getProjectClassFiles().getFiles().stream().noneMatch(File::exists)) {
+                getLogger().info("Skipping {}, which has no classes in its main source set", projectPath);
+            } else if (project.getDependenciesToCheck().isPresent()
+                    && project.getDependenciesToCheck().get().isEmpty()) {
+                getLogger()
+                        .info(
+                                "Skipping {}, all of its dependencies resolved to the versions they declared",
+                                projectPath);
+            } else {
+                groups.computeIfAbsent(GroupKey.of(project), _key -> new ArrayList<>())
+                        .add(project);
+            }
+        }
+        getLogger()
+                .info(
+                        "Checking {} projects in {} groups sharing the same runtime classpath",
+                        groups.values().stream().mapToInt(List::size).sum(),
+                        groups.size());
+
+        WorkQueue workQueue = getWorkerIsolation()
+                .get()
+                .workQueue(
+                        getWorkerExecutor(),
+                        getWorkerMaxHeapSize(),
+                        getWorkerJvmArgs().get(),
+                        getWorkerClassDataSharing(),
+                        getClassDataSharingDirectory());
+        groups.forEach(
+                (key, projects) -> workQueue.submit(TransitiveAbiCheckerAggregateWorkAction.class, parameters -> {
+                    parameters.getCacheKey().set(getAbiCheckerService().get().cacheKey());
+                    for (AggregatedProjectDefinition project : projects) {
+                        String projectPath = project.getProjectPath().get();
+                        parameters
+                                .getProjectClassDirectories()
+                                .put(
+                                        projectPath,
+                                        project.getProjectClassFiles().getFiles().stream()
+                                                .map(File::getAbsolutePath)
+                                                .toList());
+                        parameters
+                                .getProjectDirectories()
+                                .put(
+                                        projectPath,
+                                        project.getProjectDirectory()
+                                                .get()
+                                                .getAsFile()
+                                                .getAbsolutePath());
+                    }
+                    parameters.getRuntimeArtifactIdentifiers().set(key.runtimeArtifactIdentifiers());
+                    parameters.getRuntimeArtifactPaths().set(key.runtimeArtifactPaths());
+                    parameters.getCheckAllDependencies().set(key.checkAllDependencies());
+                    parameters.getDependenciesToCheck().set(key.dependenciesToCheck());
+                    parameters.getErrorArtifactPrefixes().set(key.errorArtifactPrefixes());
+                    parameters.getIgnoredArtifactPrefixes().set(key.ignoredArtifactPrefixes());
+                    parameters.getIgnoredClassPrefixes().set(key.ignoredClassPrefixes());
+                    parameters.getIgnoredClassnameKeywords().set(key.ignoredClassnameKeywords());
+                    parameters.getReachabilityAnalysis().set(key.reachabilityAnalysis());
+                    parameters.getEntryPointStrategy().set(key.entryPointStrategy());
+                    parameters.getEntryPointRoots().set(key.entryPointRoots());
+                    parameters.getServiceProviders().set(key.serviceProviders());
+                    parameters.getOutputDirectory().set(getOutputDirectory());
+                }));
+    }
+
+    /**
+     * Name of the file, within {@link #getOutputDirectory()}, holding the conflicts of the provided project.
+     */
+    static String outputFileName(String projectPath) {
+        return fileName(projectPath) + ".json";
+    }
+
+    /**
+     * Name of the file, within {@link #getOutputDirectory()}, holding the human-readable report of the conflicts of
+     *   the provided project.
+     */
+    static String reportFileName(String projectPath) {
+        return fileName(projectPath) + ".txt";
+    }
+
+    private static String fileName(String projectPath) {
+        String name = projectPath.startsWith(":") ? projectPath.substring(1) : projectPath;
+        return name.replace(':', '_');
+    }
+
+    /**
+     * What projects need to share in order to be checked together.
+     */
+    private record GroupKey(
+            List<String> runtimeArtifactIdentifiers,
+            List<String> runtimeArtifactPaths,
+            boolean checkAllDependencies,
+            Set<String> dependenciesToCheck,
+            Set<String> errorArtifactPrefixes,
+            Set<String> ignoredArtifactPrefixes,
+            Set<String> ignoredClassPrefixes,
+            Set<String> ignoredClassnameKeywords,
+            ReachabilityAnalysis reachabilityAnalysis,
+            EntryPointStrategy entryPointStrategy,
+            Set<String> entryPointRoots,
+            Set<String> serviceProviders) {
+        static GroupKey of(AggregatedProjectDefinition project) {
+            List<ResolvedArtifactDefinition> runtimeArtifacts =
+                    project.getResolvedRuntimeClasspathArtifacts().get();
+            return new GroupKey(
+                    runtimeArtifacts.stream()
+                            .map(artifact -> artifact.getIdentifier().get())
+                            .toList(),
+                    runtimeArtifacts.stream()
+                            .map(artifact ->
+                                    artifact.getArtifactPath().get().getAsFile().getAbsolutePath())
+                            .toList(),
+                    !project.getDependenciesToCheck().isPresent(),
+                    project.getDependenciesToCheck().getOrElse(Set.of()),
+                    project.getErrorArtifactPrefixes().getOrElse(Set.of()),
+                    project.getIgnoredArtifactPrefixes().getOrElse(Set.of()),
+                    project.getIgnoredClassPrefixes().getOrElse(Set.of()),
+                    project.getIgnoredClassnameKeywords().getOrElse(Set.of()),
+                    project.getReachabilityAnalysis().getOrElse(ReachabilityAnalysis.CLASS_REFERENCES),
+                    project.getEntryPointStrategy().getOrElse(EntryPointStrategy.ALL_CLASSES),
+                    project.getEntryPointRoots().getOrElse(Set.of()),
+                    // Projects registering different service providers may have different entry points
+                    ServiceProviders.read(project.getServiceRegistrationFiles()));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.gradle.abi.checker;
+
+import com.palantir.abi.checker.CollectingConflictSink;
+import com.palantir.abi.checker.ConflictCheckerConfiguration;
+import com.palantir.abi.checker.ProjectGroupConflictChecker;
+import com.palantir.abi.checker.datamodel.Artifact;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.conflict.ConflictGroup;
+import com.palantir.abi.checker.output.ConflictPrinter;
+import com.palantir.abi.checker.output.ConflictsOutputContents;
+import com.palantir.abi.checker.output.ConflictsOutputFormat;
+import com.palantir.gradle.abi.checker.services.AbiCheckerLoaders;
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.gradle.api.logging.Logging;
+import org.gradle.workers.WorkAction;
+import org.slf4j.Logger;
+
+/**
+ * Runs the ABI check for a group of projects sharing the same runtime classpath and configuration, as submitted by
+ *   {@link TransitiveAbiCheckerAggregateTask}.
+ */
+public abstract class TransitiveAbiCheckerAggregateWorkAction
+        implements WorkAction<TransitiveAbiCheckerAggregateWorkParameters> {
+    private static final Logger log = Logging.getLogger(TransitiveAbiCheckerAggregateWorkAction.class);
+
+    @Override
+    public final void execute() {
+        // In case this worker process dumps the class data sharing archive when it exits
+        ClassDataSharing.holdClaim();
+        TransitiveAbiCheckerAggregateWorkParameters parameters = getParameters();
+        AbiCheckerLoaders loaders =
+                AbiCheckerLoaders.forBuild(parameters.getCacheKey().get());
+
+        Map<String, String> projectDirectories =
+                parameters.getProjectDirectories().get();
+        Map<String, List<Artifact>> projectArtifacts = new LinkedHashMap<>();
+        parameters
+                .getProjectClassDirectories()
+                .get()
+                .forEach((projectPath, classDirectories) -> projectArtifacts.put(
+                        projectPath,
+                        TransitiveAbiCheckerWorkAction.loadProjectArtifacts(
+                                loaders,
+                                Paths.get(projectDirectories.get(projectPath)),
+                                classDirectories.stream().map(File::new).toList())));
+
+        ConflictCheckerConfiguration configuration = ConflictCheckerConfiguration.builder()
+                .errorArtifactPrefixes(parameters.getErrorArtifactPrefixes().get())
+                .ignoredArtifactPrefixes(parameters.getIgnoredArtifactPrefixes().get())
+                .ignoredClassPrefixes(parameters.getIgnoredClassPrefixes().get())
+                .ignoredClassnameKeywords(
+                        parameters.getIgnoredClassnameKeywords().get())
+                .reachabilityAnalysis(parameters.getReachabilityAnalysis().get())
+                .entryPointStrategy(parameters.getEntryPointStrategy().get())
+                .entryPointRoots(parameters.getEntryPointRoots().get())
+                .serviceProviders(parameters.getServiceProviders().get())
+                .artifactsToCheck(
+                        parameters.getCheckAllDependencies().get()
+                                ? Optional.empty()
+                                : Optional.of(
+                                        parameters.getDependenciesToCheck().get()))
+                .build();
+
+        log.info("Checking {} projects sharing the same runtime classpath together", projectArtifacts.size());
+        Map<String, List<Conflict>> conflictsByProject = ProjectGroupConflictChecker.check(
+                configuration,
+                loaders.classLoader(),
+                loaders.jdkModuleLoader().getJavaModuleArtifacts(),
+                TransitiveAbiCheckerWorkAction.loadRuntimeArtifacts(
+                        loaders,
+                        parameters.getRuntimeArtifactIdentifiers().get(),
+                        parameters.getRuntimeArtifactPaths().get()),
+                projectArtifacts);
+
+        // The message only summarizes the conflicts of all projects, as groups may hold hundreds of projects, whose
+        //   conflicts are detailed in their own reports
+        Map<String, Collection<ConflictGroup>> groupsByProject = new LinkedHashMap<>();
+        CollectingConflictSink allConflicts = CollectingConflictSink.collectAll();
+        conflictsByProject.forEach((projectPath, conflicts) -> {
+            writeConflicts(parameters, projectPath, conflicts);
+            Path reportFile = parameters
+                    .getOutputDirectory()
+                    .get()
+                    .file(TransitiveAbiCheckerAggregateTask.reportFileName(projectPath))
+                    .getAsFile()
+                    .toPath();
+            if (conflicts.isEmpty()) {
+                TransitiveAbiCheckerWorkAction.deleteFile(reportFile);
+            } else {
+                CollectingConflictSink projectConflicts = CollectingConflictSink.collectAll();
+                conflicts.forEach(projectConflicts::accept);
+                ConflictPrinter.writeReport(projectConflicts.groups(), "", reportFile);
+                groupsByProject.put(projectPath, projectConflicts.groups());
+                conflicts.forEach(allConflicts::accept);
+            }
+        });
+
+        if (!groupsByProject.isEmpty()) {
+            throw new ConflictException(
+                    ConflictPrinter.summarizeProjects(
+                            groupsByProject,
+                            parameters.getOutputDirectory().get().getAsFile().toPath()),
+                    allConflicts.groups());
+        }
+    }
+
+    private static void writeConflicts(
+            TransitiveAbiCheckerAggregateWorkParameters parameters, String projectPath, List<Conflict> conflicts) {
+        Path outputFile = parameters
+                .getOutputDirectory()
+                .get()
+                .file(TransitiveAbiCheckerAggregateTask.outputFileName(projectPath))
+                .getAsFile()
+                .toPath();
+        if (conflicts.isEmpty()) {
+            ConflictsOutputFormat.JSON.writeNoConflicts(outputFile);
+        } else {
+            ConflictsOutputFormat.JSON.write(outputFile, ConflictsOutputContents.of(conflicts));
+        }
+    }
+}
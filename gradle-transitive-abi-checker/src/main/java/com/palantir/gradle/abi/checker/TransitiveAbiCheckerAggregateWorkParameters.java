@@ -0,0 +1,90 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.gradle.abi.checker;
+
+import com.palantir.abi.checker.datamodel.graph.EntryPointStrategy;
+import com.palantir.abi.checker.datamodel.graph.ReachabilityAnalysis;
+import java.util.List;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.MapProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.provider.SetProperty;
+import org.gradle.workers.WorkParameters;
+
+/**
+ * The inputs of {@link TransitiveAbiCheckerAggregateWorkAction}, for a group of projects sharing the same runtime
+ *   classpath and configuration, as grouped by {@link TransitiveAbiCheckerAggregateTask}.
+ */
+public interface TransitiveAbiCheckerAggregateWorkParameters extends WorkParameters {
+    /**
+     * See {@link TransitiveAbiCheckerWorkParameters#getCacheKey()}.
+     */
+    Property<String> getCacheKey();
+
+    /**
+     * Absolute paths of the class directories of each project of the group, by project path.
+     */
+    MapProperty<String, List<String>> getProjectClassDirectories();
+
+    /**
+     * Absolute path of the directory of each project of the group, by project path.
+     */
+    MapProperty<String, String> getProjectDirectories();
+
+    /**
+     * Identifiers of the runtime classpath's artifacts shared by the group, in classpath order.
+     */
+    ListProperty<String> getRuntimeArtifactIdentifiers();
+
+    /**
+     * Paths of the runtime classpath's artifacts, in the same order as {@link #getRuntimeArtifactIdentifiers()}.
+     */
+    ListProperty<String> getRuntimeArtifactPaths();
+
+    /**
+     * See {@link TransitiveAbiCheckerWorkParameters#getCheckAllDependencies()}.
+     */
+    Property<Boolean> getCheckAllDependencies();
+
+    SetProperty<String> getDependenciesToCheck();
+
+    SetProperty<String> getErrorArtifactPrefixes();
+
+    SetProperty<String> getIgnoredArtifactPrefixes();
+
+    SetProperty<String> getIgnoredClassPrefixes();
+
+    SetProperty<String> getIgnoredClassnameKeywords();
+
+    Property<ReachabilityAnalysis> getReachabilityAnalysis();
+
+    Property<EntryPointStrategy> getEntryPointStrategy();
+
+    SetProperty<String> getEntryPointRoots();
+
+    /**
+     * See {@link TransitiveAbiCheckerWorkParameters#getServiceProviders()}.
+     */
+    SetProperty<String> getServiceProviders();
+
+    /**
+     * Directory in which the conflicts of each project are written, see
+     *   {@link TransitiveAbiCheckerAggregateTask#getOutputDirectory()}.
+     */
+    DirectoryProperty getOutputDirectory();
+}
@@ -17,13 +17,18 @@
 package com.palantir.gradle.abi.checker;
 
 import com.palantir.abi.checker.ConflictCheckerConfiguration;
+import com.palantir.abi.checker.datamodel.graph.EntryPointStrategy;
+import com.palantir.abi.checker.datamodel.graph.ReachabilityAnalysis;
+import com.palantir.abi.checker.output.ConflictsOutputFormat;
+import java.util.List;
 import java.util.Set;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.ListProperty;
 import org.gradle.api.provider.Property;
 import org.gradle.api.provider.SetProperty;
-import org.gradle.api.tasks.Input;
-import org.gradle.api.tasks.Optional;
 
 public abstract class TransitiveAbiCheckerExtension {
+    private static final long DEFAULT_FOOTPRINT_LOG_THRESHOLD_MB = 512;
 
     /**
      * Used for prefix matching artifacts to promote to an error when a conflict is discovered.
@@ -33,8 +38,6 @@ public abstract class TransitiveAbiCheckerExtension {
      * Note: If an artifact matches this configuration and the {@link #getIgnoredArtifactPrefixes()} configuration, then
      * the ignored setting wins. The reasoning being that enablement is likely wide while ignoring is likely targeted.
      */
-    @Optional
-    @Input
     public abstract SetProperty<String> getErrorArtifactPrefixes();
 
     /**
@@ -45,32 +48,170 @@ public abstract class TransitiveAbiCheckerExtension {
      * Note: If an artifact matches this configuration and the {@link #getErrorArtifactPrefixes()} configuration, then
      * this setting wins. The reasoning being that enablement is likely wide while ignoring is likely targeted.
      */
-    @Input
     public abstract SetProperty<String> getIgnoredArtifactPrefixes();
 
     /**
      * Used for prefix matching on classes to ignore.
      */
-    @Input
     public abstract SetProperty<String> getIgnoredClassPrefixes();
 
     /**
      * Used to match classnames by case-insensitive keyword and ignore matches.
      */
-    @Input
     public abstract SetProperty<String> getIgnoredClassnameKeywords();
 
     /**
      * Signals to the checker to ignore the current modules "entry point classes" and instead "completely check"
      * all artifacts that match the above filtering.
      */
-    @Optional
-    @Input
     public abstract Property<Boolean> getCheckCompletely();
 
+    /**
+     * How the classes and methods worth checking are determined from the project's classes, see
+     * {@link ReachabilityAnalysis}.
+     * <p>
+     * Defaults to {@link ReachabilityAnalysis#CLASS_REFERENCES}. {@link ReachabilityAnalysis#CLASS_HIERARCHY_ANALYSIS}
+     * only checks the methods that can actually be called, which is more precise and usually much cheaper for projects
+     * only using a small part of large libraries, but can't be checked incrementally.
+     * {@link ReachabilityAnalysis#RAPID_TYPE_ANALYSIS} further restricts virtual calls to the classes that are actually
+     * instantiated.
+     */
+    public abstract Property<ReachabilityAnalysis> getReachabilityAnalysis();
+
+    /**
+     * Which methods of the project's classes the reachability analysis starts from, see {@link EntryPointStrategy}.
+     * <p>
+     * Defaults to {@link EntryPointStrategy#ALL_CLASSES}. Libraries can use {@link EntryPointStrategy#LIBRARY} to only
+     * start from their public API, and applications {@link EntryPointStrategy#APPLICATION} to only start from their
+     * {@code main} methods. Both also start from the service providers registered in {@code META-INF/services}.
+     */
+    public abstract Property<EntryPointStrategy> getEntryPointStrategy();
+
+    /**
+     * Additional entry points, e.g. the classes or methods a framework calls reflectively. These are either classes
+     * (e.g. {@code com.palantir.Foo}, for all of their methods) or methods (e.g. {@code com.palantir.Foo#bar}, for all
+     * of its overloads) of the project.
+     */
+    public abstract SetProperty<String> getEntryPointRoots();
+
+    /**
+     * Only analyze the dependencies whose own dependencies (transitively) didn't all resolve to the version they
+     * declared, e.g. because conflict resolution picked a higher version.
+     * <p>
+     * Dependencies running against exactly what they were compiled against can't have ABI conflicts, so enabling this
+     * can skip most of the work. Declarations without a version (e.g. managed by a platform) and project dependencies
+     * are considered to resolve as declared, so this is disabled by default: versions substituted in ways that aren't
+     * visible in the resolution result would otherwise go unchecked.
+     */
+    public abstract Property<Boolean> getCheckOnlyAffectedDependencies();
+
+    /**
+     * Stops the check once this many conflicts have been found, rather than checking every reachable class, e.g.
+     * {@code 1} for builds which only need to know whether there are any conflicts. Absent by default, reporting every
+     * conflict.
+     * <p>
+     * Stopped checks can't be built upon incrementally. This only applies to {@code checkAbiCompatibility}, the
+     * aggregated check always reports every conflict.
+     */
+    public abstract Property<Integer> getMaxConflicts();
+
+    /**
+     * How the conflicts are written to {@code build/abi-checker}, see {@link ConflictsOutputFormat}. Defaults to
+     * {@link ConflictsOutputFormat#JSON}, while {@link ConflictsOutputFormat#NDJSON} writes one conflict per line.
+     */
+    public abstract Property<ConflictsOutputFormat> getConflictsOutputFormat();
+
+    /**
+     * Threshold, in megabytes, above which the estimated memory retained by the checker is logged at info level.
+     * <p>
+     * The estimate is always written to the metrics output file, regardless of this threshold.
+     */
+    public abstract Property<Long> getFootprintLogThresholdMb();
+
+    /**
+     * Whether to write the reverse reference index of the check to
+     * {@code build/abi-checker/abi-checker-references.json.gz}, i.e. which methods of which artifacts (including the
+     * project's own) call the methods and access the fields of each dependency. It can be read with
+     * {@link com.palantir.abi.checker.references.ReverseReferenceIndex} to find out what an upgrade may break, or
+     * whether a method is used at all, without checking again. Checks writing it always run in the worker rather than
+     * on the index server, and it isn't written by checks skipped as no dependency changed. Disabled by default, as
+     * recording it costs about as much as the check itself.
+     */
+    public abstract Property<Boolean> getWriteReferenceIndex();
+
+    /**
+     * A file of accepted conflicts, typically checked into the repository (e.g. {@code file('abi-baseline.json')}),
+     * which is written by running {@code checkAbiCompatibility --write-abi-baseline}.
+     * <p>
+     * The check then only fails on the conflicts the baseline doesn't accept, and skips the classes of the
+     * dependencies that would have the same conflicts as when it was written, i.e. that are unchanged and still
+     * resolve their references to the same unchanged artifacts. Accepted conflicts which are no longer found are
+     * logged, so that the baseline can be rewritten. This only applies to {@code checkAbiCompatibility}, and is absent
+     * by default.
+     */
+    public abstract RegularFileProperty getBaselineFile();
+
+    /**
+     * How the check is isolated from the Gradle daemon, see {@link WorkerIsolation}.
+     * <p>
+     * Defaults to {@link WorkerIsolation#CLASSLOADER}. Projects with very large classpaths (e.g. using
+     * {@link #getCheckCompletely()}) can instead use {@link WorkerIsolation#PROCESS} to run in a JVM sized for them.
+     */
+    public abstract Property<WorkerIsolation> getWorkerIsolation();
+
+    /**
+     * Maximum heap size of the worker process (e.g. {@code 2g}), only used with {@link WorkerIsolation#PROCESS}.
+     */
+    public abstract Property<String> getWorkerMaxHeapSize();
+
+    /**
+     * Additional JVM arguments of the worker process, only used with {@link WorkerIsolation#PROCESS}.
+     */
+    public abstract ListProperty<String> getWorkerJvmArgs();
+
+    /**
+     * Whether worker processes share the classes they load (the JDK's, as well as the checker's and its dependencies')
+     * through a dynamic Class Data Sharing archive kept in the Gradle user home, which cuts down their startup time.
+     * Only used with {@link WorkerIsolation#PROCESS}, and enabled by default.
+     * <p>
+     * The archive is dumped by the first worker process on a given JDK, Gradle version and version of the plugin. From
+     * JDK 19, archives that fail to validate are recreated automatically.
+     */
+    public abstract Property<Boolean> getWorkerClassDataSharing();
+
+    /**
+     * Runs the checks on a local index server, which keeps parsed classes and artifact indexes warm across checks and
+     * builds, rather than in the worker. The server is started on demand, listens on {@link #getIndexServerSocket()}
+     * and stops after being idle for 3 hours.
+     * <p>
+     * Checks fall back to running in the worker whenever the server can't serve them, e.g. because it runs on a
+     * different JDK. Checks against or writing a {@link #getBaselineFile() baseline}, writing the
+     * {@link #getWriteReferenceIndex() reverse reference index}, and simulated upgrades, always run in the worker. Checks served by the server don't report metrics, nor can they be built upon incrementally.
+     * This only applies to {@code checkAbiCompatibility}, and is disabled by default.
+     */
+    public abstract Property<Boolean> getUseIndexServer();
+
+    /**
+     * The Unix domain socket of the index server, see {@link #getUseIndexServer()}. Defaults to
+     * {@code transitive-abi-checker/index-server.sock} in the Gradle user home. Its directory is created only
+     * accessible to the current user, and the server isn't used if the directory or the socket belongs to anyone else,
+     * or if other users can write to the directory. Socket paths are limited to around a hundred characters.
+     */
+    public abstract Property<String> getIndexServerSocket();
+
     public TransitiveAbiCheckerExtension() {
         // This is the default anyway, but making it extra clear that this is intended
         getCheckCompletely().convention(false);
+        getReachabilityAnalysis().convention(ReachabilityAnalysis.CLASS_REFERENCES);
+        getEntryPointStrategy().convention(EntryPointStrategy.ALL_CLASSES);
+        getCheckOnlyAffectedDependencies().convention(false);
+        getConflictsOutputFormat().convention(ConflictsOutputFormat.JSON);
+        getFootprintLogThresholdMb().convention(DEFAULT_FOOTPRINT_LOG_THRESHOLD_MB);
+        getWriteReferenceIndex().convention(false);
+        getWorkerIsolation().convention(WorkerIsolation.CLASSLOADER);
+        getWorkerJvmArgs().convention(List.of());
+        getWorkerClassDataSharing().convention(true);
+        getUseIndexServer().convention(false);
     }
 
     public final ConflictCheckerConfiguration toConfiguration() {
@@ -80,6 +221,9 @@ public abstract class TransitiveAbiCheckerExtension {
                 .ignoredClassPrefixes(getIgnoredClassPrefixes().getOrElse(Set.of()))
                 .ignoredClassnameKeywords(getIgnoredClassnameKeywords().getOrElse(Set.of()))
                 .checkCompletely(getCheckCompletely().getOrElse(false))
+                .reachabilityAnalysis(getReachabilityAnalysis().getOrElse(ReachabilityAnalysis.CLASS_REFERENCES))
+                .entryPointStrategy(getEntryPointStrategy().getOrElse(EntryPointStrategy.ALL_CLASSES))
+                .entryPointRoots(getEntryPointRoots().getOrElse(Set.of()))
                 .build();
     }
 }
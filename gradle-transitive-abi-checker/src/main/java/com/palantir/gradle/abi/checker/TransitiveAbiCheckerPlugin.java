@@ -17,16 +17,26 @@
 package com.palantir.gradle.abi.checker;
 
 import com.palantir.gradle.abi.checker.services.AbiCheckerBuildService;
+import com.palantir.gradle.abi.checker.util.AffectedDependencies;
+import com.palantir.gradle.abi.checker.util.AggregatedProjectDefinition;
 import com.palantir.gradle.abi.checker.util.ResolvedArtifactDefinition;
+import java.io.File;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.gradle.api.NamedDomainObjectProvider;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
+import org.gradle.api.Task;
 import org.gradle.api.artifacts.Configuration;
 import org.gradle.api.artifacts.result.ResolvedArtifactResult;
+import org.gradle.api.attributes.Attribute;
+import org.gradle.api.attributes.AttributeContainer;
 import org.gradle.api.attributes.LibraryElements;
+import org.gradle.api.file.Directory;
+import org.gradle.api.file.FileTree;
 import org.gradle.api.plugins.JavaPlugin;
+import org.gradle.api.provider.ListProperty;
 import org.gradle.api.provider.Provider;
 import org.gradle.api.tasks.SourceSet;
 import org.gradle.api.tasks.SourceSetContainer;
@@ -40,6 +50,23 @@ import org.jetbrains.annotations.NotNull;
  */
 public class TransitiveAbiCheckerPlugin implements Plugin<Project> {
 
+    /**
+     * Class data sharing archives of worker processes are shared by all projects and builds of the current user.
+     */
+    static Provider<Directory> classDataSharingDirectory(Project project) {
+        File directory = new File(
+                project.getGradle().getGradleUserHomeDir(), "caches/transitive-abi-checker/class-data-sharing");
+        return project.getLayout().dir(project.provider(() -> directory));
+    }
+
+    /**
+     * The index server is shared by all projects and builds of the current user, in a directory only they can access.
+     */
+    static String indexServerSocket(Project project) {
+        return new File(project.getGradle().getGradleUserHomeDir(), "transitive-abi-checker/index-server.sock")
+                .getAbsolutePath();
+    }
+
     @Override
     public final void apply(@NotNull Project subproject) {
         // This broad plugin check causes the checker to run on test only modules
@@ -58,6 +85,7 @@ public class TransitiveAbiCheckerPlugin implements Plugin<Project> {
         // The extension is intentionally scoped to the current project to allow for granular control
         TransitiveAbiCheckerExtension abiCheckerExtension =
                 subproject.getExtensions().create("transitiveAbiChecker", TransitiveAbiCheckerExtension.class);
+        abiCheckerExtension.getIndexServerSocket().convention(indexServerSocket(subproject));
 
         TaskProvider<TransitiveAbiCheckerTask> abiCheckTask = subproject
                 .getTasks()
@@ -66,10 +94,54 @@ public class TransitiveAbiCheckerPlugin implements Plugin<Project> {
                             .set(subproject
                                     .getLayout()
                                     .getBuildDirectory()
-                                    .file("abi-checker/abi-checker-conflicts.json"));
+                                    .file(abiCheckerExtension
+                                            .getConflictsOutputFormat()
+                                            .map(format ->
+                                                    "abi-checker/abi-checker-conflicts." + format.fileExtension())));
+                    task.getReportFile()
+                            .set(subproject.getLayout().getBuildDirectory().file("abi-checker/abi-checker-report.txt"));
+                    task.getMetricsOutputFile()
+                            .set(subproject
+                                    .getLayout()
+                                    .getBuildDirectory()
+                                    .file("abi-checker/abi-checker-metrics.json"));
+                    task.getReferenceIndexFile()
+                            .set(subproject
+                                    .getLayout()
+                                    .getBuildDirectory()
+                                    .file("abi-checker/abi-checker-references.json.gz"));
+                    task.getUpgradeReportFile()
+                            .set(subproject
+                                    .getLayout()
+                                    .getBuildDirectory()
+                                    .file("abi-checker/abi-checker-upgrades.json"));
+                    task.getIncrementalStateDirectory()
+                            .set(subproject.getLayout().getBuildDirectory().dir("abi-checker/incremental"));
 
-                    // Pass along per project configuration
-                    task.getCheckerExtension().set(abiCheckerExtension);
+                    // Pass along per project configuration, lazily so that it can still be changed after this runs
+                    task.getProjectName().set(subproject.getName());
+                    task.getProjectDirectory().set(subproject.getLayout().getProjectDirectory());
+                    task.getJavaRuntimeVersion().set(subproject.getProviders().systemProperty("java.runtime.version"));
+                    task.getErrorArtifactPrefixes().set(abiCheckerExtension.getErrorArtifactPrefixes());
+                    task.getIgnoredArtifactPrefixes().set(abiCheckerExtension.getIgnoredArtifactPrefixes());
+                    task.getIgnoredClassPrefixes().set(abiCheckerExtension.getIgnoredClassPrefixes());
+                    task.getIgnoredClassnameKeywords().set(abiCheckerExtension.getIgnoredClassnameKeywords());
+                    task.getCheckCompletely().set(abiCheckerExtension.getCheckCompletely());
+                    task.getReachabilityAnalysis().set(abiCheckerExtension.getReachabilityAnalysis());
+                    task.getEntryPointStrategy().set(abiCheckerExtension.getEntryPointStrategy());
+                    task.getEntryPointRoots().set(abiCheckerExtension.getEntryPointRoots());
+                    task.getMaxConflicts().set(abiCheckerExtension.getMaxConflicts());
+                    task.getConflictsOutputFormat().set(abiCheckerExtension.getConflictsOutputFormat());
+                    task.getFootprintLogThresholdMb().set(abiCheckerExtension.getFootprintLogThresholdMb());
+                    task.getBaselineFile().set(abiCheckerExtension.getBaselineFile());
+                    task.getWriteReferenceIndex().set(abiCheckerExtension.getWriteReferenceIndex());
+                    task.getWorkerIsolation().set(abiCheckerExtension.getWorkerIsolation());
+                    task.getWorkerMaxHeapSize().set(abiCheckerExtension.getWorkerMaxHeapSize());
+                    task.getWorkerJvmArgs().set(abiCheckerExtension.getWorkerJvmArgs());
+                    task.getWorkerClassDataSharing().set(abiCheckerExtension.getWorkerClassDataSharing());
+                    task.getClassDataSharingDirectory().set(classDataSharingDirectory(subproject));
+                    task.getUseIndexServer().set(abiCheckerExtension.getUseIndexServer());
+                    task.getIndexServerSocket().set(abiCheckerExtension.getIndexServerSocket());
 
                     NamedDomainObjectProvider<Configuration> runtimeClasspath =
                             subproject.getConfigurations().named(JavaPlugin.RUNTIME_CLASSPATH_CONFIGURATION_NAME);
@@ -83,8 +155,14 @@ public class TransitiveAbiCheckerPlugin implements Plugin<Project> {
                     // Which we then pass to the plugin for loading the entry points
                     task.getProjectClassFiles()
                             .setFrom(mainSourceSet.getOutput().getClassesDirs());
+                    task.getServiceRegistrationFiles().setFrom(serviceRegistrationFiles(subproject, mainSourceSet));
 
-                    setResolvedRuntimeArtifacts(subproject, task, runtimeClasspath);
+                    setResolvedRuntimeArtifacts(
+                            subproject, task, task.getResolvedRuntimeClasspathArtifacts(), runtimeClasspath);
+                    task.getDependenciesToCheck()
+                            .set(dependenciesToCheck(subproject, abiCheckerExtension, runtimeClasspath));
+                    task.getUpgradeCandidateArtifacts()
+                            .set(upgradeCandidateArtifacts(subproject, task.getUpgradeCandidates(), runtimeClasspath));
 
                     task.getAbiCheckerService().set(abiCheckerBuildService);
 
@@ -96,6 +174,79 @@ public class TransitiveAbiCheckerPlugin implements Plugin<Project> {
                 .getTasks()
                 .named(LifecycleBasePlugin.CHECK_TASK_NAME)
                 .configure(check -> check.dependsOn(abiCheckTask));
+
+        // Also contribute this project to the root's aggregated check, using the same configuration
+        subproject
+                .getRootProject()
+                .getTasks()
+                .withType(TransitiveAbiCheckerAggregateTask.class)
+                .configureEach(aggregateTask -> {
+                    AggregatedProjectDefinition definition =
+                            subproject.getObjects().newInstance(AggregatedProjectDefinition.class);
+                    definition.getProjectPath().set(subproject.getPath());
+                    definition.getProjectDirectory().set(subproject.getLayout().getProjectDirectory());
+                    definition.getErrorArtifactPrefixes().set(abiCheckerExtension.getErrorArtifactPrefixes());
+                    definition.getIgnoredArtifactPrefixes().set(abiCheckerExtension.getIgnoredArtifactPrefixes());
+                    definition.getIgnoredClassPrefixes().set(abiCheckerExtension.getIgnoredClassPrefixes());
+                    definition.getIgnoredClassnameKeywords().set(abiCheckerExtension.getIgnoredClassnameKeywords());
+                    definition.getCheckCompletely().set(abiCheckerExtension.getCheckCompletely());
+                    definition.getReachabilityAnalysis().set(abiCheckerExtension.getReachabilityAnalysis());
+                    definition.getEntryPointStrategy().set(abiCheckerExtension.getEntryPointStrategy());
+                    definition.getEntryPointRoots().set(abiCheckerExtension.getEntryPointRoots());
+
+                    SourceSet mainSourceSet = subproject
+                            .getExtensions()
+                            .getByType(SourceSetContainer.class)
+                            .getByName(SourceSet.MAIN_SOURCE_SET_NAME);
+                    aggregateTask.dependsOn(subproject.getTasks().named(mainSourceSet.getClassesTaskName()));
+                    definition
+                            .getProjectClassFiles()
+                            .setFrom(mainSourceSet.getOutput().getClassesDirs());
+                    definition
+                            .getServiceRegistrationFiles()
+                            .setFrom(serviceRegistrationFiles(subproject, mainSourceSet));
+
+                    NamedDomainObjectProvider<Configuration> runtimeClasspath =
+                            subproject.getConfigurations().named(JavaPlugin.RUNTIME_CLASSPATH_CONFIGURATION_NAME);
+                    setResolvedRuntimeArtifacts(
+                            subproject,
+                            aggregateTask,
+                            definition.getResolvedRuntimeClasspathArtifacts(),
+                            runtimeClasspath);
+                    definition
+                            .getDependenciesToCheck()
+                            .set(dependenciesToCheck(subproject, abiCheckerExtension, runtimeClasspath));
+
+                    aggregateTask.getProjects().add(definition);
+                });
+    }
+
+    /**
+     * Finds the main source set's {@code META-INF/services} files, once its resources are processed (which building
+     *   its classes already depends on).
+     */
+    private static FileTree serviceRegistrationFiles(Project subproject, SourceSet mainSourceSet) {
+        return subproject.fileTree(
+                subproject.provider(() -> mainSourceSet.getOutput().getResourcesDir()),
+                tree -> tree.include("META-INF/services/*"));
+    }
+
+    /**
+     * Finds the dependencies of the runtime classpath that need to be checked, or nothing if all of them should be.
+     */
+    private static Provider<Set<String>> dependenciesToCheck(
+            Project subproject,
+            TransitiveAbiCheckerExtension abiCheckerExtension,
+            NamedDomainObjectProvider<Configuration> runtimeClasspath) {
+        Provider<Set<String>> affectedDependencies = runtimeClasspath
+                .flatMap(configuration ->
+                        configuration.getIncoming().getResolutionResult().getRootComponent())
+                .map(AffectedDependencies::find);
+        return abiCheckerExtension
+                .getCheckOnlyAffectedDependencies()
+                .flatMap(checkOnlyAffected -> checkOnlyAffected
+                        ? affectedDependencies
+                        : subproject.getProviders().provider(() -> null));
     }
 
     /**
@@ -103,7 +254,8 @@ public class TransitiveAbiCheckerPlugin implements Plugin<Project> {
      */
     private static void setResolvedRuntimeArtifacts(
             Project subproject,
-            TransitiveAbiCheckerTask task,
+            Task task,
+            ListProperty<ResolvedArtifactDefinition> resolvedRuntimeClasspathArtifacts,
             NamedDomainObjectProvider<Configuration> runtimeClasspath) {
         Provider<List<ResolvedArtifactResult>> resolvedArtifacts = runtimeClasspath.flatMap(r -> r.getIncoming()
                 .artifactView(view -> view.attributes(attributeContainer -> attributeContainer.attribute(
@@ -134,13 +286,49 @@ public class TransitiveAbiCheckerPlugin implements Plugin<Project> {
         //   so we can make sure we analyze the correct classes
         // This is among others the classpath ordering that ends up being used in
         // https://github.com/palantir/sls-packaging/blob/4a96288316281b6e4020fa410e351b91c27ca1ab/gradle-sls-packaging/src/main/java/com/palantir/gradle/dist/service/JavaServiceDistributionPlugin.java#L318-L325
-        task.getResolvedRuntimeClasspathArtifacts().set(resolvedArtifacts.map(resolved -> resolved.stream()
-                .map(resolvedArtifact -> {
-                    ResolvedArtifactDefinition definition =
-                            subproject.getObjects().newInstance(ResolvedArtifactDefinition.class);
-                    definition.setup(resolvedArtifact);
-                    return definition;
-                })
+        resolvedRuntimeClasspathArtifacts.set(resolvedArtifacts.map(resolved -> resolved.stream()
+                .map(resolvedArtifact -> artifactDefinition(subproject, resolvedArtifact))
                 .collect(Collectors.toList())));
     }
+
+    /**
+     * Resolves the jars of the dependencies to simulate upgrading to, the same way as the runtime classpath but
+     *   without their own dependencies, as each of them only replaces one artifact of the runtime classpath.
+     *
+     * The candidates are only known once the task's options are set, so they are added to a single configuration
+     *   lazily, which is only resolved once, when the task's inputs are first needed.
+     */
+    private static Provider<List<ResolvedArtifactDefinition>> upgradeCandidateArtifacts(
+            Project subproject,
+            Provider<List<String>> upgradeCandidates,
+            NamedDomainObjectProvider<Configuration> runtimeClasspath) {
+        Configuration configuration = subproject.getConfigurations().detachedConfiguration();
+        configuration.setTransitive(false);
+        configuration.getDependencies().addAllLater(upgradeCandidates.map(candidates -> candidates.stream()
+                .map(subproject.getDependencies()::create)
+                .toList()));
+        // Only the values of the attributes are looked up lazily, e.g. the target JVM version of a toolchain
+        configuration.attributes(attributes -> runtimeClasspath
+                .get()
+                .getAttributes()
+                .keySet()
+                .forEach(attribute -> copyAttribute(attribute, runtimeClasspath, attributes)));
+        return configuration.getIncoming().getArtifacts().getResolvedArtifacts().map(resolved -> resolved.stream()
+                .map(resolvedArtifact -> artifactDefinition(subproject, resolvedArtifact))
+                .collect(Collectors.toList()));
+    }
+
+    private static <T> void copyAttribute(
+            Attribute<T> attribute, NamedDomainObjectProvider<Configuration> from, AttributeContainer to) {
+        to.attributeProvider(
+                attribute,
+                from.map(configuration -> configuration.getAttributes().getAttribute(attribute)));
+    }
+
+    private static ResolvedArtifactDefinition artifactDefinition(
+            Project subproject, ResolvedArtifactResult resolvedArtifact) {
+        ResolvedArtifactDefinition definition = subproject.getObjects().newInstance(ResolvedArtifactDefinition.class);
+        definition.setup(resolvedArtifact);
+        return definition;
+    }
 }
@@ -16,9 +16,11 @@
 
 package com.palantir.gradle.abi.checker;
 
+import com.palantir.gradle.abi.checker.services.AbiCheckerBuildService;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
 import org.gradle.api.plugins.JavaPlugin;
+import org.gradle.api.provider.Provider;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -39,6 +41,25 @@ public class TransitiveAbiCheckerRootPlugin implements Plugin<Project> {
             throw new IllegalArgumentException(ROOT_ERROR_MESSAGE);
         }
 
+        Provider<AbiCheckerBuildService> abiCheckerBuildService = appliedProject
+                .getGradle()
+                .getSharedServices()
+                .registerIfAbsent("abiCheckerBuildService", AbiCheckerBuildService.class);
+
+        // Opt-in alternative to the per project tasks, which subprojects contribute to as the core plugin is applied
+        appliedProject
+                .getTasks()
+                .register(TransitiveAbiCheckerAggregateTask.NAME, TransitiveAbiCheckerAggregateTask.class, task -> {
+                    task.getOutputDirectory()
+                            .set(appliedProject.getLayout().getBuildDirectory().dir("abi-checker/aggregate"));
+                    task.getJavaRuntimeVersion()
+                            .set(appliedProject.getProviders().systemProperty("java.runtime.version"));
+                    task.getClassDataSharingDirectory()
+                            .set(TransitiveAbiCheckerPlugin.classDataSharingDirectory(appliedProject));
+                    task.getAbiCheckerService().set(abiCheckerBuildService);
+                    task.usesService(abiCheckerBuildService);
+                });
+
         appliedProject.subprojects(subproject -> {
             subproject.getPlugins().withType(JavaPlugin.class, _p -> {
                 subproject.getPlugins().apply(TransitiveAbiCheckerPlugin.class);
@@ -16,55 +16,69 @@
 
 package com.palantir.gradle.abi.checker;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.json.JsonMapper;
-import com.google.common.collect.ImmutableList;
-import com.palantir.abi.checker.ConflictChecker;
-import com.palantir.abi.checker.ConflictCheckerConfiguration;
-import com.palantir.abi.checker.datamodel.Artifact;
-import com.palantir.abi.checker.datamodel.ArtifactName;
-import com.palantir.abi.checker.datamodel.classlocation.ClassLocation;
-import com.palantir.abi.checker.datamodel.conflict.Conflict;
-import com.palantir.gradle.abi.checker.output.ConflictsOutputContents;
-import com.palantir.gradle.abi.checker.output.OutputContents;
-import com.palantir.gradle.abi.checker.output.UnexpectedFailureOutputContents;
+import com.palantir.abi.checker.datamodel.graph.EntryPointStrategy;
+import com.palantir.abi.checker.datamodel.graph.ReachabilityAnalysis;
+import com.palantir.abi.checker.datamodel.types.TypeDescriptors;
+import com.palantir.abi.checker.output.ConflictsOutputFormat;
 import com.palantir.gradle.abi.checker.services.AbiCheckerBuildService;
 import com.palantir.gradle.abi.checker.util.ResolvedArtifactDefinition;
+import com.palantir.gradle.abi.checker.util.ServiceProviders;
 import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
-import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Set;
+import javax.inject.Inject;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileType;
 import org.gradle.api.file.RegularFileProperty;
-import org.gradle.api.logging.Logging;
 import org.gradle.api.provider.ListProperty;
 import org.gradle.api.provider.Property;
 import org.gradle.api.provider.SetProperty;
+import org.gradle.api.tasks.CacheableTask;
 import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.InputFiles;
 import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.Nested;
+import org.gradle.api.tasks.Optional;
+import org.gradle.api.tasks.OutputDirectory;
 import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.TaskAction;
-import org.slf4j.Logger;
-
+import org.gradle.api.tasks.options.Option;
+import org.gradle.work.ChangeType;
+import org.gradle.work.FileChange;
+import org.gradle.work.Incremental;
+import org.gradle.work.InputChanges;
+import org.gradle.workers.WorkQueue;
+import org.gradle.workers.WorkerExecutor;
+
+/**
+ * Checks the runtime classpath of a project for ABI incompatibilities.
+ *
+ * The check itself is done by {@link TransitiveAbiCheckerWorkAction}, through the worker API, with the isolation
+ *   configured in {@link TransitiveAbiCheckerExtension#getWorkerIsolation()}.
+ *
+ * All the state needed at execution time is captured in the task's own properties (wired lazily from the
+ *   {@link TransitiveAbiCheckerExtension} by the plugin), so that the task is compatible with the configuration cache.
+ *
+ * The task is cacheable: none of its inputs or outputs depend on absolute paths, so results can be shared through
+ *   the build cache between checkouts and machines.
+ */
+@CacheableTask
 public abstract class TransitiveAbiCheckerTask extends DefaultTask {
-    private static final Logger log = Logging.getLogger(TransitiveAbiCheckerTask.class);
-    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
-
     public static final String SKIP_NO_CLASS_MESSAGE =
             "Skipped due to absence of any class in main source set - use checkCompletely to run anyway";
 
     /**
      * The class files of the project being checked.
+     *
+     * Changes to these can be checked incrementally, see {@link #getIncrementalStateDirectory()}.
      */
+    @Incremental
+    @PathSensitive(PathSensitivity.RELATIVE)
     @InputFiles
     public abstract ConfigurableFileCollection getProjectClassFiles();
 
@@ -77,22 +91,251 @@ public abstract class TransitiveAbiCheckerTask extends DefaultTask {
     public abstract ListProperty<ResolvedArtifactDefinition> getResolvedRuntimeClasspathArtifacts();
 
     /**
-     * Contains all the dependencies that we know have a transitive with a version mismatch.
+     * Contains all the dependencies that we know have a transitive with a version mismatch, as identified in
+     *   {@link #getResolvedRuntimeClasspathArtifacts()}. Only these are analyzed, unless this is absent.
+     *
+     * See {@link TransitiveAbiCheckerExtension#getCheckOnlyAffectedDependencies()}.
      */
+    @Optional
     @Input
     public abstract SetProperty<String> getDependenciesToCheck();
 
     @OutputFile
     public abstract RegularFileProperty getErrorsOutputFile();
 
+    /**
+     * File in which the human-readable report of the conflicts is written, of which the failure message only includes
+     *   the beginning. It is deleted when there are no conflicts.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getReportFile();
+
+    /**
+     * File in which metrics about the check itself (such as its estimated memory footprint) are written.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getMetricsOutputFile();
+
+    /**
+     * File in which the reverse reference index is written, see
+     *   {@link TransitiveAbiCheckerExtension#getWriteReferenceIndex()}. It is deleted when not written.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getReferenceIndexFile();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getWriteReferenceIndex()}.
+     */
+    @Input
+    public abstract Property<Boolean> getWriteReferenceIndex();
+
+    /**
+     * Directory in which the reachability graph and per-class results of the last run are kept, so that the next run
+     *   only has to re-check the classes affected by changes to the project's classes.
+     */
+    @OutputDirectory
+    public abstract DirectoryProperty getIncrementalStateDirectory();
+
+    /**
+     * Directory of the project being checked, used to name the project's own artifacts relative to it.
+     */
+    @Internal
+    public abstract DirectoryProperty getProjectDirectory();
+
+    /**
+     * Version of the JDK whose modules are checked against, which is the one running the check.
+     */
+    @Input
+    public abstract Property<String> getJavaRuntimeVersion();
+
+    /**
+     * Name of the project being checked, captured at configuration time for logging purposes.
+     */
+    @Internal
+    public abstract Property<String> getProjectName();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getErrorArtifactPrefixes()}.
+     */
+    @Optional
+    @Input
+    public abstract SetProperty<String> getErrorArtifactPrefixes();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getIgnoredArtifactPrefixes()}.
+     */
+    @Input
+    public abstract SetProperty<String> getIgnoredArtifactPrefixes();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getIgnoredClassPrefixes()}.
+     */
+    @Input
+    public abstract SetProperty<String> getIgnoredClassPrefixes();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getIgnoredClassnameKeywords()}.
+     */
+    @Input
+    public abstract SetProperty<String> getIgnoredClassnameKeywords();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getCheckCompletely()}.
+     */
+    @Optional
+    @Input
+    public abstract Property<Boolean> getCheckCompletely();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getReachabilityAnalysis()}.
+     */
+    @Optional
+    @Input
+    public abstract Property<ReachabilityAnalysis> getReachabilityAnalysis();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getEntryPointStrategy()}.
+     */
+    @Optional
+    @Input
+    public abstract Property<EntryPointStrategy> getEntryPointStrategy();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getEntryPointRoots()}.
+     */
+    @Input
+    public abstract SetProperty<String> getEntryPointRoots();
+
+    /**
+     * The project's {@code META-INF/services} files, whose service providers are entry points for some of the
+     *   {@link #getEntryPointStrategy() entry point strategies}.
+     */
+    @PathSensitive(PathSensitivity.RELATIVE)
+    @InputFiles
+    public abstract ConfigurableFileCollection getServiceRegistrationFiles();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getMaxConflicts()}.
+     */
+    @Optional
+    @Input
+    public abstract Property<Integer> getMaxConflicts();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getConflictsOutputFormat()}.
+     */
+    @Optional
+    @Input
+    public abstract Property<ConflictsOutputFormat> getConflictsOutputFormat();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getBaselineFile()}. Its contents are tracked through
+     *   {@link #getBaselineContents()}, as it may not exist yet.
+     */
+    @Optional
+    @Internal
+    public abstract RegularFileProperty getBaselineFile();
+
+    @PathSensitive(PathSensitivity.NONE)
+    @InputFiles
+    public abstract ConfigurableFileCollection getBaselineContents();
+
+    /**
+     * Writes the baseline from the conflicts found, accepting all of them, rather than failing on them.
+     */
+    @Option(option = "write-abi-baseline", description = "Writes the ABI baseline, accepting every conflict found")
+    @Input
+    public abstract Property<Boolean> getWriteBaseline();
+
+    /**
+     * Dependencies, as {@code group:name:version}, to simulate upgrading the runtime classpath to. Each of them
+     *   replaces the artifact of the same group and name in turn, and the conflicts each upgrade would introduce or fix
+     *   are written to {@link #getUpgradeReportFile()}, rather than failing on the current conflicts.
+     */
+    @Option(
+            option = "simulate-upgrade",
+            description = "Simulates upgrading a dependency to the given group:name:version, can be repeated")
+    @Input
+    public abstract ListProperty<String> getUpgradeCandidates();
+
+    /**
+     * The jars of the {@link #getUpgradeCandidates()}, without their own dependencies.
+     */
     @Nested
-    public abstract Property<TransitiveAbiCheckerExtension> getCheckerExtension();
+    public abstract ListProperty<ResolvedArtifactDefinition> getUpgradeCandidateArtifacts();
+
+    /**
+     * File in which the outcome of each simulated upgrade is written. It is deleted when no upgrade is simulated.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getUpgradeReportFile();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getFootprintLogThresholdMb()}.
+     */
+    @Internal
+    public abstract Property<Long> getFootprintLogThresholdMb();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getWorkerIsolation()}.
+     */
+    @Internal
+    public abstract Property<WorkerIsolation> getWorkerIsolation();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getWorkerMaxHeapSize()}.
+     */
+    @Optional
+    @Internal
+    public abstract Property<String> getWorkerMaxHeapSize();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getWorkerJvmArgs()}.
+     */
+    @Internal
+    public abstract ListProperty<String> getWorkerJvmArgs();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getWorkerClassDataSharing()}.
+     */
+    @Internal
+    public abstract Property<Boolean> getWorkerClassDataSharing();
+
+    /**
+     * Where worker processes keep their class data sharing archives, shared by all builds of the current user.
+     */
+    @Optional
+    @Internal
+    public abstract DirectoryProperty getClassDataSharingDirectory();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getUseIndexServer()}.
+     */
+    @Internal
+    public abstract Property<Boolean> getUseIndexServer();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getIndexServerSocket()}.
+     */
+    @Optional
+    @Internal
+    public abstract Property<String> getIndexServerSocket();
 
     @Internal
     public abstract Property<AbiCheckerBuildService> getAbiCheckerService();
 
+    @Inject
+    protected abstract WorkerExecutor getWorkerExecutor();
+
     public TransitiveAbiCheckerTask() {
         setDescription("Checks the runtime classpath for ABI incompatibilities");
+        getBaselineContents().from(getBaselineFile().map(List::of).orElse(List.of()));
+        getWriteBaseline().convention(false);
+        getUpgradeCandidates().convention(List.of());
+        // The baseline is written outside of the task's outputs
+        getOutputs().doNotCacheIf("Writes the ABI baseline", _task -> getWriteBaseline()
+                .get());
+        getOutputs().upToDateWhen(_task -> !getWriteBaseline().get());
 
         // Skip the task entirely if there are no class files to check
         // Note that getProjectClassFiles might actually return the classes directory, rather than the files
@@ -101,140 +344,115 @@ public abstract class TransitiveAbiCheckerTask extends DefaultTask {
         onlyIf(
                 SKIP_NO_CLASS_MESSAGE,
                 _ignored -> getProjectClassFiles().getFiles().stream().anyMatch(File::exists)
-                        || getCheckerExtension().get().getCheckCompletely().get());
+                        || getCheckCompletely().getOrElse(false));
     }
 
     @TaskAction
-    public final void checkAbiConflicts() {
-        try {
-            internalCheckAbiConflicts();
-
-            overwriteFile(getErrorsOutputFile().get().getAsFile().toPath(), "{}");
-        } catch (Exception e) {
-            final OutputContents outputContents;
-
-            if (e instanceof ConflictException conflictException) {
-                outputContents = ConflictsOutputContents.of(conflictException.getConflicts());
-            } else {
-                // See comment in UnexpectedFailureOutputContents for why we're outputting non-conflict failures too
-                outputContents = UnexpectedFailureOutputContents.of(e);
-            }
-
-            try {
-                overwriteFile(
-                        getErrorsOutputFile().get().getAsFile().toPath(), MAPPER.writeValueAsString(outputContents));
-            } catch (JsonProcessingException ex) {
-                RuntimeException jsonException = new RuntimeException("Failed to write exception to output file", ex);
-                jsonException.addSuppressed(e);
-
-                throw jsonException;
-            }
-
-            throw e;
-        }
+    public final void checkAbiConflicts(InputChanges inputChanges) {
+        List<ResolvedArtifactDefinition> runtimeArtifacts =
+                getResolvedRuntimeClasspathArtifacts().get();
+        List<ResolvedArtifactDefinition> upgradeCandidates =
+                getUpgradeCandidateArtifacts().get();
+        ProjectClassChanges projectClassChanges = projectClassChanges(inputChanges);
+        Set<String> serviceProviders = ServiceProviders.read(getServiceRegistrationFiles());
+
+        WorkQueue workQueue = getWorkerIsolation()
+                .get()
+                .workQueue(
+                        getWorkerExecutor(),
+                        getWorkerMaxHeapSize(),
+                        getWorkerJvmArgs().get(),
+                        getWorkerClassDataSharing(),
+                        getClassDataSharingDirectory());
+        workQueue.submit(TransitiveAbiCheckerWorkAction.class, parameters -> {
+            parameters.getProjectName().set(getProjectName());
+            parameters.getProjectDirectory().set(getProjectDirectory());
+            parameters.getCacheKey().set(getAbiCheckerService().get().cacheKey());
+            parameters.getProjectClassFiles().from(getProjectClassFiles());
+            parameters
+                    .getRuntimeArtifactIdentifiers()
+                    .set(runtimeArtifacts.stream()
+                            .map(artifact -> artifact.getIdentifier().get())
+                            .toList());
+            parameters
+                    .getRuntimeArtifactPaths()
+                    .set(runtimeArtifacts.stream()
+                            .map(artifact ->
+                                    artifact.getArtifactPath().get().getAsFile().getAbsolutePath())
+                            .toList());
+            parameters.getErrorArtifactPrefixes().set(getErrorArtifactPrefixes().getOrElse(Set.of()));
+            parameters
+                    .getIgnoredArtifactPrefixes()
+                    .set(getIgnoredArtifactPrefixes().getOrElse(Set.of()));
+            parameters.getIgnoredClassPrefixes().set(getIgnoredClassPrefixes().getOrElse(Set.of()));
+            parameters
+                    .getIgnoredClassnameKeywords()
+                    .set(getIgnoredClassnameKeywords().getOrElse(Set.of()));
+            parameters.getCheckCompletely().set(getCheckCompletely().getOrElse(false));
+            parameters
+                    .getReachabilityAnalysis()
+                    .set(getReachabilityAnalysis().getOrElse(ReachabilityAnalysis.CLASS_REFERENCES));
+            parameters.getEntryPointStrategy().set(getEntryPointStrategy().getOrElse(EntryPointStrategy.ALL_CLASSES));
+            parameters.getEntryPointRoots().set(getEntryPointRoots().getOrElse(Set.of()));
+            parameters.getServiceProviders().set(serviceProviders);
+            parameters.getCheckAllDependencies().set(!getDependenciesToCheck().isPresent());
+            parameters.getDependenciesToCheck().set(getDependenciesToCheck().getOrElse(Set.of()));
+            parameters.getMaxConflicts().set(getMaxConflicts());
+            parameters.getConflictsOutputFormat().set(getConflictsOutputFormat().getOrElse(ConflictsOutputFormat.JSON));
+            parameters.getFootprintLogThresholdMb().set(getFootprintLogThresholdMb());
+            parameters.getBaselineFile().set(getBaselineFile());
+            parameters.getWriteBaseline().set(getWriteBaseline());
+            parameters
+                    .getUpgradeCandidateIdentifiers()
+                    .set(upgradeCandidates.stream()
+                            .map(artifact -> artifact.getIdentifier().get())
+                            .toList());
+            parameters
+                    .getUpgradeCandidatePaths()
+                    .set(upgradeCandidates.stream()
+                            .map(artifact ->
+                                    artifact.getArtifactPath().get().getAsFile().getAbsolutePath())
+                            .toList());
+            parameters.getUpgradeReportFile().set(getUpgradeReportFile());
+            parameters.getUseIndexServer().set(getUseIndexServer().getOrElse(false));
+            parameters.getIndexServerSocket().set(getIndexServerSocket());
+            parameters.getErrorsOutputFile().set(getErrorsOutputFile());
+            parameters.getReportFile().set(getReportFile());
+            parameters.getMetricsOutputFile().set(getMetricsOutputFile());
+            parameters.getReferenceIndexFile().set(getReferenceIndexFile());
+            parameters.getWriteReferenceIndex().set(getWriteReferenceIndex());
+            parameters.getIncrementalStateDirectory().set(getIncrementalStateDirectory());
+            parameters.getIncremental().set(projectClassChanges.incremental());
+            parameters.getChangedProjectClasses().set(projectClassChanges.changedClasses());
+        });
     }
 
-    private void internalCheckAbiConflicts() {
-        TransitiveAbiCheckerExtension extension = getCheckerExtension().get();
-        // Acts as the "entry point" for analyzing what classes are reachable and thus worth validating
-        List<Artifact> currentProjectArtifacts = getCurrentProjectArtifacts();
-        Collection<ClassLocation> currentProjectClasses = currentProjectArtifacts.stream()
-                .flatMap(artifact -> artifact.classes().values().stream())
-                .collect(Collectors.toSet());
-
-        boolean checkCompletely = extension.getCheckCompletely().get();
-        // Allow a consumer to check the classes completely in cases where they know better
-        if (currentProjectClasses.isEmpty() && !checkCompletely) {
-            log.warn("Skipping ABI check, no source classes, see info log for details");
-            log.info(
-                    """
-
-                    {} has the java-library plugin applied, but has no classes in its main sourceset.
-                    This either indicates some form of misconfiguration i.e. overly applying the java-library to
-                    'allProjects', or some sort of 'container' project intended for shaded dependencies etc.
-                    If you are certain you need to check the ABI compatibility in this scenario add the following
-                    to your task configuration:
-
-                    transitiveAbiChecker {
-                        checkCompletely = true
-                    }
-
-                    """,
-                    getProject().getName());
-
-            return;
+    /**
+     * Finds the names of the project classes which were modified or removed since the last run, if the check can be
+     *   done incrementally.
+     */
+    private ProjectClassChanges projectClassChanges(InputChanges inputChanges) {
+        if (!inputChanges.isIncremental()) {
+            return ProjectClassChanges.NON_INCREMENTAL;
         }
 
-        // We only want to "check" against the dependencies of this project.
-        List<Artifact> currentProjectRuntimeArtifacts = getRuntimeArtifacts();
-
-        // Represents the complete classpath using the resolved dependencies for this project
-        // This is one take on the classpath, which may not be the same as the one used to run the project
-        //   which could cause issues if there are duplicate classes on the classpath
-        // We have chosen to mimic the classpath as defined by
-        // https://github.com/palantir/sls-packaging/blob/4a96288316281b6e4020fa410e351b91c27ca1ab/gradle-sls-packaging/src/main/java/com/palantir/gradle/dist/service/JavaServiceDistributionPlugin.java#L318-L325
-        //   which relies on the runtime classpath configuration
-        List<Artifact> jdkArtifacts =
-                getAbiCheckerService().get().jdkModuleLoader().getJavaModuleArtifacts();
-        List<Artifact> runtimeClasspath = ImmutableList.<Artifact>builder()
-                // We need to include the JDK itself for ABI analysis, and it should always be first on the classpath
-                .addAll(jdkArtifacts)
-                // Include the current project classes, right after the jdk
-                .addAll(currentProjectArtifacts)
-                // Include all other runtime artifacts from the classpath
-                // This set of artifacts purposely includes jars produced by other projects in this repo
-                // since there are circular dependency cases where an external dep relies on an API produced
-                // by this repo and incorrectly alerts on them :-/
-                .addAll(currentProjectRuntimeArtifacts)
-                .build();
-
-        ConflictCheckerConfiguration configuration = ConflictCheckerConfiguration.builder()
-                .from(extension.toConfiguration())
-                // Don't analyze the jdk nor the current project
-                .addAllIgnoredArtifactPrefixes(Stream.concat(jdkArtifacts.stream(), currentProjectArtifacts.stream())
-                        .map(Artifact::name)
-                        .map(ArtifactName::name)
-                        .collect(Collectors.toSet()))
-                .build();
-
-        List<Conflict> conflicts = ConflictChecker.checkWithEntryPoints(
-                configuration, getAbiCheckerService().get().classLoader(), runtimeClasspath, currentProjectClasses);
-
-        if (!conflicts.isEmpty()) {
-            String output = ConflictPrinter.outputConflicts(conflicts);
-            throw new ConflictException(output, conflicts);
+        Set<String> changedClasses = new HashSet<>();
+        for (FileChange change : inputChanges.getFileChanges(getProjectClassFiles())) {
+            if (change.getFileType() != FileType.FILE
+                    || !change.getNormalizedPath().endsWith(".class")) {
+                continue;
+            }
+            if (change.getChangeType() == ChangeType.ADDED) {
+                // A new class might resolve references that were previously unknown, anywhere on the classpath
+                return ProjectClassChanges.NON_INCREMENTAL;
+            }
+            changedClasses.add(TypeDescriptors.fromClassFilename(change.getNormalizedPath())
+                    .className());
         }
+        return new ProjectClassChanges(true, changedClasses);
     }
 
-    private List<Artifact> getCurrentProjectArtifacts() {
-        return getProjectClassFiles().getFiles().stream()
-                .map(File::toPath)
-                // There might be multiple source dirs - get the corresponding artifact for each one
-                .map(sourceDirPath -> getAbiCheckerService()
-                        .get()
-                        .artifactLoader()
-                        .load(sourceDirPath, ArtifactName.of(sourceDirPath.toString())))
-                .collect(Collectors.toList());
-    }
-
-    private List<Artifact> getRuntimeArtifacts() {
-        return getResolvedRuntimeClasspathArtifacts().get().stream()
-                .map(result -> getAbiCheckerService()
-                        .get()
-                        .artifactLoader()
-                        .load(
-                                result.getArtifactPath().get().getAsFile().toPath(),
-                                ArtifactName.of(result.getIdentifier().get())))
-                .collect(Collectors.toList());
-    }
-
-    private static void overwriteFile(Path file, String content) {
-        try {
-            Files.createDirectories(file.getParent());
-
-            Files.writeString(file, content, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
-        } catch (IOException e) {
-            throw new RuntimeException("Error writing contents to file " + file, e);
-        }
+    private record ProjectClassChanges(boolean incremental, Set<String> changedClasses) {
+        private static final ProjectClassChanges NON_INCREMENTAL = new ProjectClassChanges(false, Set.of());
     }
 }
@@ -0,0 +1,669 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.gradle.abi.checker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.google.common.collect.ImmutableList;
+import com.palantir.abi.checker.CollectingConflictSink;
+import com.palantir.abi.checker.ConflictChecker;
+import com.palantir.abi.checker.ConflictCheckerConfiguration;
+import com.palantir.abi.checker.UpgradeSimulator;
+import com.palantir.abi.checker.baseline.AcceptedConflict;
+import com.palantir.abi.checker.baseline.ArtifactFingerprints;
+import com.palantir.abi.checker.baseline.BaselineConflictSink;
+import com.palantir.abi.checker.baseline.ConflictBaseline;
+import com.palantir.abi.checker.baseline.ConflictBaselines;
+import com.palantir.abi.checker.datamodel.Artifact;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.classlocation.ClassLocation;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import com.palantir.abi.checker.datamodel.conflict.ConflictGroup;
+import com.palantir.abi.checker.datamodel.graph.ReachabilityAnalysis;
+import com.palantir.abi.checker.datamodel.types.ClassTypeDescriptor;
+import com.palantir.abi.checker.datamodel.types.TypeDescriptors;
+import com.palantir.abi.checker.incremental.IncrementalState;
+import com.palantir.abi.checker.incremental.UpgradeSimulation;
+import com.palantir.abi.checker.metrics.ArtifactCost;
+import com.palantir.abi.checker.metrics.FootprintEstimator;
+import com.palantir.abi.checker.metrics.MemoryFootprint;
+import com.palantir.abi.checker.metrics.ReachabilityAttribution;
+import com.palantir.abi.checker.output.ConflictPrinter;
+import com.palantir.abi.checker.output.ConflictsOutputFormat;
+import com.palantir.abi.checker.output.UnexpectedFailureOutputContents;
+import com.palantir.abi.checker.references.ReverseReferenceIndex;
+import com.palantir.abi.checker.server.CheckRequest;
+import com.palantir.abi.checker.server.CheckResult;
+import com.palantir.abi.checker.server.ClasspathEntry;
+import com.palantir.abi.checker.server.ImmutableCheckRequest;
+import com.palantir.abi.checker.server.IndexClient;
+import com.palantir.gradle.abi.checker.output.MetricsOutputContents;
+import com.palantir.gradle.abi.checker.output.UpgradeSimulationOutputContents;
+import com.palantir.gradle.abi.checker.services.AbiCheckerLoaders;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import org.gradle.api.logging.Logging;
+import org.gradle.workers.WorkAction;
+import org.slf4j.Logger;
+
+/**
+ * Runs the ABI check for a single project, as submitted by {@link TransitiveAbiCheckerTask}.
+ *
+ * Running through the worker API lets the check happen in an isolated classloader or a separate process, and lets
+ *   Gradle run the checks of independent projects in parallel.
+ */
+public abstract class TransitiveAbiCheckerWorkAction implements WorkAction<TransitiveAbiCheckerWorkParameters> {
+    private static final Logger log = Logging.getLogger(TransitiveAbiCheckerWorkAction.class);
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+    private static final long BYTES_PER_MB = 1024 * 1024;
+    private static final int LOGGED_ARTIFACTS = 10;
+    private static final int REPORTED_ENTRY_POINTS = 100;
+    private static final String INCREMENTAL_STATE_FILE = "incremental-state.json";
+
+    @Override
+    public final void execute() {
+        // In case this worker process dumps the class data sharing archive when it exits
+        ClassDataSharing.holdClaim();
+        TransitiveAbiCheckerWorkParameters parameters = getParameters();
+        ConflictsOutputFormat outputFormat =
+                parameters.getConflictsOutputFormat().get();
+        Path outputFile = parameters.getErrorsOutputFile().get().getAsFile().toPath();
+        try {
+            // Only checks finding conflicts write a report, never leave the one of a previous run around
+            deleteFile(parameters.getReportFile().get().getAsFile().toPath());
+            // Same for the reverse reference index, which is only written when enabled
+            deleteFile(parameters.getReferenceIndexFile().get().getAsFile().toPath());
+            // And for the outcome of simulated upgrades, which is only written when simulating them
+            deleteFile(parameters.getUpgradeReportFile().get().getAsFile().toPath());
+            internalCheckAbiConflicts(parameters);
+
+            outputFormat.writeNoConflicts(outputFile);
+        } catch (Exception e) {
+            try {
+                if (e instanceof ConflictException conflictException) {
+                    outputFormat.writeConflictGroups(outputFile, conflictException.getConflictGroups());
+                } else {
+                    // See comment in UnexpectedFailureOutputContents for why we're outputting non-conflict failures too
+                    outputFormat.write(outputFile, UnexpectedFailureOutputContents.of(e));
+                }
+            } catch (RuntimeException ex) {
+                RuntimeException outputException = new RuntimeException("Failed to write exception to output file", ex);
+                outputException.addSuppressed(e);
+
+                throw outputException;
+            }
+
+            throw e;
+        }
+    }
+
+    private static void internalCheckAbiConflicts(TransitiveAbiCheckerWorkParameters parameters) {
+        AbiCheckerLoaders loaders =
+                AbiCheckerLoaders.forBuild(parameters.getCacheKey().get());
+        // Acts as the "entry point" for analyzing what classes are reachable and thus worth validating
+        List<Artifact> currentProjectArtifacts = loadProjectArtifacts(
+                loaders,
+                parameters.getProjectDirectory().get().getAsFile().toPath(),
+                parameters.getProjectClassFiles().getFiles());
+        Collection<ClassLocation> currentProjectClasses = currentProjectArtifacts.stream()
+                .flatMap(artifact -> artifact.classes().values().stream())
+                .collect(Collectors.toSet());
+
+        boolean checkCompletely = parameters.getCheckCompletely().get();
+        // Allow a consumer to check the classes completely in cases where they know better
+        if (currentProjectClasses.isEmpty() && !checkCompletely) {
+            log.warn("Skipping ABI check, no source classes, see info log for details");
+            log.info(
+                    """
+
+                    {} has the java-library plugin applied, but has no classes in its main sourceset.
+                    This either indicates some form of misconfiguration i.e. overly applying the java-library to
+                    'allProjects', or some sort of 'container' project intended for shaded dependencies etc.
+                    If you are certain you need to check the ABI compatibility in this scenario add the following
+                    to your task configuration:
+
+                    transitiveAbiChecker {
+                        checkCompletely = true
+                    }
+
+                    """,
+                    parameters.getProjectName().get());
+
+            return;
+        }
+
+        // The baseline is written out of a check of every dependency, to accept all of their conflicts
+        boolean writeBaseline = parameters.getWriteBaseline().get();
+        if (writeBaseline && !parameters.getBaselineFile().isPresent()) {
+            throw new RuntimeException("Set transitiveAbiChecker.baselineFile to write the ABI baseline of "
+                    + parameters.getProjectName().get());
+        }
+        // Simulated upgrades are compared against the check of every dependency, as any of them may be affected
+        boolean simulateUpgrades =
+                !parameters.getUpgradeCandidateIdentifiers().get().isEmpty();
+        if (writeBaseline && simulateUpgrades) {
+            throw new RuntimeException("The ABI baseline can't be written while simulating upgrades");
+        }
+        boolean checkAllDependencies = parameters.getCheckAllDependencies().get() || writeBaseline || simulateUpgrades;
+        Optional<ConflictBaseline> baseline = writeBaseline ? Optional.empty() : readBaseline(parameters);
+
+        Set<String> dependenciesToCheck = parameters.getDependenciesToCheck().get();
+        if (!checkAllDependencies && dependenciesToCheck.isEmpty()) {
+            log.info(
+                    "Skipping ABI check of {}, all of its dependencies resolved to the versions they declared",
+                    parameters.getProjectName().get());
+            // The next run can't build upon a check that didn't happen, whose metrics don't exist either
+            deleteFile(parameters
+                    .getIncrementalStateDirectory()
+                    .get()
+                    .file(INCREMENTAL_STATE_FILE)
+                    .getAsFile()
+                    .toPath());
+            deleteFile(parameters.getMetricsOutputFile().get().getAsFile().toPath());
+            return;
+        }
+
+        Path incrementalStateFile = parameters
+                .getIncrementalStateDirectory()
+                .get()
+                .file(INCREMENTAL_STATE_FILE)
+                .getAsFile()
+                .toPath();
+        // The server knows nothing of the baseline, whose accepted conflicts would count towards its maxConflicts, and
+        //   doesn't record the reverse reference index
+        if (parameters.getUseIndexServer().get()
+                && !writeBaseline
+                && !simulateUpgrades
+                && baseline.isEmpty()
+                && !parameters.getWriteReferenceIndex().get()) {
+            Optional<CheckResult> result = checkOnIndexServer(parameters, dependenciesToCheck);
+            if (result.isPresent()) {
+                // The server keeps neither, so don't leave those of a previous in-process check around
+                deleteFile(incrementalStateFile);
+                deleteFile(parameters.getMetricsOutputFile().get().getAsFile().toPath());
+                CollectingConflictSink conflicts = CollectingConflictSink.collectAll();
+                result.get().conflicts().forEach(conflicts::accept);
+                throwIfConflicts(parameters, conflicts.groups(), result.get().checkedCompletely());
+                return;
+            }
+        }
+
+        // We only want to "check" against the dependencies of this project.
+        List<Artifact> currentProjectRuntimeArtifacts = loadRuntimeArtifacts(
+                loaders,
+                parameters.getRuntimeArtifactIdentifiers().get(),
+                parameters.getRuntimeArtifactPaths().get());
+
+        // Represents the complete classpath using the resolved dependencies for this project
+        // This is one take on the classpath, which may not be the same as the one used to run the project
+        //   which could cause issues if there are duplicate classes on the classpath
+        // We have chosen to mimic the classpath as defined by
+        // https://github.com/palantir/sls-packaging/blob/4a96288316281b6e4020fa410e351b91c27ca1ab/gradle-sls-packaging/src/main/java/com/palantir/gradle/dist/service/JavaServiceDistributionPlugin.java#L318-L325
+        //   which relies on the runtime classpath configuration
+        List<Artifact> jdkArtifacts = loaders.jdkModuleLoader().getJavaModuleArtifacts();
+        List<Artifact> runtimeClasspath = ImmutableList.<Artifact>builder()
+                // We need to include the JDK itself for ABI analysis, and it should always be first on the classpath
+                .addAll(jdkArtifacts)
+                // Include the current project classes, right after the jdk
+                .addAll(currentProjectArtifacts)
+                // Include all other runtime artifacts from the classpath
+                // This set of artifacts purposely includes jars produced by other projects in this repo
+                // since there are circular dependency cases where an external dep relies on an API produced
+                // by this repo and incorrectly alerts on them :-/
+                .addAll(currentProjectRuntimeArtifacts)
+                .build();
+
+        ConflictCheckerConfiguration configuration = ConflictCheckerConfiguration.builder()
+                .errorArtifactPrefixes(parameters.getErrorArtifactPrefixes().get())
+                .ignoredArtifactPrefixes(parameters.getIgnoredArtifactPrefixes().get())
+                .ignoredClassPrefixes(parameters.getIgnoredClassPrefixes().get())
+                .ignoredClassnameKeywords(
+                        parameters.getIgnoredClassnameKeywords().get())
+                .checkCompletely(checkCompletely)
+                .reachabilityAnalysis(parameters.getReachabilityAnalysis().get())
+                .entryPointStrategy(parameters.getEntryPointStrategy().get())
+                .entryPointRoots(parameters.getEntryPointRoots().get())
+                .serviceProviders(parameters.getServiceProviders().get())
+                .artifactsToCheck(checkAllDependencies ? Optional.empty() : Optional.of(dependenciesToCheck))
+                // Don't analyze the jdk nor the current project
+                .addAllIgnoredArtifactPrefixes(Stream.concat(jdkArtifacts.stream(), currentProjectArtifacts.stream())
+                        .map(Artifact::name)
+                        .map(ArtifactName::name)
+                        .collect(Collectors.toSet()))
+                .build();
+
+        if (simulateUpgrades) {
+            // Neither of these would describe the check of the current classpath
+            deleteFile(incrementalStateFile);
+            deleteFile(parameters.getMetricsOutputFile().get().getAsFile().toPath());
+            simulateUpgrades(parameters, loaders, configuration, runtimeClasspath, currentProjectClasses);
+            return;
+        }
+
+        ConflictChecker checker = createChecker(
+                parameters, configuration, loaders, runtimeClasspath, currentProjectClasses, incrementalStateFile);
+        CollectingConflictSink sink = parameters.getMaxConflicts().isPresent() && !writeBaseline
+                ? CollectingConflictSink.upTo(parameters.getMaxConflicts().get())
+                : CollectingConflictSink.collectAll();
+        ArtifactFingerprints fingerprints = new ArtifactFingerprints(runtimeClasspath);
+        Set<ClassTypeDescriptor> skippedClasses = baseline.map(previous ->
+                        ConflictBaselines.unchangedClasses(previous, configuration, checker.classIndex(), fingerprints))
+                .orElseGet(Set::of);
+        if (!skippedClasses.isEmpty()) {
+            log.info(
+                    "Skipping {} classes of {} which are unchanged since the ABI baseline was written",
+                    skippedClasses.size(),
+                    parameters.getProjectName().get());
+        }
+        BaselineConflictSink baselineSink = baseline.map(previous -> new BaselineConflictSink(previous, sink))
+                .orElse(null);
+        boolean checkedCompletely = checker.check(baselineSink == null ? sink : baselineSink, skippedClasses);
+
+        // Only complete checks driven by the classes each class references can build upon this one next time, and
+        //   classes skipped thanks to the baseline may well have conflicts
+        if (checkedCompletely && skippedClasses.isEmpty() && ConflictChecker.canCheckIncrementally(configuration)) {
+            writeIncrementalState(incrementalStateFile, checker.incrementalState());
+        }
+        reportMetrics(parameters, loaders, jdkArtifacts, checker);
+        if (parameters.getWriteReferenceIndex().get()) {
+            // The project's own classes are checked by the compiler, but they are consumers like any other artifact
+            ConflictCheckerConfiguration referencesConfiguration = ConflictCheckerConfiguration.builder()
+                    .from(configuration)
+                    .ignoredArtifactPrefixes(
+                            parameters.getIgnoredArtifactPrefixes().get())
+                    .addAllIgnoredArtifactPrefixes(jdkArtifacts.stream()
+                            .map(artifact -> artifact.name().name())
+                            .collect(Collectors.toSet()))
+                    .build();
+            writeReferenceIndex(
+                    parameters.getReferenceIndexFile().get().getAsFile().toPath(),
+                    ReverseReferenceIndex.record(checker, referencesConfiguration));
+        }
+
+        if (writeBaseline) {
+            Path baselineFile = parameters.getBaselineFile().get().getAsFile().toPath();
+            List<Conflict> conflicts = sink.conflicts();
+            writeBaseline(baselineFile, ConflictBaselines.record(checker, configuration, conflicts, fingerprints));
+            log.warn(
+                    "Wrote the ABI baseline of {} to {}, accepting {} conflicts",
+                    parameters.getProjectName().get(),
+                    baselineFile,
+                    conflicts.size());
+            return;
+        }
+        // Incremental checks only go through the classes that changed, which says nothing about the others
+        if (baselineSink != null
+                && checkedCompletely
+                && !parameters.getIncremental().get()) {
+            Set<AcceptedConflict> fixedConflicts = ConflictBaselines.fixedConflicts(
+                    baseline.get(), checker, skippedClasses, baselineSink.acceptedConflictsFound());
+            if (!fixedConflicts.isEmpty()) {
+                log.warn(
+                        "{} conflicts accepted by the ABI baseline of {} are no longer found, run"
+                                + " checkAbiCompatibility --write-abi-baseline to remove them: {}",
+                        fixedConflicts.size(),
+                        parameters.getProjectName().get(),
+                        new TreeSet<>(fixedConflicts));
+            }
+        }
+        throwIfConflicts(parameters, sink.groups(), checkedCompletely);
+    }
+
+    /**
+     * Checks the runtime classpath once, then how replacing the artifact of the same group and name by each of the
+     *   upgrade candidates would change its conflicts, which are reported rather than failed on.
+     */
+    private static void simulateUpgrades(
+            TransitiveAbiCheckerWorkParameters parameters,
+            AbiCheckerLoaders loaders,
+            ConflictCheckerConfiguration configuration,
+            List<Artifact> runtimeClasspath,
+            Collection<ClassLocation> currentProjectClasses) {
+        String projectName = parameters.getProjectName().get();
+        ConflictCheckerConfiguration simulationConfiguration = configuration;
+        if (!configuration.getCheckCompletely()
+                && configuration.getReachabilityAnalysis() != ReachabilityAnalysis.CLASS_REFERENCES) {
+            log.info("Simulating upgrades of {} with class-level reachability, which they can build upon", projectName);
+            simulationConfiguration = ConflictCheckerConfiguration.builder()
+                    .from(configuration)
+                    .reachabilityAnalysis(ReachabilityAnalysis.CLASS_REFERENCES)
+                    .build();
+        }
+        UpgradeSimulator simulator = UpgradeSimulator.create(
+                simulationConfiguration, loaders.classLoader(), runtimeClasspath, currentProjectClasses);
+
+        List<Artifact> candidates = loadRuntimeArtifacts(
+                loaders,
+                parameters.getUpgradeCandidateIdentifiers().get(),
+                parameters.getUpgradeCandidatePaths().get());
+        List<UpgradeSimulationOutputContents> simulations = new ArrayList<>();
+        for (Artifact candidate : candidates) {
+            String candidateName = AcceptedConflict.unversioned(candidate.name());
+            Optional<Artifact> replaced = runtimeClasspath.stream()
+                    .filter(artifact ->
+                            AcceptedConflict.unversioned(artifact.name()).equals(candidateName))
+                    .findFirst();
+            if (replaced.isEmpty()) {
+                log.warn(
+                        "Not simulating the upgrade to {}, which isn't on the runtime classpath of {}",
+                        candidate.name().name(),
+                        projectName);
+                continue;
+            }
+            UpgradeSimulation simulation = simulator.simulate(replaced.get().name(), candidate);
+            log.warn(
+                    "Upgrading {} to {} in {} would introduce {} and fix {} ABI conflicts",
+                    simulation.replacedArtifact().name(),
+                    simulation.replacementArtifact().name(),
+                    projectName,
+                    simulation.introducedConflicts().size(),
+                    simulation.fixedConflicts().size());
+            simulations.add(UpgradeSimulationOutputContents.builder()
+                    .replacedArtifact(simulation.replacedArtifact())
+                    .replacementArtifact(simulation.replacementArtifact())
+                    .introducedConflicts(simulation.introducedConflicts())
+                    .fixedConflicts(simulation.fixedConflicts())
+                    .build());
+        }
+
+        Path reportFile = parameters.getUpgradeReportFile().get().getAsFile().toPath();
+        try {
+            overwriteFile(reportFile, MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(simulations) + "\n");
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to write the simulated upgrades to " + reportFile, e);
+        }
+        log.warn("Wrote the conflicts of each simulated upgrade of {} to {}", projectName, reportFile);
+    }
+
+    /**
+     * Reads the baseline of accepted conflicts, if one was configured and written.
+     */
+    private static Optional<ConflictBaseline> readBaseline(TransitiveAbiCheckerWorkParameters parameters) {
+        if (!parameters.getBaselineFile().isPresent()) {
+            return Optional.empty();
+        }
+        Path file = parameters.getBaselineFile().get().getAsFile().toPath();
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(MAPPER.readValue(file.toFile(), ConflictBaseline.class));
+        } catch (IOException e) {
+            throw new RuntimeException(
+                    "Failed to read the ABI baseline " + file + ", run checkAbiCompatibility --write-abi-baseline "
+                            + "to rewrite it",
+                    e);
+        }
+    }
+
+    private static void writeBaseline(Path file, ConflictBaseline baseline) {
+        try {
+            overwriteFile(file, MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(baseline) + "\n");
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to write the ABI baseline to " + file, e);
+        }
+    }
+
+    /**
+     * Reports the conflicts straight from their groups, as building each of them back is much more expensive on
+     *   large break sets.
+     */
+    private static void throwIfConflicts(
+            TransitiveAbiCheckerWorkParameters parameters,
+            Collection<ConflictGroup> conflictGroups,
+            boolean checkedCompletely) {
+        if (!conflictGroups.isEmpty()) {
+            String notes = checkedCompletely
+                    ? ""
+                    : "Stopped checking after finding "
+                            + conflictGroups.stream()
+                                    .mapToInt(ConflictGroup::size)
+                                    .sum()
+                            + " conflicts (see maxConflicts), there may be more.\n";
+            throw new ConflictException(
+                    ConflictPrinter.reportConflictGroups(
+                            conflictGroups,
+                            notes,
+                            parameters.getReportFile().get().getAsFile().toPath()),
+                    conflictGroups);
+        }
+    }
+
+    /**
+     * Runs the check on the index server, or returns nothing if the server can't serve it, in which case the check
+     *   has to happen in-process.
+     */
+    private static Optional<CheckResult> checkOnIndexServer(
+            TransitiveAbiCheckerWorkParameters parameters, Set<String> dependenciesToCheck) {
+        Path projectDirectory =
+                parameters.getProjectDirectory().get().getAsFile().toPath();
+        List<String> identifiers = parameters.getRuntimeArtifactIdentifiers().get();
+        List<String> paths = parameters.getRuntimeArtifactPaths().get();
+        ImmutableCheckRequest.Builder request = CheckRequest.builder()
+                .errorArtifactPrefixes(parameters.getErrorArtifactPrefixes().get())
+                .ignoredArtifactPrefixes(parameters.getIgnoredArtifactPrefixes().get())
+                .ignoredClassPrefixes(parameters.getIgnoredClassPrefixes().get())
+                .ignoredClassnameKeywords(
+                        parameters.getIgnoredClassnameKeywords().get())
+                .checkCompletely(parameters.getCheckCompletely().get())
+                .reachabilityAnalysis(parameters.getReachabilityAnalysis().get())
+                .entryPointStrategy(parameters.getEntryPointStrategy().get())
+                .entryPointRoots(parameters.getEntryPointRoots().get())
+                .serviceProviders(parameters.getServiceProviders().get())
+                .artifactsToCheck(parameters.getCheckAllDependencies().get() ? null : dependenciesToCheck)
+                .maxConflicts(parameters.getMaxConflicts().getOrNull());
+        for (File classesDirectory : parameters.getProjectClassFiles().getFiles()) {
+            Path classesPath = classesDirectory.toPath();
+            request.addProjectClasses(
+                    new ClasspathEntry(relativeArtifactName(projectDirectory, classesPath), classesPath.toString()));
+        }
+        for (int i = 0; i < identifiers.size(); i++) {
+            request.addRuntimeClasspath(new ClasspathEntry(identifiers.get(i), paths.get(i)));
+        }
+
+        try {
+            return Optional.of(IndexClient.check(
+                    Paths.get(parameters.getIndexServerSocket().get()), request.build()));
+        } catch (IOException e) {
+            log.info(
+                    "Checking {} in the worker, as the ABI index server is unavailable",
+                    parameters.getProjectName().get(),
+                    e);
+            return Optional.empty();
+        }
+    }
+
+    private static ConflictChecker createChecker(
+            TransitiveAbiCheckerWorkParameters parameters,
+            ConflictCheckerConfiguration configuration,
+            AbiCheckerLoaders loaders,
+            List<Artifact> runtimeClasspath,
+            Collection<ClassLocation> currentProjectClasses,
+            Path incrementalStateFile) {
+        Optional<IncrementalState> previousState = parameters.getIncremental().get()
+                        && !parameters.getWriteBaseline().get()
+                        && ConflictChecker.canCheckIncrementally(configuration)
+                ? readIncrementalState(incrementalStateFile)
+                : Optional.empty();
+        // Never let a stale state outlive a failed check
+        deleteFile(incrementalStateFile);
+
+        if (previousState.isEmpty()) {
+            return ConflictChecker.create(
+                    configuration, loaders.classLoader(), runtimeClasspath, currentProjectClasses);
+        }
+
+        Set<ClassTypeDescriptor> changedClasses = parameters.getChangedProjectClasses().get().stream()
+                .map(TypeDescriptors::fromClassName)
+                .collect(Collectors.toSet());
+        log.info(
+                "Checking {} incrementally, {} project classes changed since the last run",
+                parameters.getProjectName().get(),
+                changedClasses.size());
+        return ConflictChecker.createIncrementally(
+                configuration,
+                loaders.classLoader(),
+                runtimeClasspath,
+                currentProjectClasses,
+                previousState.get(),
+                changedClasses);
+    }
+
+    /**
+     * Reads the state left by the previous run, if there is one that can be used.
+     */
+    private static Optional<IncrementalState> readIncrementalState(Path file) {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(MAPPER.readValue(file.toFile(), IncrementalState.class));
+        } catch (IOException e) {
+            log.info("Ignoring unreadable incremental state {}, checking all reachable classes", file, e);
+            return Optional.empty();
+        }
+    }
+
+    private static void writeIncrementalState(Path file, IncrementalState state) {
+        try {
+            overwriteFile(file, MAPPER.writeValueAsString(state));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to write incremental state to " + file, e);
+        }
+    }
+
+    private static void writeReferenceIndex(Path file, ReverseReferenceIndex index) {
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(file))) {
+                index.write(outputStream);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write the reverse reference index to " + file, e);
+        }
+    }
+
+    private static void reportMetrics(
+            TransitiveAbiCheckerWorkParameters parameters,
+            AbiCheckerLoaders loaders,
+            List<Artifact> jdkArtifacts,
+            ConflictChecker checker) {
+        MemoryFootprint footprint = FootprintEstimator.estimate(
+                loaders.classLoader(), jdkArtifacts, checker.classIndex(), checker.classGraph());
+
+        long thresholdMb = parameters.getFootprintLogThresholdMb().get();
+        if (footprint.totalBytes() >= thresholdMb * BYTES_PER_MB) {
+            log.info(
+                    "ABI checker structures retain an estimated {} MB, above the {} MB threshold. "
+                            + "Per structure: {}. Largest artifacts: {}",
+                    footprint.totalBytes() / BYTES_PER_MB,
+                    thresholdMb,
+                    footprint.bytesPerStructure(),
+                    footprint.bytesPerArtifact().entrySet().stream()
+                            .limit(LOGGED_ARTIFACTS)
+                            .toList());
+        }
+
+        List<ArtifactCost> artifactCosts = checker.artifactCosts();
+        log.info(
+                "Most expensive artifacts for the ABI checker: {}",
+                artifactCosts.stream().limit(LOGGED_ARTIFACTS).toList());
+
+        ReachabilityAttribution reachabilityAttribution = checker.reachabilityAttribution(REPORTED_ENTRY_POINTS);
+        log.info(
+                "ABI checker entry points reaching the most classes exclusively, out of {} reachable classes: {}",
+                reachabilityAttribution.reachableClasses(),
+                reachabilityAttribution.entryPointPackages().stream()
+                        .limit(LOGGED_ARTIFACTS)
+                        .toList());
+
+        MetricsOutputContents metrics = MetricsOutputContents.builder()
+                .memoryFootprint(footprint)
+                .artifactCosts(artifactCosts)
+                .reachabilityAttribution(reachabilityAttribution)
+                .build();
+        try {
+            overwriteFile(
+                    parameters.getMetricsOutputFile().get().getAsFile().toPath(), MAPPER.writeValueAsString(metrics));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to write metrics to output file", e);
+        }
+    }
+
+    static List<Artifact> loadProjectArtifacts(
+            AbiCheckerLoaders loaders, Path projectDirectory, Collection<File> projectClassFiles) {
+        return projectClassFiles.stream()
+                .map(File::toPath)
+                // There might be multiple source dirs - get the corresponding artifact for each one
+                .map(sourceDirPath -> loaders.artifactLoader()
+                        .load(sourceDirPath, ArtifactName.of(relativeArtifactName(projectDirectory, sourceDirPath))))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Names the project's own artifacts relative to the project, as the name ends up in the task's outputs, which
+     *   must not depend on where the project is checked out for them to be reusable from the build cache.
+     */
+    private static String relativeArtifactName(Path projectDirectory, Path sourceDirPath) {
+        if (!sourceDirPath.startsWith(projectDirectory)) {
+            return sourceDirPath.toString();
+        }
+        return projectDirectory.relativize(sourceDirPath).toString().replace(File.separatorChar, '/');
+    }
+
+    static List<Artifact> loadRuntimeArtifacts(
+            AbiCheckerLoaders loaders, List<String> identifiers, List<String> paths) {
+        List<Artifact> artifacts = new ArrayList<>(identifiers.size());
+        for (int i = 0; i < identifiers.size(); i++) {
+            artifacts.add(loaders.artifactLoader().load(Paths.get(paths.get(i)), ArtifactName.of(identifiers.get(i))));
+        }
+        return artifacts;
+    }
+
+    static void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new RuntimeException("Error deleting file " + file, e);
+        }
+    }
+
+    static void overwriteFile(Path file, String content) {
+        try {
+            Files.createDirectories(file.getParent());
+
+            Files.writeString(file, content, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing contents to file " + file, e);
+        }
+    }
+}
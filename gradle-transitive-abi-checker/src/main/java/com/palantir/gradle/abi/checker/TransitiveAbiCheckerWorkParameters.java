@@ -0,0 +1,137 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.gradle.abi.checker;
+
+import com.palantir.abi.checker.datamodel.graph.EntryPointStrategy;
+import com.palantir.abi.checker.datamodel.graph.ReachabilityAnalysis;
+import com.palantir.abi.checker.output.ConflictsOutputFormat;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.provider.SetProperty;
+import org.gradle.workers.WorkParameters;
+
+/**
+ * The inputs of {@link TransitiveAbiCheckerWorkAction}, as resolved by {@link TransitiveAbiCheckerTask}.
+ *
+ * These need to be serializable so that they can be passed to an isolated classloader or worker process, which is why
+ *   the checker's configuration is flattened rather than passed along as is.
+ */
+public interface TransitiveAbiCheckerWorkParameters extends WorkParameters {
+    Property<String> getProjectName();
+
+    DirectoryProperty getProjectDirectory();
+
+    /**
+     * Identifies the current build, so that the worker only shares its caches between checks of the same build.
+     */
+    Property<String> getCacheKey();
+
+    ConfigurableFileCollection getProjectClassFiles();
+
+    /**
+     * Identifiers of the runtime classpath's artifacts, in classpath order.
+     */
+    ListProperty<String> getRuntimeArtifactIdentifiers();
+
+    /**
+     * Paths of the runtime classpath's artifacts, in the same order as {@link #getRuntimeArtifactIdentifiers()}.
+     */
+    ListProperty<String> getRuntimeArtifactPaths();
+
+    SetProperty<String> getErrorArtifactPrefixes();
+
+    SetProperty<String> getIgnoredArtifactPrefixes();
+
+    SetProperty<String> getIgnoredClassPrefixes();
+
+    SetProperty<String> getIgnoredClassnameKeywords();
+
+    Property<Boolean> getCheckCompletely();
+
+    Property<ReachabilityAnalysis> getReachabilityAnalysis();
+
+    Property<EntryPointStrategy> getEntryPointStrategy();
+
+    SetProperty<String> getEntryPointRoots();
+
+    /**
+     * The classes registered in the project's {@code META-INF/services} files.
+     */
+    SetProperty<String> getServiceProviders();
+
+    /**
+     * Whether all dependencies are analyzed, rather than only {@link #getDependenciesToCheck()}.
+     */
+    Property<Boolean> getCheckAllDependencies();
+
+    SetProperty<String> getDependenciesToCheck();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getMaxConflicts()}, every conflict is reported if absent.
+     */
+    Property<Integer> getMaxConflicts();
+
+    Property<ConflictsOutputFormat> getConflictsOutputFormat();
+
+    /**
+     * See {@link TransitiveAbiCheckerExtension#getBaselineFile()}, which may not exist yet.
+     */
+    RegularFileProperty getBaselineFile();
+
+    /**
+     * Whether the baseline is (re)written from the conflicts found, rather than used.
+     */
+    Property<Boolean> getWriteBaseline();
+
+    /**
+     * See {@link TransitiveAbiCheckerTask#getUpgradeCandidates()}, in the same order as their paths.
+     */
+    ListProperty<String> getUpgradeCandidateIdentifiers();
+
+    ListProperty<String> getUpgradeCandidatePaths();
+
+    RegularFileProperty getUpgradeReportFile();
+
+    Property<Long> getFootprintLogThresholdMb();
+
+    Property<Boolean> getUseIndexServer();
+
+    Property<String> getIndexServerSocket();
+
+    RegularFileProperty getErrorsOutputFile();
+
+    RegularFileProperty getReportFile();
+
+    RegularFileProperty getMetricsOutputFile();
+
+    RegularFileProperty getReferenceIndexFile();
+
+    Property<Boolean> getWriteReferenceIndex();
+
+    DirectoryProperty getIncrementalStateDirectory();
+
+    /**
+     * Whether the only changes since the last run are the {@link #getChangedProjectClasses()} having been modified or
+     *   removed, in which case the check can reuse the state kept from the last run.
+     */
+    Property<Boolean> getIncremental();
+
+    SetProperty<String> getChangedProjectClasses();
+}
@@ -0,0 +1,66 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.gradle.abi.checker;
+
+import java.util.List;
+import org.gradle.api.file.Directory;
+import org.gradle.api.provider.Provider;
+import org.gradle.workers.WorkQueue;
+import org.gradle.workers.WorkerExecutor;
+
+/**
+ * How the ABI check is isolated from the Gradle daemon when it runs through the worker API.
+ */
+public enum WorkerIsolation {
+    /**
+     * Runs the check in the daemon, with its own classloader. The check shares the daemon's heap.
+     */
+    CLASSLOADER,
+
+    /**
+     * Runs the check in a separate worker process, whose heap and JVM arguments can be configured independently from
+     *   the daemon's.
+     */
+    PROCESS;
+
+    /**
+     * Creates a work queue with this isolation, the heap size, JVM arguments and class data sharing only applying to
+     *   worker processes.
+     */
+    WorkQueue workQueue(
+            WorkerExecutor workerExecutor,
+            Provider<String> maxHeapSize,
+            List<String> jvmArgs,
+            Provider<Boolean> classDataSharing,
+            Provider<Directory> classDataSharingDirectory) {
+        return switch (this) {
+            case CLASSLOADER -> workerExecutor.classLoaderIsolation();
+            case PROCESS ->
+                workerExecutor.processIsolation(spec -> spec.forkOptions(forkOptions -> {
+                    if (maxHeapSize.isPresent()) {
+                        forkOptions.setMaxHeapSize(maxHeapSize.get());
+                    }
+                    if (classDataSharing.getOrElse(false) && classDataSharingDirectory.isPresent()) {
+                        // Ahead of the configured arguments, so that those can still override them
+                        forkOptions.jvmArgs(ClassDataSharing.workerJvmArgs(
+                                classDataSharingDirectory.get().getAsFile().toPath()));
+                    }
+                    forkOptions.jvmArgs(jvmArgs);
+                }));
+        };
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.gradle.abi.checker.output;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.palantir.abi.checker.metrics.ArtifactCost;
+import com.palantir.abi.checker.metrics.MemoryFootprint;
+import com.palantir.abi.checker.metrics.ReachabilityAttribution;
+import java.util.List;
+import org.immutables.value.Value;
+
+/**
+ * This represents the metrics the ABI checker task reports about its own run, to help understand its cost.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableMetricsOutputContents.class)
+public interface MetricsOutputContents {
+    MemoryFootprint memoryFootprint();
+
+    /**
+     * The work done on behalf of each artifact of the runtime classpath, from most to least expensive.
+     */
+    List<ArtifactCost> artifactCosts();
+
+    /**
+     * Which entry point classes and packages pull in the most of the classpath.
+     */
+    ReachabilityAttribution reachabilityAttribution();
+
+    static ImmutableMetricsOutputContents.Builder builder() {
+        return ImmutableMetricsOutputContents.builder();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.gradle.abi.checker.output;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.palantir.abi.checker.datamodel.ArtifactName;
+import com.palantir.abi.checker.datamodel.conflict.Conflict;
+import java.util.List;
+import org.immutables.value.Value;
+
+/**
+ * This represents the outcome of simulating the upgrade of one dependency of the runtime classpath, see
+ *   {@link com.palantir.gradle.abi.checker.TransitiveAbiCheckerTask#getUpgradeCandidates()}.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableUpgradeSimulationOutputContents.class)
+public interface UpgradeSimulationOutputContents {
+    ArtifactName replacedArtifact();
+
+    ArtifactName replacementArtifact();
+
+    /**
+     * The conflicts the upgrade would introduce.
+     */
+    List<Conflict> introducedConflicts();
+
+    /**
+     * The current conflicts the upgrade would fix.
+     */
+    List<Conflict> fixedConflicts();
+
+    static ImmutableUpgradeSimulationOutputContents.Builder builder() {
+        return ImmutableUpgradeSimulationOutputContents.builder();
+    }
+}
@@ -16,33 +16,22 @@
 
 package com.palantir.gradle.abi.checker.services;
 
-import com.palantir.abi.checker.AbiCheckerClassLoader;
-import com.palantir.abi.checker.ArtifactLoader;
-import com.palantir.abi.checker.JdkModuleLoader;
+import java.util.UUID;
 import org.gradle.api.services.BuildService;
 import org.gradle.api.services.BuildServiceParameters;
 
 /**
- * Build service used to shared the various top-level classes that are needed to run the ABI checker.
+ * Build service scoping the ABI checker's caches to a single build.
  *
- * These classes contain caches, which allow us to avoid doing duplicative work across multiple tasks (such as loading
- *   the same JDK, artifact or classes multiple times).
+ * The caches themselves live in the workers running the checks (see {@link AbiCheckerLoaders}), which can't access
+ *   build services. This instead hands out a key that is unique to the current build, letting the workers know when
+ *   they can reuse their caches.
  */
 public abstract class AbiCheckerBuildService implements BuildService<BuildServiceParameters.None> {
 
-    private final AbiCheckerClassLoader classLoader = new AbiCheckerClassLoader();
-    private final ArtifactLoader artifactLoader = new ArtifactLoader();
-    private final JdkModuleLoader jdkModuleLoader = new JdkModuleLoader();
+    private final String cacheKey = UUID.randomUUID().toString();
 
-    public final AbiCheckerClassLoader classLoader() {
-        return classLoader;
-    }
-
-    public final ArtifactLoader artifactLoader() {
-        return artifactLoader;
-    }
-
-    public final JdkModuleLoader jdkModuleLoader() {
-        return jdkModuleLoader;
+    public final String cacheKey() {
+        return cacheKey;
     }
 }
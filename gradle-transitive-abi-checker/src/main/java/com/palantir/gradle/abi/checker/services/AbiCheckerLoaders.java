@@ -0,0 +1,73 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.gradle.abi.checker.services;
+
+import com.palantir.abi.checker.AbiCheckerClassLoader;
+import com.palantir.abi.checker.ArtifactLoader;
+import com.palantir.abi.checker.JdkModuleLoader;
+import java.lang.ref.SoftReference;
+import java.util.Objects;
+
+/**
+ * Holds the various top-level classes that are needed to run the ABI checker from a worker.
+ *
+ * These classes contain caches, which allow us to avoid doing duplicative work across multiple checks (such as loading
+ *   the same JDK, artifact or classes multiple times). Build services can't be used from isolated workers, so they are
+ *   instead kept statically, which shares them between the checks running in the same classloader or worker process.
+ *   Since both can outlive a build, the loaders are only shared between checks of the same build, so that we never
+ *   serve classes from a jar that has since been rebuilt.
+ *
+ * Gradle keeps the worker classloaders in the daemon between builds, and the build service can't reach the loaders
+ *   held by them, so the loaders are only held softly: the parsed classes and JDK artifacts of the last build stay
+ *   around for as long as the heap can spare them, but are discarded rather than running the daemon out of memory.
+ *   Checks hold onto the loaders for as long as they run.
+ */
+public final class AbiCheckerLoaders {
+    private static String currentCacheKey;
+    private static SoftReference<AbiCheckerLoaders> current = new SoftReference<>(null);
+
+    private final AbiCheckerClassLoader classLoader = new AbiCheckerClassLoader();
+    private final ArtifactLoader artifactLoader = new ArtifactLoader();
+    private final JdkModuleLoader jdkModuleLoader = new JdkModuleLoader();
+
+    private AbiCheckerLoaders() {}
+
+    /**
+     * Returns the loaders for the build identified by the cache key, discarding any loaders from a previous build.
+     */
+    public static synchronized AbiCheckerLoaders forBuild(String cacheKey) {
+        AbiCheckerLoaders loaders = current.get();
+        if (loaders == null || !Objects.equals(currentCacheKey, cacheKey)) {
+            loaders = new AbiCheckerLoaders();
+            current = new SoftReference<>(loaders);
+            currentCacheKey = cacheKey;
+        }
+        return loaders;
+    }
+
+    public AbiCheckerClassLoader classLoader() {
+        return classLoader;
+    }
+
+    public ArtifactLoader artifactLoader() {
+        return artifactLoader;
+    }
+
+    public JdkModuleLoader jdkModuleLoader() {
+        return jdkModuleLoader;
+    }
+}
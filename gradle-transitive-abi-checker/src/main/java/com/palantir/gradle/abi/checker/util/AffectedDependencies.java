@@ -0,0 +1,111 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.gradle.abi.checker.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.gradle.api.artifacts.ModuleVersionIdentifier;
+import org.gradle.api.artifacts.component.ComponentSelector;
+import org.gradle.api.artifacts.component.ModuleComponentSelector;
+import org.gradle.api.artifacts.result.DependencyResult;
+import org.gradle.api.artifacts.result.ResolvedComponentResult;
+import org.gradle.api.artifacts.result.ResolvedDependencyResult;
+
+/**
+ * Utility class used to find the dependencies which may have ABI conflicts, based on how their own dependencies were
+ *   resolved.
+ *
+ * A dependency was compiled against the versions of its dependencies that it declares. If every dependency in its
+ *   closure resolved to exactly the version that was declared for it, the dependency runs against what it was compiled
+ *   against, and can't have ABI conflicts. Only the dependencies whose closure contains a version that was changed by
+ *   conflict resolution (or that failed to resolve) need to be checked.
+ */
+public final class AffectedDependencies {
+
+    /**
+     * Returns the identifiers, as per {@link DependencyIdentifier}, of the components of the resolution result whose
+     *   dependency closure contains a dependency that didn't resolve to the version it declared.
+     */
+    public static Set<String> find(ResolvedComponentResult root) {
+        Map<ResolvedComponentResult, List<ResolvedComponentResult>> dependents = new HashMap<>();
+        Set<ResolvedComponentResult> mismatched = new HashSet<>();
+
+        Set<ResolvedComponentResult> visited = new HashSet<>();
+        Deque<ResolvedComponentResult> toVisit = new ArrayDeque<>(List.of(root));
+        while (!toVisit.isEmpty()) {
+            ResolvedComponentResult component = toVisit.remove();
+            if (!visited.add(component)) {
+                continue;
+            }
+            for (DependencyResult dependency : component.getDependencies()) {
+                if (!(dependency instanceof ResolvedDependencyResult resolved)) {
+                    // Unresolved dependencies are as far from what was declared as can be
+                    mismatched.add(component);
+                    continue;
+                }
+                if (!resolvedAsDeclared(resolved.getRequested(), resolved.getSelected())) {
+                    mismatched.add(component);
+                }
+                dependents
+                        .computeIfAbsent(resolved.getSelected(), _key -> new ArrayList<>())
+                        .add(component);
+                toVisit.add(resolved.getSelected());
+            }
+        }
+
+        // Anything depending, even transitively, on a mismatched component is affected too
+        Set<ResolvedComponentResult> affected = new HashSet<>(mismatched);
+        Deque<ResolvedComponentResult> toPropagate = new ArrayDeque<>(mismatched);
+        while (!toPropagate.isEmpty()) {
+            for (ResolvedComponentResult dependent : dependents.getOrDefault(toPropagate.remove(), List.of())) {
+                if (affected.add(dependent)) {
+                    toPropagate.add(dependent);
+                }
+            }
+        }
+
+        return affected.stream()
+                .map(component -> DependencyIdentifier.convertToSimpleIdentifier(component.getId()))
+                .collect(Collectors.toSet());
+    }
+
+    private static boolean resolvedAsDeclared(ComponentSelector requested, ResolvedComponentResult selected) {
+        // Project dependencies are always built from the current sources
+        if (!(requested instanceof ModuleComponentSelector module)) {
+            return true;
+        }
+        ModuleVersionIdentifier selectedVersion = selected.getModuleVersion();
+        if (selectedVersion == null) {
+            return false;
+        }
+        // Declarations without a version (e.g. managed by a platform) can't have been changed by conflict resolution
+        boolean sameVersion =
+                module.getVersion().isEmpty() || module.getVersion().equals(selectedVersion.getVersion());
+        return sameVersion
+                && module.getGroup().equals(selectedVersion.getGroup())
+                && module.getModule().equals(selectedVersion.getName());
+    }
+
+    private AffectedDependencies() {}
+}
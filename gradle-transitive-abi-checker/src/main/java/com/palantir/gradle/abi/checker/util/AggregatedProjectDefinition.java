@@ -0,0 +1,94 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.gradle.abi.checker.util;
+
+import com.palantir.abi.checker.datamodel.graph.EntryPointStrategy;
+import com.palantir.abi.checker.datamodel.graph.ReachabilityAnalysis;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.provider.SetProperty;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.Nested;
+import org.gradle.api.tasks.Optional;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+
+/**
+ * This type represents everything the aggregated ABI check needs to know about one of the subprojects it checks.
+ *
+ * It mirrors the inputs of that subproject's own checkAbiCompatibility task.
+ */
+public interface AggregatedProjectDefinition {
+    @Input
+    Property<String> getProjectPath();
+
+    @Internal
+    DirectoryProperty getProjectDirectory();
+
+    @PathSensitive(PathSensitivity.RELATIVE)
+    @InputFiles
+    ConfigurableFileCollection getProjectClassFiles();
+
+    @Nested
+    ListProperty<ResolvedArtifactDefinition> getResolvedRuntimeClasspathArtifacts();
+
+    /**
+     * See {@link com.palantir.gradle.abi.checker.TransitiveAbiCheckerTask#getDependenciesToCheck()}.
+     */
+    @Optional
+    @Input
+    SetProperty<String> getDependenciesToCheck();
+
+    @Optional
+    @Input
+    SetProperty<String> getErrorArtifactPrefixes();
+
+    @Input
+    SetProperty<String> getIgnoredArtifactPrefixes();
+
+    @Input
+    SetProperty<String> getIgnoredClassPrefixes();
+
+    @Input
+    SetProperty<String> getIgnoredClassnameKeywords();
+
+    @Optional
+    @Input
+    Property<Boolean> getCheckCompletely();
+
+    @Optional
+    @Input
+    Property<ReachabilityAnalysis> getReachabilityAnalysis();
+
+    @Optional
+    @Input
+    Property<EntryPointStrategy> getEntryPointStrategy();
+
+    @Input
+    SetProperty<String> getEntryPointRoots();
+
+    /**
+     * See {@link com.palantir.gradle.abi.checker.TransitiveAbiCheckerTask#getServiceRegistrationFiles()}.
+     */
+    @PathSensitive(PathSensitivity.RELATIVE)
+    @InputFiles
+    ConfigurableFileCollection getServiceRegistrationFiles();
+}
@@ -16,6 +16,7 @@
 
 package com.palantir.gradle.abi.checker.util;
 
+import org.gradle.api.artifacts.component.ComponentIdentifier;
 import org.gradle.api.artifacts.result.ResolvedArtifactResult;
 
 /**
@@ -24,7 +25,11 @@ import org.gradle.api.artifacts.result.ResolvedArtifactResult;
 public final class DependencyIdentifier {
 
     public static String convertToSimpleIdentifier(ResolvedArtifactResult resolvedArtifact) {
-        return resolvedArtifact.getId().getComponentIdentifier().getDisplayName();
+        return convertToSimpleIdentifier(resolvedArtifact.getId().getComponentIdentifier());
+    }
+
+    public static String convertToSimpleIdentifier(ComponentIdentifier componentIdentifier) {
+        return componentIdentifier.getDisplayName();
     }
 
     private DependencyIdentifier() {}
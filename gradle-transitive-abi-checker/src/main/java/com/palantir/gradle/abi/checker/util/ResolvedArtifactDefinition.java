@@ -22,9 +22,8 @@ import org.gradle.api.file.FileSystemLocation;
 import org.gradle.api.file.FileSystemLocationProperty;
 import org.gradle.api.file.RegularFileProperty;
 import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.Classpath;
 import org.gradle.api.tasks.Input;
-import org.gradle.api.tasks.InputDirectory;
-import org.gradle.api.tasks.InputFile;
 import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.Optional;
 
@@ -32,17 +31,20 @@ import org.gradle.api.tasks.Optional;
  * This type represents a resolved artifact (typically from the runtime classpath).
  *
  * It can either point to a local project dependency, using the classes directory path, or a third party jar.
+ *
+ * The paths are normalized as classpath entries, so that neither their location nor non-class changes (such as
+ *   timestamps within jars) prevent reusing the check's results from the build cache.
  */
 public interface ResolvedArtifactDefinition {
     @Input
     Property<String> getIdentifier();
 
     @Optional
-    @InputDirectory
+    @Classpath
     DirectoryProperty getArtifactClassesPath();
 
     @Optional
-    @InputFile
+    @Classpath
     RegularFileProperty getArtifactJarPath();
 
     @Internal
@@ -0,0 +1,54 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.gradle.abi.checker.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Reads the classes a project registers as service providers, from its {@code META-INF/services} files.
+ */
+public final class ServiceProviders {
+    /**
+     * Returns the provider classes listed in the provided registration files, following the format described by
+     *   {@link java.util.ServiceLoader}: one fully qualified class name per line, with comments starting with
+     *   {@code #}.
+     */
+    public static Set<String> read(Iterable<File> registrationFiles) {
+        Set<String> providers = new TreeSet<>();
+        for (File registrationFile : registrationFiles) {
+            try {
+                for (String line : Files.readAllLines(registrationFile.toPath(), StandardCharsets.UTF_8)) {
+                    int commentStart = line.indexOf('#');
+                    String provider = (commentStart < 0 ? line : line.substring(0, commentStart)).strip();
+                    if (!provider.isEmpty()) {
+                        providers.add(provider);
+                    }
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to read service registrations from: " + registrationFile, e);
+            }
+        }
+        return providers;
+    }
+
+    private ServiceProviders() {}
+}
@@ -67,6 +67,128 @@ class TransitiveAbiCheckerPluginIntegrationSpec extends IntegrationTestKitSpec {
         verifySuccess(SUB_PROJECT_NAME, result)
     }
 
+    def 'is compatible with the configuration cache'() {
+        subproject("other")
+
+        // language=gradle
+        subprojectBuild(SUB_PROJECT_NAME) << """
+            dependencies {
+                implementation 'com.palantir.conjure.java.runtime:conjure-java-jackson-serialization:7.33.0'
+                runtimeOnly project(':other')
+            }
+
+            transitiveAbiChecker {
+                ignoredClassPrefixes = ['com.example']
+            }
+        """.stripIndent(true)
+
+        file("other/src/main/java/Other.java") <<
+                // language=java
+                """
+                public class Other {}
+                """.stripIndent(true)
+        emptyRootClass(SUB_PROJECT_NAME)
+
+        when:
+        def first = runTasks("checkAbiCompatibility", "--configuration-cache")
+        // Force the tasks to run again, to exercise the execution of a task loaded from the configuration cache
+        def second = runTasks("checkAbiCompatibility", "--configuration-cache", "--rerun-tasks")
+
+        then:
+        first.output.contains("Configuration cache entry stored")
+        second.output.contains("Reusing configuration cache")
+        second.task(":other:checkAbiCompatibility").getOutcome() == TaskOutcome.SUCCESS
+        second.task(":${SUB_PROJECT_NAME}:checkAbiCompatibility").getOutcome() == TaskOutcome.SUCCESS
+    }
+
+    def 'fail when there is a reachable abi break with the configuration cache'() {
+        setupConjureJacksonIncompat(SUB_PROJECT_NAME)
+
+        when:
+        runTasksAndFail("checkAbiCompatibility", "--configuration-cache")
+        def result = runTasksAndFail("checkAbiCompatibility", "--configuration-cache", "--info")
+
+        then:
+        result.output.contains("Reusing configuration cache")
+        verifyConjureJacksonIncompat(SUB_PROJECT_NAME, result)
+    }
+
+    def 'reuses results from the build cache'() {
+        subproject("other")
+
+        // language=gradle
+        subprojectBuild(SUB_PROJECT_NAME) << """
+            dependencies {
+                implementation 'com.palantir.conjure.java.runtime:conjure-java-jackson-serialization:7.33.0'
+                runtimeOnly project(':other')
+            }
+        """.stripIndent(true)
+
+        file("other/src/main/java/Other.java") <<
+                // language=java
+                """
+                public class Other {}
+                """.stripIndent(true)
+        emptyRootClass(SUB_PROJECT_NAME)
+
+        when:
+        def first = runTasks("checkAbiCompatibility", "--build-cache")
+        runTasks("clean")
+        def second = runTasks("checkAbiCompatibility", "--build-cache")
+
+        then:
+        first.task(":${SUB_PROJECT_NAME}:checkAbiCompatibility").getOutcome() == TaskOutcome.SUCCESS
+        second.task(":other:checkAbiCompatibility").getOutcome() == TaskOutcome.FROM_CACHE
+        second.task(":${SUB_PROJECT_NAME}:checkAbiCompatibility").getOutcome() == TaskOutcome.FROM_CACHE
+        // The project's own classes are named relative to the project, so that the outputs are relocatable
+        def metrics = file("${SUB_PROJECT_NAME}/build/abi-checker/abi-checker-metrics.json").text
+        metrics.contains('"build/classes/java/main"')
+        !metrics.contains(projectDir.absolutePath)
+    }
+
+    def 'checks incrementally when project classes are modified'() {
+        setupConjureJacksonIncompat(SUB_PROJECT_NAME)
+        // Start from a version of the class which doesn't reach the break
+        def brokenRootClass = rootClass(SUB_PROJECT_NAME).text
+        rootClass(SUB_PROJECT_NAME).text = brokenRootClass.replace("deserializer.deserialize(null, null);", "")
+
+        when:
+        def first = runTasks("checkAbiCompatibility", "--info")
+        rootClass(SUB_PROJECT_NAME).text = brokenRootClass
+        def second = runTasksAndFail("checkAbiCompatibility", "--info")
+
+        then:
+        first.task(":${SUB_PROJECT_NAME}:checkAbiCompatibility").getOutcome() == TaskOutcome.SUCCESS
+        !first.output.contains("Checking ${SUB_PROJECT_NAME} incrementally")
+        file("${SUB_PROJECT_NAME}/build/abi-checker/incremental/incremental-state.json").exists()
+        second.output.contains("Checking ${SUB_PROJECT_NAME} incrementally, 1 project classes changed since the last run")
+        verifyConjureJacksonIncompat(SUB_PROJECT_NAME, second)
+    }
+
+    def 'checks subprojects sharing a runtime classpath together with the aggregated task'() {
+        subproject("other")
+        setupConjureJacksonIncompat(SUB_PROJECT_NAME)
+        setupConjureJacksonIncompat("other")
+
+        when:
+        def result = runTasksAndFail(TransitiveAbiCheckerAggregateTask.NAME, "--info")
+
+        then:
+        result.task(":${TransitiveAbiCheckerAggregateTask.NAME}").getOutcome() == TaskOutcome.FAILED
+        // The per project tasks aren't involved
+        result.task(":${SUB_PROJECT_NAME}:checkAbiCompatibility") == null
+        result.output.contains("Checking 2 projects in 1 groups sharing the same runtime classpath")
+        result.output.contains("Found 2 ABI conflicts in 2 projects:")
+        result.output.contains("Reports of each project: ")
+        [SUB_PROJECT_NAME, "other"].each { project ->
+            assert result.output.contains(":${project}: 1 conflicts")
+            assert file("build/abi-checker/aggregate/${project}.txt").text.contains(
+                    "com.palantir.conjure.java.serialization.PathDeserializer")
+            assert file("build/abi-checker/aggregate/${project}.json").text.contains(
+                    "com.palantir.conjure.java.serialization.PathDeserializer")
+        }
+    }
+
     def 'succeed when there is a runtimeOnly dependency on another subproject'() {
         subproject("other")
 
@@ -98,6 +220,232 @@ class TransitiveAbiCheckerPluginIntegrationSpec extends IntegrationTestKitSpec {
         result.task(":${SUB_PROJECT_NAME}:checkAbiCompatibility").getOutcome() == TaskOutcome.SUCCESS
     }
 
+    def 'skip analysis when all dependencies resolved to the versions they declared'() {
+        addDeps(SUB_PROJECT_NAME, "com.fasterxml.jackson.core:jackson-databind:2.18.3")
+        // language=gradle
+        subprojectBuild(SUB_PROJECT_NAME) << """
+            transitiveAbiChecker {
+                checkCompletely = true
+                checkOnlyAffectedDependencies = true
+            }
+        """.stripIndent(true)
+
+        when:
+        def result = runTasks("checkAbiCompatibility", "--info")
+
+        then:
+        verifySuccess(SUB_PROJECT_NAME, result)
+        result.output.contains(
+                "Skipping ABI check of ${SUB_PROJECT_NAME}, all of its dependencies resolved to the versions they declared")
+    }
+
+    def 'check every dependency by default, even when all of them resolved to the versions they declared'() {
+        addDeps(SUB_PROJECT_NAME, "com.fasterxml.jackson.core:jackson-databind:2.18.3")
+        checkCompletely(SUB_PROJECT_NAME)
+
+        when:
+        def result = runTasks("checkAbiCompatibility", "--info")
+
+        then:
+        verifySuccess(SUB_PROJECT_NAME, result)
+        !result.output.contains("Skipping ABI check of ${SUB_PROJECT_NAME}")
+    }
+
+    def 'skip analysis when dependencies without a version resolved to the versions of their platform'() {
+        // language=gradle
+        subprojectBuild(SUB_PROJECT_NAME) << """
+            dependencies {
+                implementation platform('com.fasterxml.jackson:jackson-bom:2.18.3')
+                implementation 'com.fasterxml.jackson.core:jackson-databind'
+            }
+
+            transitiveAbiChecker {
+                checkCompletely = true
+                checkOnlyAffectedDependencies = true
+            }
+        """.stripIndent(true)
+
+        when:
+        def result = runTasks("checkAbiCompatibility", "--info")
+
+        then:
+        verifySuccess(SUB_PROJECT_NAME, result)
+        result.output.contains(
+                "Skipping ABI check of ${SUB_PROJECT_NAME}, all of its dependencies resolved to the versions they declared")
+    }
+
+    def 'still report breaks in the dependencies affected by version conflict resolution'() {
+        // conjure requested an older jackson-databind than the one selected, so it is still checked
+        setupConjureJacksonIncompat(SUB_PROJECT_NAME)
+        checkOnlyAffectedDependencies(SUB_PROJECT_NAME)
+
+        when:
+        def result = runTasksAndFail("checkAbiCompatibility")
+
+        then:
+        verifyConjureJacksonIncompat(SUB_PROJECT_NAME, result)
+    }
+
+    def 'still report breaks in the dependencies affected by version conflict resolution through a project dependency'() {
+        // The project dependency itself resolves as declared, but brings in the conflicting versions
+        addSubproject("other")
+        // language=gradle
+        subprojectBuild("other") << """
+            apply plugin: 'java-library'
+
+            repositories {
+                mavenCentral()
+            }
+
+            dependencies {
+                api 'com.palantir.conjure.java.runtime:conjure-java-jackson-serialization:7.33.0'
+                api 'com.fasterxml.jackson.core:jackson-databind:2.18.3'
+            }
+        """.stripIndent(true)
+        file("other/src/main/java/Other.java") <<
+                // language=java
+                """
+                public class Other {}
+                """.stripIndent(true)
+        // language=gradle
+        subprojectBuild(SUB_PROJECT_NAME) << """
+            dependencies {
+                implementation project(':other')
+            }
+        """.stripIndent(true)
+        callConjureJacksonIncompat(SUB_PROJECT_NAME)
+        checkOnlyAffectedDependencies(SUB_PROJECT_NAME)
+
+        when:
+        def result = runTasksAndFail("checkAbiCompatibility", "--continue")
+
+        then:
+        verifyConjureJacksonIncompat(SUB_PROJECT_NAME, result)
+    }
+
+    def 'fail when the method with an abi break is called, following method calls'() {
+        setupConjureJacksonIncompat(SUB_PROJECT_NAME)
+        // language=gradle
+        subprojectBuild(SUB_PROJECT_NAME) << """
+            transitiveAbiChecker {
+                reachabilityAnalysis = 'CLASS_HIERARCHY_ANALYSIS'
+            }
+        """.stripIndent(true)
+
+        when:
+        def result = runTasksAndFail("checkAbiCompatibility")
+
+        then:
+        verifyConjureJacksonIncompat(SUB_PROJECT_NAME, result)
+    }
+
+    def 'fail when the method with an abi break is called on an instantiated class, with rapid type analysis'() {
+        setupConjureJacksonIncompat(SUB_PROJECT_NAME)
+        // language=gradle
+        subprojectBuild(SUB_PROJECT_NAME) << """
+            transitiveAbiChecker {
+                reachabilityAnalysis = 'RAPID_TYPE_ANALYSIS'
+            }
+        """.stripIndent(true)
+
+        when:
+        def result = runTasksAndFail("checkAbiCompatibility")
+
+        then:
+        verifyConjureJacksonIncompat(SUB_PROJECT_NAME, result)
+    }
+
+    def 'succeed when the method with an abi break is never called, following method calls'() {
+        setupConjureJacksonIncompat(SUB_PROJECT_NAME)
+        // PathDeserializer is still reachable, but its broken deserialize method is never called
+        rootClass(SUB_PROJECT_NAME).text =
+                // language=java
+                """
+            import com.palantir.conjure.java.serialization.PathDeserializer;
+
+            public class Root {
+                public static Object create() {
+                    return new PathDeserializer();
+                }
+            }
+        """.stripIndent(true)
+        // language=gradle
+        subprojectBuild(SUB_PROJECT_NAME) << """
+            transitiveAbiChecker {
+                reachabilityAnalysis = 'CLASS_HIERARCHY_ANALYSIS'
+            }
+        """.stripIndent(true)
+
+        when:
+        def result = runTasks("checkAbiCompatibility")
+
+        then:
+        verifySuccess(SUB_PROJECT_NAME, result)
+    }
+
+    def 'succeed when the abi break is not reachable from the main methods, with the application entry point strategy'() {
+        setupConjureJacksonIncompat(SUB_PROJECT_NAME)
+        file("${SUB_PROJECT_NAME}/src/main/java/Launcher.java") <<
+                // language=java
+                """
+            public class Launcher {
+                public static void main(String[] args) {}
+            }
+        """.stripIndent(true)
+        // Root's main method now has the wrong signature to be an entry point
+        rootClass(SUB_PROJECT_NAME).text = rootClass(SUB_PROJECT_NAME).text.replace("String[] args", "String args")
+        // language=gradle
+        subprojectBuild(SUB_PROJECT_NAME) << """
+            transitiveAbiChecker {
+                reachabilityAnalysis = 'CLASS_HIERARCHY_ANALYSIS'
+                entryPointStrategy = 'APPLICATION'
+            }
+        """.stripIndent(true)
+
+        when:
+        def result = runTasks("checkAbiCompatibility")
+
+        then:
+        verifySuccess(SUB_PROJECT_NAME, result)
+    }
+
+    def 'fail when the abi break is reachable from a registered service provider, with the application entry point strategy'() {
+        addDeps(SUB_PROJECT_NAME,
+                "com.palantir.conjure.java.runtime:conjure-java-jackson-serialization:7.33.0",
+                "com.fasterxml.jackson.core:jackson-databind:2.18.3")
+        emptyRootClass(SUB_PROJECT_NAME)
+        file("${SUB_PROJECT_NAME}/src/main/java/Provider.java") <<
+                // language=java
+                """
+            import com.palantir.conjure.java.serialization.PathDeserializer;
+            import java.util.concurrent.Callable;
+
+            class Provider implements Callable<Object> {
+                @Override
+                public Object call() throws Exception {
+                    return new PathDeserializer().deserialize(null, null);
+                }
+            }
+        """.stripIndent(true)
+        file("${SUB_PROJECT_NAME}/src/main/resources/META-INF/services/java.util.concurrent.Callable") << """
+            # Loaded through the ServiceLoader
+            Provider
+        """.stripIndent(true)
+        // language=gradle
+        subprojectBuild(SUB_PROJECT_NAME) << """
+            transitiveAbiChecker {
+                reachabilityAnalysis = 'CLASS_HIERARCHY_ANALYSIS'
+                entryPointStrategy = 'APPLICATION'
+            }
+        """.stripIndent(true)
+
+        when:
+        def result = runTasksAndFail("checkAbiCompatibility")
+
+        then:
+        verifyConjureJacksonIncompat(SUB_PROJECT_NAME, result, "[\"Provider\",\"com.palantir.conjure.java.serialization.PathDeserializer\"]")
+    }
+
     def 'succeed when there is an abi break, but classes are not reachable'() {
         addDeps(SUB_PROJECT_NAME,
                 "com.palantir.conjure.java.runtime:conjure-java-jackson-serialization:7.33.0",
@@ -142,6 +490,37 @@ class TransitiveAbiCheckerPluginIntegrationSpec extends IntegrationTestKitSpec {
         verifyConjureJacksonIncompat(SUB_PROJECT_NAME, result, "[\"com.palantir.conjure.java.serialization.PathDeserializer\"]")
     }
 
+    def 'writes memory footprint metrics and logs them above the threshold'() {
+        setupConjureJacksonIncompat(SUB_PROJECT_NAME)
+
+        // language=gradle
+        subprojectBuild(SUB_PROJECT_NAME) << """
+            transitiveAbiChecker {
+                ignoredClassnameKeywords = ['PathDeserializer']
+                footprintLogThresholdMb = 0
+            }
+        """.stripIndent(true)
+
+        when:
+        def result = runTasks("checkAbiCompatibility", "--info")
+
+        then:
+        verifySuccess(SUB_PROJECT_NAME, result)
+        result.output.contains("ABI checker structures retain an estimated")
+
+        JsonNode metrics = new ObjectMapper().readTree(file("${SUB_PROJECT_NAME}/build/abi-checker/abi-checker-metrics.json").text)
+        metrics.get("memoryFootprint").get("totalBytes").asLong() > 0
+        metrics.get("memoryFootprint").get("bytesPerStructure").has("classLoaderCache")
+        metrics.get("memoryFootprint").get("bytesPerArtifact").has("com.fasterxml.jackson.core:jackson-databind:2.18.3")
+        def databindCost = metrics.get("artifactCosts").find {
+            it.get("artifact").asText() == "com.fasterxml.jackson.core:jackson-databind:2.18.3"
+        }
+        databindCost.get("classesIndexed").asInt() > 0
+        databindCost.get("classesReached").asInt() > 0
+        metrics.get("reachabilityAttribution").get("reachableClasses").asInt() > 0
+        metrics.get("reachabilityAttribution").get("entryPointClasses").size() > 0
+    }
+
     def 'fail when there is a reachable abi break'() {
         setupConjureJacksonIncompat(SUB_PROJECT_NAME)
 
@@ -150,6 +529,158 @@ class TransitiveAbiCheckerPluginIntegrationSpec extends IntegrationTestKitSpec {
 
         then:
         verifyConjureJacksonIncompat(SUB_PROJECT_NAME, result)
+        result.output.contains("Found 1 ABI conflicts in 1 artifacts:")
+        result.output.contains("Full report: ")
+        file("${SUB_PROJECT_NAME}/build/abi-checker/abi-checker-report.txt").text.contains(
+                "com.palantir.conjure.java.serialization.PathDeserializer")
+    }
+
+    def 'fail when there is a reachable abi break in a separate worker process'() {
+        setupConjureJacksonIncompat(SUB_PROJECT_NAME)
+
+        // language=gradle
+        subprojectBuild(SUB_PROJECT_NAME) << '''
+            transitiveAbiChecker {
+                workerIsolation = 'PROCESS'
+                workerMaxHeapSize = '512m'
+                workerJvmArgs = ['-XX:+UseSerialGC']
+            }
+        '''.stripIndent(true)
+
+        when:
+        def result = runTasksAndFail("checkAbiCompatibility", "--info")
+
+        then:
+        verifyConjureJacksonIncompat(SUB_PROJECT_NAME, result)
+    }
+
+    def 'stop checking once the maximum number of conflicts is found'() {
+        setupConjureJacksonIncompat(SUB_PROJECT_NAME)
+
+        // language=gradle
+        subprojectBuild(SUB_PROJECT_NAME) << '''
+            transitiveAbiChecker {
+                maxConflicts = 1
+            }
+        '''.stripIndent(true)
+
+        when:
+        def result = runTasksAndFail("checkAbiCompatibility", "--info")
+
+        then:
+        verifyConjureJacksonIncompat(SUB_PROJECT_NAME, result)
+        result.output.contains("Stopped checking after finding 1 conflicts (see maxConflicts)")
+    }
+
+    def 'falls back to checking in the worker when the index server is unavailable'() {
+        setupConjureJacksonIncompat(SUB_PROJECT_NAME)
+        // The server can't be started with its socket under a regular file
+        file('not-a-directory').text = ''
+
+        // language=gradle
+        subprojectBuild(SUB_PROJECT_NAME) << """
+            transitiveAbiChecker {
+                useIndexServer = true
+                indexServerSocket = '${new File(projectDir, 'not-a-directory/index.sock').absolutePath}'
+            }
+        """.stripIndent(true)
+
+        when:
+        def result = runTasksAndFail("checkAbiCompatibility", "--info")
+
+        then:
+        verifyConjureJacksonIncompat(SUB_PROJECT_NAME, result)
+        result.output.contains("Checking ${SUB_PROJECT_NAME} in the worker, as the ABI index server is unavailable")
+    }
+
+    def 'fail on new conflicts when the baseline accepts others, with maxConflicts and the index server'() {
+        setupConjureJacksonIncompat(SUB_PROJECT_NAME)
+        // Socket paths are limited to around a hundred characters, which the project directory may exceed
+        def socket = new File(File.createTempDir('abi-index-server', ''), 'index.sock')
+
+        // language=gradle
+        subprojectBuild(SUB_PROJECT_NAME) << """
+            transitiveAbiChecker {
+                baselineFile = file('abi-baseline.json')
+                maxConflicts = 1
+                useIndexServer = true
+                indexServerSocket = '${socket.absolutePath}'
+            }
+        """.stripIndent(true)
+        runTasks("checkAbiCompatibility", "--write-abi-baseline")
+
+        // Breaks the same way as conjure-java-jackson-serialization, in a class the baseline doesn't know about
+        subproject("other")
+        // language=gradle
+        subprojectBuild("other") << """
+            dependencies {
+                compileOnly 'com.fasterxml.jackson.core:jackson-databind:2.13.1'
+            }
+        """.stripIndent(true)
+        file("other/src/main/java/other/Other.java") <<
+                // language=java
+                """
+                package other;
+
+                import com.fasterxml.jackson.core.JsonToken;
+                import com.fasterxml.jackson.databind.DeserializationContext;
+
+                public class Other {
+                    public static Object broken(DeserializationContext context) {
+                        return context.mappingException(Object.class, JsonToken.START_OBJECT);
+                    }
+                }
+                """.stripIndent(true)
+        // language=gradle
+        subprojectBuild(SUB_PROJECT_NAME) << """
+            dependencies {
+                implementation project(':other')
+            }
+        """.stripIndent(true)
+        rootClass(SUB_PROJECT_NAME).text =
+                // language=java
+                """
+                import com.palantir.conjure.java.serialization.PathDeserializer;
+                import java.io.IOException;
+
+                public class Root {
+                    public static void main(String[] args) throws IOException {
+                        new PathDeserializer().deserialize(null, null);
+                        other.Other.broken(null);
+                    }
+                }
+                """.stripIndent(true)
+
+        when:
+        // The accepted conflict must not use up maxConflicts, wherever the check runs
+        def result = runTasksAndFail(":${SUB_PROJECT_NAME}:checkAbiCompatibility", "--info")
+
+        then:
+        result.task(":${SUB_PROJECT_NAME}:checkAbiCompatibility").getOutcome() == TaskOutcome.FAILED
+        result.output.contains("other.Other")
+    }
+
+    def 'writes one conflict per line with the NDJSON output format'() {
+        setupConjureJacksonIncompat(SUB_PROJECT_NAME)
+
+        // language=gradle
+        subprojectBuild(SUB_PROJECT_NAME) << '''
+            transitiveAbiChecker {
+                conflictsOutputFormat = 'NDJSON'
+            }
+        '''.stripIndent(true)
+
+        when:
+        def result = runTasksAndFail("checkAbiCompatibility")
+
+        then:
+        result.task(":${SUB_PROJECT_NAME}:checkAbiCompatibility").getOutcome() == TaskOutcome.FAILED
+        def lines = file("${SUB_PROJECT_NAME}/build/abi-checker/abi-checker-conflicts.ndjson").readLines()
+        lines.size() == 1
+        JsonNode conflict = new ObjectMapper().readTree(lines[0])
+        conflict.get("category").asText() == "METHOD_SIGNATURE_NOT_FOUND"
+        conflict.get("dependency").get("fromClass").asText() == "com.palantir.conjure.java.serialization.PathDeserializer"
+        conflict.get("existsIn").asText() == "com.fasterxml.jackson.core:jackson-databind:2.18.3"
     }
 
     def 'fail when there is a reachable abi break with multiple source dirs'() {
@@ -342,6 +873,8 @@ class TransitiveAbiCheckerPluginIntegrationSpec extends IntegrationTestKitSpec {
         subprojectBuild(SUB_PROJECT_NAME) << """
             transitiveAbiChecker {
                 checkCompletely = true
+                // Nothing is affected by version conflict resolution here, but we want the classes to be analyzed
+                checkOnlyAffectedDependencies = false
             
                 ignoredClassPrefixes = [
                     // These don't exist in the jline version and tries to call classes that exist in the jline version
@@ -370,6 +903,8 @@ class TransitiveAbiCheckerPluginIntegrationSpec extends IntegrationTestKitSpec {
         subprojectBuild(SUB_PROJECT_NAME) << """
             transitiveAbiChecker {
                 checkCompletely = true
+                // Nothing is affected by version conflict resolution here, but we want the classes to be analyzed
+                checkOnlyAffectedDependencies = false
                 
                 // jboss has some conflicts that are not relevant to this test
                 ignoredArtifactPrefixes = ["org.jboss.logging:jboss-logging"]
@@ -417,6 +952,15 @@ class TransitiveAbiCheckerPluginIntegrationSpec extends IntegrationTestKitSpec {
         """.stripIndent(true)
     }
 
+    private void checkOnlyAffectedDependencies(String subProject) {
+        // language=gradle
+        subprojectBuild(subProject) << """
+            transitiveAbiChecker {
+                checkOnlyAffectedDependencies = true
+            }
+        """.stripIndent(true)
+    }
+
     private File rootClass(String subProject) {
         file("${subProject}/src/main/java/Root.java")
     }
@@ -438,6 +982,7 @@ class TransitiveAbiCheckerPluginIntegrationSpec extends IntegrationTestKitSpec {
     private void verifySuccess(String subProject, BuildResult result) {
         assert result.task(":${subProject}:checkAbiCompatibility").getOutcome() == TaskOutcome.SUCCESS
         assert outputFile(subProject).text == "{}"
+        assert !file("${subProject}/build/abi-checker/abi-checker-report.txt").exists()
     }
 
     /**
@@ -447,7 +992,10 @@ class TransitiveAbiCheckerPluginIntegrationSpec extends IntegrationTestKitSpec {
         addDeps(subProject,
                 "com.palantir.conjure.java.runtime:conjure-java-jackson-serialization:7.33.0",
                 "com.fasterxml.jackson.core:jackson-databind:2.18.3")
+        callConjureJacksonIncompat(subProject)
+    }
 
+    private void callConjureJacksonIncompat(String subProject) {
         // See verifyConjureJacksonIncompat which describes the exact break we expect
         rootClass(subProject).text =
                 // language=java